@@ -0,0 +1,128 @@
+package com.todolist.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.NearCacheProperties;
+import com.todolist.api.event.TaskChangeLogEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acompanha a tabela task_changes de cada shard e invalida o cache local com as escritas de todas as réplicas.
+ *
+ * Cada leitura pega as linhas com changed_at a partir da leitura anterior menos o lookback, porque
+ * changed_at é gravado antes do commit. IDs já aplicados são ignorados, então cada mudança conta uma vez
+ * nas métricas. As escritas desta réplica também passam por aqui: a segunda invalidação cobre leituras
+ * concorrentes que recolocaram o valor antigo no cache logo depois do commit. As mudanças novas de cada
+ * leitura também são publicadas como TaskChangeLogEvent (ex.: para o ReminderScheduler).
+ *
+ * Métricas: todolist.cache.staleness (do changed_at até a invalidação nesta réplica, no relógio do banco)
+ * e todolist.cache.invalidations.
+ */
+@Component
+@Profile("!embedded")
+public class ChangeLogPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogPoller.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TaskCacheInvalidator invalidator;
+    private final NearCacheProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer staleness;
+    private final Counter invalidations;
+
+    private final Map<Integer, ShardCursor> cursors = new ConcurrentHashMap<>();
+
+    public ChangeLogPoller(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, TaskCacheInvalidator invalidator,
+            NearCacheProperties properties, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.invalidator = invalidator;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.staleness = Timer.builder("todolist.cache.staleness")
+                .description("Atraso entre a escrita de uma tarefa e a invalidação no cache desta réplica")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("todolist.cache.invalidations")
+                .description("Mudanças lidas de task_changes e aplicadas ao cache local")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.cache.poll-interval:500ms}")
+    public void poll() {
+        shardRouter.forEachShard(this::pollShard);
+    }
+
+    void pollShard(int shard) {
+        ShardCursor cursor = cursors.computeIfAbsent(shard, s -> new ShardCursor());
+        try {
+            LocalDateTime now = jdbcTemplate.queryForObject("SELECT NOW(6)", LocalDateTime.class);
+            LocalDateTime from = (cursor.since != null ? cursor.since : now).minus(properties.getLookback());
+            List<TaskChangedEvent> changes = new ArrayList<>();
+            jdbcTemplate.query("SELECT id, tenant_id, task_id, change_type, changed_at FROM task_changes WHERE changed_at >= ?", rs -> {
+                long id = rs.getLong("id");
+                LocalDateTime changedAt = rs.getObject("changed_at", LocalDateTime.class);
+                if (cursor.applied.putIfAbsent(id, changedAt) != null) {
+                    return;
+                }
+                TaskChangedEvent change = new TaskChangedEvent(rs.getString("tenant_id"), rs.getObject("task_id", Long.class),
+                        TaskChangedEvent.ChangeType.valueOf(rs.getString("change_type")));
+                invalidator.evict(change.tenantId(), change.taskId());
+                changes.add(change);
+                staleness.record(Duration.between(changedAt, now));
+                invalidations.increment();
+            }, from);
+            cursor.applied.values().removeIf(changedAt -> changedAt.isBefore(from));
+            cursor.since = now;
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(new TaskChangeLogEvent(shard, changes));
+            }
+        } catch (DataAccessException e) {
+            // Sem o change log não há como saber o que outras réplicas alteraram
+            logger.warn("Falha ao ler task_changes do shard {}; cache local descartado: {}", shard, e.getMessage());
+            invalidator.clear();
+        }
+    }
+
+    // Roda em todas as réplicas; o DELETE é idempotente
+    @Scheduled(fixedDelayString = "${todolist.cache.cleanup-interval:5m}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        shardRouter.forEachShard(shard -> cleanupShard(shard, cutoff));
+    }
+
+    void cleanupShard(int shard, LocalDateTime cutoff) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM task_changes WHERE changed_at < ? LIMIT ?",
+                    cutoff, properties.getCleanupBatchSize());
+        } while (deleted == properties.getCleanupBatchSize());
+    }
+
+    // Acessado só pela thread do agendador
+    private static final class ShardCursor {
+        private LocalDateTime since;
+        private final Map<Long, LocalDateTime> applied = new HashMap<>();
+    }
+}
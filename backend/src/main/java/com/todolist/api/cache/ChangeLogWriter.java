@@ -0,0 +1,71 @@
+package com.todolist.api.cache;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.todolist.api.event.TaskChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava cada escrita em task_changes, na mesma transação (e no mesmo shard) da escrita.
+ * Se a transação for desfeita, a linha some junto e nenhuma réplica invalida à toa.
+ * As mudanças de uma transação são acumuladas e gravadas em um único INSERT em lote antes do commit.
+ */
+@Component
+@Profile("!embedded")
+public class ChangeLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_changes (tenant_id, task_id, change_type, changed_at) VALUES (?, ?, ?, NOW(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeLogWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(event));
+            return;
+        }
+        pendingChanges().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskChangedEvent> pendingChanges() {
+        List<TaskChangedEvent> pending = (List<TaskChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TaskChangedEvent> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogWriter.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    private void write(List<TaskChangedEvent> changes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.tenantId());
+            ps.setObject(2, change.taskId());
+            ps.setString(3, change.type().name());
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.todolist.api.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.todolist.api.event.TaskChangedEvent;
+
+/**
+ * Remove do cache local as entradas afetadas por uma escrita.
+ * Escritas desta réplica são aplicadas logo após o commit; as das demais chegam pelo ChangeLogPoller.
+ */
+@Component
+public class TaskCacheInvalidator {
+
+    public static final String TASKS = "tasks";
+    public static final String TASK_LISTS = "taskLists";
+
+    private final CacheManager cacheManager;
+
+    public TaskCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // fallbackExecution: a importação em massa publica fora de transação
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(event.tenantId(), event.taskId());
+    }
+
+    // Sem taskId só a listagem é removida: tarefas novas nunca estão no cache, porque buscas sem resultado não são guardadas
+    public void evict(String tenant, Long taskId) {
+        if (taskId != null) {
+            evict(TASKS, TenantKeyGenerator.key(tenant, taskId));
+        }
+        evict(TASK_LISTS, TenantKeyGenerator.key(tenant));
+    }
+
+    // Usado quando não é possível saber o que mudou (ex.: banco indisponível para o poller)
+    public void clear() {
+        clear(TASKS);
+        clear(TASK_LISTS);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
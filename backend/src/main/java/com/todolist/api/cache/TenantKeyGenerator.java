@@ -0,0 +1,31 @@
+package com.todolist.api.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.sharding.TenantContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Chave de cache = tenant da requisição + parâmetros do método.
+ * O TaskCacheInvalidator monta as mesmas chaves para remover as entradas.
+ */
+@Component(TenantKeyGenerator.NAME)
+public class TenantKeyGenerator implements KeyGenerator {
+
+    public static final String NAME = "tenantKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return key(TenantContext.current(), params);
+    }
+
+    static SimpleKey key(String tenant, Object... params) {
+        Object[] elements = new Object[params.length + 1];
+        elements[0] = tenant;
+        System.arraycopy(params, 0, elements, 1, params.length);
+        return new SimpleKey(elements);
+    }
+}
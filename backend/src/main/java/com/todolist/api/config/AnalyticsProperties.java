@@ -0,0 +1,42 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.analytics")
+public class AnalyticsProperties {
+
+    // Liga o TaskStatsRollup; desligado, GET /api/tasks/analytics continua servindo o que já foi somado
+    private boolean enabled = true;
+
+    // Intervalo entre as somas; é o atraso típico dos gráficos
+    private Duration rollupInterval = Duration.ofMinutes(1);
+
+    // Só tarefas criadas ou concluídas há mais que isso entram na soma, para não pular transações ainda abertas
+    private Duration lag = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getRollupInterval() {
+        return rollupInterval;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setRollupInterval(Duration rollupInterval) {
+        this.rollupInterval = rollupInterval;
+    }
+
+    public void setLag(Duration lag) {
+        this.lag = lag;
+    }
+}
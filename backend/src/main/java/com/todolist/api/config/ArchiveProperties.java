@@ -0,0 +1,64 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.archive")
+public class ArchiveProperties {
+
+    // Liga/desliga o arquivamento automático
+    private boolean enabled = true;
+
+    // Idade mínima (desde a conclusão) para uma tarefa ser arquivada
+    private Duration minAge = Duration.ofDays(30);
+
+    // Quantidade de tarefas movidas por transação
+    private int batchSize = 500;
+
+    // Pausa entre lotes, para não competir com o tráfego da API
+    private Duration pause = Duration.ofMillis(200);
+
+    // Limite de tarefas movidas por execução
+    private int maxPerRun = 50_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public Duration getPause() {
+        return pause;
+    }
+
+    public int getMaxPerRun() {
+        return maxPerRun;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setPause(Duration pause) {
+        this.pause = pause;
+    }
+
+    public void setMaxPerRun(int maxPerRun) {
+        this.maxPerRun = maxPerRun;
+    }
+}
@@ -0,0 +1,108 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    // Liga o disjuntor do banco; desligado, as chamadas vão sempre ao banco (a cópia de leitura continua valendo)
+    private boolean enabled = true;
+
+    // Quantidade das últimas chamadas ao TaskService consideradas, por shard
+    private int windowSize = 20;
+
+    // Com menos chamadas que isso na janela o disjuntor não abre, para uma falha isolada não derrubar o shard
+    private int minimumCalls = 5;
+
+    // Percentual de chamadas com falha de conexão/timeout que abre o disjuntor
+    private int failureRateThreshold = 50;
+
+    // Chamadas mais lentas que isso contam como lentas
+    private Duration slowCallDuration = Duration.ofSeconds(1);
+
+    // Percentual de chamadas lentas que abre o disjuntor
+    private int slowCallRateThreshold = 80;
+
+    // Tempo aberto antes de deixar passar as chamadas de teste
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    // Chamadas de teste no estado semiaberto; todas precisam dar certo para fechar
+    private int halfOpenCalls = 3;
+
+    // Entradas guardadas (por tenant e por tarefa) para responder GET /api/tasks e /{id} com o banco fora do ar
+    private int staleMaxSize = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public int getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public int getStaleMaxSize() {
+        return staleMaxSize;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public void setStaleMaxSize(int staleMaxSize) {
+        this.staleMaxSize = staleMaxSize;
+    }
+}
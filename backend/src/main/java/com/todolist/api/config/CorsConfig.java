@@ -16,6 +16,8 @@ public class CorsConfig {
                 registry.addMapping("/api/**")
                         .allowedOrigins("http://localhost:3000", "http://localhost:5173", "http://127.0.0.1:5173")
                         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE")
+                        // Leituras servidas da última cópia, com o banco fora do ar
+                        .exposedHeaders("X-Stale", "Age")
                         .allowCredentials(true);
             }
         };
@@ -0,0 +1,54 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.storage.embedded")
+public class EmbeddedStorageProperties {
+
+    // Diretório do log e dos snapshots
+    private String directory = "./data";
+
+    // Força o log para o disco a cada escrita (mais lento; protege contra queda de energia, não só do processo)
+    private boolean fsync = false;
+
+    // Gera um snapshot compactado quando o log passa deste tamanho...
+    private DataSize snapshotLogSize = DataSize.ofMegabytes(64);
+
+    // ...ou quando houver alterações e o último snapshot for mais antigo que isto
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public DataSize getSnapshotLogSize() {
+        return snapshotLogSize;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    public void setSnapshotLogSize(DataSize snapshotLogSize) {
+        this.snapshotLogSize = snapshotLogSize;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+}
@@ -0,0 +1,107 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.events")
+public class EventLogProperties {
+
+    public enum Backpressure {
+        // Espera até blockTimeout por uma posição livre e então descarta o evento
+        BLOCK,
+        // Descarta o evento na hora
+        DROP
+    }
+
+    public enum Durability {
+        // A requisição não espera: o evento é gravado no próximo lote, até flushInterval depois
+        ASYNC,
+        // A requisição espera o lote com o seu evento ser gravado (até syncTimeout)
+        SYNC
+    }
+
+    // Liga o TaskEventLog; desligado, nenhum evento é gravado no histórico
+    private boolean enabled = true;
+
+    // Posições do buffer circular (potência de 2), alocadas na inicialização
+    private int capacity = 65536;
+
+    // Eventos por INSERT em lote
+    private int batchSize = 500;
+
+    // Espera máxima do gravador por um lote cheio antes de gravar o que houver
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private Backpressure backpressure = Backpressure.BLOCK;
+
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    private Durability durability = Durability.ASYNC;
+
+    private Duration syncTimeout = Duration.ofSeconds(2);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public Duration getSyncTimeout() {
+        return syncTimeout;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public void setBackpressure(Backpressure backpressure) {
+        this.backpressure = backpressure;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public void setSyncTimeout(Duration syncTimeout) {
+        this.syncTimeout = syncTimeout;
+    }
+}
@@ -0,0 +1,35 @@
+package com.todolist.api.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.todolist.api.sharding.ShardDataSources;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("!embedded")
+public class FlywayConfig {
+
+    // Aplica as migrations em todos os shards.
+    // A execução de treino do CDS (spring.context.exit) roda no build da imagem, sem banco disponível
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment, ShardDataSources shardDataSources) {
+        return flyway -> {
+            if (environment.containsProperty("spring.context.exit")) {
+                return;
+            }
+            for (DataSource dataSource : shardDataSources.all()) {
+                Flyway.configure()
+                      .configuration(flyway.getConfiguration())
+                      .dataSource(dataSource)
+                      .load()
+                      .migrate();
+            }
+        };
+    }
+}
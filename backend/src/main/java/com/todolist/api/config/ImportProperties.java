@@ -0,0 +1,29 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "todolist.import")
+public class ImportProperties {
+
+    // Linhas por lote de INSERT; cada lote é gravado e confirmado em sua própria transação
+    private int chunkSize = 1000;
+
+    // Máximo de erros detalhados no relatório; os demais só entram na contagem
+    private int maxReportedErrors = 1000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+}
@@ -0,0 +1,53 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.cache")
+public class NearCacheProperties {
+
+    // Intervalo entre leituras da tabela task_changes; é o atraso típico de invalidação entre réplicas
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    // Cada leitura volta esse tempo para trás, cobrindo transações que gravaram a mudança antes e confirmaram depois
+    private Duration lookback = Duration.ofSeconds(5);
+
+    // Tempo que as linhas ficam em task_changes antes da limpeza
+    private Duration retention = Duration.ofHours(1);
+
+    // Linhas removidas por DELETE na limpeza
+    private int cleanupBatchSize = 1000;
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public Duration getLookback() {
+        return lookback;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public int getCleanupBatchSize() {
+        return cleanupBatchSize;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setLookback(Duration lookback) {
+        this.lookback = lookback;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+}
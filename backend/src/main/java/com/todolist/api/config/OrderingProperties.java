@@ -0,0 +1,31 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.ordering")
+public class OrderingProperties {
+
+    // Tamanho de chave a partir do qual o tenant entra na fila de redistribuição
+    private int maxKeyLength = 48;
+
+    // Intervalo entre as execuções que redistribuem as chaves dos tenants da fila
+    private Duration rebalanceInterval = Duration.ofSeconds(10);
+
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    public Duration getRebalanceInterval() {
+        return rebalanceInterval;
+    }
+
+    public void setMaxKeyLength(int maxKeyLength) {
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    public void setRebalanceInterval(Duration rebalanceInterval) {
+        this.rebalanceInterval = rebalanceInterval;
+    }
+}
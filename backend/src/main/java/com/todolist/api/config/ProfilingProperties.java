@@ -0,0 +1,63 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.profiling")
+public class ProfilingProperties {
+
+    // Gravação JFR contínua desde o startup, em buffer circular (últimos max-age / max-size)
+    private boolean continuous = true;
+
+    // Configuração do JFR usada na gravação contínua: "default" (~1% de overhead) ou "profile" (~2%)
+    private String continuousSettings = "default";
+
+    private Duration maxAge = Duration.ofMinutes(15);
+
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    // Duração padrão das gravações iniciadas por /actuator/jfr
+    private Duration defaultDuration = Duration.ofMinutes(5);
+
+    public boolean isContinuous() {
+        return continuous;
+    }
+
+    public String getContinuousSettings() {
+        return continuousSettings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    public void setContinuousSettings(String continuousSettings) {
+        this.continuousSettings = continuousSettings;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+}
@@ -0,0 +1,64 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.purge")
+public class PurgeProperties {
+
+    // Liga/desliga a remoção física das tarefas excluídas
+    private boolean enabled = true;
+
+    // Janela em que uma tarefa excluída ainda pode ser restaurada antes de ser removida de vez
+    private Duration retention = Duration.ofDays(7);
+
+    // Quantidade de linhas removidas por transação
+    private int batchSize = 1000;
+
+    // Pausa entre lotes, para não competir com o tráfego da API
+    private Duration pause = Duration.ofMillis(200);
+
+    // Limite de linhas removidas por execução
+    private int maxPerRun = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public Duration getPause() {
+        return pause;
+    }
+
+    public int getMaxPerRun() {
+        return maxPerRun;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setPause(Duration pause) {
+        this.pause = pause;
+    }
+
+    public void setMaxPerRun(int maxPerRun) {
+        this.maxPerRun = maxPerRun;
+    }
+}
@@ -0,0 +1,107 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todolist.reminders")
+public class ReminderProperties {
+
+    // Liga o ReminderScheduler; desligado, dueAt e remindAt continuam sendo gravados
+    private boolean enabled = true;
+
+    // Resolução da roda: lembretes são entregues no máximo um tick depois do remindAt
+    private Duration tick = Duration.ofSeconds(1);
+
+    // Posições por nível e número de níveis; a roda cobre tick * wheelSize^levels
+    private int wheelSize = 64;
+
+    private int levels = 4;
+
+    // Quanto à frente os lembretes ficam em memória; o restante fica só no banco
+    private Duration window = Duration.ofHours(1);
+
+    // Intervalo entre as buscas que trazem a próxima parte da janela
+    private Duration refillInterval = Duration.ofMinutes(1);
+
+    // Limite de lembretes em memória; acima dele a janela encolhe em vez de crescer o heap
+    private int maxEntries = 100_000;
+
+    // Lembretes atrasados até esse tempo (ex.: durante um restart) ainda são entregues; os mais antigos são descartados
+    private Duration missedGrace = Duration.ofMinutes(5);
+
+    // Tempo máximo de uma conexão em /api/reminders/stream; o cliente reconecta depois
+    private Duration sseTimeout = Duration.ofMinutes(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public Duration getRefillInterval() {
+        return refillInterval;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public Duration getMissedGrace() {
+        return missedGrace;
+    }
+
+    public Duration getSseTimeout() {
+        return sseTimeout;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public void setLevels(int levels) {
+        this.levels = levels;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public void setRefillInterval(Duration refillInterval) {
+        this.refillInterval = refillInterval;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public void setMissedGrace(Duration missedGrace) {
+        this.missedGrace = missedGrace;
+    }
+
+    public void setSseTimeout(Duration sseTimeout) {
+        this.sseTimeout = sseTimeout;
+    }
+}
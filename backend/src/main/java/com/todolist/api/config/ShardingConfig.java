@@ -0,0 +1,93 @@
+package com.todolist.api.config;
+
+import com.todolist.api.sharding.ShardDataSources;
+import com.todolist.api.sharding.ShardRouter;
+import com.todolist.api.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@Profile("!embedded")
+public class ShardingConfig {
+
+    // Um pool HikariCP por shard; sem shards configurados, um único pool com spring.datasource.*
+    @Bean
+    public ShardDataSources shardDataSources(DataSourceProperties dataSourceProperties, ShardingProperties shardingProperties,
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ShardingProperties.Shard> shards = new ArrayList<>(shardingProperties.getShards());
+        if (shards.isEmpty()) {
+            shards.add(new ShardingProperties.Shard());
+        }
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            if (shard.getUrl() != null) {
+                dataSource.setJdbcUrl(shard.getUrl());
+            }
+            if (shard.getUsername() != null) {
+                dataSource.setUsername(shard.getUsername());
+            }
+            if (shard.getPassword() != null) {
+                dataSource.setPassword(shard.getPassword());
+            }
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("shard-" + i);
+            meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            dataSources.add(dataSource);
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources, ShardRouter shardRouter,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new ShardRoutingDataSource(shardDataSources, shardRouter, observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+
+    // Fecha e reabre as conexões de todos os pools em checkpoint/restore do CRaC
+    @Bean
+    public Lifecycle shardPoolsCheckpointRestoreLifecycle(ShardDataSources shardDataSources,
+            ConfigurableApplicationContext applicationContext) {
+        List<HikariCheckpointRestoreLifecycle> lifecycles = shardDataSources.all().stream()
+                .map(dataSource -> new HikariCheckpointRestoreLifecycle(dataSource, applicationContext))
+                .toList();
+        return new Lifecycle() {
+            @Override
+            public void start() {
+                lifecycles.forEach(HikariCheckpointRestoreLifecycle::start);
+            }
+
+            @Override
+            public void stop() {
+                lifecycles.forEach(HikariCheckpointRestoreLifecycle::stop);
+            }
+
+            @Override
+            public boolean isRunning() {
+                return lifecycles.stream().allMatch(HikariCheckpointRestoreLifecycle::isRunning);
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "todolist.sharding")
+public class ShardingProperties {
+
+    // Bancos de dados dos shards. Vazio = um único shard usando spring.datasource.*
+    private List<Shard> shards = new ArrayList<>();
+
+    // Tenants fixados manualmente em um shard (ex.: tenants muito grandes)
+    private Map<String, Integer> overrides = new HashMap<>();
+
+    // Cabeçalho HTTP que identifica o tenant da requisição
+    private String tenantHeader = "X-Tenant-Id";
+
+    // Intervalo de recarga do diretório de tenants (tabela tenant_shards)
+    private Duration directoryRefresh = Duration.ofSeconds(10);
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public Map<String, Integer> getOverrides() {
+        return overrides;
+    }
+
+    public String getTenantHeader() {
+        return tenantHeader;
+    }
+
+    public Duration getDirectoryRefresh() {
+        return directoryRefresh;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public void setOverrides(Map<String, Integer> overrides) {
+        this.overrides = overrides;
+    }
+
+    public void setTenantHeader(String tenantHeader) {
+        this.tenantHeader = tenantHeader;
+    }
+
+    public void setDirectoryRefresh(Duration directoryRefresh) {
+        this.directoryRefresh = directoryRefresh;
+    }
+
+    public static class Shard {
+
+        private String url;
+
+        // Usuário e senha herdam de spring.datasource.* quando não informados
+        private String username;
+
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.todolist.api.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.api.tracing.FileSpanExporter;
+
+import java.io.IOException;
+
+@Configuration
+public class TracingConfig {
+
+    // Aplicado pelo Spring Boot ao executor e ao agendador: tarefas assíncronas herdam o span e o tenant de quem as criou
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    // Exportadores para uso offline; o Spring Boot junta todos os SpanExporter em um único BatchSpanProcessor
+    @Bean
+    @ConditionalOnProperty(name = "todolist.tracing.exporter", havingValue = "logging")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "todolist.tracing.exporter", havingValue = "file")
+    public SpanExporter fileSpanExporter(TracingProperties properties, ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(properties.getFile(), objectMapper);
+    }
+}
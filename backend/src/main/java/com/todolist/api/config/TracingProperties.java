@@ -0,0 +1,37 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "todolist.tracing")
+public class TracingProperties {
+
+    public enum Exporter {
+        NONE,
+        LOGGING,
+        FILE
+    }
+
+    // Exportador local de spans; o OTLP é ligado à parte, com management.otlp.tracing.endpoint
+    private Exporter exporter = Exporter.NONE;
+
+    // Arquivo usado pelo exportador FILE (um span JSON por linha)
+    private Path file = Path.of("traces/spans.jsonl");
+
+    public Exporter getExporter() {
+        return exporter;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setExporter(Exporter exporter) {
+        this.exporter = exporter;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+}
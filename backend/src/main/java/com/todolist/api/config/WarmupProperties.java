@@ -0,0 +1,81 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "todolist.warmup")
+public class WarmupProperties {
+
+    // Liga o aquecimento; desligado, a réplica fica pronta assim que o contexto sobe
+    private boolean enabled = true;
+
+    // Rodadas pelos caminhos abaixo (iterations * paths requisições)
+    private int iterations = 200;
+
+    // Requisições simultâneas; acima do tamanho do pool elas só esperariam por conexão
+    private int concurrency = 4;
+
+    // Tempo máximo do aquecimento inteiro; passado o prazo a réplica fica pronta mesmo assim
+    private Duration timeout = Duration.ofSeconds(60);
+
+    // Abre todas as conexões do pool de cada shard (maximum-pool-size) antes das requisições
+    private boolean primePool = true;
+
+    // GETs enviados à própria réplica, com o tenant padrão. Só leitura: nada é gravado
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/tasks",
+            "/api/tasks?fields=id,title,completed",
+            "/api/lists?tasksPerList=10",
+            "/api/tasks/analytics"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public boolean isPrimePool() {
+        return primePool;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setPrimePool(boolean primePool) {
+        this.primePool = primePool;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
@@ -0,0 +1,144 @@
+package com.todolist.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "todolist.webhooks")
+public class WebhookProperties {
+
+    public static class Endpoint {
+
+        private String url;
+
+        // Requisições simultâneas para o endpoint; eventos da mesma tarefa vão sempre pela mesma
+        private int parallelism = 4;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    // Liga o outbox e o WebhookDispatcher; sem endpoints nada é gravado
+    private boolean enabled = true;
+
+    // Assinantes por nome (o nome fica gravado em task_outbox.endpoint)
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    // Intervalo entre as buscas de entregas pendentes em cada shard
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    // Linhas reservadas por busca e por shard
+    private int batchSize = 500;
+
+    // Eventos por requisição HTTP
+    private int maxEventsPerRequest = 50;
+
+    // Tempo de conexão e de resposta de cada requisição
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // Reserva das linhas em entrega; se a réplica cair, outra entrega de novo depois desse tempo
+    private Duration lease = Duration.ofMinutes(2);
+
+    // Espera antes do primeiro retry, dobrada a cada falha até maxBackoff
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    // Eventos que ainda falham depois desse tempo são descartados
+    private Duration giveUpAfter = Duration.ofHours(24);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxEventsPerRequest() {
+        return maxEventsPerRequest;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public Duration getGiveUpAfter() {
+        return giveUpAfter;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setMaxEventsPerRequest(int maxEventsPerRequest) {
+        this.maxEventsPerRequest = maxEventsPerRequest;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public void setGiveUpAfter(Duration giveUpAfter) {
+        this.giveUpAfter = giveUpAfter;
+    }
+}
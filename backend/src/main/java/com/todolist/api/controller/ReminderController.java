@@ -0,0 +1,37 @@
+package com.todolist.api.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.todolist.api.reminder.SseReminderSink;
+import com.todolist.api.sharding.TenantContext;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/reminders")
+@Tag(name = "Reminders", description = "Lembretes de tarefas em tempo real")
+public class ReminderController {
+
+    private final SseReminderSink sseReminderSink;
+
+    public ReminderController(SseReminderSink sseReminderSink) {
+        this.sseReminderSink = sseReminderSink;
+    }
+
+    @Operation(summary = "Receber lembretes",
+               description = "Stream Server-Sent Events com um evento \"reminder\" para cada lembrete vencido do tenant")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream aberto")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return sseReminderSink.subscribe(TenantContext.current());
+    }
+}
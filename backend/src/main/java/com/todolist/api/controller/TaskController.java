@@ -1,8 +1,12 @@
 package com.todolist.api.controller;
 
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,14 +14,41 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
 
+import com.todolist.api.dto.ImportResultDTO;
+import com.todolist.api.dto.TaskAnalyticsDTO;
+import com.todolist.api.dto.TaskBatchRequestDTO;
+import com.todolist.api.dto.TaskBatchResultDTO;
 import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskEventDTO;
+import com.todolist.api.dto.TaskListAssignmentDTO;
+import com.todolist.api.dto.TaskMoveDTO;
+import com.todolist.api.dto.TaskParentDTO;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.dto.TaskSearchResultDTO;
+import com.todolist.api.dto.TaskSuggestionDTO;
+import com.todolist.api.resilience.StaleTaskReads;
+import com.todolist.api.service.TaskAnalyticsService;
+import com.todolist.api.service.TaskBatchService;
+import com.todolist.api.service.TaskEventService;
+import com.todolist.api.service.TaskImportService;
+import com.todolist.api.service.TaskListService;
+import com.todolist.api.service.TaskOrderingService;
+import com.todolist.api.service.TaskSearchService;
 import com.todolist.api.service.TaskService;
+import com.todolist.api.service.TaskTreeService;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 // Swagger/OpenAPI imports
@@ -26,39 +57,157 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+// @Observed: um span por handler; a diferença para o span HTTP é a serialização da resposta
 @RestController
+@Observed(name = "todolist.controller")
 @RequestMapping("/api/tasks")
 @Tag(name = "Tasks", description = "API para gerenciamento de tarefas")
 public class TaskController {
 
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // Resposta servida da última cópia boa, com o banco fora do ar; Age traz a idade da cópia em segundos
+    public static final String STALE_HEADER = "X-Stale";
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskBatchService taskBatchService;
+    private final TaskOrderingService taskOrderingService;
+    private final TaskTreeService taskTreeService;
+    private final TaskSearchService taskSearchService;
+    private final TaskEventService taskEventService;
+    private final TaskAnalyticsService taskAnalyticsService;
+    private final TaskListService taskListService;
+    private final StaleTaskReads staleTaskReads;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService, TaskBatchService taskBatchService,
+            TaskOrderingService taskOrderingService, TaskTreeService taskTreeService, TaskSearchService taskSearchService,
+            TaskEventService taskEventService, TaskAnalyticsService taskAnalyticsService, TaskListService taskListService,
+            StaleTaskReads staleTaskReads) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.taskBatchService = taskBatchService;
+        this.taskOrderingService = taskOrderingService;
+        this.taskTreeService = taskTreeService;
+        this.taskSearchService = taskSearchService;
+        this.taskEventService = taskEventService;
+        this.taskAnalyticsService = taskAnalyticsService;
+        this.taskListService = taskListService;
+        this.staleTaskReads = staleTaskReads;
     }
 
-    @Operation(summary = "Listar todas as tarefas")
+    @Operation(summary = "Listar todas as tarefas", description = "Na ordem manual definida por POST /api/tasks/{id}/move; tarefas novas entram no fim")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
+        @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso (com X-Stale: true se vier da última cópia, com o banco fora do ar)"),
+        @ApiResponse(responseCode = "503", description = "Banco fora do ar e sem cópia da lista")
     })
     @GetMapping()
     public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        StaleTaskReads.Result<List<TaskDTO>> tasks = staleTaskReads.list(taskService::getAllTasks);
+        return ok(tasks).body(tasks.value());
     }
     
+    @Operation(summary = "Listar todas as tarefas, só com os campos pedidos",
+               description = "fields: nomes do TaskDTO separados por vírgula (ex.: id,title,completed). "
+                       + "Só essas colunas são lidas do banco; sem cópia de leitura com o banco fora do ar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllTasks(@RequestParam @NonNull String fields) {
+        return ResponseEntity.ok(taskService.getAllTasks(fields));
+    }
+
     @Operation(summary = "Buscar tarefa por ID")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
-        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+        @ApiResponse(responseCode = "200", description = "Tarefa encontrada (com X-Stale: true se vier da última cópia, com o banco fora do ar)"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "503", description = "Banco fora do ar e sem cópia da tarefa")
     })
     @GetMapping("/{id}")
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable @NonNull Long id) {
-        Optional<TaskDTO> task = taskService.getTaskById(id);
-        return task.map(ResponseEntity::ok)
+        StaleTaskReads.Result<Optional<TaskDTO>> task = staleTaskReads.byId(id, () -> taskService.getTaskById(id));
+        return task.value().map(found -> ok(task).body(found))
                .orElse(ResponseEntity.notFound().build()); 
     }
     
+    @Operation(summary = "Buscar tarefa por ID, só com os campos pedidos", description = "fields: como em GET /api/tasks?fields=")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getTaskById(@PathVariable @NonNull Long id, @RequestParam @NonNull String fields) {
+        return taskService.getTaskById(id, fields).map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Listar tarefas arquivadas", description = "Tarefas concluídas antigas, da mais recente para a mais antiga")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de tarefas arquivadas retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "page negativo ou size fora de 1 a 100")
+    })
+    @GetMapping("/archive")
+    public ResponseEntity<List<TaskDTO>> getArchivedTasks(@RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "50") int size) {
+        List<TaskDTO> tasks = taskService.getArchivedTasks(page, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Buscar tarefa arquivada por ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa arquivada encontrada"),
+        @ApiResponse(responseCode = "404", description = "Tarefa arquivada não encontrada")
+    })
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<TaskDTO> getArchivedTaskById(@PathVariable @NonNull Long id) {
+        Optional<TaskDTO> task = taskService.getArchivedTaskById(id);
+        return task.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Buscar tarefas por tags",
+               description = "Expressão com AND, OR, NOT e parênteses sobre tags e is:completed, ex.: trabalho AND urgente AND NOT is:completed; páginas em ordem de ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de resultados retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Expressão ou limit inválidos"),
+        @ApiResponse(responseCode = "503", description = "Índice de tags ainda em montagem")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResultDTO> searchTasks(@RequestParam String q,
+                                                           @RequestParam(required = false) Long afterId,
+                                                           @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskSearchService.search(q, afterId, limit));
+    }
+
+    @Operation(summary = "Sugerir títulos", description = "Títulos das tarefas que começam com o prefixo, dos mais usados para os menos usados; servido da memória, sem acessar o banco")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "limit fora de 1 a 10"),
+        @ApiResponse(responseCode = "503", description = "Índice de títulos ainda em montagem")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TaskSuggestionDTO>> suggestTitles(@RequestParam(defaultValue = "") String prefix,
+                                                                 @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(taskSearchService.suggest(prefix, limit));
+    }
+
+    @Operation(summary = "Estatísticas de conclusão",
+               description = "Tarefas criadas e concluídas por dia ou por semana (segunda a domingo), de from a to; sem from, o último ano. "
+                       + "Servido das contagens diárias, que chegam com alguns minutos de atraso")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Série retornada com sucesso, com zeros nos períodos sem movimento"),
+        @ApiResponse(responseCode = "400", description = "granularity inválida, from depois de to ou período acima de 731 dias")
+    })
+    @GetMapping("/analytics")
+    public ResponseEntity<TaskAnalyticsDTO> getAnalytics(@RequestParam(defaultValue = "day") String granularity,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(taskAnalyticsService.getStats(granularity, from, to));
+    }
+
     @Operation(summary = "Criar nova tarefa")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tarefa criada com sucesso")
@@ -69,6 +218,34 @@ public class TaskController {
         return ResponseEntity.ok(createdTask);
     }
 
+    @Operation(summary = "Importar tarefas em massa",
+               description = "Corpo em NDJSON (um TaskDTO por linha) ou CSV com cabeçalho title,description,completed. "
+                       + "As linhas válidas são gravadas em lotes; as inválidas aparecem no relatório de erros")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída; veja imported, failed e errors"),
+        @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    @PostMapping(value = "/import", consumes = {TaskImportService.NDJSON_VALUE, TaskImportService.CSV_VALUE})
+    public ResponseEntity<ImportResultDTO> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       InputStream body) throws IOException {
+        ImportResultDTO result = taskImportService.importTasks(body, MediaType.parseMediaType(contentType));
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Executar um lote de operações",
+               description = "Lista ordenada de operações (CREATE, UPDATE, TOGGLE, DELETE) em uma única transação. "
+                       + "Tarefas criadas no lote podem ser referenciadas por tempId; a resposta traz o mapa tempId -> id "
+                       + "e o resultado de cada operação")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote executado; operações em tarefas inexistentes aparecem com status 404"),
+        @ApiResponse(responseCode = "400", description = "Operações inválidas; nada foi gravado")
+    })
+    @PostMapping("/ops")
+    public ResponseEntity<TaskBatchResultDTO> applyOperations(@Valid @RequestBody @NonNull TaskBatchRequestDTO request) {
+        TaskBatchResultDTO result = taskBatchService.apply(request.getOperations());
+        return result.isApplied() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
     @Operation(summary = "Atualizar tarefa por ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
@@ -81,6 +258,116 @@ public class TaskController {
                .orElse(ResponseEntity.notFound().build());
     }
     
+    @Operation(summary = "Atualizar campos da tarefa",
+               description = "JSON Merge Patch (RFC 7396): só os campos enviados são alterados; \"description\": null apaga a descrição. "
+                       + "Responde 204 sem corpo; com Prefer: return=representation, devolve a tarefa atualizada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tarefa atualizada"),
+        @ApiResponse(responseCode = "200", description = "Tarefa atualizada (Prefer: return=representation)"),
+        @ApiResponse(responseCode = "400", description = "Campo inválido ou desconhecido"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<TaskDTO> patchTask(@PathVariable @NonNull Long id, @Valid @RequestBody @NonNull TaskPatchDTO patch,
+                                             @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (!taskService.patchTask(id, patch)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (prefer == null || !prefer.contains("return=representation")) {
+            return ResponseEntity.noContent().build();
+        }
+        return taskService.getTaskById(id)
+               .map(task -> ResponseEntity.ok().header("Preference-Applied", "return=representation").body(task))
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Mover tarefa",
+               description = "Posiciona a tarefa logo depois de afterId ou logo antes de beforeId. "
+                       + "Só a posição da tarefa movida é gravada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tarefa movida"),
+        @ApiResponse(responseCode = "400", description = "Referência ausente, duplicada ou inexistente"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Ordem do tenant em recálculo; tente novamente")
+    })
+    @PostMapping("/{id}/move")
+    public ResponseEntity<Void> moveTask(@PathVariable @NonNull Long id, @Valid @RequestBody @NonNull TaskMoveDTO move) {
+        boolean moved = taskOrderingService.moveTask(id, move);
+        return moved ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Listar subárvore", description = "A tarefa e todas as subtarefas, por profundidade e na ordem manual")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Subárvore retornada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<List<TaskDTO>> getSubtree(@PathVariable @NonNull Long id) {
+        Optional<List<TaskDTO>> subtree = taskTreeService.getSubtree(id);
+        return subtree.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Progresso das subtarefas", description = "Total de subtarefas, em qualquer nível, e quantas estão concluídas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Contagem retornada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<TaskProgressDTO> getProgress(@PathVariable @NonNull Long id) {
+        Optional<TaskProgressDTO> progress = taskTreeService.getProgress(id);
+        return progress.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Histórico da tarefa",
+               description = "Alterações da tarefa, da mais recente para a mais antiga; gravadas em lotes, podem levar até "
+                       + "todolist.events.flush-interval para aparecer")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histórico retornado com sucesso (vazio se não houver eventos)"),
+        @ApiResponse(responseCode = "400", description = "limit fora de 1..1000")
+    })
+    @GetMapping("/{id}/events")
+    public ResponseEntity<List<TaskEventDTO>> getEvents(@PathVariable @NonNull Long id,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(taskEventService.getEvents(id, limit));
+    }
+
+    @Operation(summary = "Concluir tarefa e subtarefas", description = "Conclui a tarefa e todos os descendentes em um único UPDATE")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tarefa e subtarefas concluídas"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<Void> completeSubtree(@PathVariable @NonNull Long id) {
+        boolean completed = taskTreeService.completeSubtree(id);
+        return completed ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Mudar tarefa de pai", description = "Move a tarefa, com as subtarefas, para debaixo de parentId; parentId nulo a leva ao nível superior")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tarefa movida"),
+        @ApiResponse(responseCode = "400", description = "Pai inexistente, a própria tarefa ou um descendente dela"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<Void> changeParent(@PathVariable @NonNull Long id, @RequestBody @NonNull TaskParentDTO parent) {
+        boolean moved = taskTreeService.changeParent(id, parent.getParentId());
+        return moved ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Mudar tarefa de lista", description = "Só a tarefa muda de lista, não as subtarefas; listId nulo a tira de qualquer lista")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Tarefa movida"),
+        @ApiResponse(responseCode = "400", description = "Lista não encontrada"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @PutMapping("/{id}/list")
+    public ResponseEntity<Void> changeList(@PathVariable @NonNull Long id, @RequestBody @NonNull TaskListAssignmentDTO list) {
+        boolean moved = taskListService.moveTask(id, list.getListId());
+        return moved ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
     @Operation(summary = "Deletar tarefa por ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tarefa deletada com sucesso"),
@@ -92,6 +379,18 @@ public class TaskController {
         return deleted ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
     }
 
+    @Operation(summary = "Restaurar tarefa excluída", description = "Desfaz a exclusão enquanto a tarefa estiver dentro da janela de retenção")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa restaurada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada ou fora da janela de retenção")
+    })
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<TaskDTO> restoreTask(@PathVariable @NonNull Long id){
+        Optional<TaskDTO> restoredTask = taskService.restoreTask(id);
+        return restoredTask.map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Alternar status de conclusão da tarefa")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Status da tarefa alterado com sucesso"),
@@ -103,4 +402,13 @@ public class TaskController {
         return updatedTask.map(ResponseEntity::ok)
         .orElse(ResponseEntity.notFound().build());
     }
+
+    private static ResponseEntity.BodyBuilder ok(StaleTaskReads.Result<?> read) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (read.stale()) {
+            builder.header(STALE_HEADER, "true")
+                   .header(HttpHeaders.AGE, String.valueOf(read.age().toSeconds()));
+        }
+        return builder;
+    }
 }
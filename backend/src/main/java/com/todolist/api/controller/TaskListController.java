@@ -0,0 +1,98 @@
+package com.todolist.api.controller;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.lang.NonNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.todolist.api.dto.TaskListDTO;
+import com.todolist.api.service.TaskListService;
+
+import jakarta.validation.Valid;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Observed(name = "todolist.controller")
+@RequestMapping("/api/lists")
+@Tag(name = "Lists", description = "Listas (quadros) de tarefas")
+public class TaskListController {
+
+    private final TaskListService taskListService;
+
+    public TaskListController(TaskListService taskListService) {
+        this.taskListService = taskListService;
+    }
+
+    @Operation(summary = "Listar listas", description = "Em ordem de criação, com as contagens de tarefas. Com tasksPerList > 0, "
+            + "cada lista traz também as primeiras tarefas, na ordem manual; a página inteira custa duas consultas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de listas retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "page, size ou tasksPerList fora dos limites")
+    })
+    @GetMapping
+    public ResponseEntity<List<TaskListDTO>> getLists(@RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(defaultValue = "50") int size,
+                                                      @RequestParam(defaultValue = "0") int tasksPerList) {
+        return ResponseEntity.ok(taskListService.getLists(page, size, tasksPerList));
+    }
+
+    @Operation(summary = "Buscar lista por ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista encontrada"),
+        @ApiResponse(responseCode = "404", description = "Lista não encontrada")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskListDTO> getList(@PathVariable @NonNull Long id,
+                                               @RequestParam(defaultValue = "50") int tasksPerList) {
+        Optional<TaskListDTO> taskList = taskListService.getList(id, tasksPerList);
+        return taskList.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Criar lista")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista criada com sucesso")
+    })
+    @PostMapping
+    public ResponseEntity<TaskListDTO> createList(@Valid @RequestBody @NonNull TaskListDTO taskListDTO) {
+        return ResponseEntity.ok(taskListService.createList(taskListDTO));
+    }
+
+    @Operation(summary = "Renomear lista")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista renomeada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Lista não encontrada")
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<TaskListDTO> renameList(@PathVariable @NonNull Long id, @Valid @RequestBody @NonNull TaskListDTO taskListDTO) {
+        Optional<TaskListDTO> renamed = taskListService.renameList(id, taskListDTO);
+        return renamed.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Excluir lista", description = "As tarefas da lista não são excluídas: ficam sem lista")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Lista excluída"),
+        @ApiResponse(responseCode = "404", description = "Lista não encontrada")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteList(@PathVariable @NonNull Long id) {
+        boolean deleted = taskListService.deleteList(id);
+        return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
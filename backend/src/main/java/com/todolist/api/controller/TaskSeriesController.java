@@ -0,0 +1,134 @@
+package com.todolist.api.controller;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.NonNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskOccurrenceDTO;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.dto.TaskSeriesDTO;
+import com.todolist.api.service.TaskSeriesService;
+
+import jakarta.validation.Valid;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Observed(name = "todolist.controller")
+@RequestMapping("/api/series")
+@Tag(name = "Series", description = "Tarefas recorrentes")
+public class TaskSeriesController {
+
+    private final TaskSeriesService taskSeriesService;
+
+    public TaskSeriesController(TaskSeriesService taskSeriesService) {
+        this.taskSeriesService = taskSeriesService;
+    }
+
+    @Operation(summary = "Listar séries", description = "Em ordem de criação")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de séries retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "page ou size fora dos limites")
+    })
+    @GetMapping
+    public ResponseEntity<List<TaskSeriesDTO>> getSeries(@RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskSeriesService.getSeries(page, size));
+    }
+
+    @Operation(summary = "Ocorrências de um período",
+               description = "Ocorrências de todas as séries entre from e to (inclusive, até " + TaskSeriesService.MAX_DAYS
+                       + " dias), por data. As regras são expandidas só para o período; as ocorrências já concluídas ou "
+                       + "editadas trazem o taskId, e as puladas não aparecem")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ocorrências retornadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido ou longo demais")
+    })
+    @GetMapping("/occurrences")
+    public ResponseEntity<List<TaskOccurrenceDTO>> getOccurrences(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(taskSeriesService.getOccurrences(from, to));
+    }
+
+    @Operation(summary = "Buscar série por ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Série encontrada"),
+        @ApiResponse(responseCode = "404", description = "Série não encontrada")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskSeriesDTO> getSeriesById(@PathVariable @NonNull Long id) {
+        Optional<TaskSeriesDTO> taskSeries = taskSeriesService.getSeriesById(id);
+        return taskSeries.map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Criar série", description = "rule aceita FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY (semanal) e "
+            + "BYMONTHDAY (mensal, -1 = último dia do mês)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Série criada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Regra ou datas inválidas")
+    })
+    @PostMapping
+    public ResponseEntity<TaskSeriesDTO> createSeries(@Valid @RequestBody @NonNull TaskSeriesDTO taskSeriesDTO) {
+        return ResponseEntity.ok(taskSeriesService.createSeries(taskSeriesDTO));
+    }
+
+    @Operation(summary = "Excluir série", description = "As ocorrências já materializadas não são excluídas: viram tarefas avulsas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Série excluída"),
+        @ApiResponse(responseCode = "404", description = "Série não encontrada")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSeries(@PathVariable @NonNull Long id) {
+        boolean deleted = taskSeriesService.deleteSeries(id);
+        return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Atualizar ocorrência",
+               description = "JSON Merge Patch, como em PATCH /api/tasks/{id}. Na primeira escrita a ocorrência vira uma tarefa "
+                       + "(com seriesId e occurrenceDate); a tarefa é devolvida")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ocorrência atualizada"),
+        @ApiResponse(responseCode = "400", description = "Campo inválido ou desconhecido"),
+        @ApiResponse(responseCode = "404", description = "Série não encontrada, data fora da regra ou ocorrência pulada")
+    })
+    @PatchMapping(value = "/{id}/occurrences/{date}", consumes = TaskController.MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<TaskDTO> patchOccurrence(@PathVariable @NonNull Long id,
+                                                   @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NonNull LocalDate date,
+                                                   @Valid @RequestBody @NonNull TaskPatchDTO patch) {
+        return taskSeriesService.patchOccurrence(id, date, patch)
+               .map(ResponseEntity::ok)
+               .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Pular ocorrência", description = "A ocorrência deixa de aparecer no período; se já era uma tarefa, "
+            + "a tarefa é excluída e pode ser restaurada dentro da janela de retenção")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Ocorrência pulada"),
+        @ApiResponse(responseCode = "404", description = "Série não encontrada ou data fora da regra")
+    })
+    @DeleteMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<Void> skipOccurrence(@PathVariable @NonNull Long id,
+                                               @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NonNull LocalDate date) {
+        boolean skipped = taskSeriesService.skipOccurrence(id, date);
+        return skipped ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
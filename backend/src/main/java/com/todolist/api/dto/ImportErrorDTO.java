@@ -0,0 +1,41 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class ImportErrorDTO {
+
+    // Número da linha no arquivo enviado (a primeira linha é 1)
+    @JsonProperty("line")
+    private long line;
+
+    @JsonProperty("message")
+    private String message;
+
+    //Constructors
+
+    public ImportErrorDTO() {
+    }
+
+    public ImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    //Getters and Setters
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResultDTO {
+
+    @JsonProperty("imported")
+    private long imported;
+
+    @JsonProperty("failed")
+    private long failed;
+
+    @JsonProperty("errors")
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+
+    // true quando há mais erros do que os listados em "errors"
+    @JsonProperty("errorsTruncated")
+    private boolean errorsTruncated;
+
+    //Getters and Setters
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<ImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public void setErrors(List<ImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -0,0 +1,100 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Resultado de uma operação do lote, com o status HTTP que ela teria como requisição isolada
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OperationResultDTO {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("op")
+    private TaskOperationDTO.Type op;
+
+    @JsonProperty("status")
+    private int status;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("tempId")
+    private String tempId;
+
+    // Estado da tarefa logo após a operação (ausente em DELETE e em erros)
+    @JsonProperty("task")
+    private TaskDTO task;
+
+    @JsonProperty("error")
+    private String error;
+
+    //Constructors
+
+    public OperationResultDTO() {
+    }
+
+    public OperationResultDTO(int index, TaskOperationDTO.Type op, String tempId) {
+        this.index = index;
+        this.op = op;
+        this.tempId = tempId;
+    }
+
+    //Getters and Setters
+
+    public int getIndex() {
+        return index;
+    }
+
+    public TaskOperationDTO.Type getOp() {
+        return op;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTempId() {
+        return tempId;
+    }
+
+    public TaskDTO getTask() {
+        return task;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public void setOp(TaskOperationDTO.Type op) {
+        this.op = op;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTempId(String tempId) {
+        this.tempId = tempId;
+    }
+
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
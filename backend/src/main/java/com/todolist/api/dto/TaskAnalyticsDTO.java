@@ -0,0 +1,71 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Série de tarefas criadas e concluídas de from a to (inclusive), um item por dia ou por semana,
+ * incluindo os períodos sem movimento.
+ */
+public class TaskAnalyticsDTO {
+
+    @JsonProperty("granularity")
+    private String granularity;
+
+    @JsonProperty("from")
+    private LocalDate from;
+
+    @JsonProperty("to")
+    private LocalDate to;
+
+    @JsonProperty("buckets")
+    private List<TaskStatsBucketDTO> buckets;
+
+    //Constructors
+
+    public TaskAnalyticsDTO() {
+    }
+
+    public TaskAnalyticsDTO(String granularity, LocalDate from, LocalDate to, List<TaskStatsBucketDTO> buckets) {
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.buckets = buckets;
+    }
+
+    //Getters and Setters
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public List<TaskStatsBucketDTO> getBuckets() {
+        return buckets;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public void setBuckets(List<TaskStatsBucketDTO> buckets) {
+        this.buckets = buckets;
+    }
+}
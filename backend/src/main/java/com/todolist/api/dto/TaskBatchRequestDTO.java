@@ -0,0 +1,30 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskBatchRequestDTO {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    // Executadas na ordem recebida
+    @NotEmpty(message = "Operations are required")
+    @Size(max = MAX_OPERATIONS, message = "A batch must have at most " + MAX_OPERATIONS + " operations")
+    @JsonProperty("operations")
+    private List<@Valid TaskOperationDTO> operations = new ArrayList<>();
+
+    //Getters and Setters
+
+    public List<TaskOperationDTO> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<TaskOperationDTO> operations) {
+        this.operations = operations;
+    }
+}
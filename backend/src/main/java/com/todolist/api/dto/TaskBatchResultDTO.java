@@ -0,0 +1,48 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskBatchResultDTO {
+
+    // false quando alguma operação é inválida; nesse caso nada foi gravado
+    @JsonProperty("applied")
+    private boolean applied;
+
+    // ID provisório do cliente -> ID real
+    @JsonProperty("idMap")
+    private Map<String, Long> idMap = new LinkedHashMap<>();
+
+    @JsonProperty("results")
+    private List<OperationResultDTO> results = new ArrayList<>();
+
+    //Getters and Setters
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public Map<String, Long> getIdMap() {
+        return idMap;
+    }
+
+    public List<OperationResultDTO> getResults() {
+        return results;
+    }
+
+    public void setApplied(boolean applied) {
+        this.applied = applied;
+    }
+
+    public void setIdMap(Map<String, Long> idMap) {
+        this.idMap = idMap;
+    }
+
+    public void setResults(List<OperationResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -1,10 +1,16 @@
 package com.todolist.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.todolist.api.model.TaskTags;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class TaskDTO {
     
     @JsonProperty("id")
@@ -22,6 +28,41 @@ public class TaskDTO {
     @JsonProperty("completed")
     private @NonNull Boolean completed;
 
+    // Somente leitura: preenchidos pelo servidor e ignorados na entrada
+    @JsonProperty(value = "createdAt", access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @JsonProperty(value = "completedAt", access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime completedAt;
+
+    // Horário local do servidor, sem fuso (ex.: 2026-03-01T18:00:00)
+    @JsonProperty("dueAt")
+    private LocalDateTime dueAt;
+
+    @JsonProperty("remindAt")
+    private LocalDateTime remindAt;
+
+    // Tarefa pai; na criação, torna a tarefa uma subtarefa. Depois muda só por PUT /api/tasks/{id}/parent
+    @JsonProperty("parentId")
+    private Long parentId;
+
+    // Lista da tarefa; na criação, coloca a tarefa na lista. Depois muda só por PUT /api/tasks/{id}/list
+    @JsonProperty("listId")
+    private Long listId;
+
+    // Somente leitura: a série e a data quando a tarefa é uma ocorrência materializada de uma série recorrente
+    @JsonProperty(value = "seriesId", access = JsonProperty.Access.READ_ONLY)
+    private Long seriesId;
+
+    @JsonProperty(value = "occurrenceDate", access = JsonProperty.Access.READ_ONLY)
+    private LocalDate occurrenceDate;
+
+    // Letras, dígitos, "_" e "-"; gravadas em minúsculas e sem repetição
+    @Size(max = TaskTags.MAX_TAGS, message = "At most " + TaskTags.MAX_TAGS + " tags are allowed")
+    @JsonProperty("tags")
+    private List<@Pattern(regexp = TaskTags.PATTERN, message = "Tags must have up to " + TaskTags.MAX_LENGTH
+            + " letters, digits, '_' or '-' and cannot be AND, OR or NOT") String> tags = List.of();
+
     //Constructors
 
     public TaskDTO() {
@@ -54,6 +95,42 @@ public class TaskDTO {
         return completed;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return occurrenceDate;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
     public void setId(Long id){
         this.id = id;
     }
@@ -69,5 +146,41 @@ public class TaskDTO {
     public void setCompleted(@NonNull Boolean completed){
         this.completed = completed;
     }
+
+    public void setCreatedAt(LocalDateTime createdAt){
+        this.createdAt = createdAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt){
+        this.completedAt = completedAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt){
+        this.dueAt = dueAt;
+    }
+
+    public void setRemindAt(LocalDateTime remindAt){
+        this.remindAt = remindAt;
+    }
+
+    public void setParentId(Long parentId){
+        this.parentId = parentId;
+    }
+
+    public void setListId(Long listId){
+        this.listId = listId;
+    }
+
+    public void setSeriesId(Long seriesId){
+        this.seriesId = seriesId;
+    }
+
+    public void setOccurrenceDate(LocalDate occurrenceDate){
+        this.occurrenceDate = occurrenceDate;
+    }
+
+    public void setTags(List<String> tags){
+        this.tags = tags;
+    }
     
 }
@@ -0,0 +1,59 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Uma alteração da tarefa no histórico: o tipo (CREATED, UPDATED, DELETED, RESTORED, IMPORTED, ARCHIVED), quando
+ * ocorreu e, nas atualizações, as colunas gravadas com os valores novos.
+ */
+public class TaskEventDTO {
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("occurredAt")
+    private LocalDateTime occurredAt;
+
+    @JsonProperty("changes")
+    private Map<String, Object> changes;
+
+    //Constructors
+
+    public TaskEventDTO() {
+    }
+
+    public TaskEventDTO(String type, LocalDateTime occurredAt, Map<String, Object> changes) {
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.changes = changes;
+    }
+
+    //Getters and Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Map<String, Object> getChanges() {
+        return changes;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public void setChanges(Map<String, Object> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,69 @@
+package com.todolist.api.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos do TaskDTO que podem ser pedidos em ?fields= (id,title,completed...). Cada um vira uma coluna do SELECT;
+ * archiveColumn é nula para os campos que tasks_archive não guarda (vêm como null nas tarefas arquivadas).
+ */
+public enum TaskField {
+
+    ID("id", "id", "id"),
+    TITLE("title", "title", "title"),
+    DESCRIPTION("description", "description", "description"),
+    COMPLETED("completed", "completed", "completed"),
+    CREATED_AT("createdAt", "created_at", "created_at"),
+    COMPLETED_AT("completedAt", "completed_at", "completed_at"),
+    DUE_AT("dueAt", "due_at", "due_at"),
+    REMIND_AT("remindAt", "remind_at", null),
+    PARENT_ID("parentId", "parent_id", null),
+    LIST_ID("listId", "list_id", "list_id"),
+    SERIES_ID("seriesId", "series_id", null),
+    OCCURRENCE_DATE("occurrenceDate", "occurrence_date", null),
+    TAGS("tags", "tags", null);
+
+    private final String jsonName;
+    private final String column;
+    private final String archiveColumn;
+
+    TaskField(String jsonName, String column, String archiveColumn) {
+        this.jsonName = jsonName;
+        this.column = column;
+        this.archiveColumn = archiveColumn;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public String archiveColumn() {
+        return archiveColumn;
+    }
+
+    // Lista separada por vírgulas, com os nomes do JSON; a resposta segue a ordem do enum, não a do pedido
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Campo desconhecido: " + trimmed + " (válidos: "
+                            + Arrays.stream(values()).map(TaskField::jsonName).collect(Collectors.joining(",")) + ")")));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("fields precisa de pelo menos um campo");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Corpo de PUT /api/tasks/{id}/list. listId nulo tira a tarefa de qualquer lista.
+ */
+public class TaskListAssignmentDTO {
+
+    @JsonProperty("listId")
+    private Long listId;
+
+    //Constructors
+
+    public TaskListAssignmentDTO() {
+    }
+
+    public TaskListAssignmentDTO(Long listId) {
+        this.listId = listId;
+    }
+
+    //Getters and Setters
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public void setListId(Long listId) {
+        this.listId = listId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lista (quadro) de tarefas. Na entrada só o nome é lido; as contagens e as tarefas são preenchidas pelo servidor.
+ * tasks só aparece quando pedida (tasksPerList > 0) e traz no máximo tasksPerList tarefas, na ordem manual.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskListDTO {
+
+    @JsonProperty(value = "id", access = JsonProperty.Access.READ_ONLY)
+    private Long id;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be less than 100 characters")
+    @JsonProperty("name")
+    private @NonNull String name;
+
+    @JsonProperty(value = "createdAt", access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @JsonProperty(value = "taskCount", access = JsonProperty.Access.READ_ONLY)
+    private int taskCount;
+
+    @JsonProperty(value = "completedCount", access = JsonProperty.Access.READ_ONLY)
+    private int completedCount;
+
+    @JsonProperty(value = "tasks", access = JsonProperty.Access.READ_ONLY)
+    private List<TaskDTO> tasks;
+
+    //Constructors
+
+    public TaskListDTO() {
+        this.name = "";
+    }
+
+    public TaskListDTO(@NonNull String name) {
+        this.name = name;
+    }
+
+    //Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public @NonNull String getName() {
+        return name;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public List<TaskDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(@NonNull String name) {
+        this.name = name;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setCompletedCount(int completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public void setTasks(List<TaskDTO> tasks) {
+        this.tasks = tasks;
+    }
+}
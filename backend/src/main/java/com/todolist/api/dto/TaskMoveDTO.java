@@ -0,0 +1,59 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+
+/**
+ * Corpo de POST /api/tasks/{id}/move: a nova posição é dada por uma tarefa vizinha.
+ * afterId coloca a tarefa logo depois da tarefa informada; beforeId, logo antes.
+ * Para o topo da lista, beforeId da primeira tarefa; para o fim, afterId da última.
+ */
+public class TaskMoveDTO {
+
+    @JsonProperty("afterId")
+    private Long afterId;
+
+    @JsonProperty("beforeId")
+    private Long beforeId;
+
+    //Constructors
+
+    public TaskMoveDTO() {
+    }
+
+    public TaskMoveDTO(Long afterId, Long beforeId) {
+        this.afterId = afterId;
+        this.beforeId = beforeId;
+    }
+
+    //Getters and Setters
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public Long getBeforeId() {
+        return beforeId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    public void setBeforeId(Long beforeId) {
+        this.beforeId = beforeId;
+    }
+
+    // Tarefa de referência, seja qual for o lado
+    @JsonIgnore
+    public Long getAnchorId() {
+        return afterId != null ? afterId : beforeId;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Exactly one of afterId or beforeId is required")
+    public boolean isAnchorValid() {
+        return (afterId == null) != (beforeId == null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Uma ocorrência de série no período pedido. taskId só aparece quando a ocorrência já foi materializada
+ * (concluída ou editada): os demais campos vêm então da tarefa; sem taskId, vêm da série.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskOccurrenceDTO {
+
+    @JsonProperty("seriesId")
+    private Long seriesId;
+
+    @JsonProperty("date")
+    private LocalDate date;
+
+    @JsonProperty("taskId")
+    private Long taskId;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("description")
+    private String description;
+
+    @JsonProperty("completed")
+    private boolean completed;
+
+    @JsonProperty("completedAt")
+    private LocalDateTime completedAt;
+
+    @JsonProperty("dueAt")
+    private LocalDateTime dueAt;
+
+    @JsonProperty("tags")
+    private List<String> tags;
+
+    //Constructors
+
+    public TaskOccurrenceDTO() {
+    }
+
+    public TaskOccurrenceDTO(Long seriesId, LocalDate date, String title, String description) {
+        this.seriesId = seriesId;
+        this.date = date;
+        this.title = title;
+        this.description = description;
+    }
+
+    //Getters and Setters
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,89 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Uma operação do lote de POST /api/tasks/ops.
+ *
+ * CREATE usa "task" e, opcionalmente, "tempId" (ID provisório do cliente).
+ * UPDATE, TOGGLE e DELETE apontam para a tarefa por "id" (tarefa existente)
+ * ou por "tempId" (tarefa criada por um CREATE anterior do mesmo lote). UPDATE também usa "task".
+ */
+public class TaskOperationDTO {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        TOGGLE,
+        DELETE;
+
+        // Aceita "create", "Create" etc.
+        @JsonCreator
+        public static Type from(String value) {
+            return Type.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    @NotNull(message = "Operation is required")
+    @JsonProperty("op")
+    private Type op;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("tempId")
+    private String tempId;
+
+    @JsonProperty("task")
+    private TaskDTO task;
+
+    //Constructors
+
+    public TaskOperationDTO() {
+    }
+
+    public TaskOperationDTO(Type op, Long id, String tempId, TaskDTO task) {
+        this.op = op;
+        this.id = id;
+        this.tempId = tempId;
+        this.task = task;
+    }
+
+    //Getters and Setters
+
+    public Type getOp() {
+        return op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTempId() {
+        return tempId;
+    }
+
+    public TaskDTO getTask() {
+        return task;
+    }
+
+    public void setOp(Type op) {
+        this.op = op;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTempId(String tempId) {
+        this.tempId = tempId;
+    }
+
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+}
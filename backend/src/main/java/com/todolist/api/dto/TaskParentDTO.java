@@ -0,0 +1,31 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Corpo de PUT /api/tasks/{id}/parent. parentId nulo transforma a tarefa em tarefa de nível superior.
+ */
+public class TaskParentDTO {
+
+    @JsonProperty("parentId")
+    private Long parentId;
+
+    //Constructors
+
+    public TaskParentDTO() {
+    }
+
+    public TaskParentDTO(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    //Getters and Setters
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+}
@@ -0,0 +1,208 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.todolist.api.model.TaskTags;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Corpo de PATCH /api/tasks/{id} (application/merge-patch+json, RFC 7396).
+ *
+ * Só os campos presentes no JSON são alterados. O Jackson chama o setter apenas
+ * para as propriedades enviadas, então cada setter também marca o campo como presente;
+ * "description", "dueAt", "remindAt" e "tags" com null apagam o valor; "tags" substitui a lista inteira. Campos desconhecidos são rejeitados
+ * e "id" é ignorado, para que o cliente possa reenviar a tarefa que recebeu.
+ */
+@JsonIgnoreProperties("id")
+public class TaskPatchDTO {
+
+    @Size(max = 100, message = "Title must be less than 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must be less than 500 characters")
+    private String description;
+
+    private Boolean completed;
+
+    private LocalDateTime dueAt;
+
+    private LocalDateTime remindAt;
+
+    @Size(max = TaskTags.MAX_TAGS, message = "At most " + TaskTags.MAX_TAGS + " tags are allowed")
+    private List<@Pattern(regexp = TaskTags.PATTERN, message = "Tags must have up to " + TaskTags.MAX_LENGTH
+            + " letters, digits, '_' or '-' and cannot be AND, OR or NOT") String> tags;
+
+    @JsonIgnore
+    private boolean titleSet;
+
+    @JsonIgnore
+    private boolean descriptionSet;
+
+    @JsonIgnore
+    private boolean completedSet;
+
+    @JsonIgnore
+    private boolean dueAtSet;
+
+    @JsonIgnore
+    private boolean remindAtSet;
+
+    @JsonIgnore
+    private boolean tagsSet;
+
+    //Constructors
+
+    public TaskPatchDTO() {
+    }
+
+    //Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public boolean hasTitle() {
+        return titleSet;
+    }
+
+    public boolean hasDescription() {
+        return descriptionSet;
+    }
+
+    public boolean hasCompleted() {
+        return completedSet;
+    }
+
+    public boolean hasDueAt() {
+        return dueAtSet;
+    }
+
+    public boolean hasRemindAt() {
+        return remindAtSet;
+    }
+
+    public boolean hasTags() {
+        return tagsSet;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return !titleSet && !descriptionSet && !completedSet && !dueAtSet && !remindAtSet && !tagsSet;
+    }
+
+    // Campos que mudam o lembrete agendado: depois do UPDATE o service relê a tarefa para reagendá-lo
+    @JsonIgnore
+    public boolean affectsReminder() {
+        return completedSet || remindAtSet;
+    }
+
+    // Colunas de tasks que o patch grava, com os valores novos, para o TaskChangedEvent
+    @JsonIgnore
+    public Map<String, Object> changes() {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (titleSet) {
+            changes.put("title", title);
+        }
+        if (descriptionSet) {
+            changes.put("description", description);
+        }
+        if (completedSet) {
+            changes.put("completed", completed);
+        }
+        if (dueAtSet) {
+            changes.put("due_at", dueAt);
+        }
+        if (remindAtSet) {
+            changes.put("remind_at", remindAt);
+        }
+        if (tagsSet) {
+            changes.put("tags", TaskTags.normalize(tags));
+        }
+        return changes;
+    }
+
+    @JsonProperty("title")
+    public void setTitle(String title) {
+        this.title = title;
+        this.titleSet = true;
+    }
+
+    @JsonProperty("description")
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionSet = true;
+    }
+
+    @JsonProperty("completed")
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+        this.completedSet = true;
+    }
+
+    @JsonProperty("dueAt")
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+        this.dueAtSet = true;
+    }
+
+    @JsonProperty("remindAt")
+    public void setRemindAt(LocalDateTime remindAt) {
+        this.remindAt = remindAt;
+        this.remindAtSet = true;
+    }
+
+    @JsonProperty("tags")
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+        this.tagsSet = true;
+    }
+
+    // Um campo com nome errado seria ignorado em silêncio e o PATCH responderia 204 sem alterar nada
+    @JsonAnySetter
+    public void setUnknown(String name, Object value) {
+        throw new IllegalArgumentException("Campo desconhecido: " + name);
+    }
+
+    // Ausente é permitido; presente precisa seguir a mesma regra do TaskDTO
+    @JsonIgnore
+    @AssertTrue(message = "Title is required")
+    public boolean isTitleValid() {
+        return !titleSet || (title != null && !title.isBlank());
+    }
+
+    // A coluna completed não aceita nulo
+    @JsonIgnore
+    @AssertTrue(message = "Completed must not be null")
+    public boolean isCompletedValid() {
+        return !completedSet || completed != null;
+    }
+}
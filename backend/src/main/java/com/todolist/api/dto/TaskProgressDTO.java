@@ -0,0 +1,67 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Progresso de uma subárvore: quantos descendentes (em qualquer nível) a tarefa tem e quantos estão concluídos.
+ */
+public class TaskProgressDTO {
+
+    @JsonProperty("taskId")
+    private Long taskId;
+
+    @JsonProperty("completed")
+    private boolean completed;
+
+    @JsonProperty("subtasks")
+    private long subtasks;
+
+    @JsonProperty("completedSubtasks")
+    private long completedSubtasks;
+
+    //Constructors
+
+    public TaskProgressDTO() {
+    }
+
+    public TaskProgressDTO(Long taskId, boolean completed, long subtasks, long completedSubtasks) {
+        this.taskId = taskId;
+        this.completed = completed;
+        this.subtasks = subtasks;
+        this.completedSubtasks = completedSubtasks;
+    }
+
+    //Getters and Setters
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public long getSubtasks() {
+        return subtasks;
+    }
+
+    public long getCompletedSubtasks() {
+        return completedSubtasks;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public void setSubtasks(long subtasks) {
+        this.subtasks = subtasks;
+    }
+
+    public void setCompletedSubtasks(long completedSubtasks) {
+        this.completedSubtasks = completedSubtasks;
+    }
+}
@@ -0,0 +1,58 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Página de uma busca por tags: total de tarefas que atendem à busca, a página em ordem de ID
+ * e o afterId da próxima página (nulo na última).
+ */
+public class TaskSearchResultDTO {
+
+    @JsonProperty("total")
+    private long total;
+
+    @JsonProperty("tasks")
+    private List<TaskDTO> tasks;
+
+    @JsonProperty("nextAfterId")
+    private Long nextAfterId;
+
+    //Constructors
+
+    public TaskSearchResultDTO() {
+    }
+
+    public TaskSearchResultDTO(long total, List<TaskDTO> tasks, Long nextAfterId) {
+        this.total = total;
+        this.tasks = tasks;
+        this.nextAfterId = nextAfterId;
+    }
+
+    //Getters and Setters
+
+    public long getTotal() {
+        return total;
+    }
+
+    public List<TaskDTO> getTasks() {
+        return tasks;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public void setTasks(List<TaskDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+}
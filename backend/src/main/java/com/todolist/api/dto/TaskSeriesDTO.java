@@ -0,0 +1,130 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Série de tarefas recorrentes. rule segue o subconjunto de RRULE aceito por RecurrenceRule
+ * (ex.: "FREQ=WEEKLY;BYDAY=MO,WE"); na resposta vem na forma canônica. endDate é o último dia possível (inclusive)
+ * e dueTime, o horário do prazo de cada ocorrência.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskSeriesDTO {
+
+    @JsonProperty(value = "id", access = JsonProperty.Access.READ_ONLY)
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 100, message = "Title must be less than 100 characters")
+    @JsonProperty("title")
+    private @NonNull String title;
+
+    @Size(max = 500, message = "Description must be less than 500 characters")
+    @JsonProperty("description")
+    private String description;
+
+    @NotBlank(message = "Rule is required")
+    @Size(max = 200, message = "Rule must be less than 200 characters")
+    @JsonProperty("rule")
+    private @NonNull String rule;
+
+    @NotNull(message = "Start date is required")
+    @JsonProperty("startDate")
+    private LocalDate startDate;
+
+    @JsonProperty("endDate")
+    private LocalDate endDate;
+
+    @JsonProperty("dueTime")
+    private LocalTime dueTime;
+
+    @JsonProperty(value = "createdAt", access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    //Constructors
+
+    public TaskSeriesDTO() {
+        this.title = "";
+        this.rule = "";
+    }
+
+    public TaskSeriesDTO(@NonNull String title, @NonNull String rule, LocalDate startDate) {
+        this.title = title;
+        this.rule = rule;
+        this.startDate = startDate;
+    }
+
+    //Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public @NonNull String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public @NonNull String getRule() {
+        return rule;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public LocalTime getDueTime() {
+        return dueTime;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTitle(@NonNull String title) {
+        this.title = title;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setRule(@NonNull String rule) {
+        this.rule = rule;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public void setDueTime(LocalTime dueTime) {
+        this.dueTime = dueTime;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,58 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+
+/**
+ * Um período da série de estatísticas: o primeiro dia (a segunda-feira, na granularidade semanal)
+ * e quantas tarefas foram criadas e concluídas nele.
+ */
+public class TaskStatsBucketDTO {
+
+    @JsonProperty("start")
+    private LocalDate start;
+
+    @JsonProperty("created")
+    private long created;
+
+    @JsonProperty("completed")
+    private long completed;
+
+    //Constructors
+
+    public TaskStatsBucketDTO() {
+    }
+
+    public TaskStatsBucketDTO(LocalDate start, long created, long completed) {
+        this.start = start;
+        this.created = created;
+        this.completed = completed;
+    }
+
+    //Getters and Setters
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setStart(LocalDate start) {
+        this.start = start;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,43 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Título sugerido enquanto o usuário digita, com o número de tarefas do tenant que o usam.
+ */
+public class TaskSuggestionDTO {
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("count")
+    private int count;
+
+    //Constructors
+
+    public TaskSuggestionDTO() {
+    }
+
+    public TaskSuggestionDTO(String title, int count) {
+        this.title = title;
+        this.count = count;
+    }
+
+    //Getters and Setters
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,21 @@
+package com.todolist.api.event;
+
+import com.todolist.api.model.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicado quando uma escrita pode ter mudado o lembrete de uma tarefa, com o estado já gravado.
+ * remindAt nulo cancela o lembrete: tarefa sem lembrete, concluída ou excluída.
+ */
+public record ReminderChangedEvent(String tenantId, Long taskId, LocalDateTime remindAt, LocalDateTime dueAt) {
+
+    public static ReminderChangedEvent of(String tenantId, Task task) {
+        boolean pending = !task.getCompleted() && task.getDeletedAt() == null;
+        return new ReminderChangedEvent(tenantId, task.getId(), pending ? task.getRemindAt() : null, task.getDueAt());
+    }
+
+    public static ReminderChangedEvent cancelled(String tenantId, Long taskId) {
+        return new ReminderChangedEvent(tenantId, taskId, null, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.todolist.api.event;
+
+import java.util.List;
+
+/**
+ * Mudanças novas lidas de task_changes em um shard, inclusive as de outras réplicas.
+ * Publicado pelo ChangeLogPoller na mesma thread, com as conexões ainda roteadas para o shard.
+ */
+public record TaskChangeLogEvent(int shard, List<TaskChangedEvent> changes) {
+}
@@ -0,0 +1,63 @@
+package com.todolist.api.event;
+
+import com.todolist.api.model.Task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publicado a cada escrita em tarefas, dentro da transação que fez a escrita.
+ * changes traz as colunas gravadas (nomes de tasks) com os valores novos, na ordem em que foram informadas;
+ * vazio em criações, exclusões, restaurações, importações e arquivamentos, e nos eventos relidos de task_changes.
+ */
+public record TaskChangedEvent(String tenantId, Long taskId, ChangeType type, Map<String, Object> changes) {
+
+    // Colunas que PUT /api/tasks/{id} e o UPDATE em lote regravam inteiras
+    public static final List<String> EDITABLE_COLUMNS =
+            List.of("title", "description", "completed", "due_at", "remind_at", "tags");
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESTORED,
+        IMPORTED,
+        // Movida para tasks_archive pelo TaskArchiver: some de tasks como numa exclusão
+        ARCHIVED
+    }
+
+    // Os valores podem ser nulos (um campo apagado), então a cópia é um LinkedHashMap e não Map.copyOf
+    public TaskChangedEvent {
+        changes = changes == null || changes.isEmpty() ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(changes));
+    }
+
+    public TaskChangedEvent(String tenantId, Long taskId, ChangeType type) {
+        this(tenantId, taskId, type, Map.of());
+    }
+
+    // Atualização de uma única coluna
+    public static TaskChangedEvent updated(String tenantId, Long taskId, String column, Object value) {
+        return new TaskChangedEvent(tenantId, taskId, ChangeType.UPDATED, Collections.singletonMap(column, value));
+    }
+
+    // Atualização das colunas editáveis informadas, com os valores já aplicados à tarefa
+    public static TaskChangedEvent updated(String tenantId, Task task, Collection<String> columns) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String column : EDITABLE_COLUMNS) {
+            if (columns.contains(column)) {
+                changes.put(column, switch (column) {
+                    case "title" -> task.getTitle();
+                    case "description" -> task.getDescription();
+                    case "completed" -> task.getCompleted();
+                    case "due_at" -> task.getDueAt();
+                    case "remind_at" -> task.getRemindAt();
+                    default -> task.getTags();
+                });
+            }
+        }
+        return new TaskChangedEvent(tenantId, task.getId(), ChangeType.UPDATED, changes);
+    }
+}
@@ -0,0 +1,10 @@
+package com.todolist.api.event;
+
+import java.util.Collection;
+
+/**
+ * Publicado quando as contagens de listas podem ter mudado por uma escrita que o TaskChangedEvent não mostra:
+ * tarefa que saiu de uma lista (a lista antiga) ou tarefas arquivadas, que deixam a tabela tasks.
+ */
+public record TaskListsChangedEvent(Collection<Long> listIds) {
+}
@@ -0,0 +1,91 @@
+package com.todolist.api.eventlog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Buffer circular sem locks para vários produtores e um único consumidor, com as entradas alocadas uma vez.
+ *
+ * Um produtor reserva a próxima sequência com um CAS (tryClaim), preenche a entrada no lugar e a publica
+ * gravando a sequência na posição (publish). O consumidor lê as posições em ordem enquanto a sequência gravada
+ * for a esperada, então uma reserva ainda não publicada segura as seguintes, mas nenhuma é lida pela metade.
+ * Com o buffer cheio, tryClaim devolve -1 e a política de espera fica com quem chama.
+ */
+public final class RingBuffer<E> {
+
+    private final E[] entries;
+    private final int mask;
+    // Sequência publicada em cada posição; -1 = nunca publicada
+    private final AtomicLongArray published;
+    private final AtomicLong next = new AtomicLong();
+    // Última sequência lida pelo consumidor; só ele escreve
+    private volatile long consumed = -1;
+
+    @SuppressWarnings("unchecked")
+    public RingBuffer(int capacity, Supplier<E> factory) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("A capacidade do buffer precisa ser uma potência de 2: " + capacity);
+        }
+        this.entries = (E[]) new Object[capacity];
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = factory.get();
+            published.set(i, -1);
+        }
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    // Entradas reservadas e ainda não lidas pelo consumidor
+    public long size() {
+        return next.get() - consumed - 1;
+    }
+
+    // Sequência reservada, ou -1 com o buffer cheio
+    public long tryClaim() {
+        while (true) {
+            long sequence = next.get();
+            // Entradas ainda não lidas (sequence - consumed - 1) já ocupam todas as posições
+            if (sequence - (consumed + 1) >= entries.length) {
+                return -1;
+            }
+            if (next.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    // Entrada da sequência reservada, para o produtor preencher antes do publish
+    public E get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    public void publish(long sequence) {
+        published.setRelease((int) sequence & mask, sequence);
+    }
+
+    // Só o consumidor chama: entrega até max entradas publicadas, em ordem, e libera as posições delas
+    public int drain(Consumer<E> handler, int max) {
+        long sequence = consumed + 1;
+        int count = 0;
+        while (count < max && published.getAcquire((int) sequence & mask) == sequence) {
+            handler.accept(entries[(int) sequence & mask]);
+            sequence++;
+            count++;
+        }
+        if (count > 0) {
+            consumed = sequence - 1;
+        }
+        return count;
+    }
+
+    // Sequência da última entrada lida pelo consumidor
+    public long consumed() {
+        return consumed;
+    }
+}
@@ -0,0 +1,21 @@
+package com.todolist.api.eventlog;
+
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Uma linha do histórico de tarefas (task_events), com as colunas gravadas e os valores novos (vazio fora das
+ * atualizações). taskId nulo = importação em massa registrada antes de a importação publicar um evento por tarefa.
+ */
+public record TaskEvent(String tenantId, Long taskId, ChangeType type, LocalDateTime occurredAt, Map<String, Object> changes) {
+
+    public TaskEvent {
+        changes = changes == null ? Map.of() : changes;
+    }
+
+    public TaskEvent(String tenantId, Long taskId, ChangeType type, LocalDateTime occurredAt) {
+        this(tenantId, taskId, type, occurredAt, Map.of());
+    }
+}
@@ -0,0 +1,273 @@
+package com.todolist.api.eventlog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.todolist.api.config.EventLogProperties;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.repository.TaskEventRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Histórico append-only das alterações em tarefas, gravado fora do caminho da requisição.
+ *
+ * Depois do commit, a thread da requisição só reserva uma posição no RingBuffer, copia o evento para ela
+ * e a publica (sem locks nem alocação do buffer). Uma única thread, task-event-writer, esvazia o buffer
+ * em lotes de até batchSize e grava cada lote com um INSERT em lote por shard; sem lote cheio, grava o que
+ * houver a cada flushInterval.
+ *
+ * Buffer cheio (banco lento ou fora): com backpressure=BLOCK a requisição espera até blockTimeout por uma
+ * posição; com DROP, ou depois da espera, o evento é descartado e contado. Com durability=SYNC a requisição
+ * espera até o lote com o seu evento ser gravado. Um lote que falha fica com o gravador e é tentado de novo
+ * com espera crescente; enquanto isso o buffer enche e a política de backpressure decide.
+ *
+ * Métricas: todolist.events.written, todolist.events.dropped e todolist.events.pending.
+ */
+@Component
+@ConditionalOnProperty(prefix = "todolist.events", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskEventLog implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventLog.class);
+
+    private static final long MAX_RETRY_NANOS = Duration.ofSeconds(5).toNanos();
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = Duration.ofSeconds(10).toMillis();
+
+    private final TaskEventRepository repository;
+    private final EventLogProperties properties;
+    private final Clock clock;
+    private final RingBuffer<Slot> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter written;
+    private final Counter dropped;
+    private final Object flushMonitor = new Object();
+
+    // Última sequência gravada no repositório; só o gravador escreve
+    private volatile long flushed = -1;
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    @Autowired
+    public TaskEventLog(TaskEventRepository repository, EventLogProperties properties, MeterRegistry meterRegistry) {
+        this(repository, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    TaskEventLog(TaskEventRepository repository, EventLogProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        if (properties.getBatchSize() < 1 || properties.getBatchSize() > properties.getCapacity()) {
+            throw new IllegalStateException("todolist.events.batch-size deve estar entre 1 e capacity");
+        }
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+        this.buffer = new RingBuffer<>(properties.getCapacity(), Slot::new);
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.written = Counter.builder("todolist.events.written")
+                .description("Eventos gravados no histórico")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("todolist.events.dropped")
+                .description("Eventos descartados com o buffer cheio ou o gravador parado")
+                .register(meterRegistry);
+        Gauge.builder("todolist.events.pending", buffer, RingBuffer::size)
+                .description("Eventos no buffer aguardando o gravador")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "task-event-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    // Para de aceitar eventos e espera o gravador esvaziar o buffer
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            logger.warn("Gravador do histórico não terminou em {} ms; {} eventos não gravados",
+                    SHUTDOWN_TIMEOUT_MILLIS, buffer.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Abaixo do servidor web: para depois dele, quando não chegam mais requisições, e antes do pool de conexões fechar
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // Escritas desta réplica, depois do commit
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        record(event);
+    }
+
+    // false = evento descartado
+    boolean record(TaskChangedEvent event) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return false;
+        }
+        Slot slot = buffer.get(sequence);
+        slot.tenantId = event.tenantId();
+        slot.taskId = event.taskId();
+        slot.type = event.type();
+        slot.changes = event.changes();
+        slot.occurredAt = LocalDateTime.now(clock);
+        buffer.publish(sequence);
+        if (properties.getDurability() == EventLogProperties.Durability.SYNC) {
+            awaitFlushed(sequence);
+        } else if (buffer.size() == batchSize) {
+            // Lote cheio: acorda o gravador uma vez, em vez de esperar o flushInterval
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    // Última sequência gravada; usada nos testes e na espera de durability=SYNC
+    long flushed() {
+        return flushed;
+    }
+
+    private long claim() {
+        long sequence = buffer.tryClaim();
+        if (sequence >= 0 || properties.getBackpressure() == EventLogProperties.Backpressure.DROP) {
+            return sequence;
+        }
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        LockSupport.unpark(writer);
+        int spins = 0;
+        while (sequence < 0 && System.nanoTime() < deadline) {
+            // Primeiro gira alguns ciclos (o gravador costuma liberar posições em microssegundos), depois dorme
+            if (spins++ < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+            }
+            sequence = buffer.tryClaim();
+        }
+        return sequence;
+    }
+
+    private void awaitFlushed(long sequence) {
+        long deadline = System.nanoTime() + properties.getSyncTimeout().toNanos();
+        LockSupport.unpark(writer);
+        synchronized (flushMonitor) {
+            long remaining;
+            while (flushed < sequence && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    flushMonitor.wait(Math.max(1, remaining / 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (flushed < sequence) {
+            logger.warn("Evento {} não gravado em {}; a requisição segue e o evento fica no buffer",
+                    sequence, properties.getSyncTimeout());
+        }
+    }
+
+    private void runWriter() {
+        List<TaskEvent> batch = new ArrayList<>(batchSize);
+        long batchEnd = -1;
+        long retryNanos = 0;
+        while (true) {
+            if (batch.isEmpty()) {
+                if (running && buffer.size() < batchSize) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+                buffer.drain(slot -> batch.add(slot.take()), batchSize);
+                batchEnd = buffer.consumed();
+                if (batch.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            try {
+                repository.append(batch);
+                written.increment(batch.size());
+                batch.clear();
+                retryNanos = 0;
+                flushed = batchEnd;
+                synchronized (flushMonitor) {
+                    flushMonitor.notifyAll();
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    logger.warn("Falha ao gravar o histórico no desligamento; {} eventos descartados", batch.size() + buffer.size(), e);
+                    dropped.increment(batch.size() + buffer.size());
+                    return;
+                }
+                retryNanos = Math.min(MAX_RETRY_NANOS, Math.max(flushIntervalNanos, retryNanos * 2));
+                logger.warn("Falha ao gravar {} eventos do histórico; nova tentativa em {} ms: {}",
+                        batch.size(), retryNanos / 1_000_000, e.getMessage());
+                LockSupport.parkNanos(this, retryNanos);
+            }
+        }
+    }
+
+    // Posição do buffer, alocada uma vez e reaproveitada a cada volta
+    private static final class Slot {
+
+        private String tenantId;
+        private Long taskId;
+        private ChangeType type;
+        private Map<String, Object> changes;
+        private LocalDateTime occurredAt;
+
+        // Copia para o lote e solta as referências, para a posição não segurar o evento até a próxima volta
+        private TaskEvent take() {
+            TaskEvent event = new TaskEvent(tenantId, taskId, type, occurredAt, changes);
+            tenantId = null;
+            taskId = null;
+            type = null;
+            changes = null;
+            occurredAt = null;
+            return event;
+        }
+    }
+}
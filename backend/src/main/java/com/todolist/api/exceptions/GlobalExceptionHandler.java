@@ -1,14 +1,21 @@
 package com.todolist.api.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.validation.FieldError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.todolist.api.resilience.DatabaseFailures;
+import com.todolist.api.resilience.DatabaseUnavailableException;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,12 +38,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
     
+    // Corpo ausente ou JSON malformado (ex.: operação desconhecida em /api/tasks/ops)
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, String>> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Corpo da requisição inválido");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    // Content-Type não aceito pelo endpoint (ex.: PATCH sem application/merge-patch+json)
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, String>> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Content-Type não suportado: " + ex.getContentType());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error);
+    }
+
+    // Exceções que já trazem o status HTTP (ex.: requisição inválida a um endpoint do actuator)
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, String>> handleResponseStatus(ResponseStatusException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getReason() != null ? ex.getReason() : ex.getStatusCode().toString());
+        return ResponseEntity.status(ex.getStatusCode()).body(error);
+    }
+
+    // Disjuntor do banco aberto: recusada sem esperar o banco. Retry-After é quando as chamadas de teste começam
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleDatabaseUnavailable(DatabaseUnavailableException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Banco de dados indisponível. Tente novamente em instantes.");
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(error);
+    }
+
     // Trata exceções genéricas
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericError(Exception ex) {
+        // Sem conexão ou timeout: 503, para o cliente saber que pode tentar de novo
+        if (DatabaseFailures.isUnavailable(ex)) {
+            logger.warn("Banco de dados indisponível: {}", ex.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Banco de dados indisponível. Tente novamente em instantes.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
         logger.error("Erro não tratado: ", ex);
         Map<String, String> error = new HashMap<>();
         error.put("error", "Erro interno no servidor. Tente novamente.");
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.todolist.api.index;
+
+import java.util.List;
+
+/**
+ * Colunas de uma tarefa não excluída que os índices em memória (TaskIndex) usam.
+ */
+public record IndexedTask(String tenantId, long id, String title, boolean completed, List<String> tags) {
+}
@@ -0,0 +1,212 @@
+package com.todolist.api.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória das tarefas não excluídas: por tenant, um bitmap Roaring de IDs para cada tag,
+ * um para as concluídas e um com todas. Uma busca (TagQuery) vira operações entre bitmaps, e só as linhas
+ * da página pedida são lidas do banco. Mantido pelo TaskIndexMaintainer.
+ *
+ * Os IDs entram como inteiros sem sinal de 32 bits (até 4.294.967.295), o formato mais compacto e rápido do Roaring.
+ *
+ * Métricas: todolist.tags.query e todolist.tags.index.bytes.
+ */
+@Component
+public class TagIndex implements TaskIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagIndex.class);
+
+    private static final long MAX_ID = 0xFFFFFFFFL;
+
+    private final Timer queryTimer;
+
+    private final Map<String, TenantBitmaps> tenants = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public TagIndex(MeterRegistry meterRegistry) {
+        this.queryTimer = Timer.builder("todolist.tags.query")
+                .description("Avaliação de buscas por tags no índice em memória")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("todolist.tags.index.bytes", this, TagIndex::sizeInBytes)
+                .description("Tamanho dos bitmaps do índice de tags")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // IDs das tarefas do tenant que atendem à busca; o bitmap devolvido é do chamador
+    public RoaringBitmap query(String tenantId, TagQuery query) {
+        if (!ready) {
+            throw new IllegalStateException("Índice de tags ainda em montagem");
+        }
+        TenantBitmaps bitmaps = tenants.get(tenantId);
+        if (bitmaps == null) {
+            return new RoaringBitmap();
+        }
+        return queryTimer.record(() -> {
+            bitmaps.lock.readLock().lock();
+            try {
+                return query.evaluate(bitmaps);
+            } finally {
+                bitmaps.lock.readLock().unlock();
+            }
+        });
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (TenantBitmaps bitmaps : tenants.values()) {
+            bitmaps.lock.readLock().lock();
+            try {
+                bytes += bitmaps.sizeInBytes();
+            } finally {
+                bitmaps.lock.readLock().unlock();
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public Loader loader() {
+        Map<String, TenantBitmaps> built = new HashMap<>();
+        return new Loader() {
+            @Override
+            public void add(IndexedTask task) {
+                if (isIndexable(task.id())) {
+                    built.computeIfAbsent(task.tenantId(), tenant -> new TenantBitmaps()).put(task);
+                }
+            }
+
+            @Override
+            public void finish() {
+                built.values().forEach(TenantBitmaps::optimize);
+            }
+
+            @Override
+            public void publish() {
+                tenants.clear();
+                tenants.putAll(built);
+                ready = true;
+            }
+        };
+    }
+
+    @Override
+    public void put(IndexedTask task) {
+        if (!isIndexable(task.id())) {
+            return;
+        }
+        TenantBitmaps bitmaps = tenants.computeIfAbsent(task.tenantId(), tenant -> new TenantBitmaps());
+        bitmaps.lock.writeLock().lock();
+        try {
+            bitmaps.put(task);
+        } finally {
+            bitmaps.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String tenantId, long taskId) {
+        TenantBitmaps bitmaps = tenants.get(tenantId);
+        if (bitmaps == null || !isIndexable(taskId)) {
+            return;
+        }
+        bitmaps.lock.writeLock().lock();
+        try {
+            bitmaps.remove((int) taskId);
+        } finally {
+            bitmaps.lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean isIndexable(long id) {
+        if (id < 0 || id > MAX_ID) {
+            logger.warn("Tarefa {} fora da faixa de IDs do índice de tags; ela não aparece nas buscas", id);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Bitmaps de um tenant. Leituras com o read lock; alterações com o write lock, ou antes de publicar o objeto.
+     */
+    static final class TenantBitmaps {
+
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final RoaringBitmap completed = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> tags = new HashMap<>();
+
+        // Os bitmaps devolvidos são do índice: quem os recebe não pode alterá-los
+        RoaringBitmap all() {
+            return all;
+        }
+
+        RoaringBitmap completed() {
+            return completed;
+        }
+
+        RoaringBitmap tag(String tag) {
+            return tags.getOrDefault(tag, EMPTY);
+        }
+
+        // A tarefa não guarda as tags anteriores, então as que saíram são procuradas em todos os bitmaps do tenant
+        void put(IndexedTask task) {
+            int id = (int) task.id();
+            remove(id);
+            all.add(id);
+            if (task.completed()) {
+                completed.add(id);
+            }
+            for (String tag : task.tags()) {
+                tags.computeIfAbsent(tag, t -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        void remove(int id) {
+            if (!all.checkedRemove(id)) {
+                return;
+            }
+            completed.remove(id);
+            Iterator<RoaringBitmap> iterator = tags.values().iterator();
+            while (iterator.hasNext()) {
+                RoaringBitmap bitmap = iterator.next();
+                if (bitmap.checkedRemove(id) && bitmap.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        // Converte trechos densos em runs depois da montagem
+        void optimize() {
+            all.runOptimize();
+            completed.runOptimize();
+            tags.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        long sizeInBytes() {
+            long bytes = all.getLongSizeInBytes() + completed.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : tags.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+    }
+}
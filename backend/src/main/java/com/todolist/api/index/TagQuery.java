@@ -0,0 +1,213 @@
+package com.todolist.api.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.todolist.api.model.TaskTags;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Busca booleana por tags, ex.: "trabalho AND urgente AND NOT is:completed".
+ *
+ * Gramática (operadores sem diferença entre maiúsculas e minúsculas; termos lado a lado valem AND):
+ * <pre>
+ * or    := and ("OR" and)*
+ * and   := unary (["AND"] unary)*
+ * unary := "NOT" unary | "(" or ")" | "is:completed" | tag
+ * </pre>
+ * A avaliação só combina bitmaps: AND intersecta do menor para o maior e aplica os NOT como diferença,
+ * sem montar o complemento; só um NOT sozinho (ou um AND só de NOTs) parte do bitmap com todas as tarefas.
+ */
+public final class TagQuery {
+
+    public static final int MAX_LENGTH = 512;
+    public static final int MAX_TERMS = 32;
+
+    private static final String COMPLETED = "is:completed";
+
+    private final Node root;
+    private final String text;
+
+    private TagQuery(Node root, String text) {
+        this.root = root;
+        this.text = text;
+    }
+
+    // IllegalArgumentException com a posição do erro para buscas mal formadas
+    public static TagQuery parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Busca vazia");
+        }
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Busca com mais de " + MAX_LENGTH + " caracteres");
+        }
+        Parser parser = new Parser(tokenize(text));
+        Node root = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Termo inesperado na busca: " + parser.tokens.get(parser.position));
+        }
+        return new TagQuery(root, text);
+    }
+
+    // Resultado novo, que o chamador pode alterar; roda com o lock de leitura do tenant
+    RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps) {
+        RoaringBitmap result = root.evaluate(bitmaps);
+        return root instanceof Leaf ? result.clone() : result;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                while (i < text.length() && !Character.isWhitespace(text.charAt(i))
+                        && text.charAt(i) != '(' && text.charAt(i) != ')') {
+                    i++;
+                }
+                tokens.add(text.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private interface Node {
+        RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps);
+    }
+
+    // Folhas devolvem o bitmap do próprio índice: nenhum nó altera o resultado de um filho
+    private record Leaf(String tag) implements Node {
+        @Override
+        public RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps) {
+            return tag == null ? bitmaps.completed() : bitmaps.tag(tag);
+        }
+    }
+
+    private record Not(Node operand) implements Node {
+        @Override
+        public RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps) {
+            return RoaringBitmap.andNot(bitmaps.all(), operand.evaluate(bitmaps));
+        }
+    }
+
+    private record Or(List<Node> operands) implements Node {
+        @Override
+        public RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps) {
+            return FastAggregation.or(operands.stream().map(operand -> operand.evaluate(bitmaps)).iterator());
+        }
+    }
+
+    private record And(List<Node> operands) implements Node {
+        @Override
+        public RoaringBitmap evaluate(TagIndex.TenantBitmaps bitmaps) {
+            List<RoaringBitmap> included = new ArrayList<>();
+            List<RoaringBitmap> excluded = new ArrayList<>();
+            for (Node operand : operands) {
+                if (operand instanceof Not not) {
+                    excluded.add(not.operand().evaluate(bitmaps));
+                } else {
+                    included.add(operand.evaluate(bitmaps));
+                }
+            }
+            RoaringBitmap result;
+            if (included.isEmpty()) {
+                result = bitmaps.all().clone();
+            } else {
+                included.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+                result = included.get(0).clone();
+                for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+                    result.and(included.get(i));
+                }
+            }
+            for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+                result.andNot(excluded.get(i));
+            }
+            return result;
+        }
+    }
+
+    private static final class Parser {
+
+        private final List<String> tokens;
+        private int position;
+        private int terms;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private Node parseOr() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (accept("OR")) {
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands);
+        }
+
+        private Node parseAnd() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(parseUnary());
+            while (position < tokens.size() && !is("OR") && !is(")")) {
+                accept("AND");
+                operands.add(parseUnary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands);
+        }
+
+        private Node parseUnary() {
+            if (accept("NOT")) {
+                Node operand = parseUnary();
+                return operand instanceof Not not ? not.operand() : new Not(operand);
+            }
+            if (accept("(")) {
+                Node inner = parseOr();
+                if (!accept(")")) {
+                    throw new IllegalArgumentException("Parêntese sem fechamento na busca");
+                }
+                return inner;
+            }
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("Busca termina sem um termo");
+            }
+            String token = tokens.get(position++);
+            if (++terms > MAX_TERMS) {
+                throw new IllegalArgumentException("Busca com mais de " + MAX_TERMS + " termos");
+            }
+            if (token.equalsIgnoreCase(COMPLETED)) {
+                return new Leaf(null);
+            }
+            if (token.equals(")") || token.equalsIgnoreCase("AND") || !token.matches(TaskTags.PATTERN)) {
+                throw new IllegalArgumentException("Termo inválido na busca: " + token);
+            }
+            return new Leaf(TaskTags.normalize(token));
+        }
+
+        private boolean is(String token) {
+            return position < tokens.size() && tokens.get(position).toUpperCase(Locale.ROOT).equals(token);
+        }
+
+        private boolean accept(String token) {
+            if (is(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
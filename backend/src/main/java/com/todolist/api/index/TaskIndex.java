@@ -0,0 +1,31 @@
+package com.todolist.api.index;
+
+/**
+ * Índice em memória alimentado pelo TaskIndexMaintainer a partir das linhas de tasks.
+ *
+ * put e remove chegam um de cada vez, com o lock do maintainer; a implementação só precisa proteger
+ * as próprias leituras contra eles.
+ */
+public interface TaskIndex {
+
+    // Estrutura nova para uma montagem completa; a atual continua respondendo até o publish
+    Loader loader();
+
+    // Substitui o estado da tarefa no índice
+    void put(IndexedTask task);
+
+    void remove(String tenantId, long taskId);
+
+    interface Loader {
+
+        // Chamado fora de qualquer lock, uma vez por tarefa lida
+        void add(IndexedTask task);
+
+        // Ainda fora do lock, depois da última tarefa: trabalho que depende de todas elas (ex.: compactação)
+        default void finish() {
+        }
+
+        // Com o lock do maintainer: troca a estrutura atual pela nova
+        void publish();
+    }
+}
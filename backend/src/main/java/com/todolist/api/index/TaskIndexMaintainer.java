@@ -0,0 +1,178 @@
+package com.todolist.api.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.todolist.api.event.TaskChangeLogEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.repository.TaskIndexRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém os índices em memória (TaskIndex) em dia com a tabela tasks.
+ *
+ * Na inicialização, uma leitura em streaming de todas as tarefas monta cada índice ao lado do atual; as escritas
+ * feitas durante a leitura valem mais que o resultado dela. Depois disso as escritas desta réplica chegam por
+ * TaskChangedEvent (depois do commit) e as das demais pelo change log, sempre relendo as linhas alteradas, uma
+ * vez para todos os índices. Importações em massa não informam IDs, então pedem uma nova montagem completa.
+ */
+@Component
+public class TaskIndexMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskIndexMaintainer.class);
+
+    private final TaskIndexRepository taskIndexRepository;
+    private final List<TaskIndex> indexes;
+
+    private volatile boolean rebuildRequested;
+    // Escritas feitas durante uma montagem (nulo = excluída); guardado pelo lock deste objeto, como as escritas
+    private Map<Key, IndexedTask> touchedWhileLoading;
+
+    public TaskIndexMaintainer(TaskIndexRepository taskIndexRepository, List<TaskIndex> indexes) {
+        this.taskIndexRepository = taskIndexRepository;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    // Nova montagem pedida por uma importação ou por uma releitura que falhou
+    @Scheduled(fixedDelayString = "${todolist.indexes.rebuild-check-interval:10s}")
+    public void rebuildIfRequested() {
+        if (rebuildRequested) {
+            rebuild();
+        }
+    }
+
+    // Escritas desta réplica, depois do commit
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Uma importação publica um evento por tarefa: uma montagem nova sai mais barata que reler cada uma
+        if (event.taskId() == null || event.type() == TaskChangedEvent.ChangeType.IMPORTED) {
+            rebuildRequested = true;
+            return;
+        }
+        Key key = new Key(event.tenantId(), event.taskId());
+        if (event.type() == TaskChangedEvent.ChangeType.DELETED || event.type() == TaskChangedEvent.ChangeType.ARCHIVED) {
+            update(key, null);
+            return;
+        }
+        List<IndexedTask> current;
+        try {
+            current = TenantContext.callAs(event.tenantId(), () -> taskIndexRepository.findByIds(List.of(event.taskId())));
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao reler a tarefa {} para os índices; eles serão montados de novo: {}",
+                    event.taskId(), e.getMessage());
+            rebuildRequested = true;
+            return;
+        }
+        update(key, current.isEmpty() ? null : current.get(0));
+    }
+
+    // Escritas de todas as réplicas, lidas de task_changes; roda com as conexões roteadas para o shard do evento
+    @EventListener
+    public void onChangeLog(TaskChangeLogEvent event) {
+        Map<Long, String> changed = new HashMap<>();
+        for (TaskChangedEvent change : event.changes()) {
+            if (change.taskId() == null) {
+                rebuildRequested = true;
+            } else {
+                changed.put(change.taskId(), change.tenantId());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<IndexedTask> current;
+        try {
+            current = taskIndexRepository.findByIds(changed.keySet());
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao reler as tarefas alteradas no shard {}; os índices serão montados de novo: {}",
+                    event.shard(), e.getMessage());
+            rebuildRequested = true;
+            return;
+        }
+        synchronized (this) {
+            for (IndexedTask task : current) {
+                changed.remove(task.id());
+                update(new Key(task.tenantId(), task.id()), task);
+            }
+            // Ausentes foram excluídas (ou arquivadas)
+            changed.forEach((id, tenantId) -> update(new Key(tenantId, id), null));
+        }
+    }
+
+    // IDs de um índice que não existem mais no banco (ex.: tarefas arquivadas), achados ao ler uma página
+    public synchronized void forget(String tenantId, Collection<Long> taskIds) {
+        for (Long id : taskIds) {
+            update(new Key(tenantId, id), null);
+        }
+    }
+
+    void rebuild() {
+        synchronized (this) {
+            rebuildRequested = false;
+            touchedWhileLoading = new HashMap<>();
+        }
+        long start = System.nanoTime();
+        List<TaskIndex.Loader> loaders = indexes.stream().map(TaskIndex::loader).toList();
+        long[] count = new long[1];
+        try {
+            taskIndexRepository.forEachTask(task -> {
+                for (TaskIndex.Loader loader : loaders) {
+                    loader.add(task);
+                }
+                count[0]++;
+            });
+            loaders.forEach(TaskIndex.Loader::finish);
+            synchronized (this) {
+                loaders.forEach(TaskIndex.Loader::publish);
+                touchedWhileLoading.forEach(this::apply);
+            }
+            logger.info("Índices em memória montados: {} tarefas em {} ms", count[0], (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao montar os índices em memória; nova tentativa em seguida: {}", e.getMessage());
+            rebuildRequested = true;
+        } finally {
+            synchronized (this) {
+                touchedWhileLoading = null;
+            }
+        }
+    }
+
+    // Substitui o estado da tarefa nos índices; task nulo só remove
+    private synchronized void update(Key key, IndexedTask task) {
+        if (touchedWhileLoading != null) {
+            touchedWhileLoading.put(key, task);
+        }
+        apply(key, task);
+    }
+
+    // Chamado com o lock deste objeto
+    private void apply(Key key, IndexedTask task) {
+        for (TaskIndex index : indexes) {
+            if (task == null) {
+                index.remove(key.tenantId(), key.taskId());
+            } else {
+                index.put(task);
+            }
+        }
+    }
+
+    private record Key(String tenantId, long taskId) {
+    }
+}
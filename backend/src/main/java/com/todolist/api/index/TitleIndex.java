@@ -0,0 +1,127 @@
+package com.todolist.api.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sugestões de título (typeahead): uma TitleTrie por tenant, com os títulos das tarefas não excluídas.
+ * Mantido pelo TaskIndexMaintainer; uma sugestão não acessa o banco.
+ *
+ * Métricas: todolist.titles.suggest e todolist.titles.distinct.
+ */
+@Component
+public class TitleIndex implements TaskIndex {
+
+    private final Timer suggestTimer;
+
+    private final Map<String, TenantTrie> tenants = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public TitleIndex(MeterRegistry meterRegistry) {
+        this.suggestTimer = Timer.builder("todolist.titles.suggest")
+                .description("Sugestões de título lidas do índice em memória")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("todolist.titles.distinct", this, TitleIndex::distinctTitles)
+                .description("Títulos distintos no índice de sugestões")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Até limit títulos (no máximo TitleTrie.TOP) que começam com o prefixo, dos mais usados para os menos usados
+    public List<TitleTrie.Suggestion> suggest(String tenantId, String prefix, int limit) {
+        if (!ready) {
+            throw new IllegalStateException("Índice de títulos ainda em montagem");
+        }
+        TenantTrie tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            return List.of();
+        }
+        return suggestTimer.record(() -> {
+            tenant.lock.readLock().lock();
+            try {
+                return tenant.trie.suggest(prefix, Math.min(limit, TitleTrie.TOP));
+            } finally {
+                tenant.lock.readLock().unlock();
+            }
+        });
+    }
+
+    public double distinctTitles() {
+        long titles = 0;
+        for (TenantTrie tenant : tenants.values()) {
+            tenant.lock.readLock().lock();
+            try {
+                titles += tenant.trie.size();
+            } finally {
+                tenant.lock.readLock().unlock();
+            }
+        }
+        return titles;
+    }
+
+    @Override
+    public Loader loader() {
+        Map<String, TenantTrie> built = new HashMap<>();
+        return new Loader() {
+            @Override
+            public void add(IndexedTask task) {
+                built.computeIfAbsent(task.tenantId(), tenant -> new TenantTrie()).trie.load(task.id(), task.title());
+            }
+
+            @Override
+            public void finish() {
+                built.values().forEach(tenant -> tenant.trie.rank());
+            }
+
+            @Override
+            public void publish() {
+                tenants.clear();
+                tenants.putAll(built);
+                ready = true;
+            }
+        };
+    }
+
+    @Override
+    public void put(IndexedTask task) {
+        TenantTrie tenant = tenants.computeIfAbsent(task.tenantId(), id -> new TenantTrie());
+        tenant.lock.writeLock().lock();
+        try {
+            tenant.trie.put(task.id(), task.title());
+        } finally {
+            tenant.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String tenantId, long taskId) {
+        TenantTrie tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            return;
+        }
+        tenant.lock.writeLock().lock();
+        try {
+            tenant.trie.remove(taskId);
+        } finally {
+            tenant.lock.writeLock().unlock();
+        }
+    }
+
+    private static final class TenantTrie {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TitleTrie trie = new TitleTrie();
+    }
+}
@@ -0,0 +1,324 @@
+package com.todolist.api.index;
+
+import com.todolist.api.storage.LongObjectMap;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Árvore de prefixos compacta (radix) dos títulos de um tenant, para sugestões enquanto o usuário digita.
+ *
+ * Os títulos entram normalizados (minúsculas, sem acentos, espaços simples) e cada um conta quantas tarefas
+ * o usam. Cada aresta guarda um trecho do título, então há no máximo dois nós por título distinto. Nós com mais
+ * de TOP títulos abaixo deles guardam os TOP mais frequentes da subárvore; os demais são percorridos na hora,
+ * o que custa no máximo TOP títulos. Uma sugestão é a descida pelo prefixo mais a leitura dessa lista, e uma
+ * alteração recalcula as listas só no caminho do título alterado.
+ *
+ * Não é thread-safe: o TitleIndex acessa cada árvore com o lock do tenant.
+ */
+public final class TitleTrie {
+
+    public static final int TOP = 10;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    // Mais usados primeiro; empate em ordem alfabética
+    private static final Comparator<Title> RANKING = Comparator.comparingInt((Title title) -> -title.count)
+            .thenComparing(title -> title.key);
+
+    private final Node root = new Node("");
+    private final LongObjectMap<Title> byTask = new LongObjectMap<>(16);
+
+    public record Suggestion(String title, int count) {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return SPACES.matcher(MARKS.matcher(decomposed).replaceAll("")).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Como normalize, mas um espaço no fim continua valendo ("comprar " não sugere "comprarei")
+    public static String normalizePrefix(String prefix) {
+        String normalized = normalize(prefix);
+        return !normalized.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1)) ? normalized + " " : normalized;
+    }
+
+    public int size() {
+        return root.size;
+    }
+
+    public int taskCount() {
+        return byTask.size();
+    }
+
+    // Associa a tarefa ao título, saindo do título anterior; títulos vazios só removem
+    public void put(long taskId, String title) {
+        put(taskId, title, true);
+    }
+
+    // Carga em massa: insere sem recalcular as listas dos mais usados, que rank() monta de uma vez no fim
+    public void load(long taskId, String title) {
+        put(taskId, title, false);
+    }
+
+    public void rank() {
+        root.rankSubtree();
+    }
+
+    private void put(long taskId, String title, boolean refresh) {
+        String key = normalize(title);
+        Title previous = byTask.get(taskId);
+        if (previous != null && previous.key.equals(key)) {
+            previous.display = title.strip();
+            return;
+        }
+        if (previous != null) {
+            remove(taskId);
+        }
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = descendCreating(key, path);
+        boolean created = node.title == null;
+        if (created) {
+            node.title = new Title(key);
+        }
+        node.title.count++;
+        node.title.display = title.strip();
+        byTask.put(taskId, node.title);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            if (created) {
+                path.get(i).size++;
+            }
+            if (refresh) {
+                path.get(i).refresh();
+            }
+        }
+    }
+
+    public void remove(long taskId) {
+        Title title = byTask.remove(taskId);
+        if (title == null) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < title.key.length()) {
+            node = node.child(title.key.charAt(position));
+            position += node.label.length();
+            path.add(node);
+        }
+        boolean removed = --title.count == 0;
+        if (removed) {
+            node.title = null;
+            path.forEach(n -> n.size--);
+        }
+        // Do fim para a raiz: recalcula as listas e, se o título sumiu, desfaz nós vazios ou com um só filho
+        for (int i = path.size() - 1; i >= 1; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.title == null && current.children.length == 0) {
+                parent.removeChild(current);
+            } else if (current.title == null && current.children.length == 1) {
+                Node child = current.children[0];
+                child.label = current.label + child.label;
+                parent.replaceChild(current, child);
+            } else {
+                current.refresh();
+            }
+        }
+        root.refresh();
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalizePrefix(prefix);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.child(key.charAt(position));
+            if (node == null) {
+                return List.of();
+            }
+            int common = commonPrefix(node.label, key, position);
+            if (common < node.label.length() && position + common < key.length()) {
+                return List.of();
+            }
+            position += common;
+        }
+        List<Title> ranked = node.ranked();
+        return ranked.subList(0, Math.min(limit, ranked.size())).stream()
+                .map(title -> new Suggestion(title.display, title.count))
+                .toList();
+    }
+
+    // Desce pela chave criando e dividindo arestas; path recebe os nós do caminho, da raiz ao nó do título
+    private Node descendCreating(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.addChild(child);
+            } else {
+                int common = commonPrefix(child.label, key, position);
+                if (common < child.label.length()) {
+                    // Divide a aresta: o trecho comum vira um nó novo com a mesma subárvore
+                    Node split = new Node(child.label.substring(0, common));
+                    split.size = child.size;
+                    split.top = child.top;
+                    node.replaceChild(child, split);
+                    child.label = child.label.substring(common);
+                    split.addChild(child);
+                    child = split;
+                }
+            }
+            position += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return node;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Title {
+
+        private final String key;
+        private String display;
+        private int count;
+
+        private Title(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Node {
+
+        private String label;
+        // Ordenados pelo primeiro caractere do label, que é único entre irmãos
+        private Node[] children = NO_CHILDREN;
+        private Title title;
+        // Títulos distintos na subárvore
+        private int size;
+        // Os TOP títulos mais usados da subárvore, só quando size > TOP
+        private Title[] top;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int index = -indexOf(child.label.charAt(0)) - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        private void replaceChild(Node previous, Node replacement) {
+            children[indexOf(previous.label.charAt(0))] = replacement;
+        }
+
+        private void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char current = children[middle].label.charAt(0);
+                if (current < first) {
+                    low = middle + 1;
+                } else if (current > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        // Recalcula top a partir do próprio título e das listas dos filhos
+        private void refresh() {
+            if (size <= TOP) {
+                top = null;
+                return;
+            }
+            List<Title> candidates = new ArrayList<>();
+            if (title != null) {
+                candidates.add(title);
+            }
+            for (Node child : children) {
+                candidates.addAll(child.ranked());
+            }
+            candidates.sort(RANKING);
+            top = candidates.subList(0, TOP).toArray(new Title[0]);
+        }
+
+        // Pós-ordem: os filhos primeiro, para que refresh use as listas deles
+        private void rankSubtree() {
+            if (size <= TOP) {
+                top = null;
+                return;
+            }
+            for (Node child : children) {
+                child.rankSubtree();
+            }
+            refresh();
+        }
+
+        // Até TOP títulos da subárvore, do mais usado para o menos usado
+        private List<Title> ranked() {
+            if (top != null) {
+                return Arrays.asList(top);
+            }
+            List<Title> titles = new ArrayList<>(size);
+            collect(titles);
+            titles.sort(RANKING);
+            return titles;
+        }
+
+        private void collect(List<Title> titles) {
+            if (title != null) {
+                titles.add(title);
+            }
+            for (Node child : children) {
+                child.collect(titles);
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.todolist.api.mapper;
 
 import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskListDTO;
+import com.todolist.api.dto.TaskSeriesDTO;
+import com.todolist.api.model.ArchivedTask;
 import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskList;
+import com.todolist.api.model.TaskSeries;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -10,19 +15,67 @@ import org.springframework.stereotype.Component;
 public class TaskMapper {
     
     public TaskDTO convertToDTO(@NonNull Task task){
-        return new TaskDTO(
+        TaskDTO taskDTO = new TaskDTO(
             task.getId(),
             task.getTitle(),
             task.getDescription(),
             task.getCompleted()
         );
+        taskDTO.setCreatedAt(task.getCreatedAt());
+        taskDTO.setCompletedAt(task.getCompletedAt());
+        taskDTO.setDueAt(task.getDueAt());
+        taskDTO.setRemindAt(task.getRemindAt());
+        taskDTO.setParentId(task.getParentId());
+        taskDTO.setListId(task.getListId());
+        taskDTO.setSeriesId(task.getSeriesId());
+        taskDTO.setOccurrenceDate(task.getOccurrenceDate());
+        taskDTO.setTags(task.getTags());
+        return taskDTO;
     }
 
+    public TaskDTO convertToDTO(@NonNull ArchivedTask archivedTask){
+        TaskDTO taskDTO = new TaskDTO(
+            archivedTask.getId(),
+            archivedTask.getTitle(),
+            archivedTask.getDescription(),
+            archivedTask.getCompleted()
+        );
+        taskDTO.setCreatedAt(archivedTask.getCreatedAt());
+        taskDTO.setCompletedAt(archivedTask.getCompletedAt());
+        taskDTO.setDueAt(archivedTask.getDueAt());
+        taskDTO.setListId(archivedTask.getListId());
+        return taskDTO;
+    }
+
+    // Sem as tarefas: o TaskListService só as preenche quando pedidas
+    public TaskListDTO convertToDTO(@NonNull TaskList taskList){
+        TaskListDTO taskListDTO = new TaskListDTO(taskList.getName());
+        taskListDTO.setId(taskList.getId());
+        taskListDTO.setCreatedAt(taskList.getCreatedAt());
+        taskListDTO.setTaskCount(taskList.getTaskCount());
+        taskListDTO.setCompletedCount(taskList.getCompletedCount());
+        return taskListDTO;
+    }
+
+    public TaskSeriesDTO convertToDTO(@NonNull TaskSeries taskSeries){
+        TaskSeriesDTO taskSeriesDTO = new TaskSeriesDTO(taskSeries.getTitle(), taskSeries.getRule(), taskSeries.getStartDate());
+        taskSeriesDTO.setId(taskSeries.getId());
+        taskSeriesDTO.setDescription(taskSeries.getDescription());
+        taskSeriesDTO.setEndDate(taskSeries.getEndDate());
+        taskSeriesDTO.setDueTime(taskSeries.getDueTime());
+        taskSeriesDTO.setCreatedAt(taskSeries.getCreatedAt());
+        return taskSeriesDTO;
+    }
+
+    // parentId e listId ficam de fora: o TaskService confere se o pai e a lista existem antes de ligá-los
     public @NonNull Task convertToEntity(@NonNull TaskDTO taskDTO){
         Task task = new Task();
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setCompleted(taskDTO.getCompleted());
+        task.setDueAt(taskDTO.getDueAt());
+        task.setRemindAt(taskDTO.getRemindAt());
+        task.setTags(taskDTO.getTags());
         return task;
     }
 }
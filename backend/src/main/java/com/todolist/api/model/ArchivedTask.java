@@ -0,0 +1,128 @@
+package com.todolist.api.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tasks_archive")
+public class ArchivedTask {
+
+    // Mantém o mesmo ID da tarefa original, para que GET /api/tasks/{id} continue funcionando
+    @Id
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private @NonNull String title;
+
+    @Column
+    private String description;
+
+    @Column(nullable = false)
+    private @NonNull Boolean completed = true;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    // Nulo para tarefas arquivadas antes de a coluna existir
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "list_id")
+    private Long listId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    //Constructors
+    public ArchivedTask() {
+        this.title = "";
+    }
+
+    //Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public @NonNull String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public @NonNull Boolean getCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setId(Long id){
+        this.id = id;
+    }
+
+    public void setTitle(@NonNull String title){
+        this.title = title;
+    }
+
+    public void setDescription(String description){
+        this.description = description;
+    }
+
+    public void setCompleted(@NonNull Boolean completed){
+        this.completed = completed;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt){
+        this.completedAt = completedAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt){
+        this.dueAt = dueAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt){
+        this.createdAt = createdAt;
+    }
+
+    public void setListId(Long listId){
+        this.listId = listId;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt){
+        this.archivedAt = archivedAt;
+    }
+}
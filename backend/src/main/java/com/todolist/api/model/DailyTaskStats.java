@@ -0,0 +1,9 @@
+package com.todolist.api.model;
+
+import java.time.LocalDate;
+
+/**
+ * Uma linha de task_daily_stats: quantas tarefas do tenant foram criadas e concluídas no dia.
+ */
+public record DailyTaskStats(LocalDate day, long created, long completed) {
+}
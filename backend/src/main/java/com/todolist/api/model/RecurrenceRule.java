@@ -0,0 +1,188 @@
+package com.todolist.api.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Regra de recorrência de uma série, no formato de RRULE (RFC 5545) com o subconjunto que a API aceita:
+ * FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY (só com WEEKLY) e BYMONTHDAY (só com MONTHLY, 1 a 31 ou -1 para o
+ * último dia do mês). Sem BYDAY/BYMONTHDAY vale o dia da semana/do mês do início da série. Meses sem o dia pedido
+ * (31 em abril) não têm ocorrência, como na RFC.
+ *
+ * A expansão pula direto para o primeiro período do intervalo pedido: o custo é proporcional ao intervalo,
+ * não à idade da série.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+    private static final int MAX_INTERVAL = 999;
+
+    private final Frequency frequency;
+    private final int interval;
+    // Vazio = dia da semana do início
+    private final Set<DayOfWeek> days;
+    // 0 = dia do mês do início; -1 = último dia
+    private final int monthDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> days, int monthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.days = days;
+        this.monthDay = monthDay;
+    }
+
+    public static RecurrenceRule parse(String rule) {
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        int monthDay = 0;
+        for (String part : rule.trim().toUpperCase(Locale.ROOT).split(";")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2 || pair[1].isEmpty()) {
+                throw new IllegalArgumentException("Parte inválida na regra: " + part);
+            }
+            switch (pair[0]) {
+                case "FREQ" -> {
+                    try {
+                        frequency = Frequency.valueOf(pair[1]);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("FREQ deve ser DAILY, WEEKLY ou MONTHLY");
+                    }
+                }
+                case "INTERVAL" -> {
+                    interval = parseInt(pair[1], "INTERVAL");
+                    if (interval < 1 || interval > MAX_INTERVAL) {
+                        throw new IllegalArgumentException("INTERVAL deve estar entre 1 e " + MAX_INTERVAL);
+                    }
+                }
+                case "BYDAY" -> {
+                    for (String day : pair[1].split(",")) {
+                        DayOfWeek dayOfWeek = DAYS.get(day);
+                        if (dayOfWeek == null) {
+                            throw new IllegalArgumentException("Dia inválido em BYDAY: " + day);
+                        }
+                        days.add(dayOfWeek);
+                    }
+                }
+                case "BYMONTHDAY" -> {
+                    monthDay = parseInt(pair[1], "BYMONTHDAY");
+                    if (monthDay != -1 && (monthDay < 1 || monthDay > 31)) {
+                        throw new IllegalArgumentException("BYMONTHDAY deve estar entre 1 e 31, ou -1 para o último dia");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Parte não suportada na regra: " + pair[0]);
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("A regra precisa de FREQ");
+        }
+        if (!days.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY só é aceito com FREQ=WEEKLY");
+        }
+        if (monthDay != 0 && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY só é aceito com FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(frequency, interval, days, monthDay);
+    }
+
+    // Forma canônica, a que é gravada em task_series.rule
+    public String format() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!days.isEmpty()) {
+            rule.append(";BYDAY=").append(days.stream()
+                    .map(day -> day.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        if (monthDay != 0) {
+            rule.append(";BYMONTHDAY=").append(monthDay);
+        }
+        return rule.toString();
+    }
+
+    // Ocorrências de uma série que começa em start, entre from e to (inclusive), em ordem
+    public List<LocalDate> between(LocalDate start, LocalDate from, LocalDate to) {
+        LocalDate first = from.isBefore(start) ? start : from;
+        List<LocalDate> dates = new ArrayList<>();
+        if (first.isAfter(to)) {
+            return dates;
+        }
+        switch (frequency) {
+            case DAILY -> {
+                long offset = alignUp(ChronoUnit.DAYS.between(start, first));
+                for (LocalDate date = start.plusDays(offset); !date.isAfter(to); date = date.plusDays(interval)) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> weekDays = days.isEmpty() ? EnumSet.of(start.getDayOfWeek()) : days;
+                LocalDate startWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                long offset = alignUp(ChronoUnit.WEEKS.between(startWeek, first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))));
+                for (LocalDate week = startWeek.plusWeeks(offset); !week.isAfter(to); week = week.plusWeeks(interval)) {
+                    // EnumSet itera de segunda a domingo, então as datas saem em ordem
+                    for (DayOfWeek day : weekDays) {
+                        add(dates, week.plusDays(day.getValue() - 1L), first, to);
+                    }
+                }
+            }
+            case MONTHLY -> {
+                YearMonth startMonth = YearMonth.from(start);
+                long offset = alignUp(ChronoUnit.MONTHS.between(startMonth, YearMonth.from(first)));
+                int day = monthDay == 0 ? start.getDayOfMonth() : monthDay;
+                for (YearMonth month = startMonth.plusMonths(offset); !month.atDay(1).isAfter(to); month = month.plusMonths(interval)) {
+                    if (day == -1) {
+                        add(dates, month.atEndOfMonth(), first, to);
+                    } else if (month.isValidDay(day)) {
+                        add(dates, month.atDay(day), first, to);
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    public boolean occursOn(LocalDate start, LocalDate date) {
+        return !between(start, date, date).isEmpty();
+    }
+
+    // Primeiro múltiplo de interval a partir de periods
+    private long alignUp(long periods) {
+        return Math.floorDiv(periods + interval - 1, interval) * interval;
+    }
+
+    private static void add(List<LocalDate> dates, LocalDate date, LocalDate from, LocalDate to) {
+        if (!date.isBefore(from) && !date.isAfter(to)) {
+            dates.add(date);
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " deve ser um número");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -1,16 +1,32 @@
 package com.todolist.api.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Entity
 @Table(name = "tasks")
+@SQLDelete(sql = "UPDATE tasks SET deleted_at = NOW(6) WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class Task {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Preenchido pelo Hibernate com o tenant da requisição; todas as consultas JPA filtram por ele
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
     @Column(nullable = false)
     private @NonNull String title;
 
@@ -20,6 +36,48 @@ public class Task {
     @Column(nullable = false)
     private @NonNull Boolean completed = false;
 
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Preenchido na inserção (Hibernate, INSERT em lote ou armazenamento embarcado) e nunca alterado
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Prazo da tarefa e momento do lembrete (entregue pelo ReminderScheduler enquanto a tarefa estiver pendente)
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    // Posição na ordem manual do tenant (chave fracionária de RankKeys); mover a tarefa altera só esta coluna
+    @Column(name = "rank_key")
+    private String rankKey;
+
+    // Pai direto; a hierarquia completa fica em task_closure, mantida pelo TaskTreeRepository
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // Lista (quadro) da tarefa; só o ID, sem relacionamento JPA: as listas carregam as tarefas com consultas explícitas
+    @Column(name = "list_id")
+    private Long listId;
+
+    // Série e data da ocorrência que esta tarefa materializa (ver TaskSeries); nulos para tarefas avulsas
+    @Column(name = "series_id", updatable = false)
+    private Long seriesId;
+
+    @Column(name = "occurrence_date", updatable = false)
+    private LocalDate occurrenceDate;
+
+    // Tags normalizadas e separadas por vírgula (TaskTags); indexadas em memória pelo TagIndex
+    @Column(name = "tags")
+    private String tags;
+
+    // Preenchido na exclusão lógica; tarefas com deleted_at não aparecem em nenhuma consulta
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     //Constructors
     public Task() {
         this.title = "";
@@ -38,6 +96,10 @@ public class Task {
         return id;
     }
 
+    public String getTenantId() {
+        return tenantId;
+    }
+
     public @NonNull String getTitle() { 
         return title;
     }
@@ -50,10 +112,59 @@ public class Task {
         return completed;
     }
 
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public String getRankKey() {
+        return rankKey;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public Long getListId() {
+        return listId;
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return occurrenceDate;
+    }
+
+    public List<String> getTags() {
+        return TaskTags.split(tags);
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
     public void setId(Long id){
         this.id = id;
     }
 
+    // Normalmente preenchido pelo Hibernate; usado diretamente pelo armazenamento embarcado
+    public void setTenantId(String tenantId){
+        this.tenantId = tenantId;
+    }
+
     public void setTitle(@NonNull String title){
         this.title = title;
     }
@@ -62,7 +173,57 @@ public class Task {
         this.description = description;
     }
 
+    // Registra o momento da conclusão apenas quando a tarefa passa de pendente para concluída
     public void setCompleted(@NonNull Boolean completed){
+        if (!completed) {
+            this.completedAt = null;
+        } else if (!this.completed) {
+            this.completedAt = LocalDateTime.now();
+        }
         this.completed = completed;
     }
+
+    public void setCompletedAt(LocalDateTime completedAt){
+        this.completedAt = completedAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt){
+        this.createdAt = createdAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt){
+        this.dueAt = dueAt;
+    }
+
+    public void setRemindAt(LocalDateTime remindAt){
+        this.remindAt = remindAt;
+    }
+
+    public void setRankKey(String rankKey){
+        this.rankKey = rankKey;
+    }
+
+    public void setParentId(Long parentId){
+        this.parentId = parentId;
+    }
+
+    public void setListId(Long listId){
+        this.listId = listId;
+    }
+
+    public void setSeriesId(Long seriesId){
+        this.seriesId = seriesId;
+    }
+
+    public void setOccurrenceDate(LocalDate occurrenceDate){
+        this.occurrenceDate = occurrenceDate;
+    }
+
+    public void setTags(Collection<String> tags){
+        this.tags = TaskTags.join(TaskTags.normalize(tags));
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt){
+        this.deletedAt = deletedAt;
+    }
 }
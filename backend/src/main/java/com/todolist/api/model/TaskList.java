@@ -0,0 +1,96 @@
+package com.todolist.api.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.TenantId;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+
+// Lista (quadro) de tarefas. As tarefas apontam para a lista por tasks.list_id; não há coleção JPA aqui:
+// o TaskListService carrega as tarefas de uma página de listas com uma consulta só (TaskListItemRepository)
+@Entity
+@Table(name = "task_lists")
+public class TaskList {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private @NonNull String name;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Tarefas visíveis da lista e quantas estão concluídas; mantidas só pelo TaskListCounter, nunca pela entidade
+    @Column(name = "task_count", nullable = false, insertable = false, updatable = false)
+    private int taskCount;
+
+    @Column(name = "completed_count", nullable = false, insertable = false, updatable = false)
+    private int completedCount;
+
+    //Constructors
+    public TaskList() {
+        this.name = "";
+    }
+
+    public TaskList(@NonNull String name) {
+        this.name = name;
+    }
+
+    //Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public @NonNull String getName() {
+        return name;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public void setName(@NonNull String name) {
+        this.name = name;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setCompletedCount(int completedCount) {
+        this.completedCount = completedCount;
+    }
+}
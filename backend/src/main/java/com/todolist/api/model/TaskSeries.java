@@ -0,0 +1,142 @@
+package com.todolist.api.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.TenantId;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// Série de tarefas recorrentes. Só a regra é gravada; cada ocorrência vira uma linha de tasks (series_id +
+// occurrence_date) apenas quando é concluída, editada ou excluída
+@Entity
+@Table(name = "task_series")
+public class TaskSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private @NonNull String title;
+
+    @Column
+    private String description;
+
+    // Forma canônica de RecurrenceRule
+    @Column(nullable = false)
+    private @NonNull String rule;
+
+    @Column(name = "start_date", nullable = false)
+    private @NonNull LocalDate startDate;
+
+    // Último dia possível (inclusive); nula = sem fim
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Horário do prazo de cada ocorrência (dueAt = data da ocorrência + due_time); nulo = sem prazo
+    @Column(name = "due_time")
+    private LocalTime dueTime;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    //Constructors
+    public TaskSeries() {
+        this.title = "";
+        this.rule = "";
+        this.startDate = LocalDate.EPOCH;
+    }
+
+    public TaskSeries(@NonNull String title, @NonNull String rule, @NonNull LocalDate startDate) {
+        this.title = title;
+        this.rule = rule;
+        this.startDate = startDate;
+    }
+
+    // Prazo de uma ocorrência da série
+    public LocalDateTime dueAtOn(LocalDate date) {
+        return dueTime == null ? null : date.atTime(dueTime);
+    }
+
+    //Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public @NonNull String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public @NonNull String getRule() {
+        return rule;
+    }
+
+    public @NonNull LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public LocalTime getDueTime() {
+        return dueTime;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public void setTitle(@NonNull String title) {
+        this.title = title;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setRule(@NonNull String rule) {
+        this.rule = rule;
+    }
+
+    public void setStartDate(@NonNull LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public void setDueTime(LocalTime dueTime) {
+        this.dueTime = dueTime;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
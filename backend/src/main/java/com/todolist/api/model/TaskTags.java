@@ -0,0 +1,50 @@
+package com.todolist.api.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Formato das tags de uma tarefa.
+ *
+ * As tags são normalizadas (sem espaços nas pontas, em minúsculas, sem repetição e em ordem alfabética)
+ * e gravadas juntas, separadas por vírgula, na coluna tasks.tags. Como a vírgula não é um caractere válido
+ * em uma tag, a coluna volta para a mesma lista; AND, OR e NOT ficam reservados para as buscas (TagQuery).
+ */
+public final class TaskTags {
+
+    public static final int MAX_TAGS = 20;
+    public static final int MAX_LENGTH = 32;
+    public static final String PATTERN = "(?i)(?!(and|or|not)$)[\\p{L}\\p{N}_-]{1," + MAX_LENGTH + "}";
+
+    private static final String SEPARATOR = ",";
+
+    private TaskTags() {
+    }
+
+    public static List<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(tag -> tag.strip().toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    public static String normalize(String tag) {
+        return tag.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // Lista vazia vira NULL: tarefas sem tag não ocupam a coluna
+    public static String join(List<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    public static List<String> split(String column) {
+        return column == null || column.isEmpty() ? List.of() : Arrays.asList(column.split(SEPARATOR));
+    }
+}
@@ -0,0 +1,18 @@
+package com.todolist.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Espera por uma conexão do pool HikariCP de um shard; a duração do evento é o tempo de espera
+@Name("com.todolist.ConnectionAcquire")
+@Label("Connection Acquire")
+@Category({"To-Do List", "JDBC"})
+@StackTrace(false)
+public class ConnectionAcquireEvent extends Event {
+
+    @Label("Shard")
+    int shard;
+}
@@ -0,0 +1,104 @@
+package com.todolist.api.profiling;
+
+import jdk.jfr.Recording;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/jfr: gravações do Flight Recorder sob demanda.
+ *
+ * GET    /actuator/jfr          lista as gravações
+ * POST   /actuator/jfr          inicia uma gravação: {"settings": "profile", "duration": "2m", "name": "..."}
+ * POST   /actuator/jfr/{id}     encerra a gravação (os dados continuam disponíveis para download)
+ * GET    /actuator/jfr/{id}     baixa o arquivo .jfr (também durante a gravação)
+ * DELETE /actuator/jfr/{id}     descarta a gravação
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderEndpoint(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        List<Map<String, Object>> recordings = flightRecorderService.recordings().stream()
+                .map(FlightRecorderService::describe)
+                .toList();
+        return Map.of("presets", FlightRecorderService.PRESETS, "recordings", recordings);
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String settings, @Nullable Duration duration, @Nullable String name) {
+        try {
+            Recording recording = flightRecorderService.start(settings != null ? settings : "default", duration, name);
+            return FlightRecorderService.describe(recording);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> stop(@Selector long id) {
+        return flightRecorderService.stop(id)
+                .map(recording -> new WebEndpointResponse<>(FlightRecorderService.describe(recording)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        return flightRecorderService.dump(id)
+                .map(file -> new WebEndpointResponse<Resource>(new TemporaryFileResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> close(@Selector long id) {
+        return new WebEndpointResponse<>(flightRecorderService.close(id)
+                ? WebEndpointResponse.STATUS_NO_CONTENT
+                : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    // Arquivo temporário do dump, apagado quando a resposta termina de ser enviada
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.todolist.api.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.ProfilingProperties;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gravações do JDK Flight Recorder dentro do próprio processo, sem reiniciar nem anexar agentes.
+ * Mantém a gravação contínua (opcional) e as gravações sob demanda de /actuator/jfr.
+ */
+@Component
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    // Configurações que acompanham o JDK (JAVA_HOME/lib/jfr/*.jfc)
+    public static final Set<String> PRESETS = Set.of("default", "profile");
+
+    private static final String CONTINUOUS_NAME = "continuous";
+
+    private final ProfilingProperties properties;
+
+    private volatile Recording continuous;
+
+    public FlightRecorderService(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    // Depois do startup: a execução de treino do CDS no build da imagem não grava nada
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (!properties.isContinuous() || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording recording = new Recording(configuration(properties.getContinuousSettings()));
+            recording.setName(CONTINUOUS_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(properties.getMaxAge());
+            recording.setMaxSize(properties.getMaxSize().toBytes());
+            recording.start();
+            continuous = recording;
+            logger.info("Gravação JFR contínua iniciada (id {}, {}, últimos {})",
+                    recording.getId(), properties.getContinuousSettings(), properties.getMaxAge());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Não foi possível iniciar a gravação JFR contínua: {}", e.getMessage());
+        }
+    }
+
+    public Recording start(String settings, Duration duration, String name) {
+        Recording recording = new Recording(configuration(settings));
+        recording.setName(name != null ? name : settings + "-" + System.currentTimeMillis());
+        recording.setToDisk(true);
+        recording.setDuration(duration != null ? duration : properties.getDefaultDuration());
+        recording.start();
+        return recording;
+    }
+
+    public List<Recording> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings();
+    }
+
+    public Optional<Recording> find(long id) {
+        return recordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    public Optional<Recording> stop(long id) {
+        return find(id).map(recording -> {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            return recording;
+        });
+    }
+
+    public boolean close(long id) {
+        Optional<Recording> recording = find(id);
+        recording.ifPresent(Recording::close);
+        return recording.isPresent();
+    }
+
+    // Cópia dos dados gravados até agora; funciona também com a gravação em andamento
+    public Optional<Path> dump(long id) throws IOException {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile("todolist-" + id + "-", ".jfr");
+        try {
+            recording.get().dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return Optional.of(file);
+    }
+
+    public static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", recording.getId());
+        description.put("name", recording.getName());
+        description.put("state", recording.getState().name());
+        description.put("startTime", recording.getStartTime());
+        description.put("duration", recording.getDuration());
+        description.put("maxAge", recording.getMaxAge());
+        description.put("size", recording.getSize());
+        return description;
+    }
+
+    @PreDestroy
+    public void stopContinuous() {
+        Recording recording = continuous;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private static Configuration configuration(String settings) {
+        if (!PRESETS.contains(settings)) {
+            throw new IllegalArgumentException("Configuração JFR desconhecida: " + settings + " (use " + PRESETS + ")");
+        }
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuração JFR indisponível: " + settings, e);
+        }
+    }
+}
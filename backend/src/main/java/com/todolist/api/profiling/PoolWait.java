@@ -0,0 +1,32 @@
+package com.todolist.api.profiling;
+
+/**
+ * Mede as esperas por conexões do pool: emite um ConnectionAcquireEvent por espera e acumula o total
+ * por thread, que o TaskOperationRecorder usa para preencher o poolWait da operação.
+ */
+public final class PoolWait {
+
+    private static final ThreadLocal<long[]> TOTAL_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private PoolWait() {
+    }
+
+    public static long totalNanos() {
+        return TOTAL_NANOS.get()[0];
+    }
+
+    public static Acquire begin(int shard) {
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.shard = shard;
+        event.begin();
+        return new Acquire(event, System.nanoTime());
+    }
+
+    public record Acquire(ConnectionAcquireEvent event, long startNanos) {
+
+        public void end() {
+            TOTAL_NANOS.get()[0] += System.nanoTime() - startNanos;
+            event.commit();
+        }
+    }
+}
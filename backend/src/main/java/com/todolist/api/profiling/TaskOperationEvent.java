@@ -0,0 +1,39 @@
+package com.todolist.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Uma chamada a um método público do TaskService, da obtenção da conexão até o commit
+@Name("com.todolist.TaskOperation")
+@Label("Task Operation")
+@Category({"To-Do List", "Tasks"})
+@Description("Operação do TaskService, incluindo transação e espera por conexão")
+@StackTrace(false)
+public class TaskOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Tenant")
+    String tenant;
+
+    @Label("Task Id")
+    long taskId;
+
+    @Label("Rows")
+    @Description("Tarefas retornadas ou alteradas")
+    int rows;
+
+    @Label("Pool Wait")
+    @Description("Tempo esperando conexões livres no pool durante a operação")
+    @Timespan(Timespan.NANOSECONDS)
+    long poolWait;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,74 @@
+package com.todolist.api.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emite um TaskOperationEvent por chamada aos métodos públicos do TaskService.
+ * Roda por fora do @Transactional, então a duração inclui a obtenção da conexão, o flush e o commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TaskOperationRecorder {
+
+    @Around("execution(public * com.todolist.api.service.TaskService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskOperationEvent event = new TaskOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        long poolWaitBefore = PoolWait.totalNanos();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.tenant = TenantContext.current();
+                event.taskId = taskId(joinPoint.getArgs());
+                event.rows = rows(result);
+                event.poolWait = PoolWait.totalNanos() - poolWaitBefore;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    // Primeiro argumento Long (o ID da tarefa); 0 quando o método não recebe ID
+    private static long taskId(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Long id) {
+                return id;
+            }
+        }
+        return 0;
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Boolean changed) {
+            return changed ? 1 : 0;
+        }
+        return result != null ? 1 : 0;
+    }
+}
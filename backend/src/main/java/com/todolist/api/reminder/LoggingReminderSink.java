@@ -0,0 +1,20 @@
+package com.todolist.api.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Sink de teste e diagnóstico: uma linha de log por lembrete
+@Component
+@ConditionalOnProperty(prefix = "todolist.reminders", name = "log-sink", havingValue = "true")
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(Reminder reminder) {
+        logger.info("Lembrete: tarefa {} do tenant {} (remindAt {}, dueAt {})",
+                reminder.taskId(), reminder.tenantId(), reminder.remindAt(), reminder.dueAt());
+    }
+}
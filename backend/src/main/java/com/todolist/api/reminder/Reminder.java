@@ -0,0 +1,18 @@
+package com.todolist.api.reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lembrete de uma tarefa pendente, como fica na roda e como é entregue aos sinks.
+ * Não carrega título nem descrição, para manter pequeno o custo de cada lembrete em memória.
+ */
+public record Reminder(String tenantId, long taskId, LocalDateTime remindAt, LocalDateTime dueAt) {
+
+    public Key key() {
+        return new Key(tenantId, taskId);
+    }
+
+    // IDs de tarefa só são únicos dentro de um shard; com o tenant a chave é única em todos
+    public record Key(String tenantId, long taskId) {
+    }
+}
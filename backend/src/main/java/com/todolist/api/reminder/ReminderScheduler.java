@@ -0,0 +1,284 @@
+package com.todolist.api.reminder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.todolist.api.config.ReminderProperties;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangeLogEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.repository.ReminderRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Agenda os lembretes das tarefas em uma roda de tempo hierárquica em memória.
+ *
+ * Só a próxima janela (todolist.reminders.window) fica em memória: na inicialização e a cada refill-interval
+ * uma busca por faixa de remind_at traz os lembretes entre o horizonte já carregado e agora + janela.
+ * Tudo antes do horizonte está na roda; escritas com remindAt depois dele são ignoradas, porque a próxima
+ * busca vai trazê-las. Com maxEntries atingido o horizonte recua, e a janela encolhe em vez de crescer o heap.
+ *
+ * As escritas desta réplica chegam por ReminderChangedEvent, já com o novo remindAt; as das demais réplicas
+ * chegam pelo change log, com uma consulta por lote de IDs alterados.
+ *
+ * Métricas: todolist.reminders.scheduled e todolist.reminders.delivered.
+ */
+@Component
+@ConditionalOnProperty(prefix = "todolist.reminders", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final ReminderRepository reminderRepository;
+    private final List<ReminderSink> sinks;
+    private final ReminderProperties properties;
+    private final Clock clock;
+    private final long tickMillis;
+    private final Counter delivered;
+
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Reminder.Key, TimingWheel.Timeout<Reminder>> scheduled = new HashMap<>();
+    // Lembretes com remindAt antes do horizonte (epoch millis) já estão na roda ou foram entregues
+    private long horizon = Long.MIN_VALUE;
+    private boolean started;
+    // Escritas feitas durante uma busca (nulo = cancelado); valem mais que o resultado da busca
+    private Map<Reminder.Key, Reminder> touchedWhileLoading;
+    private volatile boolean reloadRequested;
+
+    @Autowired
+    public ReminderScheduler(ReminderRepository reminderRepository, List<ReminderSink> sinks, ReminderProperties properties,
+            MeterRegistry meterRegistry) {
+        this(reminderRepository, sinks, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    ReminderScheduler(ReminderRepository reminderRepository, List<ReminderSink> sinks, ReminderProperties properties,
+            MeterRegistry meterRegistry, Clock clock) {
+        this.reminderRepository = reminderRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.clock = clock;
+        this.tickMillis = properties.getTick().toMillis();
+        this.wheel = new TimingWheel<>(properties.getWheelSize(), properties.getLevels(), clock.millis() / tickMillis);
+        long reach = properties.getWindow().plus(properties.getRefillInterval()).toMillis() / tickMillis;
+        if (reach >= wheel.span()) {
+            throw new IllegalStateException("todolist.reminders.window + refill-interval passa do alcance da roda ("
+                    + wheel.span() * tickMillis + " ms); aumente wheel-size ou levels");
+        }
+        this.delivered = Counter.builder("todolist.reminders.delivered")
+                .description("Lembretes entregues aos sinks")
+                .register(meterRegistry);
+        Gauge.builder("todolist.reminders.scheduled", this, ReminderScheduler::scheduledCount)
+                .description("Lembretes na roda desta réplica")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (this) {
+            started = true;
+            horizon = clock.millis() - properties.getMissedGrace().toMillis();
+        }
+        refill();
+    }
+
+    @Scheduled(fixedRateString = "${todolist.reminders.tick:1s}")
+    public void tick() {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(clock.millis() / tickMillis, reminder -> {
+                scheduled.remove(reminder.key());
+                due.add(reminder);
+            });
+        }
+        deliver(due);
+    }
+
+    // Traz da base os lembretes entre o horizonte e agora + janela
+    @Scheduled(fixedDelayString = "${todolist.reminders.refill-interval:1m}",
+               initialDelayString = "${todolist.reminders.refill-interval:1m}")
+    public void refill() {
+        long from;
+        long to;
+        int limit;
+        synchronized (this) {
+            if (!started) {
+                return;
+            }
+            long now = clock.millis();
+            if (reloadRequested) {
+                // Importação em outra réplica: não há IDs, então a janela inteira é relida
+                reloadRequested = false;
+                horizon = Math.min(horizon, now);
+            }
+            from = horizon;
+            to = now + properties.getWindow().toMillis();
+            limit = properties.getMaxEntries() - scheduled.size();
+            if (to <= from || limit <= 0) {
+                return;
+            }
+            touchedWhileLoading = new HashMap<>();
+        }
+        List<Reminder> due = new ArrayList<>();
+        try {
+            List<Reminder> loaded = reminderRepository.findBetween(toLocal(from), toLocal(to), limit);
+            synchronized (this) {
+                // Busca cortada pelo limite: o horizonte para no último lembrete lido, que volta na próxima busca
+                horizon = loaded.size() < limit ? to : toMillis(loaded.get(loaded.size() - 1).remindAt());
+                long now = clock.millis();
+                for (Reminder reminder : loaded) {
+                    if (!touchedWhileLoading.containsKey(reminder.key())) {
+                        cancel(reminder.key());
+                        place(reminder, now, due);
+                    }
+                }
+                // Escritas da busca com remindAt depois do horizonte antigo ainda não estão na roda
+                touchedWhileLoading.forEach((key, reminder) -> {
+                    if (reminder != null && toMillis(reminder.remindAt()) >= from) {
+                        cancel(key);
+                        place(reminder, now, due);
+                    }
+                });
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao carregar lembretes; nova tentativa em {}: {}", properties.getRefillInterval(), e.getMessage());
+        } finally {
+            synchronized (this) {
+                touchedWhileLoading = null;
+            }
+        }
+        deliver(due);
+    }
+
+    // Escritas desta réplica, depois do commit
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReminderChanged(ReminderChangedEvent event) {
+        Reminder reminder = event.remindAt() == null ? null
+                : new Reminder(event.tenantId(), event.taskId(), event.remindAt(), event.dueAt());
+        update(new Reminder.Key(event.tenantId(), event.taskId()), reminder);
+    }
+
+    // Escritas de todas as réplicas, lidas de task_changes; roda com as conexões roteadas para o shard do evento
+    @EventListener
+    public void onChangeLog(TaskChangeLogEvent event) {
+        Set<Reminder.Key> keys = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (TaskChangedEvent change : event.changes()) {
+            if (change.taskId() == null) {
+                reloadRequested = true;
+            } else {
+                keys.add(new Reminder.Key(change.tenantId(), change.taskId()));
+                ids.add(change.taskId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Reminder.Key, Reminder> current = new HashMap<>();
+        try {
+            for (Reminder reminder : reminderRepository.findByTaskIds(ids)) {
+                current.put(reminder.key(), reminder);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao reler lembretes alterados no shard {}; a janela será relida: {}", event.shard(), e.getMessage());
+            reloadRequested = true;
+            return;
+        }
+        for (Reminder.Key key : keys) {
+            update(key, current.get(key));
+        }
+    }
+
+    public synchronized int scheduledCount() {
+        return scheduled.size();
+    }
+
+    // Substitui o lembrete da tarefa; reminder nulo só cancela
+    void update(Reminder.Key key, Reminder reminder) {
+        List<Reminder> due = new ArrayList<>(1);
+        synchronized (this) {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.put(key, reminder);
+            }
+            cancel(key);
+            if (reminder != null && started) {
+                place(reminder, clock.millis(), due);
+            }
+        }
+        deliver(due);
+    }
+
+    private void cancel(Reminder.Key key) {
+        TimingWheel.Timeout<Reminder> timeout = scheduled.remove(key);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    // Chamado com o lock; lembretes já vencidos vão para due e são entregues fora do lock
+    private void place(Reminder reminder, long now, List<Reminder> due) {
+        long deadline = toMillis(reminder.remindAt());
+        if (deadline >= horizon) {
+            return;
+        }
+        if (deadline <= now) {
+            if (now - deadline <= properties.getMissedGrace().toMillis()) {
+                due.add(reminder);
+            }
+            return;
+        }
+        long deadlineTick = Math.max(ceilDiv(deadline, tickMillis), wheel.currentTick() + 1);
+        if (scheduled.size() >= properties.getMaxEntries() || deadlineTick - wheel.currentTick() > wheel.span()) {
+            // Sem espaço: o lembrete volta a ser carregado quando o horizonte chegar até ele
+            horizon = deadline;
+            return;
+        }
+        scheduled.put(reminder.key(), wheel.schedule(reminder, deadlineTick));
+    }
+
+    private void deliver(List<Reminder> due) {
+        for (Reminder reminder : due) {
+            for (ReminderSink sink : sinks) {
+                try {
+                    sink.deliver(reminder);
+                } catch (RuntimeException e) {
+                    logger.warn("Falha ao entregar o lembrete da tarefa {} em {}", reminder.taskId(),
+                            sink.getClass().getSimpleName(), e);
+                }
+            }
+            delivered.increment();
+        }
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
@@ -0,0 +1,13 @@
+package com.todolist.api.reminder;
+
+/**
+ * Destino dos lembretes vencidos. Todos os beans que implementam esta interface recebem cada lembrete.
+ *
+ * A entrega roda na thread da roda: implementações lentas devem repassar o trabalho para outra thread.
+ * Cada réplica entrega os lembretes que tem em memória, então um sink que precise de entrega única
+ * entre réplicas deve deduplicar por tenantId, taskId e remindAt.
+ */
+public interface ReminderSink {
+
+    void deliver(Reminder reminder);
+}
@@ -0,0 +1,55 @@
+package com.todolist.api.reminder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.todolist.api.config.ReminderProperties;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Entrega os lembretes por Server-Sent Events aos clientes conectados a esta réplica, separados por tenant
+@Component
+public class SseReminderSink implements ReminderSink {
+
+    private final ReminderProperties properties;
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseReminderSink(ReminderProperties properties) {
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe(String tenant) {
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+        List<SseEmitter> tenantEmitters = emitters.computeIfAbsent(tenant, t -> new CopyOnWriteArrayList<>());
+        tenantEmitters.add(emitter);
+        Runnable remove = () -> tenantEmitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    @Override
+    public void deliver(Reminder reminder) {
+        List<SseEmitter> tenantEmitters = emitters.get(reminder.tenantId());
+        if (tenantEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : tenantEmitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("reminder")
+                        .id(reminder.taskId() + "@" + reminder.remindAt())
+                        .data(reminder));
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado
+                tenantEmitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
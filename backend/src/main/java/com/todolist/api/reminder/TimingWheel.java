@@ -0,0 +1,179 @@
+package com.todolist.api.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica (Varghese e Lauck): levels níveis de wheelSize posições,
+ * em que cada posição do nível i cobre wheelSize^i ticks.
+ *
+ * Um timeout entra no nível mais baixo cujo alcance cobre o seu prazo. Quando o nível 0 dá a volta,
+ * a posição atual do nível de cima é esvaziada e seus timeouts descem para níveis mais finos (cascata).
+ * Cada posição é uma lista duplamente encadeada, então agendar e cancelar são O(1); avançar custa O(1)
+ * por tick mais os timeouts que vencem ou descem de nível. A memória é fixa (wheelSize * levels posições)
+ * mais um nó por timeout.
+ *
+ * Não é thread-safe: o ReminderScheduler acessa a roda sempre com o próprio lock.
+ */
+public final class TimingWheel<T> {
+
+    private final int wheelSize;
+    private final int levels;
+    // Ticks cobertos por uma posição de cada nível: wheelSize^i
+    private final long[] slotTicks;
+    private final Timeout<T>[] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int wheelSize, int levels, long startTick) {
+        if (wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("A roda precisa de ao menos 2 posições e 1 nível");
+        }
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.slotTicks = new long[levels + 1];
+        slotTicks[0] = 1;
+        for (int i = 1; i <= levels; i++) {
+            slotTicks[i] = Math.multiplyExact(slotTicks[i - 1], wheelSize);
+        }
+        this.slots = new Timeout[wheelSize * levels];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = Timeout.sentinel();
+        }
+        this.currentTick = startTick;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    // Maior distância, em ticks, entre o tick atual e o prazo de um timeout
+    public long span() {
+        return slotTicks[levels] - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // O prazo precisa estar no futuro e dentro do alcance da roda
+    public Timeout<T> schedule(T value, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0 || delta > span()) {
+            throw new IllegalArgumentException("Prazo fora da roda: tick " + deadlineTick + ", atual " + currentTick);
+        }
+        Timeout<T> timeout = new Timeout<>(value, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isScheduled()) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    // Avança tick a tick até targetTick, entregando os timeouts vencidos em ordem de prazo
+    public void advanceTo(long targetTick, Consumer<T> expired) {
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Do nível mais alto para o mais baixo, para que um timeout desça vários níveis no mesmo tick
+            for (int level = levels - 1; level >= 1; level--) {
+                if (currentTick % slotTicks[level] == 0) {
+                    cascade(slot(level, currentTick), expired);
+                }
+            }
+            Timeout<T> head = slot(0, currentTick);
+            while (head.next != head) {
+                Timeout<T> timeout = head.next;
+                timeout.unlink();
+                size--;
+                expired.accept(timeout.value);
+            }
+        }
+    }
+
+    private void cascade(Timeout<T> head, Consumer<T> expired) {
+        Timeout<T> timeout = head.next;
+        head.next = head;
+        head.prev = head;
+        while (timeout != head) {
+            Timeout<T> next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            if (timeout.deadline <= currentTick) {
+                size--;
+                expired.accept(timeout.value);
+            } else {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadline - currentTick;
+        int level = 0;
+        while (delta >= slotTicks[level + 1]) {
+            level++;
+        }
+        slot(level, timeout.deadline).append(timeout);
+    }
+
+    private Timeout<T> slot(int level, long tick) {
+        return slots[level * wheelSize + (int) ((tick / slotTicks[level]) % wheelSize)];
+    }
+
+    /**
+     * Nó da lista de uma posição. As posições têm um nó sentinela, então inserir e remover não têm casos especiais.
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadline;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        private static <T> Timeout<T> sentinel() {
+            Timeout<T> head = new Timeout<>(null, Long.MIN_VALUE);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public boolean isScheduled() {
+            return next != null;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.prev = prev;
+            timeout.next = this;
+            prev.next = timeout;
+            prev = timeout;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
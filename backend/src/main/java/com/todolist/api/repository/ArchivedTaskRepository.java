@@ -0,0 +1,63 @@
+package com.todolist.api.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.ArchivedTask;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    // Uma página do arquivo, da mais recente para a mais antiga; sem a consulta de total do Page
+    @Query("SELECT a FROM ArchivedTask a ORDER BY a.archivedAt DESC, a.id DESC")
+    List<ArchivedTask> findPage(Pageable pageable);
+
+    // Uma tarefa do lote e o tenant dela, para o TaskChangedEvent
+    interface ArchivableTask {
+        Long getId();
+
+        String getTenantId();
+    }
+
+    // Seleciona e trava um lote de tarefas elegíveis; SKIP LOCKED evita que duas réplicas arquivem o mesmo lote.
+    // Ocorrências de séries não são arquivadas: fora de tasks, a expansão da regra as mostraria de novo como pendentes.
+    // Tarefas com subtarefas pendentes também não: remover a linha apagaria (ON DELETE CASCADE) os caminhos de
+    // task_closure dessas subtarefas, que sairiam da subárvore e do progresso do pai. A tarefa é arquivada quando
+    // a última subtarefa for concluída ou excluída. Tenants em migração ficam de fora (ShardRouter.tenantsToSkip).
+    // FOR UPDATE OF t trava só as tarefas do lote, não as subtarefas lidas no NOT EXISTS
+    @Query(value = """
+            SELECT t.id AS id, t.tenant_id AS tenantId FROM tasks t
+            WHERE t.completed = 1 AND t.completed_at < :cutoff AND t.deleted_at IS NULL AND t.series_id IS NULL
+              AND t.tenant_id NOT IN (:skippedTenants)
+              AND NOT EXISTS (
+                  SELECT 1 FROM task_closure c JOIN tasks d ON d.id = c.descendant_id
+                  WHERE c.ancestor_id = t.id AND d.completed = 0 AND d.deleted_at IS NULL)
+            ORDER BY t.completed_at
+            LIMIT :limit
+            FOR UPDATE OF t SKIP LOCKED""", nativeQuery = true)
+    List<ArchivableTask> lockArchivableTasks(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit,
+            @Param("skippedTenants") Collection<String> skippedTenants);
+
+    // Listas das tarefas do lote, lidas antes de removê-las: as contagens dessas listas mudam
+    @Query(value = "SELECT DISTINCT list_id FROM tasks WHERE id IN (:ids) AND list_id IS NOT NULL", nativeQuery = true)
+    List<Long> findListIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tasks_archive (id, tenant_id, title, description, completed, completed_at, due_at, created_at, list_id, archived_at)
+            SELECT id, tenant_id, title, description, completed, completed_at, due_at, created_at, list_id, :archivedAt
+            FROM tasks WHERE id IN (:ids)""", nativeQuery = true)
+    int copyFromTasks(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromTasks(@Param("ids") List<Long> ids);
+}
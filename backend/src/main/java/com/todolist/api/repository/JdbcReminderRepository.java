@@ -0,0 +1,70 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.reminder.Reminder;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Consultas nativas: o scheduler lê lembretes de todos os tenants, fora do filtro de tenant do Hibernate
+@Repository
+@Profile("!embedded")
+public class JdbcReminderRepository implements ReminderRepository {
+
+    // Busca por faixa no índice idx_tasks_remind_at
+    private static final String BETWEEN_SQL = """
+            SELECT id, tenant_id, remind_at, due_at FROM tasks
+            WHERE remind_at >= ? AND remind_at < ? AND completed = 0 AND deleted_at IS NULL
+            ORDER BY remind_at
+            LIMIT ?""";
+
+    private static final String BY_IDS_SQL =
+            "SELECT id, tenant_id, remind_at, due_at FROM tasks "
+            + "WHERE id IN (%s) AND remind_at IS NOT NULL AND completed = 0 AND deleted_at IS NULL";
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private static final RowMapper<Reminder> ROW_MAPPER = (rs, rowNum) -> new Reminder(
+            rs.getString("tenant_id"),
+            rs.getLong("id"),
+            rs.getObject("remind_at", LocalDateTime.class),
+            rs.getObject("due_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    public JdbcReminderRepository(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    // Cada shard devolve até limit linhas; a junção fica com as limit primeiras no total
+    @Override
+    public List<Reminder> findBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        List<Reminder> reminders = new ArrayList<>();
+        shardRouter.forEachShard(shard -> reminders.addAll(jdbcTemplate.query(BETWEEN_SQL, ROW_MAPPER, from, to, limit)));
+        reminders.sort(Comparator.comparing(Reminder::remindAt));
+        return reminders.size() > limit ? reminders.subList(0, limit) : reminders;
+    }
+
+    @Override
+    public List<Reminder> findByTaskIds(Collection<Long> taskIds) {
+        List<Long> ids = new ArrayList<>(taskIds);
+        List<Reminder> reminders = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + IDS_PER_QUERY, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            reminders.addAll(jdbcTemplate.query(BY_IDS_SQL.formatted(placeholders), ROW_MAPPER, chunk.toArray()));
+        }
+        return reminders;
+    }
+}
@@ -0,0 +1,81 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskTags;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// INSERT em lote via JDBC, sem passar pelo contexto de persistência do Hibernate.
+// Participa da transação corrente, se houver; senão abre uma própria
+@Repository
+@Profile("!embedded")
+public class JdbcTaskBatchWriter implements TaskBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (tenant_id, title, description, completed, completed_at, deleted_at, due_at, remind_at, rank_key, tags, "
+            + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcTaskBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void insertAll(String tenantId, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        // Como o @CreationTimestamp: o horário da inserção, também devolvido nas tarefas
+        LocalDateTime now = LocalDateTime.now();
+        tasks.stream().filter(task -> task.getCreatedAt() == null).forEach(task -> task.setCreatedAt(now));
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Task task = tasks.get(i);
+                                ps.setString(1, tenantId);
+                                ps.setString(2, task.getTitle());
+                                ps.setString(3, task.getDescription());
+                                ps.setBoolean(4, task.getCompleted());
+                                ps.setTimestamp(5, timestamp(task.getCompletedAt()));
+                                ps.setTimestamp(6, timestamp(task.getDeletedAt()));
+                                ps.setTimestamp(7, timestamp(task.getDueAt()));
+                                ps.setTimestamp(8, timestamp(task.getRemindAt()));
+                                ps.setString(9, task.getRankKey());
+                                ps.setString(10, TaskTags.join(task.getTags()));
+                                ps.setTimestamp(11, timestamp(task.getCreatedAt()));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return tasks.size();
+                            }
+                        }, keys));
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
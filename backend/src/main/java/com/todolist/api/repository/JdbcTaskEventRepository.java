@@ -0,0 +1,94 @@
+package com.todolist.api.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.eventlog.TaskEvent;
+import com.todolist.api.sharding.ShardRouter;
+import com.todolist.api.sharding.ShardRoutingDataSource;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// O gravador roda fora de requisições: cada lote é separado por shard, com a conexão fixada nele
+@Repository
+@Profile("!embedded")
+public class JdbcTaskEventRepository implements TaskEventRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_events (tenant_id, task_id, event_type, occurred_at, changes) VALUES (?, ?, ?, ?, ?)";
+
+    // Índice (tenant_id, task_id, id): os mais recentes da tarefa sem ordenar
+    private static final String BY_TASK_SQL = """
+            SELECT tenant_id, task_id, event_type, occurred_at, changes FROM task_events
+            WHERE tenant_id = ? AND task_id = ?
+            ORDER BY id DESC
+            LIMIT ?""";
+
+    private static final TypeReference<Map<String, Object>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+
+    public JdbcTaskEventRepository(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void append(List<TaskEvent> events) {
+        Map<Integer, List<Object[]>> byShard = new TreeMap<>();
+        for (TaskEvent event : events) {
+            byShard.computeIfAbsent(shardRouter.shardFor(event.tenantId()), shard -> new ArrayList<>())
+                    .add(new Object[] {event.tenantId(), event.taskId(), event.type().name(), event.occurredAt(),
+                            toJson(event.changes())});
+        }
+        int[] types = {Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR};
+        byShard.forEach((shard, rows) -> ShardRoutingDataSource.callOnShard(shard,
+                () -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, types)));
+    }
+
+    @Override
+    public List<TaskEvent> findByTask(String tenantId, long taskId, int limit) {
+        return jdbcTemplate.query(BY_TASK_SQL, (rs, rowNum) -> new TaskEvent(
+                rs.getString("tenant_id"),
+                rs.getLong("task_id"),
+                ChangeType.valueOf(rs.getString("event_type")),
+                rs.getObject("occurred_at", LocalDateTime.class),
+                fromJson(rs.getString("changes"))), tenantId, taskId, limit);
+    }
+
+    private String toJson(Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Alterações do evento não serializáveis: " + changes.keySet(), e);
+        }
+    }
+
+    private Map<String, Object> fromJson(String changes) {
+        if (changes == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(changes, CHANGES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Alterações do evento ilegíveis em task_events", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.index.IndexedTask;
+import com.todolist.api.model.TaskTags;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Consultas nativas: o índice é de todos os tenants, fora do filtro de tenant do Hibernate
+@Repository
+@Profile("!embedded")
+public class JdbcTaskIndexRepository implements TaskIndexRepository {
+
+    private static final String ALL_SQL = "SELECT id, tenant_id, title, completed, tags FROM tasks WHERE deleted_at IS NULL";
+
+    private static final String BY_IDS_SQL =
+            "SELECT id, tenant_id, title, completed, tags FROM tasks WHERE id IN (%s) AND deleted_at IS NULL";
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private static final RowMapper<IndexedTask> ROW_MAPPER = (rs, rowNum) -> new IndexedTask(
+            rs.getString("tenant_id"),
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getBoolean("completed"),
+            TaskTags.split(rs.getString("tags")));
+
+    private final JdbcTemplate jdbcTemplate;
+    // Mesmo DataSource, mas com fetch size Integer.MIN_VALUE: o driver MySQL entrega as linhas uma a uma (streaming)
+    private final JdbcTemplate streamingTemplate;
+    private final ShardRouter shardRouter;
+
+    public JdbcTaskIndexRepository(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void forEachTask(Consumer<IndexedTask> action) {
+        shardRouter.forEachShard(shard -> streamingTemplate.query(ALL_SQL,
+                (RowCallbackHandler) rs -> action.accept(ROW_MAPPER.mapRow(rs, 0))));
+    }
+
+    @Override
+    public List<IndexedTask> findByIds(Collection<Long> taskIds) {
+        List<Long> ids = new ArrayList<>(taskIds);
+        List<IndexedTask> tasks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + IDS_PER_QUERY, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            tasks.addAll(jdbcTemplate.query(BY_IDS_SQL.formatted(placeholders), ROW_MAPPER, chunk.toArray()));
+        }
+        return tasks;
+    }
+}
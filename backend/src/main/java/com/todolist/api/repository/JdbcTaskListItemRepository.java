@@ -0,0 +1,71 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Consultas nativas com o tenant explícito; participam da transação do TaskListService
+@Repository
+@Profile("!embedded")
+public class JdbcTaskListItemRepository implements TaskListItemRepository {
+
+    // LATERAL por lista: as primeiras perList tarefas de cada lista em uma consulta; cada subconsulta percorre
+    // idx_tasks_list (list_id, rank_key) e para no LIMIT, sem ler as demais tarefas da lista (MySQL 8.0.14+)
+    private static final String TASKS_SQL = """
+            SELECT t.* FROM task_lists l
+            JOIN LATERAL (
+                SELECT id, tenant_id, title, description, completed, completed_at, created_at, due_at, remind_at,
+                       rank_key, parent_id, list_id, series_id, occurrence_date, tags
+                FROM tasks
+                WHERE list_id = l.id AND tenant_id = l.tenant_id AND deleted_at IS NULL
+                ORDER BY rank_key, id
+                LIMIT ?) t ON TRUE
+            WHERE l.id IN (%s) AND l.tenant_id = ?
+            ORDER BY l.id, t.rank_key, t.id""";
+
+    private static final String VISIBLE_IDS_SQL =
+            "SELECT id FROM tasks WHERE list_id = ? AND tenant_id = ? AND deleted_at IS NULL ORDER BY id FOR UPDATE";
+
+    private static final String DETACH_SQL = "UPDATE tasks SET list_id = NULL WHERE list_id = ? AND tenant_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskListItemRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<Long, List<Task>> findTasks(String tenantId, Collection<Long> listIds, int perList) {
+        Map<Long, List<Task>> tasks = new LinkedHashMap<>();
+        if (listIds.isEmpty() || perList <= 0) {
+            return tasks;
+        }
+        // Na ordem dos parâmetros no texto: o LIMIT da subconsulta vem antes do filtro das listas
+        List<Object> args = new ArrayList<>();
+        args.add(perList);
+        args.addAll(listIds);
+        args.add(tenantId);
+        String sql = TASKS_SQL.formatted(String.join(", ", Collections.nCopies(listIds.size(), "?")));
+        jdbcTemplate.query(sql, rs -> {
+            Task task = JdbcTaskTreeRepository.TASK_MAPPER.mapRow(rs, 0);
+            tasks.computeIfAbsent(task.getListId(), listId -> new ArrayList<>()).add(task);
+        }, args.toArray());
+        return tasks;
+    }
+
+    @Override
+    public List<Long> detachAll(String tenantId, Long listId) {
+        List<Long> ids = jdbcTemplate.queryForList(VISIBLE_IDS_SQL, Long.class, listId, tenantId);
+        jdbcTemplate.update(DETACH_SQL, listId, tenantId);
+        return ids;
+    }
+}
@@ -0,0 +1,80 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// Consultas nativas com o tenant explícito; participam da transação do TaskSeriesService
+@Repository
+@Profile("!embedded")
+public class JdbcTaskOccurrenceRepository implements TaskOccurrenceRepository {
+
+    private static final String COLUMNS = "id, tenant_id, title, description, completed, completed_at, created_at, due_at, "
+            + "remind_at, rank_key, parent_id, list_id, series_id, occurrence_date, tags, deleted_at";
+
+    // Faixa da chave única (series_id, occurrence_date): lê só as linhas do período, qualquer que seja a idade da série
+    private static final String BETWEEN_SQL = "SELECT " + COLUMNS + " FROM tasks "
+            + "WHERE series_id IN (%s) AND occurrence_date BETWEEN ? AND ? AND tenant_id = ?";
+
+    private static final String FIND_SQL = "SELECT " + COLUMNS + " FROM tasks "
+            + "WHERE series_id = ? AND occurrence_date = ? AND tenant_id = ?";
+
+    private static final String VISIBLE_IDS_SQL =
+            "SELECT id FROM tasks WHERE series_id = ? AND tenant_id = ? AND deleted_at IS NULL ORDER BY id FOR UPDATE";
+
+    private static final String DETACH_SQL =
+            "UPDATE tasks SET series_id = NULL, occurrence_date = NULL WHERE series_id = ? AND tenant_id = ?";
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private static final RowMapper<Task> OCCURRENCE_MAPPER = (rs, rowNum) -> {
+        Task task = JdbcTaskTreeRepository.TASK_MAPPER.mapRow(rs, rowNum);
+        task.setDeletedAt(rs.getObject("deleted_at", LocalDateTime.class));
+        return task;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskOccurrenceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Task> findBetween(String tenantId, Collection<Long> seriesIds, LocalDate from, LocalDate to) {
+        List<Long> ids = new ArrayList<>(seriesIds);
+        List<Task> tasks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + IDS_PER_QUERY, ids.size()));
+            List<Object> args = new ArrayList<>(chunk);
+            args.add(from);
+            args.add(to);
+            args.add(tenantId);
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            tasks.addAll(jdbcTemplate.query(BETWEEN_SQL.formatted(placeholders), OCCURRENCE_MAPPER, args.toArray()));
+        }
+        return tasks;
+    }
+
+    @Override
+    public Optional<Task> find(String tenantId, Long seriesId, LocalDate date) {
+        return jdbcTemplate.query(FIND_SQL, OCCURRENCE_MAPPER, seriesId, date, tenantId).stream().findFirst();
+    }
+
+    @Override
+    public List<Long> detachAll(String tenantId, Long seriesId) {
+        List<Long> ids = jdbcTemplate.queryForList(VISIBLE_IDS_SQL, Long.class, seriesId, tenantId);
+        jdbcTemplate.update(DETACH_SQL, seriesId, tenantId);
+        return ids;
+    }
+}
@@ -0,0 +1,181 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.webhook.OutboxEntry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+@Repository
+@Profile("!embedded")
+public class JdbcTaskOutboxRepository implements TaskOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO task_outbox (endpoint, tenant_id, task_id, event_type, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, NOW(6), NOW(6))""";
+
+    // Primeira linha de cada (endpoint, tenant, tarefa), vencida. Quem trava a primeira linha é dono da tarefa:
+    // as seguintes só são reservadas por ele, em FOLLOWERS_SQL na mesma transação. A subconsulta é uma leitura
+    // comum, mas não depende de reservas em andamento: qualquer linha anterior, reservada ou não, basta para
+    // esta não ser a primeira. SKIP LOCKED: outra réplica reservando ao mesmo tempo pega outras tarefas
+    private static final String HEADS_SQL = """
+            SELECT id, endpoint, tenant_id, task_id, event_type, created_at, attempts, TRUE AS due FROM task_outbox o
+            WHERE o.next_attempt_at <= NOW(6) AND o.tenant_id NOT IN (%s)
+              AND NOT EXISTS (SELECT 1 FROM task_outbox p
+                              WHERE p.endpoint = o.endpoint AND p.tenant_id = o.tenant_id AND p.task_id <=> o.task_id
+                                AND p.id < o.id)
+            ORDER BY o.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    // Linhas seguintes das tarefas cujas primeiras linhas foram travadas, vencidas ou não: claim para cada tarefa
+    // na primeira que ainda espera retry, para não passar à frente dela
+    private static final String FOLLOWERS_SQL = """
+            SELECT o.id, o.endpoint, o.tenant_id, o.task_id, o.event_type, o.created_at, o.attempts,
+                   o.next_attempt_at <= NOW(6) AS due
+            FROM task_outbox h
+            JOIN task_outbox o ON o.endpoint = h.endpoint AND o.tenant_id = h.tenant_id AND o.task_id <=> h.task_id
+                              AND o.id > h.id
+            WHERE h.id IN (%s)
+            ORDER BY o.id
+            LIMIT ?
+            FOR UPDATE""";
+
+    private static final String LEASE_SQL =
+            "UPDATE task_outbox SET next_attempt_at = DATE_ADD(NOW(6), INTERVAL ? MICROSECOND) WHERE id IN (%s)";
+
+    private static final String RETRY_SQL = """
+            UPDATE task_outbox SET attempts = attempts + 1, next_attempt_at = DATE_ADD(NOW(6), INTERVAL ? MICROSECOND)
+            WHERE id = ?""";
+
+    private static final String RELEASE_SQL = "UPDATE task_outbox SET next_attempt_at = NOW(6) WHERE id IN (%s)";
+
+    private static final String DELETE_SQL = "DELETE FROM task_outbox WHERE id IN (%s)";
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    private record Key(String endpoint, String tenantId, Long taskId) {
+
+        static Key of(OutboxEntry entry) {
+            return new Key(entry.endpoint(), entry.tenantId(), entry.taskId());
+        }
+    }
+
+    private record Row(OutboxEntry entry, boolean due) {
+    }
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(new OutboxEntry(
+            rs.getLong("id"),
+            rs.getString("endpoint"),
+            rs.getString("tenant_id"),
+            rs.getObject("task_id", Long.class),
+            ChangeType.valueOf(rs.getString("event_type")),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getInt("attempts")), rs.getBoolean("due"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(Collection<String> endpoints, List<TaskChangedEvent> changes) {
+        List<Object[]> rows = new ArrayList<>(endpoints.size() * changes.size());
+        for (TaskChangedEvent change : changes) {
+            for (String endpoint : endpoints) {
+                rows.add(new Object[] {endpoint, change.tenantId(), change.taskId(), change.type().name()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public List<OutboxEntry> claim(int limit, Duration lease, Collection<String> skippedTenants) {
+        List<OutboxEntry> claimed = new ArrayList<>();
+        // As seguintes vêm das primeiras, então o filtro de tenant só precisa estar em HEADS_SQL
+        List<Object> headArgs = new ArrayList<>(skippedTenants);
+        headArgs.add(limit);
+        String headsSql = HEADS_SQL.formatted(String.join(", ", Collections.nCopies(skippedTenants.size(), "?")));
+        jdbcTemplate.query(headsSql, ROW_MAPPER, headArgs.toArray()).forEach(row -> claimed.add(row.entry()));
+        int heads = claimed.size();
+        if (heads > 0 && heads < limit) {
+            List<Long> headIds = claimed.stream().map(OutboxEntry::id).toList();
+            Set<Key> waiting = new HashSet<>();
+            forEachChunk(headIds, (placeholders, chunk) -> {
+                Object[] args = new Object[chunk.size() + 1];
+                for (int i = 0; i < chunk.size(); i++) {
+                    args[i] = chunk.get(i);
+                }
+                args[chunk.size()] = limit - claimed.size();
+                for (Row row : jdbcTemplate.query(FOLLOWERS_SQL.formatted(placeholders), ROW_MAPPER, args)) {
+                    Key key = Key.of(row.entry());
+                    if (claimed.size() < limit && !waiting.contains(key) && row.due()) {
+                        claimed.add(row.entry());
+                    } else {
+                        waiting.add(key);
+                    }
+                }
+            });
+            claimed.sort(Comparator.comparingLong(OutboxEntry::id));
+        }
+        List<Long> ids = claimed.stream().map(OutboxEntry::id).toList();
+        forEachChunk(ids, (placeholders, chunk) -> {
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = micros(lease);
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+            jdbcTemplate.update(LEASE_SQL.formatted(placeholders), args);
+        });
+        return claimed;
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+        forEachChunk(new ArrayList<>(ids), (placeholders, chunk) ->
+                jdbcTemplate.update(DELETE_SQL.formatted(placeholders), chunk.toArray()));
+    }
+
+    @Override
+    public void retryLater(Map<Long, Duration> backoff) {
+        if (backoff.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(backoff.size());
+        backoff.forEach((id, delay) -> rows.add(new Object[] {micros(delay), id}));
+        jdbcTemplate.batchUpdate(RETRY_SQL, rows);
+    }
+
+    @Override
+    public void release(Collection<Long> ids) {
+        forEachChunk(new ArrayList<>(ids), (placeholders, chunk) ->
+                jdbcTemplate.update(RELEASE_SQL.formatted(placeholders), chunk.toArray()));
+    }
+
+    private static void forEachChunk(List<Long> ids, BiConsumer<String, List<Long>> action) {
+        for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + IDS_PER_QUERY, ids.size()));
+            action.accept(String.join(", ", Collections.nCopies(chunk.size(), "?")), chunk);
+        }
+    }
+
+    private static long micros(Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+}
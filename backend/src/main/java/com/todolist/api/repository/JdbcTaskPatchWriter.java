@@ -0,0 +1,73 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.model.TaskTags;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// UPDATE montado a partir dos campos do patch; um título editado não regrava a descrição.
+// Participa da transação corrente, como o JdbcTaskBatchWriter
+@Repository
+@Profile("!embedded")
+public class JdbcTaskPatchWriter implements TaskPatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskPatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int patch(String tenantId, Long id, TaskPatchDTO patch, LocalDateTime now) {
+        List<String> columns = new ArrayList<>(6);
+        List<Object> args = new ArrayList<>(8);
+        if (patch.hasTitle()) {
+            columns.add("title = ?");
+            args.add(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            columns.add("description = ?");
+            args.add(patch.getDescription());
+        }
+        if (patch.hasDueAt()) {
+            columns.add("due_at = ?");
+            args.add(timestamp(patch.getDueAt()));
+        }
+        if (patch.hasRemindAt()) {
+            columns.add("remind_at = ?");
+            args.add(timestamp(patch.getRemindAt()));
+        }
+        if (patch.hasTags()) {
+            columns.add("tags = ?");
+            args.add(TaskTags.join(TaskTags.normalize(patch.getTags())));
+        }
+        if (patch.hasCompleted()) {
+            // Mesma regra de Task.setCompleted, decidida pelo banco a partir do valor atual.
+            // O MySQL aplica o SET da esquerda para a direita: completed_at precisa vir antes de completed
+            columns.add("completed_at = CASE WHEN NOT ? THEN NULL WHEN completed THEN completed_at ELSE ? END");
+            columns.add("completed = ?");
+            args.add(patch.getCompleted());
+            args.add(Timestamp.valueOf(now));
+            args.add(patch.getCompleted());
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Patch sem campos");
+        }
+        args.add(id);
+        args.add(tenantId);
+        String sql = "UPDATE tasks SET " + String.join(", ", columns)
+                + " WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL";
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,81 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskField;
+import com.todolist.api.model.TaskTags;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// As colunas vêm do enum TaskField, nunca da requisição. Consultas nativas com o tenant explícito
+@Repository
+@Profile("!embedded")
+public class JdbcTaskProjectionRepository implements TaskProjectionRepository {
+
+    // Mesmo índice (tenant_id, rank_key) do findAllOrdered
+    private static final String ALL_SQL = "SELECT %s FROM tasks WHERE tenant_id = ? AND deleted_at IS NULL ORDER BY rank_key, id";
+
+    private static final String BY_ID_SQL = "SELECT %s FROM tasks WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL";
+
+    private static final String ARCHIVED_BY_ID_SQL = "SELECT %s FROM tasks_archive WHERE id = ? AND tenant_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAll(String tenantId, Set<TaskField> fields) {
+        return jdbcTemplate.query(ALL_SQL.formatted(columns(fields, false)), mapper(fields), tenantId);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findById(String tenantId, Long id, Set<TaskField> fields) {
+        List<Map<String, Object>> found = jdbcTemplate.query(BY_ID_SQL.formatted(columns(fields, false)), mapper(fields), id, tenantId);
+        if (found.isEmpty()) {
+            found = jdbcTemplate.query(ARCHIVED_BY_ID_SQL.formatted(columns(fields, true)), mapper(fields), id, tenantId);
+        }
+        return found.stream().findFirst();
+    }
+
+    // Cada campo com o nome da coluna em tasks, para o mapper ler igual nas duas tabelas
+    private static String columns(Set<TaskField> fields, boolean archive) {
+        return fields.stream()
+                .map(field -> archive && field.archiveColumn() == null ? "NULL AS " + field.column() : field.column())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static RowMapper<Map<String, Object>> mapper(Set<TaskField> fields) {
+        return (rs, rowNum) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TaskField field : fields) {
+                row.put(field.jsonName(), read(rs, field));
+            }
+            return row;
+        };
+    }
+
+    private static Object read(ResultSet rs, TaskField field) throws SQLException {
+        return switch (field) {
+            case ID, PARENT_ID, LIST_ID, SERIES_ID -> rs.getObject(field.column(), Long.class);
+            case TITLE, DESCRIPTION -> rs.getString(field.column());
+            case COMPLETED -> rs.getBoolean(field.column());
+            case CREATED_AT, COMPLETED_AT, DUE_AT, REMIND_AT -> rs.getObject(field.column(), LocalDateTime.class);
+            case OCCURRENCE_DATE -> rs.getObject(field.column(), LocalDate.class);
+            case TAGS -> TaskTags.split(rs.getString(field.column()));
+        };
+    }
+}
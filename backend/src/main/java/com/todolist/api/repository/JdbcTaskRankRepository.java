@@ -0,0 +1,147 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.service.RankKeys;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Consultas nativas com o tenant explícito, como as de TaskRepository; rodam no shard do tenant da thread
+@Repository
+@Profile("!embedded")
+public class JdbcTaskRankRepository implements TaskRankRepository {
+
+    private static final String LAST_SQL =
+            "SELECT rank_key FROM tasks WHERE tenant_id = ? ORDER BY rank_key DESC LIMIT 1";
+
+    private static final String KEY_SQL =
+            "SELECT COALESCE(rank_key, '') FROM tasks WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL";
+
+    private static final String NEXT_SQL = """
+            SELECT rank_key FROM tasks
+            WHERE tenant_id = ? AND rank_key > ? AND id <> ? AND deleted_at IS NULL
+            ORDER BY rank_key
+            LIMIT 1""";
+
+    private static final String PREVIOUS_SQL = """
+            SELECT rank_key FROM tasks
+            WHERE tenant_id = ? AND rank_key < ? AND id <> ? AND deleted_at IS NULL
+            ORDER BY rank_key DESC
+            LIMIT 1""";
+
+    private static final String UPDATE_SQL =
+            "UPDATE tasks SET rank_key = ? WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL";
+
+    // Faixas de trás para frente: as últimas tarefas do tenant e, depois, as anteriores à faixa já regravada.
+    // FOR UPDATE: movimentos concorrentes na faixa esperam a transação dela terminar. Tarefas sem chave (NULL)
+    // vêm por último, como no ORDER BY crescente vêm primeiro
+    private static final String LOCK_LAST_SQL = """
+            SELECT id, rank_key FROM tasks
+            WHERE tenant_id = ?
+            ORDER BY rank_key DESC, id DESC
+            LIMIT ?
+            FOR UPDATE""";
+
+    private static final String LOCK_BEFORE_SQL = """
+            SELECT id, rank_key FROM tasks
+            WHERE tenant_id = ? AND (rank_key IS NULL OR rank_key < ? OR (rank_key = ? AND id < ?))
+            ORDER BY rank_key DESC, id DESC
+            LIMIT ?
+            FOR UPDATE""";
+
+    private static final String REBALANCE_SQL = "UPDATE tasks SET rank_key = ? WHERE id = ?";
+
+    private static final int REBALANCE_BATCH_SIZE = 500;
+
+    private static final RowMapper<RankedRow> RANKED_ROW =
+            (rs, rowNum) -> new RankedRow(rs.getLong("id"), rs.getString("rank_key"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcTaskRankRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public String findLastKey(String tenantId) {
+        return first(jdbcTemplate.queryForList(LAST_SQL, String.class, tenantId));
+    }
+
+    @Override
+    public Optional<String> findKey(String tenantId, Long id) {
+        return Optional.ofNullable(first(jdbcTemplate.queryForList(KEY_SQL, String.class, id, tenantId)));
+    }
+
+    @Override
+    public String findNextKey(String tenantId, String key, Long excludeId) {
+        return first(jdbcTemplate.queryForList(NEXT_SQL, String.class, tenantId, key, excludeId));
+    }
+
+    @Override
+    public String findPreviousKey(String tenantId, String key, Long excludeId) {
+        return first(jdbcTemplate.queryForList(PREVIOUS_SQL, String.class, tenantId, key, excludeId));
+    }
+
+    @Override
+    public int updateKey(String tenantId, Long id, String key) {
+        return jdbcTemplate.update(UPDATE_SQL, key, id, tenantId);
+    }
+
+    // Uma transação curta por faixa de REBALANCE_BATCH_SIZE tarefas, em vez de uma que trave o tenant inteiro.
+    // Cada faixa recebe chaves espaçadas entre a tarefa anterior a ela (travada junto, sem ser regravada) e a
+    // primeira da faixa seguinte, já regravada: a ordem do tenant fica certa depois de cada commit
+    @Override
+    public int rebalance(String tenantId) {
+        int total = 0;
+        Range range = null;
+        do {
+            Range upper = range;
+            range = transactionTemplate.execute(status -> rebalanceBefore(tenantId, upper));
+            if (range == null) {
+                break;
+            }
+            total += range.count();
+        } while (range.hasMore());
+        return total;
+    }
+
+    // Primeira tarefa da faixa regravada, com a chave nova, e se ainda há tarefas antes dela; nulo se não há tarefas
+    private record Range(Long firstId, String firstKey, int count, boolean hasMore) {
+    }
+
+    private record RankedRow(Long id, String rankKey) {
+    }
+
+    private Range rebalanceBefore(String tenantId, Range upper) {
+        List<RankedRow> rows = upper == null
+                ? jdbcTemplate.query(LOCK_LAST_SQL, RANKED_ROW, tenantId, REBALANCE_BATCH_SIZE + 1)
+                : jdbcTemplate.query(LOCK_BEFORE_SQL, RANKED_ROW, tenantId, upper.firstKey(), upper.firstKey(),
+                        upper.firstId(), REBALANCE_BATCH_SIZE + 1);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        boolean hasMore = rows.size() > REBALANCE_BATCH_SIZE;
+        int count = hasMore ? REBALANCE_BATCH_SIZE : rows.size();
+        String lower = hasMore ? rows.get(count).rankKey() : null;
+        String[] keys = RankKeys.evenlySpaced(lower, upper == null ? null : upper.firstKey(), count);
+        // As linhas vêm da última para a primeira; as chaves, crescentes
+        List<Object[]> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[] {keys[count - 1 - i], rows.get(i).id()});
+        }
+        jdbcTemplate.batchUpdate(REBALANCE_SQL, batch);
+        return new Range(rows.get(count - 1).id(), keys[0], count, hasMore);
+    }
+
+    private static String first(List<String> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+}
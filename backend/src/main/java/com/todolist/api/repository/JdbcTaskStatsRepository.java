@@ -0,0 +1,78 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.DailyTaskStats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Profile("!embedded")
+public class JdbcTaskStatsRepository implements TaskStatsRepository {
+
+    // FOR UPDATE: duas réplicas somando ao mesmo tempo contariam as mesmas tarefas duas vezes
+    private static final String STATE_SQL = """
+            SELECT rolled_up_to, NOW(6) - INTERVAL ? MICROSECOND AS up_to FROM task_rollup_state
+            WHERE name = 'daily_stats' FOR UPDATE""";
+
+    // Faixa de created_at pelo índice idx_tasks_created_at: lê só as tarefas novas desde a última soma.
+    // Tarefas excluídas também contam: foram criadas
+    private static final String CREATED_SQL = """
+            INSERT INTO task_daily_stats (tenant_id, day, created)
+            SELECT * FROM (SELECT tenant_id, DATE(created_at) AS day, COUNT(*) AS n FROM tasks
+                           WHERE created_at >= ? AND created_at < ?
+                           GROUP BY tenant_id, DATE(created_at)) AS c
+            ON DUPLICATE KEY UPDATE created = created + c.n""";
+
+    // Faixa de completed_at pelo índice (completed, completed_at). Conta conclusões: uma tarefa reaberta e
+    // concluída de novo conta outra vez, no dia da nova conclusão
+    private static final String COMPLETED_SQL = """
+            INSERT INTO task_daily_stats (tenant_id, day, completed)
+            SELECT * FROM (SELECT tenant_id, DATE(completed_at) AS day, COUNT(*) AS n FROM tasks
+                           WHERE completed = 1 AND completed_at >= ? AND completed_at < ?
+                           GROUP BY tenant_id, DATE(completed_at)) AS c
+            ON DUPLICATE KEY UPDATE completed = completed + c.n""";
+
+    private static final String ADVANCE_SQL = "UPDATE task_rollup_state SET rolled_up_to = ? WHERE name = 'daily_stats'";
+
+    // Chave primária (tenant_id, day): no máximo uma linha por dia do período, qualquer que seja o tamanho de tasks
+    private static final String DAILY_SQL = """
+            SELECT day, created, completed FROM task_daily_stats
+            WHERE tenant_id = ? AND day BETWEEN ? AND ?
+            ORDER BY day""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public LocalDateTime rollUp(Duration lag) {
+        LocalDateTime[] range = jdbcTemplate.queryForObject(STATE_SQL, (rs, rowNum) -> new LocalDateTime[] {
+                rs.getObject("rolled_up_to", LocalDateTime.class),
+                rs.getObject("up_to", LocalDateTime.class)}, lag.toNanos() / 1000);
+        LocalDateTime from = range[0];
+        LocalDateTime upTo = range[1];
+        if (!upTo.isAfter(from)) {
+            return from;
+        }
+        jdbcTemplate.update(CREATED_SQL, from, upTo);
+        jdbcTemplate.update(COMPLETED_SQL, from, upTo);
+        jdbcTemplate.update(ADVANCE_SQL, upTo);
+        return upTo;
+    }
+
+    @Override
+    public List<DailyTaskStats> findDaily(String tenantId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DAILY_SQL, (rs, rowNum) -> new DailyTaskStats(
+                rs.getObject("day", LocalDate.class),
+                rs.getLong("created"),
+                rs.getLong("completed")), tenantId, from, to);
+    }
+}
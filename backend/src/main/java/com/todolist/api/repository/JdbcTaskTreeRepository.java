@@ -0,0 +1,207 @@
+package com.todolist.api.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskTags;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Consultas nativas com o tenant explícito; participam da transação do TaskTreeService.
+// A subárvore é a raiz mais as linhas de task_closure com ancestor_id = raiz (chave primária)
+@Repository
+@Profile("!embedded")
+public class JdbcTaskTreeRepository implements TaskTreeRepository {
+
+    private static final String SUBTREE =
+            "(SELECT ? AS id, 0 AS depth UNION ALL SELECT descendant_id, depth FROM task_closure WHERE ancestor_id = ?) s";
+
+    private static final String ATTACH_SQL = """
+            INSERT INTO task_closure (ancestor_id, descendant_id, depth, tenant_id)
+            SELECT ancestor_id, ?, depth + 1, tenant_id FROM task_closure WHERE descendant_id = ?
+            UNION ALL SELECT ?, ?, 1, ?""";
+
+    private static final String SUBTREE_SQL =
+            "SELECT t.id, t.tenant_id, t.title, t.description, t.completed, t.completed_at, t.created_at, t.due_at, "
+            + "t.remind_at, t.rank_key, t.parent_id, t.list_id, t.series_id, t.occurrence_date, t.tags "
+            + "FROM " + SUBTREE + " JOIN tasks t ON t.id = s.id "
+            + "WHERE t.tenant_id = ? AND t.deleted_at IS NULL ORDER BY s.depth, t.rank_key, t.id";
+
+    private static final String PROGRESS_SQL =
+            "SELECT COUNT(*) AS total, COALESCE(SUM(t.completed = 1), 0) AS done, "
+            + "COALESCE(SUM(s.depth = 0), 0) AS root, COALESCE(SUM(s.depth = 0 AND t.completed = 1), 0) AS root_done "
+            + "FROM " + SUBTREE + " JOIN tasks t ON t.id = s.id WHERE t.tenant_id = ? AND t.deleted_at IS NULL";
+
+    private static final String VISIBLE_IDS_SQL =
+            "SELECT t.id FROM " + SUBTREE + " JOIN tasks t ON t.id = s.id "
+            + "WHERE t.tenant_id = ? AND t.deleted_at IS NULL ORDER BY s.depth";
+
+    private static final String DELETED_IDS_SQL =
+            "SELECT t.id, t.deleted_at FROM " + SUBTREE + " JOIN tasks t ON t.id = s.id "
+            + "WHERE t.tenant_id = ? AND t.deleted_at IS NOT NULL ORDER BY s.depth";
+
+    // Mesma regra de Task.setCompleted; completed_at precisa vir antes de completed no SET
+    private static final String COMPLETE_SQL =
+            "UPDATE tasks t JOIN " + SUBTREE + " ON s.id = t.id "
+            + "SET t.completed_at = CASE WHEN t.completed THEN t.completed_at ELSE ? END, t.completed = 1 "
+            + "WHERE t.tenant_id = ? AND t.deleted_at IS NULL";
+
+    private static final String DELETE_SQL =
+            "UPDATE tasks t JOIN " + SUBTREE + " ON s.id = t.id SET t.deleted_at = ? "
+            + "WHERE t.tenant_id = ? AND t.deleted_at IS NULL";
+
+    private static final String RESTORE_SQL =
+            "UPDATE tasks t JOIN " + SUBTREE + " ON s.id = t.id SET t.deleted_at = NULL "
+            + "WHERE t.tenant_id = ? AND t.deleted_at = ?";
+
+    // Trava a tarefa e o novo pai em ordem de ID: duas mudanças de pai cruzadas não passam juntas pela checagem de ciclo
+    private static final String LOCK_SQL =
+            "SELECT id FROM tasks WHERE id IN (?, ?) AND tenant_id = ? AND deleted_at IS NULL ORDER BY id FOR UPDATE";
+
+    // Leitura com trava: enxerga o que outra transação acabou de gravar
+    private static final String IS_DESCENDANT_SQL =
+            "SELECT COUNT(*) FROM task_closure WHERE ancestor_id = ? AND descendant_id = ? LOCK IN SHARE MODE";
+
+    // Caminhos que entram na subárvore vindos de fora: ancestrais da tarefa até os descendentes dela...
+    private static final String DETACH_DESCENDANTS_SQL = """
+            DELETE c FROM task_closure c
+            JOIN task_closure d ON d.descendant_id = c.descendant_id AND d.ancestor_id = ?
+            JOIN task_closure a ON a.ancestor_id = c.ancestor_id AND a.descendant_id = ?""";
+
+    // ... e até a própria tarefa
+    private static final String DETACH_ROOT_SQL = "DELETE FROM task_closure WHERE descendant_id = ?";
+
+    // Novo pai e seus ancestrais x tarefa e seus descendentes
+    private static final String LINK_SQL = """
+            INSERT INTO task_closure (ancestor_id, descendant_id, depth, tenant_id)
+            SELECT a.ancestor_id, s.id, a.depth + s.depth + 1, ?
+            FROM (SELECT ancestor_id, depth FROM task_closure WHERE descendant_id = ? UNION ALL SELECT ?, 0) a
+            CROSS JOIN (SELECT descendant_id AS id, depth FROM task_closure WHERE ancestor_id = ? UNION ALL SELECT ?, 0) s""";
+
+    private static final String SET_PARENT_SQL = "UPDATE tasks SET parent_id = ? WHERE id = ?";
+
+    // Também usado pelo JdbcTaskListItemRepository
+    static final RowMapper<Task> TASK_MAPPER = (rs, rowNum) -> {
+        Task task = new Task(rs.getString("title"), rs.getString("description"));
+        task.setId(rs.getLong("id"));
+        task.setTenantId(rs.getString("tenant_id"));
+        task.setCompleted(rs.getBoolean("completed"));
+        task.setCompletedAt(rs.getObject("completed_at", LocalDateTime.class));
+        task.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        task.setDueAt(rs.getObject("due_at", LocalDateTime.class));
+        task.setRemindAt(rs.getObject("remind_at", LocalDateTime.class));
+        task.setRankKey(rs.getString("rank_key"));
+        task.setParentId(rs.getObject("parent_id", Long.class));
+        task.setListId(rs.getObject("list_id", Long.class));
+        task.setSeriesId(rs.getObject("series_id", Long.class));
+        task.setOccurrenceDate(rs.getObject("occurrence_date", LocalDate.class));
+        task.setTags(TaskTags.split(rs.getString("tags")));
+        return task;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskTreeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void attach(String tenantId, Long parentId, Long childId) {
+        jdbcTemplate.update(ATTACH_SQL, childId, parentId, parentId, childId, tenantId);
+    }
+
+    @Override
+    public ReparentResult reparent(String tenantId, Long id, Long parentId) {
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_SQL, Long.class, id, parentId != null ? parentId : id, tenantId);
+        if (!locked.contains(id)) {
+            return ReparentResult.NOT_FOUND;
+        }
+        if (parentId != null) {
+            if (!locked.contains(parentId)) {
+                return ReparentResult.PARENT_NOT_FOUND;
+            }
+            Integer descendant = jdbcTemplate.queryForObject(IS_DESCENDANT_SQL, Integer.class, id, parentId);
+            if (parentId.equals(id) || (descendant != null && descendant > 0)) {
+                return ReparentResult.CYCLE;
+            }
+        }
+        jdbcTemplate.update(DETACH_DESCENDANTS_SQL, id, id);
+        jdbcTemplate.update(DETACH_ROOT_SQL, id);
+        if (parentId != null) {
+            jdbcTemplate.update(LINK_SQL, tenantId, parentId, parentId, id, id);
+        }
+        jdbcTemplate.update(SET_PARENT_SQL, parentId, id);
+        return ReparentResult.MOVED;
+    }
+
+    @Override
+    public List<Task> findSubtree(String tenantId, Long rootId) {
+        List<Task> tasks = jdbcTemplate.query(SUBTREE_SQL, TASK_MAPPER, rootId, rootId, tenantId);
+        return tasks.isEmpty() || !tasks.get(0).getId().equals(rootId) ? List.of() : tasks;
+    }
+
+    @Override
+    public TaskProgressDTO countProgress(String tenantId, Long rootId) {
+        return jdbcTemplate.queryForObject(PROGRESS_SQL, (rs, rowNum) -> rs.getLong("root") == 0 ? null
+                : new TaskProgressDTO(rootId, rs.getLong("root_done") > 0,
+                        rs.getLong("total") - 1, rs.getLong("done") - rs.getLong("root_done")),
+                rootId, rootId, tenantId);
+    }
+
+    @Override
+    public List<Long> completeSubtree(String tenantId, Long rootId, LocalDateTime now) {
+        List<Long> ids = visibleIds(tenantId, rootId);
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(COMPLETE_SQL, rootId, rootId, Timestamp.valueOf(now), tenantId);
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Long> deleteSubtree(String tenantId, Long rootId, LocalDateTime deletedAt) {
+        List<Long> ids = visibleIds(tenantId, rootId);
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(DELETE_SQL, rootId, rootId, Timestamp.valueOf(deletedAt), tenantId);
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Long> restoreSubtree(String tenantId, Long rootId, LocalDateTime notBefore) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(DELETED_IDS_SQL, rootId, rootId, tenantId);
+        if (rows.isEmpty() || !rootId.equals(((Number) rows.get(0).get("id")).longValue())) {
+            return List.of();
+        }
+        LocalDateTime deletedAt = toLocalDateTime(rows.get(0).get("deleted_at"));
+        if (deletedAt.isBefore(notBefore)) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            if (deletedAt.equals(toLocalDateTime(row.get("deleted_at")))) {
+                ids.add(((Number) row.get("id")).longValue());
+            }
+        }
+        jdbcTemplate.update(RESTORE_SQL, rootId, rootId, tenantId, Timestamp.valueOf(deletedAt));
+        return ids;
+    }
+
+    // A raiz vem primeiro (profundidade 0); sem ela, a tarefa não existe ou não está visível
+    private List<Long> visibleIds(String tenantId, Long rootId) {
+        List<Long> ids = jdbcTemplate.queryForList(VISIBLE_IDS_SQL, Long.class, rootId, rootId, tenantId);
+        return ids.isEmpty() || !ids.get(0).equals(rootId) ? List.of() : ids;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
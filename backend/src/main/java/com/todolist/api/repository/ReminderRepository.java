@@ -0,0 +1,17 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.reminder.Reminder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Leitura dos lembretes para o ReminderScheduler: só tarefas pendentes, não excluídas e com remind_at
+public interface ReminderRepository {
+
+    // Lembretes de todos os tenants com remind_at em [from, to), em ordem de remind_at
+    List<Reminder> findBetween(LocalDateTime from, LocalDateTime to, int limit);
+
+    // Lembretes atuais das tarefas informadas, no shard para o qual as conexões estão roteadas
+    List<Reminder> findByTaskIds(Collection<Long> taskIds);
+}
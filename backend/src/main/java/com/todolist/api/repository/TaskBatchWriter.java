@@ -0,0 +1,12 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.model.Task;
+
+import java.util.List;
+
+// Gravação de um lote de tarefas novas em uma única transação (importação em massa, lote de operações)
+public interface TaskBatchWriter {
+
+    // Os IDs gerados são preenchidos nas próprias tarefas, na ordem do lote
+    void insertAll(String tenantId, List<Task> tasks);
+}
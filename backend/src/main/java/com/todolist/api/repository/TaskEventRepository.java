@@ -0,0 +1,15 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.eventlog.TaskEvent;
+
+import java.util.List;
+
+// Histórico append-only das alterações em tarefas, gravado pelo TaskEventLog
+public interface TaskEventRepository {
+
+    // Grava um lote de eventos de quaisquer tenants, cada um no shard do seu tenant
+    void append(List<TaskEvent> events);
+
+    // Os limit eventos mais recentes da tarefa, do mais recente para o mais antigo
+    List<TaskEvent> findByTask(String tenantId, long taskId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.index.IndexedTask;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Leitura das tarefas para os índices em memória (TaskIndexMaintainer): só tarefas não excluídas, de todos os tenants
+public interface TaskIndexRepository {
+
+    // Percorre todas as tarefas de todos os shards, sem carregar a tabela inteira em memória
+    void forEachTask(Consumer<IndexedTask> action);
+
+    // Estado atual das tarefas informadas, no shard para o qual as conexões estão roteadas; ausentes = excluídas
+    List<IndexedTask> findByIds(Collection<Long> taskIds);
+}
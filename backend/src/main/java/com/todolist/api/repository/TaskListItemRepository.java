@@ -0,0 +1,18 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.model.Task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Tarefas das listas (tasks.list_id), com o tenant explícito. As tarefas de uma página inteira de listas vêm
+// de uma única consulta, qualquer que seja o número de listas na página
+public interface TaskListItemRepository {
+
+    // Até perList tarefas visíveis de cada lista, na ordem manual; listas sem tarefas ficam fora do mapa
+    Map<Long, List<Task>> findTasks(String tenantId, Collection<Long> listIds, int perList);
+
+    // Tira da lista todas as tarefas dela (inclusive as excluídas) e devolve os IDs das visíveis
+    List<Long> detachAll(String tenantId, Long listId);
+}
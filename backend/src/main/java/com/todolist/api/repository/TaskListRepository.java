@@ -0,0 +1,18 @@
+package com.todolist.api.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.TaskList;
+
+import java.util.List;
+
+@Repository
+public interface TaskListRepository extends JpaRepository<TaskList, Long> {
+
+    // Uma página de listas já com as contagens, pelo índice (tenant_id, id); sem a consulta de total do Page
+    @Query("SELECT l FROM TaskList l ORDER BY l.id")
+    List<TaskList> findPage(Pageable pageable);
+}
@@ -0,0 +1,21 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.model.Task;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Ocorrências materializadas das séries (tasks.series_id + occurrence_date), com o tenant explícito.
+// As buscas trazem também as excluídas: uma ocorrência excluída é uma ocorrência pulada
+public interface TaskOccurrenceRepository {
+
+    // Ocorrências das séries entre from e to (inclusive), em uma consulta para todas as séries
+    List<Task> findBetween(String tenantId, Collection<Long> seriesIds, LocalDate from, LocalDate to);
+
+    Optional<Task> find(String tenantId, Long seriesId, LocalDate date);
+
+    // Desliga da série todas as ocorrências dela (viram tarefas avulsas) e devolve os IDs das visíveis
+    List<Long> detachAll(String tenantId, Long seriesId);
+}
@@ -0,0 +1,30 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.webhook.OutboxEntry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Outbox dos webhooks; as leituras e escritas do WebhookDispatcher valem para o shard fixado pelo chamador
+public interface TaskOutboxRepository {
+
+    // Uma linha por alteração e por endpoint, na transação do chamador
+    void append(Collection<String> endpoints, List<TaskChangedEvent> changes);
+
+    // Reserva por lease até limit linhas vencidas, em ordem de id. Uma tarefa só é reservada a partir da sua
+    // primeira linha no outbox, e as seguintes vão junto até a primeira em espera de retry; enquanto uma réplica
+    // tem linhas de uma tarefa reservadas, nenhuma outra reserva linhas dela. Linhas de skippedTenants (em
+    // migração) ficam para depois. Precisa de transação
+    List<OutboxEntry> claim(int limit, Duration lease, Collection<String> skippedTenants);
+
+    void delete(Collection<Long> ids);
+
+    // Conta uma tentativa e agenda a próxima para daqui a backoff, por id
+    void retryLater(Map<Long, Duration> backoff);
+
+    // Devolve as linhas reservadas e não tentadas, sem contar tentativa
+    void release(Collection<Long> ids);
+}
@@ -0,0 +1,13 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.dto.TaskPatchDTO;
+
+import java.time.LocalDateTime;
+
+// Atualização parcial de uma tarefa: só as colunas presentes no patch, sem SELECT prévio
+public interface TaskPatchWriter {
+
+    // Retorna 0 quando a tarefa não existe, foi excluída ou é de outro tenant.
+    // now é usado como completed_at quando a tarefa passa de pendente para concluída
+    int patch(String tenantId, Long id, TaskPatchDTO patch, LocalDateTime now);
+}
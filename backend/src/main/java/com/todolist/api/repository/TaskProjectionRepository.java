@@ -0,0 +1,19 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.dto.TaskField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Leituras com só os campos pedidos (?fields=): o SELECT traz só essas colunas e cada linha vira direto o objeto
+// da resposta (nome do campo no JSON -> valor), sem entidade gerenciada nem cópia para o dirty checking
+public interface TaskProjectionRepository {
+
+    // Tarefas visíveis do tenant, na ordem manual
+    List<Map<String, Object>> findAll(String tenantId, Set<TaskField> fields);
+
+    // Procura também em tasks_archive, como TaskService.getTaskById
+    Optional<Map<String, Object>> findById(String tenantId, Long id, Set<TaskField> fields);
+}
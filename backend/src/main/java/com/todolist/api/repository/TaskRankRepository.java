@@ -0,0 +1,25 @@
+package com.todolist.api.repository;
+
+import java.util.Optional;
+
+// Chaves de posição (rank_key) da ordem manual. Todas as consultas usam o índice (tenant_id, rank_key)
+public interface TaskRankRepository {
+
+    // Maior chave do tenant, incluindo tarefas excluídas (ao restaurar, voltam para a posição antiga); nulo sem chaves
+    String findLastKey(String tenantId);
+
+    // Chave de uma tarefa visível do tenant; vazio quando a tarefa não existe. Tarefas sem chave devolvem ""
+    Optional<String> findKey(String tenantId, Long id);
+
+    // Menor chave maior que key, ignorando a tarefa excludeId; nulo quando key é a última
+    String findNextKey(String tenantId, String key, Long excludeId);
+
+    // Maior chave menor que key, ignorando a tarefa excludeId; nulo quando key é a primeira
+    String findPreviousKey(String tenantId, String key, Long excludeId);
+
+    // Grava a chave de uma única tarefa; 0 quando a tarefa não existe, foi excluída ou é de outro tenant
+    int updateKey(String tenantId, Long id, String key);
+
+    // Regrava as chaves de todas as tarefas do tenant, na ordem atual, com RankKeys.evenlySpaced; devolve quantas
+    int rebalance(String tenantId);
+}
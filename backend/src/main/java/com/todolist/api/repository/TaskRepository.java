@@ -1,10 +1,43 @@
 package com.todolist.api.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.todolist.api.model.Task;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long>{
+
+    // Ordem manual (rank_key), lida pelo índice (tenant_id, rank_key); o id desempata chaves iguais
+    @Query("SELECT t FROM Task t ORDER BY t.rankKey, t.id")
+    List<Task> findAllOrdered();
+
+    // Exclusão lógica: um único UPDATE, sem SELECT prévio.
+    // Consultas nativas não recebem o filtro de tenant do Hibernate, por isso o tenant é explícito
+    @Modifying
+    @Query(value = "UPDATE tasks SET deleted_at = :deletedAt WHERE id = :id AND tenant_id = :tenantId AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteById(@Param("id") Long id, @Param("tenantId") String tenantId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Desfaz a exclusão enquanto a tarefa ainda estiver dentro da janela de retenção
+    @Modifying
+    @Query(value = "UPDATE tasks SET deleted_at = NULL WHERE id = :id AND tenant_id = :tenantId AND deleted_at >= :notBefore", nativeQuery = true)
+    int restoreById(@Param("id") Long id, @Param("tenantId") String tenantId, @Param("notBefore") LocalDateTime notBefore);
+
+    // Remoção física de um lote de tarefas excluídas antes de cutoff. Ocorrências de séries ficam: a linha excluída
+    // é o que esconde a ocorrência pulada, e sem ela a expansão da regra a mostraria de novo. Tenants em migração
+    // ficam de fora (ShardRouter.tenantsToSkip)
+    @Modifying
+    @Query(value = """
+            DELETE FROM tasks
+            WHERE deleted_at < :cutoff AND series_id IS NULL AND tenant_id NOT IN (:skippedTenants)
+            ORDER BY deleted_at LIMIT :limit""", nativeQuery = true)
+    int purgeDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit,
+            @Param("skippedTenants") Collection<String> skippedTenants);
 }
@@ -0,0 +1,31 @@
+package com.todolist.api.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.TaskSeries;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskSeriesRepository extends JpaRepository<TaskSeries, Long> {
+
+    @Query("SELECT s FROM TaskSeries s ORDER BY s.id")
+    List<TaskSeries> findPage(Pageable pageable);
+
+    // Séries com alguma data possível no período, pelo índice (tenant_id, start_date)
+    @Query("SELECT s FROM TaskSeries s WHERE s.startDate <= :to AND (s.endDate IS NULL OR s.endDate >= :from) ORDER BY s.id")
+    List<TaskSeries> findActiveBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // SELECT ... FOR UPDATE: duas materializações simultâneas da mesma ocorrência passam uma de cada vez
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskSeries s WHERE s.id = :id")
+    Optional<TaskSeries> findByIdForUpdate(@Param("id") Long id);
+}
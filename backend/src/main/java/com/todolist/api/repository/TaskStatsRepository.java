@@ -0,0 +1,19 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.model.DailyTaskStats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Contagens diárias de tarefas criadas e concluídas, somadas aos poucos pelo TaskStatsRollup
+public interface TaskStatsRepository {
+
+    // Soma as tarefas criadas e concluídas desde a última soma até lag atrás, no shard atual, e devolve
+    // até onde somou. Precisa de transação
+    LocalDateTime rollUp(Duration lag);
+
+    // Dias do tenant com alguma contagem entre from e to (inclusive), em ordem
+    List<DailyTaskStats> findDaily(String tenantId, LocalDate from, LocalDate to);
+}
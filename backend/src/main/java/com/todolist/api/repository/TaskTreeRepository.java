@@ -0,0 +1,40 @@
+package com.todolist.api.repository;
+
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Hierarquia de tarefas (parent_id + task_closure). As operações em subárvore usam sempre o mesmo número
+// de comandos, qualquer que seja a profundidade: um JOIN com a tabela de fechamento em vez de uma busca por nível
+public interface TaskTreeRepository {
+
+    enum ReparentResult {
+        MOVED,
+        NOT_FOUND,
+        PARENT_NOT_FOUND,
+        CYCLE
+    }
+
+    // Caminhos de uma tarefa recém-criada: do pai e de cada ancestral do pai até ela
+    void attach(String tenantId, Long parentId, Long childId);
+
+    // Move a tarefa, com a subárvore dela, para debaixo de parentId (nulo = nível superior)
+    ReparentResult reparent(String tenantId, Long id, Long parentId);
+
+    // Raiz e descendentes visíveis, por profundidade e ordem manual; vazio quando a raiz não existe
+    List<Task> findSubtree(String tenantId, Long rootId);
+
+    // Nulo quando a raiz não existe
+    TaskProgressDTO countProgress(String tenantId, Long rootId);
+
+    // As operações abaixo devolvem os IDs alterados, com a raiz primeiro; vazio quando a raiz não existe
+
+    List<Long> completeSubtree(String tenantId, Long rootId, LocalDateTime now);
+
+    List<Long> deleteSubtree(String tenantId, Long rootId, LocalDateTime deletedAt);
+
+    // Restaura a raiz e os descendentes excluídos junto com ela (mesmo deleted_at), se a raiz estiver na retenção
+    List<Long> restoreSubtree(String tenantId, Long rootId, LocalDateTime notBefore);
+}
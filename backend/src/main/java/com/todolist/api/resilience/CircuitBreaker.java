@@ -0,0 +1,166 @@
+package com.todolist.api.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Disjuntor de um shard, sobre as últimas windowSize chamadas (janela circular de resultados).
+ *
+ * Fechado, tudo passa; abre quando a fração de falhas ou de chamadas lentas passa do limite. Aberto, as chamadas
+ * são recusadas sem tocar no banco por openDuration. Depois disso fica semiaberto: deixa passar halfOpenCalls
+ * chamadas de teste e fecha se todas derem certo, ou abre de novo na primeira falha ou lentidão.
+ *
+ * acquire() devolve a geração do estado em que a chamada entrou; resultados de uma geração anterior (chamadas
+ * que começaram antes de o estado mudar) são ignorados, para uma resposta atrasada não fechar o disjuntor.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public static final long REJECTED = -1;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte SLOW = 1;
+    private static final byte FAILURE = 2;
+
+    private final String name;
+    private final byte[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    // Protegidos pelo monitor do objeto: as seções críticas são poucas operações em inteiros
+    private State state = State.CLOSED;
+    private long generation;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slow;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, CircuitBreakerProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerProperties properties, LongSupplier nanoTime) {
+        this.name = name;
+        this.window = new byte[Math.max(1, properties.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), window.length));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.slowCallNanos = properties.getSlowCallDuration().toNanos();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, properties.getHalfOpenCalls());
+        this.nanoTime = nanoTime;
+    }
+
+    // Geração para passar a record, ou REJECTED se a chamada não deve ir ao banco
+    public synchronized long acquire() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < openNanos) {
+                return REJECTED;
+            }
+            transition(State.HALF_OPEN);
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenCalls) {
+                return REJECTED;
+            }
+            probesStarted++;
+        }
+        return generation;
+    }
+
+    // failed: só falhas de disponibilidade (veja DatabaseFailures); erros de negócio contam como resposta do banco
+    public synchronized void record(long permit, long elapsedNanos, boolean failed) {
+        if (permit != generation) {
+            return;
+        }
+        byte outcome = failed ? FAILURE : elapsedNanos >= slowCallNanos ? SLOW : SUCCESS;
+        if (state == State.HALF_OPEN) {
+            if (outcome != SUCCESS) {
+                open();
+            } else if (++probesSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        add(outcome);
+        if (recorded >= minimumCalls
+                && (failures * 100 >= failureRateThreshold * recorded || slow * 100 >= slowCallRateThreshold * recorded)) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    // Quanto falta para as chamadas de teste; zero fora do estado aberto
+    public synchronized Duration retryAfter() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (nanoTime.getAsLong() - openedAt)));
+    }
+
+    private void add(byte outcome) {
+        if (recorded == window.length) {
+            remove(window[next]);
+        } else {
+            recorded++;
+        }
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slow++;
+        }
+    }
+
+    private void remove(byte outcome) {
+        if (outcome == FAILURE) {
+            failures--;
+        } else if (outcome == SLOW) {
+            slow--;
+        }
+    }
+
+    private void open() {
+        openedAt = nanoTime.getAsLong();
+        transition(State.OPEN);
+    }
+
+    // Cada mudança começa uma geração nova e uma janela vazia
+    private void transition(State target) {
+        if (target == State.CLOSED) {
+            logger.info("Disjuntor do {} fechado: banco respondendo de novo", name);
+        } else if (state != target) {
+            logger.warn("Disjuntor do {}: {} -> {}", name, state, target);
+        }
+        state = target;
+        generation++;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slow = 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.todolist.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+import com.todolist.api.service.TaskBatchService;
+import com.todolist.api.service.TaskImportService;
+import com.todolist.api.sharding.ShardRouter;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.Set;
+
+/**
+ * Um disjuntor por shard em volta dos métodos públicos dos serviços da requisição (os *Service do pacote service:
+ * tarefas, lotes, importação, listas, busca, séries, histórico...). Os jobs agendados ficam de fora, inclusive os
+ * métodos @Scheduled desses serviços: não têm tenant na thread, então contariam contra o shard do tenant padrão e
+ * poderiam cortar as requisições dele, e não têm a quem responder 503. Roda por fora do @Transactional, então
+ * a espera por conexão no pool e o commit entram na medição: com o banco fora do ar, as primeiras chamadas
+ * esperam o connection-timeout do Hikari e as seguintes são recusadas na hora com DatabaseUnavailableException.
+ * As leituras recusadas são respondidas pelo StaleTaskReads; as escritas recebem 503.
+ */
+@Aspect
+@Component
+@Profile("!embedded")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class DatabaseCircuitBreaker {
+
+    // Duram proporcionalmente à entrada: só as falhas contam, não a lentidão
+    private static final Set<Class<?>> UNTIMED_SERVICES = Set.of(TaskImportService.class, TaskBatchService.class);
+
+    // Só a chamada mais externa passa pelo disjuntor: um serviço que chama outro não gasta duas chamadas de teste
+    private static final ThreadLocal<Boolean> GUARDED = new ThreadLocal<>();
+
+    private final CircuitBreaker[] breakers;
+    private final Counter[] rejected;
+    private final CircuitBreakerProperties properties;
+    private final ShardRouter shardRouter;
+
+    public DatabaseCircuitBreaker(CircuitBreakerProperties properties, ShardRouter shardRouter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        int shards = shardRouter.getShardCount();
+        this.breakers = new CircuitBreaker[shards];
+        this.rejected = new Counter[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            CircuitBreaker breaker = new CircuitBreaker("shard " + shard, properties);
+            breakers[shard] = breaker;
+            Gauge.builder("todolist.circuit-breaker.state", breaker, b -> b.state().ordinal())
+                    .description("Estado do disjuntor do banco: 0 fechado, 1 aberto, 2 semiaberto")
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+            rejected[shard] = Counter.builder("todolist.circuit-breaker.rejected")
+                    .description("Chamadas recusadas sem ir ao banco")
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Around("execution(public * com.todolist.api.service.*Service.*(..))"
+            + " && !@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled() || GUARDED.get() != null) {
+            return joinPoint.proceed();
+        }
+        int shard = shardRouter.shardFor(TenantContext.current());
+        CircuitBreaker breaker = breakers[shard];
+        long permit = breaker.acquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            rejected[shard].increment();
+            throw new DatabaseUnavailableException(shard, breaker.retryAfter());
+        }
+        boolean timed = !UNTIMED_SERVICES.contains(joinPoint.getSignature().getDeclaringType());
+        long start = System.nanoTime();
+        boolean failed = false;
+        GUARDED.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failed = DatabaseFailures.isUnavailable(e);
+            throw e;
+        } finally {
+            GUARDED.remove();
+            breaker.record(permit, timed ? System.nanoTime() - start : 0, failed);
+        }
+    }
+}
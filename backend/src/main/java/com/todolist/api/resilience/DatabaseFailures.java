@@ -0,0 +1,38 @@
+package com.todolist.api.resilience;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Separa as falhas de disponibilidade do banco (sem conexão, timeout do pool ou da consulta) dos demais erros.
+ * Só as primeiras contam para o disjuntor e permitem responder com a cópia antiga; uma violação de chave ou um
+ * 404 mostram que o banco está respondendo.
+ */
+public final class DatabaseFailures {
+
+    private DatabaseFailures() {
+    }
+
+    public static boolean isUnavailable(Throwable error) {
+        // A causa é percorrida porque o Hibernate e o Spring embrulham a SQLException em camadas diferentes
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseUnavailableException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
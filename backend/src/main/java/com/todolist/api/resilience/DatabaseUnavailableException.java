@@ -0,0 +1,23 @@
+package com.todolist.api.resilience;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+
+/**
+ * Chamada recusada pelo disjuntor sem tocar no banco. retryAfter é quanto falta para as chamadas de teste.
+ * Para quem chama é a mesma falha transitória que o banco daria, só que imediata.
+ */
+public class DatabaseUnavailableException extends TransientDataAccessResourceException {
+
+    private final Duration retryAfter;
+
+    public DatabaseUnavailableException(int shard, Duration retryAfter) {
+        super("Banco do shard " + shard + " indisponível");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,78 @@
+package com.todolist.api.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Última resposta boa de GET /api/tasks e /{id}, por tenant. Diferente do near cache, as entradas não expiram
+ * nem são invalidadas pelas escritas: só servem quando o banco está fora do ar (disjuntor aberto, sem conexão ou
+ * timeout), e aí a resposta vai marcada como antiga com a idade da cópia. Tarefas não encontradas não são
+ * guardadas, e a cópia de uma tarefa é descartada quando ela deixa de ser encontrada.
+ */
+@Component
+public class StaleTaskReads {
+
+    public record Result<T>(T value, Duration age) {
+
+        public boolean stale() {
+            return age != null;
+        }
+    }
+
+    private record Key(String tenant, Long taskId) {
+    }
+
+    private record Copy(Object value, long storedAt) {
+    }
+
+    private final Cache<Key, Copy> copies;
+    private final Counter served;
+
+    public StaleTaskReads(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.copies = Caffeine.newBuilder().maximumSize(properties.getStaleMaxSize()).build();
+        this.served = Counter.builder("todolist.reads.stale")
+                .description("Leituras respondidas com a última cópia boa por falta do banco")
+                .register(meterRegistry);
+    }
+
+    public Result<List<TaskDTO>> list(Supplier<List<TaskDTO>> query) {
+        return read(new Key(TenantContext.current(), null), query);
+    }
+
+    public Result<Optional<TaskDTO>> byId(Long id, Supplier<Optional<TaskDTO>> query) {
+        return read(new Key(TenantContext.current(), id), query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> read(Key key, Supplier<T> query) {
+        T value;
+        try {
+            value = query.get();
+        } catch (RuntimeException e) {
+            Copy copy = DatabaseFailures.isUnavailable(e) ? copies.getIfPresent(key) : null;
+            if (copy == null) {
+                throw e;
+            }
+            served.increment();
+            return new Result<>((T) copy.value(), Duration.ofNanos(System.nanoTime() - copy.storedAt()));
+        }
+        if (value instanceof Optional<?> optional && optional.isEmpty()) {
+            copies.invalidate(key);
+        } else {
+            copies.put(key, new Copy(value, System.nanoTime()));
+        }
+        return new Result<>(value, null);
+    }
+}
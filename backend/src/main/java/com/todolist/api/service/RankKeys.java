@@ -0,0 +1,141 @@
+package com.todolist.api.service;
+
+import java.math.BigInteger;
+
+/**
+ * Chaves de posição fracionárias para a ordem manual das tarefas.
+ *
+ * Uma chave é a parte fracionária de um número em base 62 (dígitos 0-9, A-Z, a-z, em ordem ASCII),
+ * então a ordem numérica é a ordem lexicográfica por byte, a mesma do índice em rank_key (ascii_bin).
+ * Nenhuma chave termina no dígito 0; assim entre duas chaves diferentes sempre existe outra, e mover
+ * uma tarefa é gravar só a chave dela. Inserções repetidas no mesmo ponto alongam a chave em cerca de
+ * um dígito a cada cinco ou seis; quando passa do limite, o TaskOrderingService redistribui as chaves do tenant.
+ */
+public final class RankKeys {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final int BASE = DIGITS.length();
+    private static final char MIDDLE = DIGITS.charAt(BASE / 2);
+
+    // Primeira chave de um tenant: os zeros à esquerda deixam espaço para ~62^4 inclusões no fim sem alongar a chave
+    public static final String FIRST = "0000" + MIDDLE;
+
+    private RankKeys() {
+    }
+
+    /**
+     * Chave entre lower e upper (exclusivos). lower nulo = início da lista; upper nulo = fim.
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Chaves fora de ordem: " + lower + " >= " + upper);
+        }
+        if (upper == null) {
+            return lower == null ? FIRST : after(lower);
+        }
+        return midpoint(lower == null ? "" : lower, upper);
+    }
+
+    /**
+     * Chave logo depois de key, do mesmo tamanho: soma um como um contador, e os dígitos que dão a volta
+     * viram 1 em vez de 0 (nenhuma chave termina em 0). Incluir tarefas no fim da lista, o caso mais comum,
+     * não alonga a chave até todos os dígitos chegarem ao maior.
+     */
+    public static String after(String key) {
+        int i = key.length() - 1;
+        while (i >= 0 && key.charAt(i) == DIGITS.charAt(BASE - 1)) {
+            i--;
+        }
+        if (i < 0) {
+            return key + MIDDLE;
+        }
+        return key.substring(0, i) + DIGITS.charAt(digit(key.charAt(i)) + 1)
+                + String.valueOf(DIGITS.charAt(1)).repeat(key.length() - 1 - i);
+    }
+
+    /**
+     * count chaves igualmente espaçadas, do mesmo tamanho, com folga de ~62 posições entre vizinhas.
+     */
+    public static String[] evenlySpaced(int count) {
+        return evenlySpaced(null, null, count);
+    }
+
+    /**
+     * count chaves igualmente espaçadas entre lower e upper (exclusivos; nulos como em between), do mesmo tamanho
+     * e com folga de ~62 posições entre vizinhas. As chaves têm só os dígitos que o intervalo exige: quanto mais
+     * largo ele for, mais curtas elas ficam.
+     */
+    public static String[] evenlySpaced(String lower, String upper, int count) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Chaves fora de ordem: " + lower + " >= " + upper);
+        }
+        BigInteger base = BigInteger.valueOf(BASE);
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        int width = 0;
+        BigInteger low;
+        BigInteger step;
+        do {
+            width++;
+            // Com width dígitos: lower arredondada para cima e upper para baixo, então as chaves ficam entre as duas
+            low = lower == null ? BigInteger.ZERO : valueOf(lower, width, lower.length() > width);
+            BigInteger high = upper == null ? base.pow(width) : valueOf(upper, width, false);
+            step = high.subtract(low).divide(slots);
+        } while (step.compareTo(base) < 0);
+        String[] keys = new String[count];
+        char[] digits = new char[width];
+        for (int i = 0; i < count; i++) {
+            BigInteger value = low.add(step.multiply(BigInteger.valueOf(i + 1L)));
+            for (int d = width - 1; d >= 0; d--) {
+                BigInteger[] division = value.divideAndRemainder(base);
+                digits[d] = DIGITS.charAt(division[1].intValue());
+                value = division[0];
+            }
+            // O dígito do meio no fim garante que a chave não termina em 0
+            keys[i] = new String(digits) + MIDDLE;
+        }
+        return keys;
+    }
+
+    // Os primeiros width dígitos de key (completados com zeros) como inteiro, mais um se roundUp
+    private static BigInteger valueOf(String key, int width, boolean roundUp) {
+        BigInteger base = BigInteger.valueOf(BASE);
+        BigInteger value = BigInteger.ZERO;
+        for (int i = 0; i < width; i++) {
+            value = value.multiply(base).add(BigInteger.valueOf(i < key.length() ? digit(key.charAt(i)) : 0));
+        }
+        return roundUp ? value.add(BigInteger.ONE) : value;
+    }
+
+    // Ponto médio entre a ("" = 0) e b (nulo = 1), dígito a dígito
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Prefixo comum (a completado com zeros) entra inteiro no resultado
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : DIGITS.charAt(0)) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : digit(a.charAt(0));
+        int digitB = b == null ? BASE : digit(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+        // Dígitos vizinhos: o primeiro dígito de b, se b continuar depois dele, já fica entre os dois
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Caractere inválido em chave de posição: " + c);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,98 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskAnalyticsDTO;
+import com.todolist.api.dto.TaskStatsBucketDTO;
+import com.todolist.api.model.DailyTaskStats;
+import com.todolist.api.repository.TaskStatsRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tarefas criadas e concluídas por dia ou por semana, lidas de task_daily_stats: no máximo uma linha por dia
+ * do período, qualquer que seja o número de tarefas. As contagens vêm do TaskStatsRollup, então os últimos
+ * minutos (rollup-interval + lag) ainda não aparecem.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskAnalyticsService {
+
+    // Dois anos de dias cabem com folga em uma resposta
+    public static final int MAX_DAYS = 731;
+
+    public enum Granularity {
+        DAY, WEEK
+    }
+
+    private final TaskStatsRepository taskStatsRepository;
+    private final Clock clock;
+
+    @Autowired
+    public TaskAnalyticsService(TaskStatsRepository taskStatsRepository) {
+        this(taskStatsRepository, Clock.systemDefaultZone());
+    }
+
+    TaskAnalyticsService(TaskStatsRepository taskStatsRepository, Clock clock) {
+        this.taskStatsRepository = taskStatsRepository;
+        this.clock = clock;
+    }
+
+    // Sem to, até hoje; sem from, o último ano. Na granularidade semanal, from recua até a segunda-feira
+    public TaskAnalyticsDTO getStats(String granularity, LocalDate from, LocalDate to) {
+        Granularity unit = parse(granularity);
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        if (unit == Granularity.WEEK) {
+            start = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from deve ser anterior ou igual a to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O período deve ter no máximo " + MAX_DAYS + " dias");
+        }
+
+        // Todos os períodos, inclusive os sem movimento, para a série não ter buracos
+        Map<LocalDate, long[]> buckets = new LinkedHashMap<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(unit == Granularity.WEEK ? 7 : 1)) {
+            buckets.put(day, new long[2]);
+        }
+        for (DailyTaskStats stats : taskStatsRepository.findDaily(TenantContext.current(), start, end)) {
+            LocalDate key = unit == Granularity.WEEK
+                    ? stats.day().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : stats.day();
+            long[] counts = buckets.get(key);
+            if (counts != null) {
+                counts[0] += stats.created();
+                counts[1] += stats.completed();
+            }
+        }
+
+        List<TaskStatsBucketDTO> series = new ArrayList<>(buckets.size());
+        buckets.forEach((day, counts) -> series.add(new TaskStatsBucketDTO(day, counts[0], counts[1])));
+        return new TaskAnalyticsDTO(unit.name().toLowerCase(Locale.ROOT), start, end, series);
+    }
+
+    private static Granularity parse(String granularity) {
+        try {
+            return Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "granularity deve ser day ou week");
+        }
+    }
+}
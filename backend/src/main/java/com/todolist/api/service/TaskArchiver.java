@@ -0,0 +1,100 @@
+package com.todolist.api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.config.ArchiveProperties;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.repository.ArchivedTaskRepository;
+import com.todolist.api.repository.ArchivedTaskRepository.ArchivableTask;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Profile("!embedded")
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskArchiver(ArchivedTaskRepository archivedTaskRepository, TransactionTemplate transactionTemplate,
+            ArchiveProperties properties, ShardRouter shardRouter, ApplicationEventPublisher eventPublisher) {
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.archive.interval:PT1H}", initialDelayString = "${todolist.archive.initial-delay:PT5M}")
+    public void archiveOldCompletedTasks() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getMinAge());
+        shardRouter.forEachShard(shard -> archiveShard(shard, cutoff));
+    }
+
+    // Cada shard é processado com seu próprio limite por execução
+    void archiveShard(int shard, LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveBatch(cutoff);
+            total += moved;
+        } while (moved == properties.getBatchSize() && total < properties.getMaxPerRun() && pause());
+
+        if (total > 0) {
+            logger.info("Arquivadas {} tarefas concluídas antes de {} no shard {}", total, cutoff, shard);
+        }
+    }
+
+    // Move um lote em uma única transação curta: copia para tasks_archive e remove de tasks.
+    // As tarefas arquivadas saem das contagens das suas listas (recontadas pelo TaskListCounter após o commit) e
+    // publicam TaskChangedEvent ARCHIVED, como uma exclusão: cache, task_changes, outbox e histórico as veem sair
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<ArchivableTask> tasks = archivedTaskRepository.lockArchivableTasks(cutoff, properties.getBatchSize(),
+                    shardRouter.tenantsToSkip());
+            if (tasks.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = tasks.stream().map(ArchivableTask::getId).toList();
+            List<Long> listIds = archivedTaskRepository.findListIds(ids);
+            archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+            if (!listIds.isEmpty()) {
+                eventPublisher.publishEvent(new TaskListsChangedEvent(listIds));
+            }
+            int deleted = archivedTaskRepository.deleteFromTasks(ids);
+            for (ArchivableTask task : tasks) {
+                eventPublisher.publishEvent(new TaskChangedEvent(task.getTenantId(), task.getId(), ChangeType.ARCHIVED));
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
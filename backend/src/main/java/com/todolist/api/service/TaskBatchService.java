@@ -0,0 +1,231 @@
+package com.todolist.api.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.todolist.api.dto.OperationResultDTO;
+import com.todolist.api.dto.TaskBatchResultDTO;
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskOperationDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskBatchWriter;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lote de operações de POST /api/tasks/ops (sincronização do app mobile depois de um período offline).
+ *
+ * O lote inteiro roda em uma transação, com um número fixo de comandos SQL:
+ * 1. todas as operações são validadas antes; se alguma for inválida, nada é gravado;
+ * 2. as tarefas existentes citadas no lote são lidas com um único SELECT;
+ * 3. as operações são aplicadas em memória, na ordem; várias operações na mesma tarefa viram uma gravação só;
+ * 4. as tarefas criadas vão para um INSERT em lote (já com o estado final) e as alteradas para UPDATEs em lote.
+ */
+@Service
+public class TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final TaskBatchWriter taskBatchWriter;
+    private final TaskOrderingService taskOrderingService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskBatchWriter taskBatchWriter, TaskOrderingService taskOrderingService,
+            TaskMapper taskMapper, Validator validator, ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.taskBatchWriter = taskBatchWriter;
+        this.taskOrderingService = taskOrderingService;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public TaskBatchResultDTO apply(List<TaskOperationDTO> operations) {
+        TaskBatchResultDTO result = new TaskBatchResultDTO();
+        if (!validate(operations, result)) {
+            return result;
+        }
+        String tenant = TenantContext.current();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, Task> existing = loadExisting(operations);
+        List<Task> inserts = new ArrayList<>();
+        Map<String, Task> created = new LinkedHashMap<>();
+        Map<Task, ChangeType> changed = new IdentityHashMap<>();
+        // Colunas editadas por UPDATE e TOGGLE, para o TaskChangedEvent
+        Map<Task, Set<String>> columns = new IdentityHashMap<>();
+        // Resultados de tarefas criadas no lote, completados quando o INSERT devolver os IDs
+        Map<Task, List<OperationResultDTO>> pendingIds = new IdentityHashMap<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            TaskOperationDTO operation = operations.get(i);
+            OperationResultDTO opResult = result.getResults().get(i);
+            Task task;
+            if (operation.getOp() == TaskOperationDTO.Type.CREATE) {
+                task = taskMapper.convertToEntity(operation.getTask());
+                inserts.add(task);
+                if (operation.getTempId() != null) {
+                    created.put(operation.getTempId(), task);
+                }
+                changed.put(task, ChangeType.CREATED);
+                opResult.setStatus(HttpStatus.CREATED.value());
+            } else {
+                task = operation.getId() != null ? existing.get(operation.getId()) : created.get(operation.getTempId());
+                if (task == null || task.getDeletedAt() != null) {
+                    opResult.setId(operation.getId());
+                    opResult.setStatus(HttpStatus.NOT_FOUND.value());
+                    opResult.setError("Tarefa não encontrada");
+                    continue;
+                }
+                applyToTask(operation, task, now);
+                switch (operation.getOp()) {
+                    case UPDATE -> columns.computeIfAbsent(task, t -> new HashSet<>()).addAll(TaskChangedEvent.EDITABLE_COLUMNS);
+                    case TOGGLE -> columns.computeIfAbsent(task, t -> new HashSet<>()).add("completed");
+                    default -> {
+                    }
+                }
+                changed.putIfAbsent(task, operation.getOp() == TaskOperationDTO.Type.DELETE ? ChangeType.DELETED : ChangeType.UPDATED);
+                opResult.setStatus(operation.getOp() == TaskOperationDTO.Type.DELETE
+                        ? HttpStatus.NO_CONTENT.value() : HttpStatus.OK.value());
+            }
+            if (operation.getOp() != TaskOperationDTO.Type.DELETE) {
+                opResult.setTask(taskMapper.convertToDTO(task));
+            }
+            opResult.setId(task.getId());
+            if (task.getId() == null) {
+                pendingIds.computeIfAbsent(task, t -> new ArrayList<>()).add(opResult);
+            }
+        }
+
+        // Tarefas criadas entram no fim da lista, na ordem das operações
+        taskOrderingService.appendToEnd(tenant, inserts);
+        taskBatchWriter.insertAll(tenant, inserts);
+        created.forEach((tempId, task) -> result.getIdMap().put(tempId, task.getId()));
+        pendingIds.forEach((task, results) -> results.forEach(opResult -> {
+            opResult.setId(task.getId());
+            if (opResult.getTask() != null) {
+                opResult.getTask().setId(task.getId());
+            }
+        }));
+
+        List<Task> updates = existing.values().stream()
+                .filter(changed::containsKey)
+                .toList();
+        taskRepository.saveAll(updates);
+
+        changed.forEach((task, type) -> {
+            eventPublisher.publishEvent(type == ChangeType.UPDATED
+                    ? TaskChangedEvent.updated(tenant, task, columns.getOrDefault(task, Set.of()))
+                    : new TaskChangedEvent(tenant, task.getId(), type));
+            if (type != ChangeType.CREATED || task.getRemindAt() != null) {
+                eventPublisher.publishEvent(ReminderChangedEvent.of(tenant, task));
+            }
+        });
+        result.setApplied(true);
+        return result;
+    }
+
+    private static void applyToTask(TaskOperationDTO operation, Task task, LocalDateTime now) {
+        switch (operation.getOp()) {
+            case UPDATE -> {
+                task.setTitle(operation.getTask().getTitle());
+                task.setDescription(operation.getTask().getDescription());
+                task.setCompleted(operation.getTask().getCompleted());
+                task.setDueAt(operation.getTask().getDueAt());
+                task.setRemindAt(operation.getTask().getRemindAt());
+                task.setTags(operation.getTask().getTags());
+            }
+            case TOGGLE -> task.setCompleted(!task.getCompleted());
+            case DELETE -> task.setDeletedAt(now);
+            default -> throw new IllegalStateException("Operação inesperada: " + operation.getOp());
+        }
+    }
+
+    // Um único SELECT para todas as tarefas existentes citadas no lote
+    private Map<Long, Task> loadExisting(List<TaskOperationDTO> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (TaskOperationDTO operation : operations) {
+            if (operation.getOp() != TaskOperationDTO.Type.CREATE && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, Task> existing = new HashMap<>();
+        if (!ids.isEmpty()) {
+            taskRepository.findAllById(ids).forEach(task -> existing.put(task.getId(), task));
+        }
+        return existing;
+    }
+
+    // Preenche um resultado por operação; as inválidas recebem 400 e as demais 424 (não executadas)
+    private boolean validate(List<TaskOperationDTO> operations, TaskBatchResultDTO result) {
+        Set<String> tempIds = new HashSet<>();
+        boolean valid = true;
+        for (int i = 0; i < operations.size(); i++) {
+            TaskOperationDTO operation = operations.get(i);
+            OperationResultDTO opResult = new OperationResultDTO(i, operation.getOp(), operation.getTempId());
+            String error = validate(operation, tempIds);
+            if (error != null) {
+                opResult.setStatus(HttpStatus.BAD_REQUEST.value());
+                opResult.setError(error);
+                valid = false;
+            }
+            result.getResults().add(opResult);
+        }
+        if (!valid) {
+            result.getResults().stream()
+                    .filter(opResult -> opResult.getError() == null)
+                    .forEach(opResult -> opResult.setStatus(HttpStatus.FAILED_DEPENDENCY.value()));
+        }
+        return valid;
+    }
+
+    private String validate(TaskOperationDTO operation, Set<String> tempIds) {
+        if (operation.getOp() == TaskOperationDTO.Type.CREATE) {
+            if (operation.getTempId() != null && !tempIds.add(operation.getTempId())) {
+                return "tempId repetido: " + operation.getTempId();
+            }
+            return validateTask(operation.getTask());
+        }
+        if ((operation.getId() == null) == (operation.getTempId() == null)) {
+            return "Informe id ou tempId";
+        }
+        if (operation.getTempId() != null && !tempIds.contains(operation.getTempId())) {
+            return "tempId sem CREATE anterior no lote: " + operation.getTempId();
+        }
+        return operation.getOp() == TaskOperationDTO.Type.UPDATE ? validateTask(operation.getTask()) : null;
+    }
+
+    // Mesmas regras do TaskDTO nos endpoints individuais; "completed" ausente vale false, como na importação
+    private String validateTask(TaskDTO task) {
+        if (task == null) {
+            return "Task is required";
+        }
+        for (ConstraintViolation<TaskDTO> violation : validator.validate(task)) {
+            return violation.getMessage();
+        }
+        if (task.getCompleted() == null) {
+            task.setCompleted(false);
+        }
+        return null;
+    }
+}
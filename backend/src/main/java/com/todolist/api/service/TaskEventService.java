@@ -0,0 +1,41 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskEventDTO;
+import com.todolist.api.repository.TaskEventRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.List;
+
+/**
+ * Leitura do histórico de uma tarefa. O histórico é gravado pelo TaskEventLog, em lotes e fora da
+ * requisição, então um evento pode levar até todolist.events.flush-interval para aparecer aqui.
+ * Tarefas purgadas ou arquivadas continuam com o histórico.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskEventService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final TaskEventRepository taskEventRepository;
+
+    public TaskEventService(TaskEventRepository taskEventRepository) {
+        this.taskEventRepository = taskEventRepository;
+    }
+
+    // Do mais recente para o mais antigo
+    public List<TaskEventDTO> getEvents(@NonNull Long id, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve estar entre 1 e " + MAX_LIMIT);
+        }
+        return taskEventRepository.findByTask(TenantContext.current(), id, limit).stream()
+                .map(event -> new TaskEventDTO(event.type().name(), event.occurredAt(), event.changes()))
+                .toList();
+    }
+}
@@ -0,0 +1,268 @@
+package com.todolist.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.todolist.api.config.ImportProperties;
+import com.todolist.api.dto.ImportErrorDTO;
+import com.todolist.api.dto.ImportResultDTO;
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskBatchWriter;
+import com.todolist.api.resilience.DatabaseFailures;
+import com.todolist.api.sharding.TenantContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de tarefas (NDJSON ou CSV).
+ *
+ * O corpo é lido como stream, uma linha por vez; só o lote atual fica em memória.
+ * Cada linha passa pelas mesmas validações do TaskDTO e as válidas são gravadas em lote
+ * pelo TaskBatchWriter, uma transação por lote. Linhas inválidas vão para o relatório.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final TaskBatchWriter taskBatchWriter;
+    private final TaskOrderingService taskOrderingService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectReader taskReader;
+    private final ImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskImportService(TaskBatchWriter taskBatchWriter, TaskOrderingService taskOrderingService, TaskMapper taskMapper,
+            Validator validator, ObjectMapper objectMapper, ImportProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.taskBatchWriter = taskBatchWriter;
+        this.taskOrderingService = taskOrderingService;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.taskReader = objectMapper.readerFor(TaskDTO.class);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportResultDTO importTasks(InputStream body, MediaType contentType) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+        RowReader rows = MediaType.valueOf(CSV_VALUE).isCompatibleWith(contentType)
+                ? new CsvRowReader(new CsvRecordReader(reader))
+                : new NdjsonRowReader(reader);
+
+        ImportResultDTO result = new ImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+        ImportRow row;
+        while ((row = nextRow(rows, result)) != null) {
+            String error = row.error() != null ? row.error() : validate(row.task());
+            if (error != null) {
+                addError(result, row.line(), error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                insertChunk(chunk, result);
+                chunk = new ArrayList<>(properties.getChunkSize());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, result);
+        }
+        logger.info("Importação do tenant {}: {} tarefas gravadas, {} linhas com erro",
+                TenantContext.current(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    // Um erro de formato do CSV encerra a leitura; as linhas anteriores já foram processadas
+    private ImportRow nextRow(RowReader rows, ImportResultDTO result) throws IOException {
+        try {
+            return rows.next();
+        } catch (CsvRecordReader.CsvFormatException e) {
+            addError(result, e.getLine(), e.getMessage());
+            return null;
+        }
+    }
+
+    // Um lote = uma gravação e um commit. Se o banco recusar o lote (um valor longo demais para a coluna, por
+    // exemplo), ele é dividido ao meio e cada metade tentada de novo, até sobrar só a linha culpada: uma linha ruim
+    // custa cerca de 2·log2(chunk-size) tentativas, e só ela entra no relatório. Com o banco fora do ar não há o
+    // que dividir: o lote inteiro entra como erro
+    private void insertChunk(List<ImportRow> chunk, ImportResultDTO result) {
+        List<Task> tasks = chunk.stream()
+                .map(row -> taskMapper.convertToEntity(row.task()))
+                .toList();
+        try {
+            // As linhas importadas entram no fim da lista, na ordem do arquivo
+            taskOrderingService.appendToEnd(TenantContext.current(), tasks);
+            taskBatchWriter.insertAll(TenantContext.current(), tasks);
+        } catch (DataAccessException | UncheckedIOException e) {
+            if (chunk.size() > 1 && !DatabaseFailures.isUnavailable(e)) {
+                int half = chunk.size() / 2;
+                insertChunk(chunk.subList(0, half), result);
+                insertChunk(chunk.subList(half, chunk.size()), result);
+                return;
+            }
+            logger.warn("Lote de importação recusado: {}", e.getMessage());
+            String message = (chunk.size() > 1 ? "Erro ao gravar o lote: " : "Erro ao gravar a linha: ")
+                    + mostSpecificMessage(e);
+            chunk.forEach(row -> addError(result, row.line(), message));
+            return;
+        }
+        result.setImported(result.getImported() + chunk.size());
+        // Um evento por tarefa, com o ID devolvido pelo INSERT: o cache, o outbox e o histórico veem cada uma
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(new TaskChangedEvent(TenantContext.current(), task.getId(), TaskChangedEvent.ChangeType.IMPORTED));
+            if (task.getRemindAt() != null) {
+                eventPublisher.publishEvent(ReminderChangedEvent.of(TenantContext.current(), task));
+            }
+        }
+    }
+
+    private static String mostSpecificMessage(RuntimeException e) {
+        return e instanceof DataAccessException dataAccess ? dataAccess.getMostSpecificCause().getMessage() : e.getMessage();
+    }
+
+    private String validate(TaskDTO task) {
+        if (task.getCompleted() == null) {
+            task.setCompleted(false);
+        }
+        var violations = validator.validate(task);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void addError(ImportResultDTO result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < properties.getMaxReportedErrors()) {
+            result.getErrors().add(new ImportErrorDTO(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    record ImportRow(long line, TaskDTO task, String error) {
+    }
+
+    private interface RowReader {
+        ImportRow next() throws IOException;
+    }
+
+    // Um objeto JSON por linha; linhas em branco são ignoradas e as que não são objetos entram no relatório
+    private class NdjsonRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    // null, números, strings e arrays não são tarefas; "null" ainda viraria um TaskDTO nulo
+                    TaskDTO task = text.stripLeading().startsWith("{") ? taskReader.readValue(text) : null;
+                    if (task == null) {
+                        return new ImportRow(line, null, "Cada linha deve ser um objeto JSON");
+                    }
+                    return new ImportRow(line, task, null);
+                } catch (JsonProcessingException e) {
+                    return new ImportRow(line, null, "JSON inválido: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    // Primeira linha é o cabeçalho, com as colunas title, description e completed (em qualquer ordem)
+    private static class CsvRowReader implements RowReader {
+
+        private final CsvRecordReader reader;
+        private Map<String, Integer> columns;
+
+        CsvRowReader(CsvRecordReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (columns == null) {
+                List<String> header = reader.next();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.containsKey("title")) {
+                    throw new CsvRecordReader.CsvFormatException(1, "O cabeçalho do CSV precisa da coluna title");
+                }
+            }
+            List<String> record = reader.next();
+            while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                record = reader.next();
+            }
+            if (record == null) {
+                return null;
+            }
+            long line = reader.getRecordLine();
+            TaskDTO task = new TaskDTO();
+            task.setTitle(field(record, "title", ""));
+            String description = field(record, "description", "");
+            task.setDescription(description.isEmpty() ? null : description);
+            String completed = field(record, "completed", "").trim().toLowerCase(Locale.ROOT);
+            switch (completed) {
+                case "", "false", "0" -> task.setCompleted(false);
+                case "true", "1" -> task.setCompleted(true);
+                default -> {
+                    return new ImportRow(line, null, "Valor inválido para completed: " + completed);
+                }
+            }
+            return new ImportRow(line, task, null);
+        }
+
+        private String field(List<String> record, String column, String defaultValue) {
+            Integer index = columns.get(column);
+            return index != null && index < record.size() ? record.get(index) : defaultValue;
+        }
+    }
+}
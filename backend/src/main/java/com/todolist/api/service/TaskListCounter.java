@@ -0,0 +1,248 @@
+package com.todolist.api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.sharding.ShardRouter;
+import com.todolist.api.sharding.ShardRoutingDataSource;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém task_lists.task_count e completed_count. Cada transação acumula as tarefas alteradas (TaskChangedEvent)
+ * e as listas afetadas por fora (TaskListsChangedEvent); depois do commit elas entram na fila do shard, sem
+ * nenhuma consulta na thread da requisição. A cada recount-interval uma thread do agendador esvazia a fila de cada
+ * shard, descobre as listas das tarefas e reconta cada lista uma vez, por mais escritas que ela tenha recebido:
+ *
+ * 1. trava as linhas das listas (FOR UPDATE, em ordem de ID);
+ * 2. conta as tarefas com uma leitura consistente, cuja foto é tirada já com a trava;
+ * 3. grava as contagens.
+ *
+ * Listas de um tenant em migração entre shards não são gravadas durante a cópia: esperam a troca e são recontadas
+ * no shard novo.
+ *
+ * Duas recontagens da mesma lista (de réplicas diferentes) passam uma de cada vez, e a segunda enxerga tudo o que
+ * foi confirmado antes dela, então a última a gravar tem sempre o número certo. Recontar em vez de somar deltas
+ * vale para qualquer escrita (lote, subárvore, restauração, arquivamento) sem que cada uma precise saber o estado
+ * anterior; agrupar as recontagens faz uma lista movimentada custar um COUNT por intervalo, não um por escrita.
+ */
+@Component
+@Profile("!embedded")
+public class TaskListCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskListCounter.class);
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    // Lido depois do commit: tarefas excluídas continuam na tabela e a lista antiga de uma tarefa movida chega
+    // pelo TaskListsChangedEvent
+    private static final String LIST_IDS_SQL = "SELECT DISTINCT list_id FROM tasks WHERE id IN (%s) AND list_id IS NOT NULL";
+
+    private static final String LOCK_SQL = "SELECT id, tenant_id FROM task_lists WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private static final String COUNT_SQL = """
+            SELECT list_id, COUNT(*) AS total, COALESCE(SUM(completed = 1), 0) AS done FROM tasks
+            WHERE list_id IN (%s) AND deleted_at IS NULL
+            GROUP BY list_id""";
+
+    private static final String UPDATE_SQL = "UPDATE task_lists SET task_count = ?, completed_count = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+
+    // Alterações confirmadas e ainda não recontadas, por shard
+    private final Map<Integer, Pending> queued = new ConcurrentHashMap<>();
+
+    // Listas de tenants em migração, por tenant: gravar a contagem na origem depois de a linha ser copiada a
+    // perderia na troca de shard, então elas esperam a migração e são recontadas no shard novo
+    private final Map<String, Set<Long>> held = new ConcurrentHashMap<>();
+
+    public TaskListCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // As tarefas importadas não entram em listas, e as listas das arquivadas chegam pelo TaskListsChangedEvent
+        // (depois do commit a tarefa já não está em tasks); taskId nulo vem de importações gravadas em task_changes
+        // antes de a importação publicar um evento por tarefa
+        if (event.taskId() == null || event.type() == TaskChangedEvent.ChangeType.IMPORTED
+                || event.type() == TaskChangedEvent.ChangeType.ARCHIVED) {
+            return;
+        }
+        Pending changes = new Pending();
+        changes.taskIds.add(event.taskId());
+        record(changes);
+    }
+
+    @EventListener
+    public void onListsChanged(TaskListsChangedEvent event) {
+        Pending changes = new Pending();
+        changes.listIds.addAll(event.listIds());
+        record(changes);
+    }
+
+    static class Pending {
+        final Set<Long> taskIds = new TreeSet<>();
+        final Set<Long> listIds = new TreeSet<>();
+
+        Pending merge(Pending other) {
+            taskIds.addAll(other.taskIds);
+            listIds.addAll(other.listIds);
+            return this;
+        }
+    }
+
+    // Alterações de uma transação só entram na fila se ela for confirmada; sem transação, entram direto
+    private void record(Pending changes) {
+        int shard = currentShard();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(shard, changes);
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            Pending transactionChanges = pending;
+            TransactionSynchronizationManager.bindResource(this, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(shard, transactionChanges);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskListCounter.this);
+                }
+            });
+        }
+        pending.merge(changes);
+    }
+
+    private int currentShard() {
+        Integer pinned = ShardRoutingDataSource.pinnedShard();
+        return pinned != null ? pinned : shardRouter.shardFor(TenantContext.current());
+    }
+
+    // compute é atômico por shard e recountQueued tira a fila do mapa antes de lê-la, então cada Pending só é
+    // alterado enquanto está no mapa
+    void enqueue(int shard, Pending changes) {
+        if (!changes.taskIds.isEmpty() || !changes.listIds.isEmpty()) {
+            queued.compute(shard, (key, current) -> (current == null ? new Pending() : current).merge(changes));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.lists.recount-interval:500ms}")
+    public void recountQueued() {
+        releaseHeld();
+        for (Integer shard : List.copyOf(queued.keySet())) {
+            Pending changes = queued.remove(shard);
+            if (changes == null) {
+                continue;
+            }
+            try {
+                ShardRoutingDataSource.callOnShard(shard, () -> {
+                    Set<Long> listIds = new TreeSet<>(changes.listIds);
+                    listIds.addAll(findListIds(changes.taskIds));
+                    recount(listIds);
+                    return null;
+                });
+            } catch (DataAccessException e) {
+                // Volta para a fila: a contagem fica atrasada até o banco responder
+                logger.warn("Falha ao recontar listas do shard {}: {}", shard, e.getMessage());
+                enqueue(shard, changes);
+            }
+        }
+    }
+
+    private void releaseHeld() {
+        for (String tenant : List.copyOf(held.keySet())) {
+            if (shardRouter.isMigrating(tenant)) {
+                continue;
+            }
+            Set<Long> listIds = held.remove(tenant);
+            if (listIds != null) {
+                Pending changes = new Pending();
+                changes.listIds.addAll(listIds);
+                enqueue(shardRouter.shardFor(tenant), changes);
+            }
+        }
+    }
+
+    private void hold(String tenant, long listId) {
+        held.computeIfAbsent(tenant, key -> ConcurrentHashMap.newKeySet()).add(listId);
+    }
+
+    private Set<Long> findListIds(Collection<Long> taskIds) {
+        Set<Long> listIds = new TreeSet<>();
+        forEachChunk(new ArrayList<>(taskIds), (chunk, placeholders) ->
+                listIds.addAll(jdbcTemplate.queryForList(LIST_IDS_SQL.formatted(placeholders), Long.class, chunk.toArray())));
+        return listIds;
+    }
+
+    private void recount(Set<Long> listIds) {
+        if (listIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> forEachChunk(new ArrayList<>(listIds), (chunk, placeholders) -> {
+            // Listas excluídas não voltam do SELECT e ficam de fora
+            List<Long> locked = new ArrayList<>(chunk.size());
+            jdbcTemplate.query(LOCK_SQL.formatted(placeholders), rs -> {
+                String tenant = rs.getString("tenant_id");
+                if (shardRouter.isMigrating(tenant)) {
+                    hold(tenant, rs.getLong("id"));
+                } else {
+                    locked.add(rs.getLong("id"));
+                }
+            }, chunk.toArray());
+            if (locked.isEmpty()) {
+                return;
+            }
+            List<Object[]> counts = new ArrayList<>(locked.size());
+            Set<Long> empty = new TreeSet<>(locked);
+            String lockedPlaceholders = String.join(", ", Collections.nCopies(locked.size(), "?"));
+            jdbcTemplate.query(COUNT_SQL.formatted(lockedPlaceholders), rs -> {
+                long listId = rs.getLong("list_id");
+                empty.remove(listId);
+                counts.add(new Object[] {rs.getInt("total"), rs.getInt("done"), listId});
+            }, locked.toArray());
+            empty.forEach(listId -> counts.add(new Object[] {0, 0, listId}));
+            jdbcTemplate.batchUpdate(UPDATE_SQL, counts);
+        }));
+    }
+
+    private interface ChunkAction {
+        void accept(List<Long> chunk, String placeholders);
+    }
+
+    private static void forEachChunk(List<Long> ids, ChunkAction action) {
+        for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(start, Math.min(start + IDS_PER_QUERY, ids.size()));
+            action.accept(chunk, String.join(", ", Collections.nCopies(chunk.size(), "?")));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskListDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskList;
+import com.todolist.api.repository.TaskListItemRepository;
+import com.todolist.api.repository.TaskListRepository;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Listas (quadros) de tarefas.
+ *
+ * Uma página de listas custa sempre o mesmo número de consultas, qualquer que seja o tamanho da página:
+ * uma em task_lists, que já traz as contagens, e, quando as tarefas são pedidas, uma para as primeiras
+ * tasksPerList tarefas de todas as listas da página. As contagens são mantidas pelo TaskListCounter a partir
+ * dos eventos das escritas, sem COUNT na leitura.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskListService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_TASKS_PER_LIST = 100;
+
+    private final TaskListRepository taskListRepository;
+    private final TaskListItemRepository taskListItemRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskListService(TaskListRepository taskListRepository, TaskListItemRepository taskListItemRepository,
+            TaskRepository taskRepository, TaskMapper taskMapper, ApplicationEventPublisher eventPublisher) {
+        this.taskListRepository = taskListRepository;
+        this.taskListItemRepository = taskListItemRepository;
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // tasksPerList = 0: só as listas com as contagens
+    @Transactional(readOnly = true)
+    public List<TaskListDTO> getLists(int page, int size, int tasksPerList) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page deve ser maior ou igual a 0");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        validateTasksPerList(tasksPerList);
+        return withTasks(taskListRepository.findPage(PageRequest.of(page, size)), tasksPerList);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TaskListDTO> getList(@NonNull Long id, int tasksPerList) {
+        validateTasksPerList(tasksPerList);
+        return taskListRepository.findById(id)
+                .map(taskList -> withTasks(List.of(taskList), tasksPerList).get(0));
+    }
+
+    @Transactional
+    public TaskListDTO createList(@NonNull TaskListDTO taskListDTO) {
+        return taskMapper.convertToDTO(taskListRepository.save(new TaskList(taskListDTO.getName())));
+    }
+
+    @Transactional
+    public Optional<TaskListDTO> renameList(@NonNull Long id, @NonNull TaskListDTO taskListDTO) {
+        return taskListRepository.findById(id)
+                .map(taskList -> {
+                    taskList.setName(taskListDTO.getName());
+                    return taskMapper.convertToDTO(taskListRepository.save(taskList));
+                });
+    }
+
+    // As tarefas não são excluídas com a lista: ficam sem lista
+    @Transactional
+    public boolean deleteList(@NonNull Long id) {
+        if (!taskListRepository.existsById(id)) {
+            return false;
+        }
+        String tenant = TenantContext.current();
+        for (Long taskId : taskListItemRepository.detachAll(tenant, id)) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(tenant, taskId, "list_id", null));
+        }
+        taskListRepository.deleteById(id);
+        return true;
+    }
+
+    // Move só a tarefa, não as subtarefas; listId nulo a tira de qualquer lista.
+    // A lista nova é recontada pelo TaskChangedEvent; a antiga, que a tarefa já não aponta, pelo TaskListsChangedEvent
+    @Transactional
+    public boolean moveTask(@NonNull Long taskId, Long listId) {
+        Optional<Task> found = taskRepository.findById(taskId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        if (listId != null && !taskListRepository.existsById(listId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Lista não encontrada");
+        }
+        Task task = found.get();
+        Long previous = task.getListId();
+        if (Objects.equals(previous, listId)) {
+            return true;
+        }
+        task.setListId(listId);
+        taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(TenantContext.current(), taskId, "list_id", listId));
+        if (previous != null) {
+            eventPublisher.publishEvent(new TaskListsChangedEvent(List.of(previous)));
+        }
+        return true;
+    }
+
+    private List<TaskListDTO> withTasks(List<TaskList> taskLists, int tasksPerList) {
+        List<TaskListDTO> dtos = taskLists.stream().map(taskMapper::convertToDTO).toList();
+        if (tasksPerList == 0 || dtos.isEmpty()) {
+            return dtos;
+        }
+        Map<Long, List<Task>> tasks = taskListItemRepository.findTasks(TenantContext.current(),
+                dtos.stream().map(TaskListDTO::getId).toList(), tasksPerList);
+        for (TaskListDTO dto : dtos) {
+            List<TaskDTO> listTasks = tasks.getOrDefault(dto.getId(), List.of()).stream()
+                    .map(taskMapper::convertToDTO)
+                    .toList();
+            dto.setTasks(listTasks);
+        }
+        return dtos;
+    }
+
+    private static void validateTasksPerList(int tasksPerList) {
+        if (tasksPerList < 0 || tasksPerList > MAX_TASKS_PER_LIST) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "tasksPerList deve estar entre 0 e " + MAX_TASKS_PER_LIST);
+        }
+    }
+}
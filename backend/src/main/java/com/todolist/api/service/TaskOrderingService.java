@@ -0,0 +1,129 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.config.OrderingProperties;
+import com.todolist.api.dto.TaskMoveDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskRankRepository;
+import com.todolist.api.sharding.ShardRouter;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ordem manual das tarefas com chaves fracionárias (RankKeys).
+ *
+ * Tarefas novas entram no fim da lista; mover uma tarefa lê as chaves da vizinha informada e da
+ * seguinte (duas buscas no índice) e grava uma chave entre elas em um único UPDATE de uma linha.
+ * Quando uma chave passa de todolist.ordering.max-key-length, o tenant entra em uma fila e as chaves
+ * dele são redistribuídas em segundo plano, sem mudar a ordem.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskOrderingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskOrderingService.class);
+
+    private final TaskRankRepository taskRankRepository;
+    private final OrderingProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    // Ausente no armazenamento embarcado (sem shards)
+    private final ObjectProvider<ShardRouter> shardRouter;
+    // Tenants aguardando redistribuição (por réplica; repetir a redistribuição em outra réplica é inofensivo)
+    private final Set<String> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    public TaskOrderingService(TaskRankRepository taskRankRepository, OrderingProperties properties,
+            ApplicationEventPublisher eventPublisher, ObjectProvider<ShardRouter> shardRouter) {
+        this.taskRankRepository = taskRankRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.shardRouter = shardRouter;
+    }
+
+    // Chaves para tarefas novas, depois da última do tenant e na ordem da lista: uma única leitura por lote.
+    // Criações concorrentes podem receber a mesma chave; o id desempata
+    public void appendToEnd(String tenantId, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        String key = taskRankRepository.findLastKey(tenantId);
+        for (Task task : tasks) {
+            key = RankKeys.between(key, null);
+            task.setRankKey(key);
+        }
+    }
+
+    @Transactional
+    public boolean moveTask(@NonNull Long id, @NonNull TaskMoveDTO move) {
+        String tenant = TenantContext.current();
+        Long anchorId = move.getAnchorId();
+        if (anchorId.equals(id)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A tarefa não pode ser posicionada em relação a ela mesma");
+        }
+        String anchorKey = taskRankRepository.findKey(tenant, anchorId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tarefa de referência não encontrada"));
+        if (anchorKey.isEmpty()) {
+            // Tarefa gravada antes da ordem manual: a redistribuição dá chave a todas
+            requestRebalance(tenant);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A ordem das tarefas está sendo recalculada; tente novamente");
+        }
+        // A vizinha do outro lado vem do banco, não do cliente, então a chave nova cai exatamente ao lado da referência
+        String key = move.getAfterId() != null
+                ? RankKeys.between(anchorKey, taskRankRepository.findNextKey(tenant, anchorKey, id))
+                : RankKeys.between(taskRankRepository.findPreviousKey(tenant, anchorKey, id), anchorKey);
+        if (taskRankRepository.updateKey(tenant, id, key) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.updated(tenant, id, "rank_key", key));
+        if (key.length() > properties.getMaxKeyLength()) {
+            requestRebalance(tenant);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.ordering.rebalance-interval:10s}")
+    public void rebalancePending() {
+        ShardRouter router = shardRouter.getIfAvailable();
+        for (String tenant : List.copyOf(pendingRebalance)) {
+            // Em migração, as chaves regravadas na origem depois da cópia se perderiam: fica na fila até a troca
+            if (router != null && router.isMigrating(tenant)) {
+                continue;
+            }
+            pendingRebalance.remove(tenant);
+            try {
+                // O tenant na thread roteia as conexões para o shard dele
+                int count = TenantContext.callAs(tenant, () -> taskRankRepository.rebalance(tenant));
+                logger.info("Chaves de posição do tenant {} redistribuídas ({} tarefas)", tenant, count);
+            } catch (DataAccessException e) {
+                logger.warn("Falha ao redistribuir as chaves de posição do tenant {}; nova tentativa em {}: {}",
+                        tenant, properties.getRebalanceInterval(), e.getMessage());
+                pendingRebalance.add(tenant);
+            }
+        }
+    }
+
+    Set<String> pendingRebalance() {
+        return pendingRebalance;
+    }
+
+    private void requestRebalance(String tenant) {
+        if (pendingRebalance.add(tenant)) {
+            logger.debug("Tenant {} na fila de redistribuição das chaves de posição", tenant);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.todolist.api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.config.PurgeProperties;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.time.LocalDateTime;
+
+@Component
+@Profile("!embedded")
+public class TaskPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPurger.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeProperties properties;
+    private final ShardRouter shardRouter;
+
+    public TaskPurger(TaskRepository taskRepository, TransactionTemplate transactionTemplate,
+            PurgeProperties properties, ShardRouter shardRouter) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    // Por padrão roda de madrugada, fora do horário de pico
+    @Scheduled(cron = "${todolist.purge.cron:0 */10 1-5 * * *}")
+    public void purgeDeletedTasks() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        shardRouter.forEachShard(shard -> purgeShard(shard, cutoff));
+    }
+
+    void purgeShard(int shard, LocalDateTime cutoff) {
+        int total = 0;
+        int purged;
+        do {
+            purged = purgeBatch(cutoff);
+            total += purged;
+        } while (purged == properties.getBatchSize() && total < properties.getMaxPerRun() && pause());
+
+        if (total > 0) {
+            logger.info("Removidas definitivamente {} tarefas excluídas antes de {} no shard {}", total, cutoff, shard);
+        }
+    }
+
+    int purgeBatch(LocalDateTime cutoff) {
+        Integer purged = transactionTemplate.execute(status ->
+                taskRepository.purgeDeletedBefore(cutoff, properties.getBatchSize(), shardRouter.tenantsToSkip()));
+        return purged == null ? 0 : purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
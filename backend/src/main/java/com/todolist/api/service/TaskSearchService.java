@@ -0,0 +1,122 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskSearchResultDTO;
+import com.todolist.api.dto.TaskSuggestionDTO;
+import com.todolist.api.index.TagIndex;
+import com.todolist.api.index.TagQuery;
+import com.todolist.api.index.TaskIndexMaintainer;
+import com.todolist.api.index.TitleIndex;
+import com.todolist.api.index.TitleTrie;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Busca por tags: a expressão é resolvida no TagIndex e só as tarefas da página são lidas do banco,
+ * com um SELECT por chave primária. Sugestões de título vêm só do TitleIndex, sem acessar o banco.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskSearchService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final TagIndex tagIndex;
+    private final TitleIndex titleIndex;
+    private final TaskIndexMaintainer taskIndexMaintainer;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+
+    public TaskSearchService(TagIndex tagIndex, TitleIndex titleIndex, TaskIndexMaintainer taskIndexMaintainer,
+            TaskRepository taskRepository, TaskMapper taskMapper) {
+        this.tagIndex = tagIndex;
+        this.titleIndex = titleIndex;
+        this.taskIndexMaintainer = taskIndexMaintainer;
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+    }
+
+    // Prefixo vazio não sugere nada; o prefixo ignora maiúsculas, acentos e espaços repetidos
+    public List<TaskSuggestionDTO> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > TitleTrie.TOP) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve estar entre 1 e " + TitleTrie.TOP);
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (!titleIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Índice de títulos em montagem; tente de novo em instantes");
+        }
+        return titleIndex.suggest(TenantContext.current(), prefix, limit).stream()
+                .map(suggestion -> new TaskSuggestionDTO(suggestion.title(), suggestion.count()))
+                .toList();
+    }
+
+    // Páginas em ordem de ID: afterId é o último ID da página anterior (nulo = primeira página)
+    @Transactional(readOnly = true)
+    public TaskSearchResultDTO search(String q, Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit deve estar entre 1 e " + MAX_LIMIT);
+        }
+        TagQuery query;
+        try {
+            query = TagQuery.parse(q);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (!tagIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Índice de tags em montagem; tente de novo em instantes");
+        }
+        String tenantId = TenantContext.current();
+        RoaringBitmap matches = tagIndex.query(tenantId, query);
+
+        List<Long> ids = new ArrayList<>(limit);
+        PeekableIntIterator iterator = matches.getIntIterator();
+        if (afterId != null) {
+            if (afterId >= 0xFFFFFFFFL) {
+                return new TaskSearchResultDTO(matches.getLongCardinality(), List.of(), null);
+            }
+            // Inteiros sem sinal: afterId + 1 vira o primeiro candidato, mesmo acima de Integer.MAX_VALUE
+            iterator.advanceIfNeeded((int) Math.max(afterId + 1, 0));
+        }
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(Integer.toUnsignedLong(iterator.next()));
+        }
+
+        Map<Long, Task> found = new HashMap<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            found.put(task.getId(), task);
+        }
+        List<TaskDTO> tasks = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(taskMapper.convertToDTO(task));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Arquivadas ou excluídas sem evento nesta réplica: saem do índice para as próximas buscas
+            taskIndexMaintainer.forget(tenantId, missing);
+        }
+        Long nextAfterId = iterator.hasNext() && !ids.isEmpty() ? ids.get(ids.size() - 1) : null;
+        return new TaskSearchResultDTO(matches.getLongCardinality(), tasks, nextAfterId);
+    }
+}
@@ -0,0 +1,267 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskOccurrenceDTO;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.dto.TaskSeriesDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.RecurrenceRule;
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskSeries;
+import com.todolist.api.repository.TaskOccurrenceRepository;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.repository.TaskSeriesRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tarefas recorrentes.
+ *
+ * A série guarda só a regra. As ocorrências de um período são calculadas na leitura, e uma ocorrência vira linha
+ * de tasks (series_id + occurrence_date) apenas quando é concluída, editada ou pulada. Ler um período custa duas
+ * consultas, as séries ativas nele e as linhas já materializadas do período, e a expansão percorre só os dias
+ * pedidos: o custo acompanha o tamanho do período, não a idade das séries.
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskSeriesService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_DAYS = 366;
+
+    private final TaskSeriesRepository taskSeriesRepository;
+    private final TaskOccurrenceRepository taskOccurrenceRepository;
+    private final TaskRepository taskRepository;
+    private final TaskOrderingService taskOrderingService;
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskSeriesService(TaskSeriesRepository taskSeriesRepository, TaskOccurrenceRepository taskOccurrenceRepository,
+            TaskRepository taskRepository, TaskOrderingService taskOrderingService, TaskService taskService,
+            TaskMapper taskMapper, ApplicationEventPublisher eventPublisher) {
+        this.taskSeriesRepository = taskSeriesRepository;
+        this.taskOccurrenceRepository = taskOccurrenceRepository;
+        this.taskRepository = taskRepository;
+        this.taskOrderingService = taskOrderingService;
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskSeriesDTO> getSeries(int page, int size) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page deve ser maior ou igual a 0");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        return taskSeriesRepository.findPage(PageRequest.of(page, size)).stream()
+                .map(taskMapper::convertToDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TaskSeriesDTO> getSeriesById(@NonNull Long id) {
+        return taskSeriesRepository.findById(id).map(taskMapper::convertToDTO);
+    }
+
+    // A regra é gravada na forma canônica
+    @Transactional
+    public TaskSeriesDTO createSeries(@NonNull TaskSeriesDTO taskSeriesDTO) {
+        RecurrenceRule rule = parseRule(taskSeriesDTO.getRule());
+        if (taskSeriesDTO.getEndDate() != null && taskSeriesDTO.getEndDate().isBefore(taskSeriesDTO.getStartDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate deve ser posterior ou igual a startDate");
+        }
+        TaskSeries taskSeries = new TaskSeries(taskSeriesDTO.getTitle(), rule.format(), taskSeriesDTO.getStartDate());
+        taskSeries.setDescription(taskSeriesDTO.getDescription());
+        taskSeries.setEndDate(taskSeriesDTO.getEndDate());
+        taskSeries.setDueTime(taskSeriesDTO.getDueTime());
+        return taskMapper.convertToDTO(taskSeriesRepository.save(taskSeries));
+    }
+
+    // As ocorrências já materializadas não são excluídas com a série: viram tarefas avulsas
+    @Transactional
+    public boolean deleteSeries(@NonNull Long id) {
+        if (taskSeriesRepository.findByIdForUpdate(id).isEmpty()) {
+            return false;
+        }
+        String tenant = TenantContext.current();
+        Map<String, Object> detached = new LinkedHashMap<>();
+        detached.put("series_id", null);
+        detached.put("occurrence_date", null);
+        for (Long taskId : taskOccurrenceRepository.detachAll(tenant, id)) {
+            eventPublisher.publishEvent(new TaskChangedEvent(tenant, taskId, ChangeType.UPDATED, detached));
+        }
+        taskSeriesRepository.deleteById(id);
+        return true;
+    }
+
+    // Ocorrências de todas as séries entre from e to (inclusive), por data; as puladas ficam de fora
+    @Transactional(readOnly = true)
+    public List<TaskOccurrenceDTO> getOccurrences(@NonNull LocalDate from, @NonNull LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from deve ser anterior ou igual a to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O período deve ter no máximo " + MAX_DAYS + " dias");
+        }
+        List<TaskSeries> active = taskSeriesRepository.findActiveBetween(from, to);
+        if (active.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Map<LocalDate, Task>> materialized = new HashMap<>();
+        for (Task task : taskOccurrenceRepository.findBetween(TenantContext.current(),
+                active.stream().map(TaskSeries::getId).toList(), from, to)) {
+            materialized.computeIfAbsent(task.getSeriesId(), seriesId -> new HashMap<>())
+                    .putIfAbsent(task.getOccurrenceDate(), task);
+        }
+        List<TaskOccurrenceDTO> occurrences = new ArrayList<>();
+        for (TaskSeries taskSeries : active) {
+            LocalDate end = taskSeries.getEndDate() != null && taskSeries.getEndDate().isBefore(to) ? taskSeries.getEndDate() : to;
+            Map<LocalDate, Task> rows = materialized.getOrDefault(taskSeries.getId(), Map.of());
+            for (LocalDate date : RecurrenceRule.parse(taskSeries.getRule()).between(taskSeries.getStartDate(), from, end)) {
+                Task task = rows.get(date);
+                if (task == null) {
+                    occurrences.add(toOccurrence(taskSeries, date));
+                } else if (task.getDeletedAt() == null) {
+                    occurrences.add(toOccurrence(task));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(TaskOccurrenceDTO::getDate).thenComparing(TaskOccurrenceDTO::getSeriesId));
+        return occurrences;
+    }
+
+    // Materializa a ocorrência na primeira escrita, já com os campos do patch (um único INSERT); depois disso,
+    // é um PATCH comum na tarefa. Vazio se a série não existe, a data não é uma ocorrência ou a ocorrência foi pulada
+    @Transactional
+    public Optional<TaskDTO> patchOccurrence(@NonNull Long seriesId, @NonNull LocalDate date, @NonNull TaskPatchDTO patch) {
+        Optional<TaskSeries> taskSeries = findOccurrenceSeries(seriesId, date);
+        if (taskSeries.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Task> existing = taskOccurrenceRepository.find(TenantContext.current(), seriesId, date);
+        if (existing.isPresent()) {
+            Task task = existing.get();
+            if (task.getDeletedAt() != null || !taskService.patchTask(task.getId(), patch)) {
+                return Optional.empty();
+            }
+            return taskRepository.findById(task.getId()).map(taskMapper::convertToDTO);
+        }
+        Task task = newOccurrence(taskSeries.get(), date);
+        apply(task, patch);
+        taskOrderingService.appendToEnd(TenantContext.current(), List.of(task));
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(TenantContext.current(), saved.getId(), ChangeType.CREATED));
+        if (saved.getRemindAt() != null) {
+            eventPublisher.publishEvent(ReminderChangedEvent.of(TenantContext.current(), saved));
+        }
+        return Optional.of(taskMapper.convertToDTO(saved));
+    }
+
+    // Pula a ocorrência: grava a linha já excluída, que esconde a ocorrência da leitura. Uma ocorrência
+    // materializada é excluída como qualquer tarefa e pode ser restaurada dentro da janela de retenção
+    @Transactional
+    public boolean skipOccurrence(@NonNull Long seriesId, @NonNull LocalDate date) {
+        Optional<TaskSeries> taskSeries = findOccurrenceSeries(seriesId, date);
+        if (taskSeries.isEmpty()) {
+            return false;
+        }
+        Optional<Task> existing = taskOccurrenceRepository.find(TenantContext.current(), seriesId, date);
+        if (existing.isPresent()) {
+            return existing.get().getDeletedAt() != null || taskService.deleteTask(existing.get().getId());
+        }
+        Task task = newOccurrence(taskSeries.get(), date);
+        task.setDeletedAt(LocalDateTime.now());
+        taskRepository.save(task);
+        return true;
+    }
+
+    // Trava a série: a busca da ocorrência e o INSERT de duas requisições para a mesma data não se intercalam
+    private Optional<TaskSeries> findOccurrenceSeries(Long seriesId, LocalDate date) {
+        return taskSeriesRepository.findByIdForUpdate(seriesId)
+                .filter(taskSeries -> !date.isBefore(taskSeries.getStartDate())
+                        && (taskSeries.getEndDate() == null || !date.isAfter(taskSeries.getEndDate()))
+                        && RecurrenceRule.parse(taskSeries.getRule()).occursOn(taskSeries.getStartDate(), date));
+    }
+
+    private static Task newOccurrence(TaskSeries taskSeries, LocalDate date) {
+        Task task = new Task(taskSeries.getTitle(), taskSeries.getDescription());
+        task.setDueAt(taskSeries.dueAtOn(date));
+        task.setSeriesId(taskSeries.getId());
+        task.setOccurrenceDate(date);
+        return task;
+    }
+
+    private static void apply(Task task, TaskPatchDTO patch) {
+        if (patch.hasTitle()) {
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.hasCompleted()) {
+            task.setCompleted(patch.getCompleted());
+        }
+        if (patch.hasDueAt()) {
+            task.setDueAt(patch.getDueAt());
+        }
+        if (patch.hasRemindAt()) {
+            task.setRemindAt(patch.getRemindAt());
+        }
+        if (patch.hasTags()) {
+            task.setTags(patch.getTags());
+        }
+    }
+
+    private static TaskOccurrenceDTO toOccurrence(TaskSeries taskSeries, LocalDate date) {
+        TaskOccurrenceDTO occurrence = new TaskOccurrenceDTO(taskSeries.getId(), date, taskSeries.getTitle(),
+                taskSeries.getDescription());
+        occurrence.setDueAt(taskSeries.dueAtOn(date));
+        occurrence.setTags(List.of());
+        return occurrence;
+    }
+
+    private static TaskOccurrenceDTO toOccurrence(Task task) {
+        TaskOccurrenceDTO occurrence = new TaskOccurrenceDTO(task.getSeriesId(), task.getOccurrenceDate(), task.getTitle(),
+                task.getDescription());
+        occurrence.setTaskId(task.getId());
+        occurrence.setCompleted(task.getCompleted());
+        occurrence.setCompletedAt(task.getCompletedAt());
+        occurrence.setDueAt(task.getDueAt());
+        occurrence.setTags(task.getTags());
+        return occurrence;
+    }
+
+    private static RecurrenceRule parseRule(String rule) {
+        try {
+            return RecurrenceRule.parse(rule);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
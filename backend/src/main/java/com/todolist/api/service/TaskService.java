@@ -1,70 +1,247 @@
 package com.todolist.api.service;
 
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.todolist.api.cache.TaskCacheInvalidator;
+import com.todolist.api.cache.TenantKeyGenerator;
+import com.todolist.api.config.PurgeProperties;
 import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskField;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
 import com.todolist.api.mapper.TaskMapper;
 import com.todolist.api.model.Task;
+import com.todolist.api.repository.ArchivedTaskRepository;
+import com.todolist.api.repository.TaskListRepository;
+import com.todolist.api.repository.TaskPatchWriter;
+import com.todolist.api.repository.TaskProjectionRepository;
 import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.repository.TaskTreeRepository;
+import com.todolist.api.sharding.TenantContext;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
+@Observed(name = "todolist.service")
 public class TaskService {
+
+    public static final int MAX_ARCHIVE_PAGE_SIZE = 100;
     
     private final TaskRepository taskRepository;
+    private final TaskPatchWriter taskPatchWriter;
+    private final TaskOrderingService taskOrderingService;
+    private final TaskTreeRepository taskTreeRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskListRepository taskListRepository;
+    private final TaskProjectionRepository taskProjectionRepository;
     private final TaskMapper taskMapper;
+    private final PurgeProperties purgeProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskService(TaskRepository taskRepository, TaskPatchWriter taskPatchWriter, TaskOrderingService taskOrderingService,
+            TaskTreeRepository taskTreeRepository, ArchivedTaskRepository archivedTaskRepository,
+            TaskListRepository taskListRepository, TaskProjectionRepository taskProjectionRepository, TaskMapper taskMapper,
+            PurgeProperties purgeProperties, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
+        this.taskPatchWriter = taskPatchWriter;
+        this.taskOrderingService = taskOrderingService;
+        this.taskTreeRepository = taskTreeRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskListRepository = taskListRepository;
+        this.taskProjectionRepository = taskProjectionRepository;
         this.taskMapper = taskMapper;
+        this.purgeProperties = purgeProperties;
+        this.eventPublisher = eventPublisher;
     }
 
+    // Leituras passam pelo cache local; as escritas publicam TaskChangedEvent para invalidá-lo em todas as réplicas.
+    // A lista segue a ordem manual (rank_key)
+    @Cacheable(cacheNames = TaskCacheInvalidator.TASK_LISTS, keyGenerator = TenantKeyGenerator.NAME)
     public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll()
+        return taskRepository.findAllOrdered()
         .stream()
         .map(taskMapper::convertToDTO)
         .toList();
     }
 
+    // Tarefas arquivadas continuam acessíveis pelo mesmo ID.
+    // Buscas sem resultado não vão para o cache, então criar uma tarefa não exige invalidação por ID
+    @Cacheable(cacheNames = TaskCacheInvalidator.TASKS, keyGenerator = TenantKeyGenerator.NAME, unless = "#result == null")
     public Optional<TaskDTO> getTaskById(@NonNull Long id){
         return taskRepository.findById(id)
+               .map(taskMapper::convertToDTO)
+               .or(() -> getArchivedTaskById(id));
+    }
+
+    // Só os campos pedidos (?fields=id,title,completed), lidos com um SELECT dessas colunas e sem passar pela
+    // entidade. Não usa o cache: cada combinação de campos seria uma entrada a mais para invalidar
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllTasks(@NonNull String fields) {
+        return taskProjectionRepository.findAll(TenantContext.current(), parseFields(fields));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getTaskById(@NonNull Long id, @NonNull String fields) {
+        return taskProjectionRepository.findById(TenantContext.current(), id, parseFields(fields));
+    }
+
+    public List<TaskDTO> getArchivedTasks(int page, int size) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page deve ser maior ou igual a 0");
+        }
+        if (size < 1 || size > MAX_ARCHIVE_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size deve estar entre 1 e " + MAX_ARCHIVE_PAGE_SIZE);
+        }
+        return archivedTaskRepository.findPage(PageRequest.of(page, size))
+        .stream()
+        .map(taskMapper::convertToDTO)
+        .toList();
+    }
+
+    public Optional<TaskDTO> getArchivedTaskById(@NonNull Long id) {
+        return archivedTaskRepository.findById(id)
                .map(taskMapper::convertToDTO);
     }
 
+    // Com parentId, a tarefa nasce como subtarefa: os caminhos dos ancestrais do pai até ela são gravados junto.
+    // Com listId, nasce na lista (a subtarefa não herda a lista do pai)
+    @Transactional
     public TaskDTO createTask(@NonNull TaskDTO taskDTO) {
         Task task = taskMapper.convertToEntity(taskDTO);
+        Long parentId = taskDTO.getParentId();
+        if (parentId != null) {
+            if (!taskRepository.existsById(parentId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tarefa pai não encontrada");
+            }
+            task.setParentId(parentId);
+        }
+        Long listId = taskDTO.getListId();
+        if (listId != null) {
+            if (!taskListRepository.existsById(listId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Lista não encontrada");
+            }
+            task.setListId(listId);
+        }
+        taskOrderingService.appendToEnd(TenantContext.current(), List.of(task));
         Task savedTask = taskRepository.save(task);
+        if (parentId != null) {
+            taskTreeRepository.attach(TenantContext.current(), parentId, savedTask.getId());
+        }
+        publishChange(savedTask.getId(), ChangeType.CREATED);
+        if (savedTask.getRemindAt() != null) {
+            publishReminder(savedTask);
+        }
         return taskMapper.convertToDTO(savedTask);
     }
 
+    @Transactional
     public Optional <TaskDTO> updateTask(@NonNull Long id, @NonNull TaskDTO taskDTO){
         return taskRepository.findById(id)
         .map(existingTask -> {
             existingTask.setTitle(taskDTO.getTitle());
             existingTask.setDescription(taskDTO.getDescription());
             existingTask.setCompleted(taskDTO.getCompleted());
+            existingTask.setDueAt(taskDTO.getDueAt());
+            existingTask.setRemindAt(taskDTO.getRemindAt());
+            existingTask.setTags(taskDTO.getTags());
             Task updatedTask = taskRepository.save(existingTask);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(TenantContext.current(), updatedTask,
+                    TaskChangedEvent.EDITABLE_COLUMNS));
+            publishReminder(updatedTask);
             return taskMapper.convertToDTO(updatedTask);
         });
     }
 
+    // Atualização parcial: um UPDATE só com as colunas enviadas, sem carregar a tarefa.
+    // A validação do patch não depende da linha atual, então nenhum SELECT é necessário;
+    // só patches que mudam completed ou remindAt releem a tarefa para reagendar o lembrete
+    @Transactional
+    public boolean patchTask(@NonNull Long id, @NonNull TaskPatchDTO patch){
+        if (patch.isEmpty()) {
+            return taskRepository.existsById(id);
+        }
+        if (taskPatchWriter.patch(TenantContext.current(), id, patch, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(TenantContext.current(), id, ChangeType.UPDATED, patch.changes()));
+        if (patch.affectsReminder()) {
+            taskRepository.findById(id).ifPresent(this::publishReminder);
+        }
+        return true;
+    }
+
+    // Exclusão lógica da tarefa e das subtarefas, com o mesmo deleted_at; as linhas são removidas de vez
+    // pelo TaskPurger depois da janela de retenção
+    @Transactional
     public boolean deleteTask(@NonNull Long id){
-        if (taskRepository.existsById(id)){
-            taskRepository.deleteById(id);
-            return true;
+        List<Long> ids = taskTreeRepository.deleteSubtree(TenantContext.current(), id, LocalDateTime.now());
+        for (Long deletedId : ids) {
+            publishChange(deletedId, ChangeType.DELETED);
+            eventPublisher.publishEvent(ReminderChangedEvent.cancelled(TenantContext.current(), deletedId));
         }
-        return false;
+        return !ids.isEmpty();
     }
 
+    // Restaura também as subtarefas excluídas junto com a tarefa; as excluídas antes continuam excluídas
+    @Transactional
+    public Optional<TaskDTO> restoreTask(@NonNull Long id){
+        LocalDateTime notBefore = LocalDateTime.now().minus(purgeProperties.getRetention());
+        List<Long> ids = taskTreeRepository.restoreSubtree(TenantContext.current(), id, notBefore);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        ids.forEach(restoredId -> publishChange(restoredId, ChangeType.RESTORED));
+        TaskDTO restored = null;
+        for (Task task : taskRepository.findAllById(ids)) {
+            publishReminder(task);
+            if (task.getId().equals(id)) {
+                restored = taskMapper.convertToDTO(task);
+            }
+        }
+        return Optional.ofNullable(restored);
+    }
+
+    @Transactional
     public Optional <TaskDTO> toggleTaskCompletion(@NonNull Long id){
         return taskRepository.findById(id)
                .map(task -> {
                 task.setCompleted(!task.getCompleted());
                 Task updateTask = taskRepository.save(task);
+                eventPublisher.publishEvent(TaskChangedEvent.updated(TenantContext.current(), id, "completed",
+                        updateTask.getCompleted()));
+                publishReminder(updateTask);
                 return taskMapper.convertToDTO(updateTask);
                });
     }
+
+    private static Set<TaskField> parseFields(String fields) {
+        try {
+            return TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private void publishChange(Long id, ChangeType type) {
+        eventPublisher.publishEvent(new TaskChangedEvent(TenantContext.current(), id, type));
+    }
+
+    // O ReminderScheduler atualiza a roda com o estado gravado, sem voltar ao banco
+    private void publishReminder(Task task) {
+        eventPublisher.publishEvent(ReminderChangedEvent.of(TenantContext.current(), task));
+    }
 }
@@ -0,0 +1,61 @@
+package com.todolist.api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.config.AnalyticsProperties;
+import com.todolist.api.repository.TaskStatsRepository;
+import com.todolist.api.sharding.ShardRouter;
+
+/**
+ * Mantém task_daily_stats: a cada rollupInterval, soma em cada shard as tarefas criadas e concluídas desde a
+ * soma anterior, em uma transação com o ponto de parada (task_rollup_state). Cada execução lê só as tarefas
+ * novas pelos índices de created_at e completed_at, então o custo não cresce com o tamanho de tasks.
+ */
+@Component
+@Profile("!embedded")
+public class TaskStatsRollup {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsRollup.class);
+
+    private final TaskStatsRepository taskStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalyticsProperties properties;
+    private final ShardRouter shardRouter;
+
+    public TaskStatsRollup(TaskStatsRepository taskStatsRepository, TransactionTemplate transactionTemplate,
+            AnalyticsProperties properties, ShardRouter shardRouter) {
+        this.taskStatsRepository = taskStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.analytics.rollup-interval:1m}")
+    public void rollUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // O ponto de parada é do shard inteiro, não do tenant: pular só o tenant em migração perderia as tarefas
+        // dele no intervalo. A soma fica parada durante a migração e retoma do mesmo ponto depois
+        if (!shardRouter.getMigratingTenants().isEmpty()) {
+            logger.debug("Soma das contagens diárias adiada: tenants em migração {}", shardRouter.getMigratingTenants());
+            return;
+        }
+        shardRouter.forEachShard(this::rollUpShard);
+    }
+
+    void rollUpShard(int shard) {
+        try {
+            transactionTemplate.execute(status -> taskStatsRepository.rollUp(properties.getLag()));
+        } catch (DataAccessException e) {
+            // Nada é perdido: a próxima execução soma a partir do mesmo ponto
+            logger.warn("Falha ao somar as contagens diárias do shard {}: {}", shard, e.getMessage());
+        }
+    }
+}
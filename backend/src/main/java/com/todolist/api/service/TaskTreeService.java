@@ -0,0 +1,88 @@
+package com.todolist.api.service;
+
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.repository.TaskTreeRepository;
+import com.todolist.api.repository.TaskTreeRepository.ReparentResult;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Subtarefas: leitura da subárvore, contagem de progresso, conclusão em cascata e mudança de pai.
+ *
+ * A tabela de fechamento (task_closure) guarda todos os pares ancestral/descendente, então cada uma
+ * dessas operações é um número fixo de comandos, qualquer que seja a profundidade da árvore.
+ * Exclusão e restauração também descem pela subárvore (TaskService.deleteTask e restoreTask).
+ */
+@Service
+@Observed(name = "todolist.service")
+public class TaskTreeService {
+
+    private final TaskTreeRepository taskTreeRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskTreeService(TaskTreeRepository taskTreeRepository, TaskMapper taskMapper,
+            ApplicationEventPublisher eventPublisher) {
+        this.taskTreeRepository = taskTreeRepository;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // A tarefa e todos os descendentes, por profundidade e, em cada nível, na ordem manual
+    @Transactional(readOnly = true)
+    public Optional<List<TaskDTO>> getSubtree(@NonNull Long id) {
+        List<TaskDTO> tasks = taskTreeRepository.findSubtree(TenantContext.current(), id).stream()
+                .map(taskMapper::convertToDTO)
+                .toList();
+        return tasks.isEmpty() ? Optional.empty() : Optional.of(tasks);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TaskProgressDTO> getProgress(@NonNull Long id) {
+        return Optional.ofNullable(taskTreeRepository.countProgress(TenantContext.current(), id));
+    }
+
+    // Conclui a tarefa e todos os descendentes; os já concluídos mantêm o completedAt
+    @Transactional
+    public boolean completeSubtree(@NonNull Long id) {
+        String tenant = TenantContext.current();
+        List<Long> ids = taskTreeRepository.completeSubtree(tenant, id, LocalDateTime.now());
+        for (Long taskId : ids) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(tenant, taskId, "completed", true));
+            eventPublisher.publishEvent(ReminderChangedEvent.cancelled(tenant, taskId));
+        }
+        return !ids.isEmpty();
+    }
+
+    // parentId nulo leva a tarefa para o nível superior
+    @Transactional
+    public boolean changeParent(@NonNull Long id, Long parentId) {
+        String tenant = TenantContext.current();
+        ReparentResult result = taskTreeRepository.reparent(tenant, id, parentId);
+        switch (result) {
+            case NOT_FOUND -> {
+                return false;
+            }
+            case PARENT_NOT_FOUND -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tarefa pai não encontrada");
+            case CYCLE -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A tarefa não pode ficar abaixo dela mesma ou de um descendente");
+            case MOVED -> eventPublisher.publishEvent(TaskChangedEvent.updated(tenant, id, "parent_id", parentId));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.todolist.api.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+
+// Pools HikariCP de cada shard, na ordem da configuração (o índice é o número do shard)
+public class ShardDataSources implements DisposableBean {
+
+    private final List<HikariDataSource> dataSources;
+
+    public ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    public HikariDataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    public List<HikariDataSource> all() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
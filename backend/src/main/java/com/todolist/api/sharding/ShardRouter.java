@@ -0,0 +1,161 @@
+package com.todolist.api.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.ShardingProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Decide em qual shard vive cada tenant.
+ *
+ * Ordem de precedência: overrides da configuração, diretório (tabela tenant_shards no shard 0,
+ * preenchida por migrações de tenant) e, por fim, jump consistent hash do ID do tenant.
+ * O jump hash é estável entre réplicas e reinícios, e ao aumentar o número de shards
+ * só ~1/N dos tenants mudam de shard.
+ */
+@Component
+@Profile("!embedded")
+public class ShardRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRouter.class);
+
+    private final int shardCount;
+    private final Map<String, Integer> configuredOverrides;
+    private final JdbcTemplate directory;
+
+    private volatile Map<String, Integer> directoryShards = Map.of();
+    private volatile Set<String> migratingTenants = Set.of();
+
+    public ShardRouter(ShardDataSources shardDataSources, ShardingProperties properties) {
+        this.shardCount = shardDataSources.size();
+        this.configuredOverrides = Map.copyOf(properties.getOverrides());
+        this.directory = new JdbcTemplate(shardDataSources.get(0));
+        configuredOverrides.forEach((tenant, shard) -> checkShard(shard));
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(String tenant) {
+        Integer shard = configuredOverrides.get(tenant);
+        if (shard == null) {
+            shard = directoryShards.get(tenant);
+        }
+        return shard != null ? shard : hashShard(tenant);
+    }
+
+    public int hashShard(String tenant) {
+        return jumpConsistentHash(fnv1a64(tenant), shardCount);
+    }
+
+    // Tenants em migração ficam somente leitura até a troca de shard
+    public boolean isMigrating(String tenant) {
+        return migratingTenants.contains(tenant);
+    }
+
+    public Set<String> getMigratingTenants() {
+        return migratingTenants;
+    }
+
+    // Para "tenant_id NOT IN (...)" nos jobs que gravam em todos os tenants do shard: enquanto a migração copia um
+    // tenant, uma linha alterada depois de copiada se perderia na troca de shard. Nunca vazia (NOT IN () não é SQL
+    // válido); "" não é um tenant, o TenantFilter recusa IDs vazios
+    public List<String> tenantsToSkip() {
+        Set<String> migrating = migratingTenants;
+        return migrating.isEmpty() ? List.of("") : List.copyOf(migrating);
+    }
+
+    public Map<String, Integer> getOverrides() {
+        Map<String, Integer> overrides = new HashMap<>(directoryShards);
+        overrides.putAll(configuredOverrides);
+        return overrides;
+    }
+
+    // Executa a ação uma vez em cada shard, com as conexões roteadas para ele
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            ShardRoutingDataSource.callOnShard(current, () -> {
+                action.accept(current);
+                return null;
+            });
+        }
+    }
+
+    public void assign(String tenant, int shard) {
+        checkShard(shard);
+        saveDirectoryEntry(tenant, shard, false);
+        refreshDirectory();
+    }
+
+    public void setMigrating(String tenant, boolean migrating) {
+        saveDirectoryEntry(tenant, shardFor(tenant), migrating);
+        refreshDirectory();
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.sharding.directory-refresh:10s}")
+    public void refreshDirectory() {
+        try {
+            Map<String, Integer> shards = new HashMap<>();
+            Set<String> migrating = new HashSet<>();
+            directory.query("SELECT tenant_id, shard, migrating FROM tenant_shards", rs -> {
+                shards.put(rs.getString("tenant_id"), rs.getInt("shard"));
+                if (rs.getBoolean("migrating")) {
+                    migrating.add(rs.getString("tenant_id"));
+                }
+            });
+            directoryShards = Map.copyOf(shards);
+            migratingTenants = Set.copyOf(migrating);
+        } catch (DataAccessException e) {
+            logger.warn("Não foi possível recarregar o diretório de tenants: {}", e.getMessage());
+        }
+    }
+
+    private void saveDirectoryEntry(String tenant, int shard, boolean migrating) {
+        directory.update("""
+                INSERT INTO tenant_shards (tenant_id, shard, migrating, updated_at) VALUES (?, ?, ?, NOW(6))
+                ON DUPLICATE KEY UPDATE shard = VALUES(shard), migrating = VALUES(migrating), updated_at = VALUES(updated_at)""",
+                tenant, shard, migrating);
+    }
+
+    private void checkShard(int shard) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("Shard inexistente: " + shard + " (shards configurados: " + shardCount + ")");
+        }
+    }
+
+    static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Lamping & Veach, "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
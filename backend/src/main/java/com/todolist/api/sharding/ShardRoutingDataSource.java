@@ -0,0 +1,82 @@
+package com.todolist.api.sharding;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.todolist.api.profiling.PoolWait;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Escolhe o shard no momento em que a conexão é obtida (início da transação)
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    // Shard fixado explicitamente, usado por jobs que percorrem todos os shards
+    private static final ThreadLocal<Integer> PINNED_SHARD = new ThreadLocal<>();
+
+    private final ShardRouter shardRouter;
+    private final ObservationRegistry observationRegistry;
+
+    public ShardRoutingDataSource(ShardDataSources shardDataSources, ShardRouter shardRouter,
+            ObservationRegistry observationRegistry) {
+        this.shardRouter = shardRouter;
+        this.observationRegistry = observationRegistry;
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targets.put(shard, shardDataSources.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shardDataSources.get(0));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer pinned = PINNED_SHARD.get();
+        return pinned != null ? pinned : shardRouter.shardFor(TenantContext.current());
+    }
+
+    // Span (e evento JFR) próprio para a espera por uma conexão livre no pool HikariCP do shard
+    @Override
+    public Connection getConnection() throws SQLException {
+        int shard = (Integer) determineCurrentLookupKey();
+        PoolWait.Acquire acquire = PoolWait.begin(shard);
+        Observation observation = Observation.createNotStarted("todolist.jdbc.acquire", observationRegistry)
+                .contextualName("hikari acquire")
+                .lowCardinalityKeyValue("shard", String.valueOf(shard))
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return super.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+            acquire.end();
+        }
+    }
+
+    // Shard fixado por callOnShard na thread atual; nulo = roteado pelo tenant
+    public static Integer pinnedShard() {
+        return PINNED_SHARD.get();
+    }
+
+    public static <T> T callOnShard(int shard, Supplier<T> action) {
+        Integer previous = PINNED_SHARD.get();
+        PINNED_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED_SHARD.remove();
+            } else {
+                PINNED_SHARD.set(previous);
+            }
+        }
+    }
+}
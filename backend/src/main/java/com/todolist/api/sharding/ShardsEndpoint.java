@@ -0,0 +1,49 @@
+package com.todolist.api.sharding;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// /actuator/shards: consulta o mapa de shards e dispara a migração de um tenant
+@Component
+@Profile("!embedded")
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardRouter shardRouter;
+    private final TenantMigrationService tenantMigrationService;
+
+    public ShardsEndpoint(ShardRouter shardRouter, TenantMigrationService tenantMigrationService) {
+        this.shardRouter = shardRouter;
+        this.tenantMigrationService = tenantMigrationService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        return Map.of(
+                "shardCount", shardRouter.getShardCount(),
+                "assignments", shardRouter.getOverrides(),
+                "migrating", shardRouter.getMigratingTenants());
+    }
+
+    @ReadOperation
+    public Map<String, Object> tenant(@Selector String tenant) {
+        return Map.of(
+                "tenant", tenant,
+                "shard", shardRouter.shardFor(tenant),
+                "hashShard", shardRouter.hashShard(tenant),
+                "migrating", shardRouter.isMigrating(tenant));
+    }
+
+    // POST /actuator/shards/{tenant} com {"shard": N}
+    @WriteOperation
+    public Map<String, Object> migrate(@Selector String tenant, int shard) {
+        Map<String, Integer> copied = tenantMigrationService.migrate(tenant, shard);
+        return Map.of("tenant", tenant, "shard", shard, "copied", copied);
+    }
+}
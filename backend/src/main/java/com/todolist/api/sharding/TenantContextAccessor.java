@@ -0,0 +1,33 @@
+package com.todolist.api.sharding;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Leva o tenant da thread atual para tarefas executadas em outras threads,
+ * junto com o contexto de tracing (ContextPropagatingTaskDecorator).
+ * Registrado via META-INF/services.
+ */
+public class TenantContextAccessor implements ThreadLocalAccessor<String> {
+
+    public static final String KEY = "todolist.tenant";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return TenantContext.peek();
+    }
+
+    @Override
+    public void setValue(String tenant) {
+        TenantContext.set(tenant);
+    }
+
+    @Override
+    public void setValue() {
+        TenantContext.clear();
+    }
+}
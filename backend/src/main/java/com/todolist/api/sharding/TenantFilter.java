@@ -0,0 +1,70 @@
+package com.todolist.api.sharding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.todolist.api.config.ShardingProperties;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Define o tenant da requisição a partir do cabeçalho (padrão: X-Tenant-Id)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ShardingProperties properties;
+    // Ausente no armazenamento embarcado (sem shards)
+    private final ObjectProvider<ShardRouter> shardRouter;
+
+    public TenantFilter(ShardingProperties properties, ObjectProvider<ShardRouter> shardRouter) {
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String tenant = request.getHeader(properties.getTenantHeader());
+        if (tenant == null || tenant.isBlank()) {
+            tenant = TenantContext.DEFAULT_TENANT;
+        } else if (!VALID_TENANT.matcher(tenant).matches()) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Tenant inválido");
+            return;
+        }
+        // Durante a migração entre shards o tenant fica somente leitura
+        ShardRouter router = shardRouter.getIfAvailable();
+        if (router != null && router.isMigrating(tenant) && !READ_METHODS.contains(request.getMethod())) {
+            response.setHeader("Retry-After", "30");
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "Tenant em manutenção. Tente novamente em instantes.");
+            return;
+        }
+        TenantContext.set(tenant);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
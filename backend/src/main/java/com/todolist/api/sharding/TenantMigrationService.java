@@ -0,0 +1,151 @@
+package com.todolist.api.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.todolist.api.config.ShardingProperties;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Move todos os dados de um tenant para outro shard.
+ *
+ * 1. Marca o tenant como "migrando" (escritas recebem 503, e os jobs deixam o tenant de lado: ver
+ *    ShardRouter.tenantsToSkip) e espera as réplicas recarregarem o diretório;
+ * 2. Copia as linhas do tenant de cada tabela, em lotes, do shard de origem para o de destino;
+ * 3. Registra o novo shard no diretório, liberando as escritas, e espera as réplicas passarem a ler do destino;
+ * 4. Remove as linhas do shard de origem, em lotes.
+ *
+ * Se a cópia falhar, as linhas parciais do destino são removidas e o tenant volta ao shard de origem.
+ */
+@Service
+@Profile("!embedded")
+public class TenantMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantMigrationService.class);
+
+    // Tabelas com coluna tenant_id, na ordem de cópia (task_closure depois de tasks, por causa das chaves estrangeiras)
+    static final List<String> TENANT_TABLES = List.of("tasks", "task_closure", "tasks_archive", "task_events",
+            "task_outbox", "task_daily_stats", "task_lists", "task_series");
+
+    // Tabelas cujo id é só a ordem de gravação no shard: o destino gera ids novos, na mesma ordem, em vez de copiar
+    // os da origem (que podem já existir no destino)
+    static final Set<String> SHARD_LOCAL_ID_TABLES = Set.of("task_events", "task_outbox");
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardDataSources shardDataSources;
+    private final ShardRouter shardRouter;
+    private final ShardingProperties properties;
+
+    public TenantMigrationService(ShardDataSources shardDataSources, ShardRouter shardRouter,
+            ShardingProperties properties) {
+        this.shardDataSources = shardDataSources;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+    }
+
+    public synchronized Map<String, Integer> migrate(String tenant, int targetShard) {
+        int sourceShard = shardRouter.shardFor(tenant);
+        if (sourceShard == targetShard) {
+            throw new IllegalArgumentException("O tenant " + tenant + " já está no shard " + targetShard);
+        }
+        if (targetShard < 0 || targetShard >= shardRouter.getShardCount()) {
+            throw new IllegalArgumentException("Shard inexistente: " + targetShard);
+        }
+        JdbcTemplate source = new JdbcTemplate(shardDataSources.get(sourceShard));
+        JdbcTemplate target = new JdbcTemplate(shardDataSources.get(targetShard));
+
+        shardRouter.setMigrating(tenant, true);
+        Map<String, Integer> copied = new LinkedHashMap<>();
+        try {
+            waitForReplicas();
+            for (String table : TENANT_TABLES) {
+                copied.put(table, copyTable(table, tenant, source, target));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Falha ao migrar o tenant {} do shard {} para o shard {}", tenant, sourceShard, targetShard, e);
+            TENANT_TABLES.forEach(table -> deleteTenantRows(table, tenant, target));
+            shardRouter.setMigrating(tenant, false);
+            throw e;
+        }
+
+        shardRouter.assign(tenant, targetShard);
+        // Uma réplica com o diretório antigo ainda lê o tenant na origem: só apaga depois que todas recarregarem
+        waitForReplicas();
+        TENANT_TABLES.forEach(table -> deleteTenantRows(table, tenant, source));
+        logger.info("Tenant {} migrado do shard {} para o shard {}: {}", tenant, sourceShard, targetShard, copied);
+        return copied;
+    }
+
+    // Copia com cursor de streaming na origem e INSERTs em lote no destino
+    private int copyTable(String table, String tenant, JdbcTemplate source, JdbcTemplate target) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String[] insertSql = new String[1];
+        int[] total = new int[1];
+        source.setFetchSize(Integer.MIN_VALUE);
+        boolean localId = SHARD_LOCAL_ID_TABLES.contains(table);
+        String sql = "SELECT * FROM " + table + " WHERE tenant_id = ?" + (localId ? " ORDER BY id" : "");
+        source.query(sql, rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            // Com id gerado no destino, a coluna id (a primeira) fica de fora
+            int first = localId ? 2 : 1;
+            int columns = metaData.getColumnCount() - first + 1;
+            if (insertSql[0] == null) {
+                insertSql[0] = buildInsert(table, metaData, first);
+            }
+            Object[] row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                row[i] = rs.getObject(first + i);
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                target.batchUpdate(insertSql[0], batch);
+                total[0] += batch.size();
+                batch.clear();
+            }
+        }, tenant);
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insertSql[0], batch);
+            total[0] += batch.size();
+        }
+        return total[0];
+    }
+
+    private static String buildInsert(String table, ResultSetMetaData metaData, int first) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = first; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnName(i));
+            values.add("?");
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ")";
+    }
+
+    private void deleteTenantRows(String table, String tenant, JdbcTemplate jdbcTemplate) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM " + table + " WHERE tenant_id = ? LIMIT " + BATCH_SIZE, tenant);
+        } while (deleted == BATCH_SIZE);
+    }
+
+    // Dá tempo para todas as réplicas recarregarem o diretório e terminarem as requisições em andamento
+    private void waitForReplicas() {
+        try {
+            Thread.sleep(properties.getDirectoryRefresh().multipliedBy(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Migração interrompida", e);
+        }
+    }
+}
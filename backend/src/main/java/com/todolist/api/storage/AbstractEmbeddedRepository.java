@@ -0,0 +1,182 @@
+package com.todolist.api.storage;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base dos repositórios do armazenamento embarcado: implementa os métodos do JpaRepository
+ * a partir de findById, findAll, save e deleteById. Não há unidade de persistência,
+ * então flush é vazio e as entidades devolvidas são cópias (alterações exigem save).
+ * Ordenação arbitrária e consultas por exemplo não são suportadas.
+ */
+@SuppressWarnings("null")
+public abstract class AbstractEmbeddedRepository<T> implements JpaRepository<T, Long> {
+
+    protected abstract Long idOf(T entity);
+
+    @Override
+    public @NonNull <S extends T> List<S> saveAll(@NonNull Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public @NonNull List<T> findAllById(@NonNull Iterable<Long> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public boolean existsById(@NonNull Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public long count() {
+        return findAll().size();
+    }
+
+    @Override
+    public void delete(@NonNull T entity) {
+        deleteById(idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(@NonNull Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(@NonNull Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAll(findAll());
+    }
+
+    @Override
+    public @NonNull List<T> findAll(@NonNull Sort sort) {
+        if (sort.isSorted()) {
+            throw unsupported("Ordenação");
+        }
+        return findAll();
+    }
+
+    @Override
+    public @NonNull Page<T> findAll(@NonNull Pageable pageable) {
+        List<T> all = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all);
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public @NonNull <S extends T> S saveAndFlush(@NonNull S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public @NonNull <S extends T> List<S> saveAllAndFlush(@NonNull Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public void deleteAllInBatch(@NonNull Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(@NonNull Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public @NonNull T getOne(@NonNull Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public @NonNull T getById(@NonNull Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public @NonNull T getReferenceById(@NonNull Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Entidade não encontrada: " + id));
+    }
+
+    @Override
+    public @NonNull <S extends T> Optional<S> findOne(@NonNull Example<S> example) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public @NonNull <S extends T> List<S> findAll(@NonNull Example<S> example) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public @NonNull <S extends T> List<S> findAll(@NonNull Example<S> example, @NonNull Sort sort) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public @NonNull <S extends T> Page<S> findAll(@NonNull Example<S> example, @NonNull Pageable pageable) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public <S extends T> long count(@NonNull Example<S> example) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public <S extends T> boolean exists(@NonNull Example<S> example) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    @Override
+    public @NonNull <S extends T, R> R findBy(@NonNull Example<S> example,
+            @NonNull Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported("Consulta por exemplo");
+    }
+
+    protected static <E> List<E> toList(Iterable<E> iterable) {
+        return StreamSupport.stream(iterable.spliterator(), false).toList();
+    }
+
+    private static UnsupportedOperationException unsupported(String operation) {
+        return new UnsupportedOperationException(operation + " não é suportada no armazenamento embarcado");
+    }
+}
@@ -0,0 +1,70 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.ArchivedTask;
+import com.todolist.api.repository.ArchivedTaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// No armazenamento embarcado não há arquivamento: todas as tarefas ficam no mesmo mapa e o arquivo fica vazio
+@Repository
+@Profile("embedded")
+@SuppressWarnings("null")
+public class EmbeddedArchivedTaskRepository extends AbstractEmbeddedRepository<ArchivedTask> implements ArchivedTaskRepository {
+
+    @Override
+    public @NonNull Optional<ArchivedTask> findById(@NonNull Long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public @NonNull List<ArchivedTask> findAll() {
+        return List.of();
+    }
+
+    @Override
+    public @NonNull <S extends ArchivedTask> S save(@NonNull S archivedTask) {
+        throw new UnsupportedOperationException("O armazenamento embarcado não tem arquivo de tarefas");
+    }
+
+    @Override
+    public List<ArchivedTask> findPage(Pageable pageable) {
+        return List.of();
+    }
+
+    @Override
+    public void deleteById(@NonNull Long id) {
+    }
+
+    @Override
+    protected Long idOf(ArchivedTask archivedTask) {
+        return archivedTask.getId();
+    }
+
+    @Override
+    public List<ArchivableTask> lockArchivableTasks(LocalDateTime cutoff, int limit, Collection<String> skippedTenants) {
+        return List.of();
+    }
+
+    @Override
+    public List<Long> findListIds(List<Long> ids) {
+        return List.of();
+    }
+
+    @Override
+    public int copyFromTasks(List<Long> ids, LocalDateTime archivedAt) {
+        return 0;
+    }
+
+    @Override
+    public int deleteFromTasks(List<Long> ids) {
+        return 0;
+    }
+}
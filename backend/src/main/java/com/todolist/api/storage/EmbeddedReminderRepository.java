@@ -0,0 +1,55 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.reminder.Reminder;
+import com.todolist.api.repository.ReminderRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// O armazenamento embarcado não tem índice por remind_at: a busca percorre o mapa inteiro, uma vez por refill
+@Repository
+@Profile("embedded")
+public class EmbeddedReminderRepository implements ReminderRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedReminderRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<Reminder> findBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        return store.select(task -> isPending(task) && !task.remindAt().isBefore(from) && task.remindAt().isBefore(to))
+                .stream()
+                .sorted(Comparator.comparing(StoredTask::remindAt))
+                .limit(limit)
+                .map(EmbeddedReminderRepository::toReminder)
+                .toList();
+    }
+
+    @Override
+    public List<Reminder> findByTaskIds(Collection<Long> taskIds) {
+        List<Reminder> reminders = new ArrayList<>();
+        for (Long id : taskIds) {
+            StoredTask task = store.get(id);
+            if (task != null && isPending(task)) {
+                reminders.add(toReminder(task));
+            }
+        }
+        return reminders;
+    }
+
+    private static boolean isPending(StoredTask task) {
+        return task.remindAt() != null && !task.completed() && task.deletedAt() == null;
+    }
+
+    private static Reminder toReminder(StoredTask task) {
+        return new Reminder(task.tenantId(), task.id(), task.remindAt(), task.dueAt());
+    }
+}
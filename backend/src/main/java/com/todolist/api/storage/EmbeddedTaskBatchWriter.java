@@ -0,0 +1,37 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskTags;
+import com.todolist.api.repository.TaskBatchWriter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// O lote inteiro vira uma única escrita no log do armazenamento embarcado
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskBatchWriter implements TaskBatchWriter {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskBatchWriter(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void insertAll(String tenantId, List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        tasks.stream().filter(task -> task.getCreatedAt() == null).forEach(task -> task.setCreatedAt(now));
+        List<StoredTask> stored = store.saveAll(tasks.stream()
+                .map(task -> new StoredTask(0, tenantId, task.getTitle(), task.getDescription(), task.getCompleted(),
+                        task.getCompletedAt(), task.getDeletedAt(), task.getDueAt(), task.getRemindAt(),
+                        task.getRankKey(), null, TaskTags.join(task.getTags()), task.getCreatedAt(), null, null, null))
+                .toList());
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(stored.get(i).id());
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.todolist.api.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.eventlog.TaskEvent;
+import com.todolist.api.repository.TaskEventRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Histórico de eventos do armazenamento embarcado: um arquivo append-only (events.log) separado do log das
+ * tarefas, com registros [tamanho][CRC32C][dados] como o TaskLog. As colunas alteradas vão no fim dos dados, em
+ * JSON; registros gravados antes delas terminam no horário e são lidos sem alterações.
+ *
+ * Em memória fica só a posição de cada evento no arquivo, por tenant e tarefa (8 bytes por evento);
+ * findByTask lê do arquivo apenas os registros pedidos. Só o TaskEventLog grava, de uma única thread.
+ */
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskEventRepository implements TaskEventRepository, InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedTaskEventRepository.class);
+
+    private static final int HEADER = 2 * Integer.BYTES;
+    private static final int MAX_RECORD = 1 << 16;
+    private static final long NO_TASK = Long.MIN_VALUE;
+    private static final ChangeType[] TYPES = ChangeType.values();
+    private static final byte[] NO_CHANGES = new byte[0];
+    private static final TypeReference<Map<String, Object>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private final Path path;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+    // tenant -> tarefa -> posições dos eventos no arquivo, em ordem de gravação
+    private final Map<String, LongObjectMap<Positions>> positions = new HashMap<>();
+    private FileChannel channel;
+
+    public EmbeddedTaskEventRepository(EmbeddedStorageProperties properties, ObjectMapper objectMapper) {
+        this.path = Path.of(properties.getDirectory(), "events.log");
+        this.fsync = properties.isFsync();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Files.createDirectories(path.getParent());
+        if (Files.exists(path)) {
+            recover();
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+
+    @Override
+    public void append(List<TaskEvent> events) {
+        List<byte[]> tenants = new ArrayList<>(events.size());
+        List<byte[]> changes = new ArrayList<>(events.size());
+        int size = 0;
+        for (TaskEvent event : events) {
+            byte[] tenant = event.tenantId().getBytes(StandardCharsets.UTF_8);
+            byte[] changed = encodeChanges(event.changes());
+            tenants.add(tenant);
+            changes.add(changed);
+            size += HEADER + recordSize(tenant, changed);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        long[] offsets = new long[events.size()];
+        long start = -1;
+        try {
+            start = channel.position();
+            for (int i = 0; i < events.size(); i++) {
+                offsets[i] = start + buffer.position();
+                encode(buffer, tenants.get(i), changes.get(i), events.get(i));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // Corta a escrita parcial: o gravador tenta o mesmo lote de novo a partir de start
+            discardFrom(start);
+            throw new UncheckedIOException("Falha ao gravar o histórico em " + path, e);
+        }
+        // Só depois da escrita: uma leitura nunca acha a posição de um registro incompleto
+        synchronized (positions) {
+            for (int i = 0; i < events.size(); i++) {
+                index(events.get(i), offsets[i]);
+            }
+        }
+    }
+
+    @Override
+    public List<TaskEvent> findByTask(String tenantId, long taskId, int limit) {
+        long[] found;
+        synchronized (positions) {
+            LongObjectMap<Positions> byTask = positions.get(tenantId);
+            Positions task = byTask == null ? null : byTask.get(taskId);
+            if (task == null) {
+                return List.of();
+            }
+            found = task.latest(limit);
+        }
+        List<TaskEvent> events = new ArrayList<>(found.length);
+        ByteBuffer header = ByteBuffer.allocate(HEADER);
+        try {
+            for (long offset : found) {
+                header.clear();
+                readFully(header, offset);
+                ByteBuffer body = ByteBuffer.allocate(header.flip().getInt(0));
+                readFully(body, offset + HEADER);
+                events.add(decode(body.flip(), true));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o histórico em " + path, e);
+        }
+        return events;
+    }
+
+    // Reconstrói as posições; um registro incompleto no fim (queda durante a escrita) é cortado
+    private void recover() throws IOException {
+        long valid;
+        long size;
+        long records = 0;
+        try (MappedFileReader reader = new MappedFileReader(path)) {
+            size = reader.size();
+            CRC32C crc = new CRC32C();
+            while (true) {
+                valid = reader.position();
+                if (!reader.ensure(HEADER)) {
+                    break;
+                }
+                ByteBuffer buffer = reader.buffer();
+                int length = buffer.getInt();
+                int expectedCrc = buffer.getInt();
+                if (length <= 0 || length > MAX_RECORD || !reader.ensure(length)) {
+                    break;
+                }
+                buffer = reader.buffer();
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                // A recuperação só precisa do tenant e da tarefa: o JSON das alterações não é lido
+                index(decode(body, false), valid);
+                buffer.position(buffer.position() + length);
+                records++;
+            }
+        }
+        if (valid < size) {
+            logger.warn("Descartando {} bytes incompletos no fim de {}", size - valid, path);
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                file.truncate(valid);
+            }
+        }
+        logger.info("Histórico de eventos carregado: {} eventos em {}", records, path);
+    }
+
+    // Chamado com o lock de positions (ou na recuperação, antes de qualquer leitura)
+    private void index(TaskEvent event, long offset) {
+        if (event.taskId() == null) {
+            return;
+        }
+        LongObjectMap<Positions> byTask = positions.computeIfAbsent(event.tenantId(), tenant -> new LongObjectMap<>(16));
+        Positions task = byTask.get(event.taskId());
+        if (task == null) {
+            task = new Positions();
+            byTask.put(event.taskId(), task);
+        }
+        task.add(offset);
+    }
+
+    private void discardFrom(long start) {
+        if (start < 0) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            logger.warn("Falha ao cortar a escrita parcial em {}", path, e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Fim inesperado do histórico na posição " + offset);
+            }
+        }
+    }
+
+    private static int recordSize(byte[] tenant, byte[] changes) {
+        return Short.BYTES + tenant.length + Long.BYTES + 1 + Long.BYTES + Integer.BYTES + Integer.BYTES + changes.length;
+    }
+
+    private static void encode(ByteBuffer buffer, byte[] tenant, byte[] changes, TaskEvent event) {
+        int start = buffer.position();
+        buffer.position(start + HEADER);
+        buffer.putShort((short) tenant.length);
+        buffer.put(tenant);
+        buffer.putLong(event.taskId() == null ? NO_TASK : event.taskId());
+        buffer.put((byte) event.type().ordinal());
+        buffer.putLong(event.occurredAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(event.occurredAt().getNano());
+        buffer.putInt(changes.length);
+        buffer.put(changes);
+        int length = buffer.position() - start - HEADER;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER, length));
+        buffer.putInt(start, length);
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    private TaskEvent decode(ByteBuffer body, boolean withChanges) {
+        byte[] tenant = new byte[body.getShort()];
+        body.get(tenant);
+        long taskId = body.getLong();
+        ChangeType type = TYPES[body.get()];
+        LocalDateTime occurredAt = LocalDateTime.ofEpochSecond(body.getLong(), body.getInt(), ZoneOffset.UTC);
+        byte[] changes = NO_CHANGES;
+        if (withChanges && body.hasRemaining()) {
+            changes = new byte[body.getInt()];
+            body.get(changes);
+        }
+        return new TaskEvent(new String(tenant, StandardCharsets.UTF_8), taskId == NO_TASK ? null : taskId, type, occurredAt,
+                decodeChanges(changes));
+    }
+
+    private byte[] encodeChanges(Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return NO_CHANGES;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Alterações do evento não serializáveis: " + changes.keySet(), e);
+        }
+    }
+
+    private Map<String, Object> decodeChanges(byte[] changes) {
+        if (changes.length == 0) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(changes, CHANGES_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Alterações ilegíveis no histórico em " + path, e);
+        }
+    }
+
+    // Lista de posições de uma tarefa, sem boxing
+    private static final class Positions {
+
+        private long[] values = new long[4];
+        private int size;
+
+        private void add(long offset) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = offset;
+        }
+
+        // As limit posições mais recentes, da mais recente para a mais antiga
+        private long[] latest(int limit) {
+            long[] latest = new long[Math.min(limit, size)];
+            for (int i = 0; i < latest.length; i++) {
+                latest[i] = values[size - 1 - i];
+            }
+            return latest;
+        }
+    }
+}
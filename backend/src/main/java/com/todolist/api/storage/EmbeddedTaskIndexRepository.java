@@ -0,0 +1,45 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.index.IndexedTask;
+import com.todolist.api.model.TaskTags;
+import com.todolist.api.repository.TaskIndexRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskIndexRepository implements TaskIndexRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskIndexRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void forEachTask(Consumer<IndexedTask> action) {
+        store.select(task -> task.deletedAt() == null).forEach(task -> action.accept(toIndexed(task)));
+    }
+
+    @Override
+    public List<IndexedTask> findByIds(Collection<Long> taskIds) {
+        List<IndexedTask> tasks = new ArrayList<>();
+        for (Long id : taskIds) {
+            StoredTask task = store.get(id);
+            if (task != null && task.deletedAt() == null) {
+                tasks.add(toIndexed(task));
+            }
+        }
+        return tasks;
+    }
+
+    private static IndexedTask toIndexed(StoredTask task) {
+        return new IndexedTask(task.tenantId(), task.id(), task.title(), task.completed(), TaskTags.split(task.tags()));
+    }
+}
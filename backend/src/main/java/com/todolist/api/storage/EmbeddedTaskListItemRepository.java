@@ -0,0 +1,60 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskListItemRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Sem índice por lista: uma passada pelas tarefas do tenant separa as de todas as listas pedidas
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskListItemRepository implements TaskListItemRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskListItemRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Map<Long, List<Task>> findTasks(String tenantId, Collection<Long> listIds, int perList) {
+        Map<Long, List<Task>> tasks = new LinkedHashMap<>();
+        if (listIds.isEmpty() || perList <= 0) {
+            return tasks;
+        }
+        Set<Long> wanted = new TreeSet<>(listIds);
+        store.select(task -> isVisible(task, tenantId) && task.listId() != null && wanted.contains(task.listId())).stream()
+                .sorted(EmbeddedTaskRankRepository.RANK_ORDER)
+                .forEach(task -> {
+                    List<Task> list = tasks.computeIfAbsent(task.listId(), listId -> new ArrayList<>());
+                    if (list.size() < perList) {
+                        list.add(task.toTask());
+                    }
+                });
+        return tasks;
+    }
+
+    @Override
+    public List<Long> detachAll(String tenantId, Long listId) {
+        List<StoredTask> members = store.select(task -> task.tenantId().equals(tenantId) && listId.equals(task.listId()));
+        store.updateAll(members.stream().map(StoredTask::id).toList(),
+                task -> listId.equals(task.listId()) ? task.withListId(null) : null);
+        return members.stream()
+                .filter(task -> task.deletedAt() == null)
+                .map(StoredTask::id)
+                .toList();
+    }
+
+    private static boolean isVisible(StoredTask task, String tenantId) {
+        return task.tenantId().equals(tenantId) && task.deletedAt() == null;
+    }
+}
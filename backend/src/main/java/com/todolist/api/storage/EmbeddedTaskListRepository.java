@@ -0,0 +1,193 @@
+package com.todolist.api.storage;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.model.TaskList;
+import com.todolist.api.repository.TaskListRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Listas do armazenamento embarcado. São poucas e mudam pouco: ficam em memória e o arquivo lists.dat é
+ * regravado inteiro a cada alteração (arquivo temporário + rename atômico).
+ *
+ * Não há colunas de contagem: as contagens de uma página de listas saem de uma passada pelas tarefas do tenant,
+ * no momento da leitura, e por isso estão sempre em dia.
+ */
+@Repository
+@Profile("embedded")
+@SuppressWarnings("null")
+public class EmbeddedTaskListRepository extends AbstractEmbeddedRepository<TaskList>
+        implements TaskListRepository, InitializingBean {
+
+    private static final int FILE_VERSION = 1;
+
+    private record StoredList(long id, String tenantId, String name, LocalDateTime createdAt) {
+    }
+
+    private final EmbeddedTaskStore store;
+    private final Path file;
+    private final TreeMap<Long, StoredList> lists = new TreeMap<>();
+    private long lastId;
+
+    public EmbeddedTaskListRepository(EmbeddedTaskStore store, EmbeddedStorageProperties properties) {
+        this.store = store;
+        this.file = Path.of(properties.getDirectory()).resolve("lists.dat");
+    }
+
+    @Override
+    public synchronized void afterPropertiesSet() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int version = in.readInt();
+            if (version != FILE_VERSION) {
+                throw new IllegalStateException("Versão de arquivo de listas não suportada: " + version);
+            }
+            lastId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                StoredList list = new StoredList(in.readLong(), in.readUTF(), in.readUTF(),
+                        LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC).plusNanos(in.readInt()));
+                lists.put(list.id(), list);
+            }
+        }
+    }
+
+    @Override
+    public synchronized @NonNull Optional<TaskList> findById(@NonNull Long id) {
+        return Optional.ofNullable(lists.get(id))
+                .filter(EmbeddedTaskListRepository::isCurrentTenant)
+                .map(list -> withCounts(List.of(list)).get(0));
+    }
+
+    @Override
+    public synchronized @NonNull List<TaskList> findAll() {
+        return withCounts(lists.values().stream().filter(EmbeddedTaskListRepository::isCurrentTenant).toList());
+    }
+
+    @Override
+    public synchronized List<TaskList> findPage(Pageable pageable) {
+        return withCounts(lists.values().stream()
+                .filter(EmbeddedTaskListRepository::isCurrentTenant)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList());
+    }
+
+    @Override
+    public synchronized @NonNull <S extends TaskList> S save(@NonNull S taskList) {
+        if (taskList.getId() == null) {
+            taskList.setId(++lastId);
+            taskList.setTenantId(TenantContext.current());
+            taskList.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        }
+        StoredList existing = lists.get(taskList.getId());
+        if (existing != null && !existing.tenantId().equals(taskList.getTenantId())) {
+            throw new IllegalStateException("A lista " + taskList.getId() + " pertence a outro tenant");
+        }
+        StoredList previous = lists.put(taskList.getId(),
+                new StoredList(taskList.getId(), taskList.getTenantId(), taskList.getName(), taskList.getCreatedAt()));
+        try {
+            write();
+        } catch (IOException e) {
+            // Mantém a memória igual ao arquivo
+            if (previous == null) {
+                lists.remove(taskList.getId());
+            } else {
+                lists.put(previous.id(), previous);
+            }
+            throw new UncheckedIOException("Falha ao gravar as listas", e);
+        }
+        return taskList;
+    }
+
+    @Override
+    public synchronized void deleteById(@NonNull Long id) {
+        StoredList removed = lists.get(id);
+        if (removed == null || !isCurrentTenant(removed)) {
+            return;
+        }
+        lists.remove(id);
+        try {
+            write();
+        } catch (IOException e) {
+            lists.put(id, removed);
+            throw new UncheckedIOException("Falha ao gravar as listas", e);
+        }
+    }
+
+    @Override
+    protected Long idOf(TaskList taskList) {
+        return taskList.getId();
+    }
+
+    private void write() throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(FILE_VERSION);
+            out.writeLong(lastId);
+            out.writeInt(lists.size());
+            for (StoredList list : lists.values()) {
+                out.writeLong(list.id());
+                out.writeUTF(list.tenantId());
+                out.writeUTF(list.name());
+                out.writeLong(list.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(list.createdAt().getNano());
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Uma passada pelas tarefas do tenant para todas as listas da página
+    private List<TaskList> withCounts(List<StoredList> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, int[]> counts = new HashMap<>();
+        page.forEach(list -> counts.put(list.id(), new int[2]));
+        String tenantId = page.get(0).tenantId();
+        for (StoredTask task : store.select(task -> task.listId() != null && task.deletedAt() == null
+                && task.tenantId().equals(tenantId) && counts.containsKey(task.listId()))) {
+            int[] count = counts.get(task.listId());
+            count[0]++;
+            if (task.completed()) {
+                count[1]++;
+            }
+        }
+        return page.stream().map(list -> {
+            TaskList taskList = new TaskList(list.name());
+            taskList.setId(list.id());
+            taskList.setTenantId(list.tenantId());
+            taskList.setCreatedAt(list.createdAt());
+            taskList.setTaskCount(counts.get(list.id())[0]);
+            taskList.setCompletedCount(counts.get(list.id())[1]);
+            return taskList;
+        }).toList();
+    }
+
+    private static boolean isCurrentTenant(StoredList list) {
+        return list.tenantId().equals(TenantContext.current());
+    }
+}
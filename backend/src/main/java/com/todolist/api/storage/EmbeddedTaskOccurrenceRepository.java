@@ -0,0 +1,58 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskOccurrenceRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Sem índice por série: uma passada pelas tarefas do tenant separa as ocorrências de todas as séries pedidas
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskOccurrenceRepository implements TaskOccurrenceRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskOccurrenceRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<Task> findBetween(String tenantId, Collection<Long> seriesIds, LocalDate from, LocalDate to) {
+        if (seriesIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> wanted = new TreeSet<>(seriesIds);
+        return store.select(task -> task.tenantId().equals(tenantId) && task.seriesId() != null
+                        && wanted.contains(task.seriesId())
+                        && !task.occurrenceDate().isBefore(from) && !task.occurrenceDate().isAfter(to)).stream()
+                .map(StoredTask::toTask)
+                .toList();
+    }
+
+    @Override
+    public Optional<Task> find(String tenantId, Long seriesId, LocalDate date) {
+        return store.select(task -> task.tenantId().equals(tenantId) && seriesId.equals(task.seriesId())
+                        && date.equals(task.occurrenceDate())).stream()
+                .findFirst()
+                .map(StoredTask::toTask);
+    }
+
+    @Override
+    public List<Long> detachAll(String tenantId, Long seriesId) {
+        List<StoredTask> members = store.select(task -> task.tenantId().equals(tenantId) && seriesId.equals(task.seriesId()));
+        store.updateAll(members.stream().map(StoredTask::id).toList(),
+                task -> seriesId.equals(task.seriesId()) ? task.withSeries(null, null) : null);
+        return members.stream()
+                .filter(task -> task.deletedAt() == null)
+                .map(StoredTask::id)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.model.TaskTags;
+import com.todolist.api.repository.TaskPatchWriter;
+
+import java.time.LocalDateTime;
+
+// Atualização parcial direto no mapa, com as mesmas regras do JdbcTaskPatchWriter
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskPatchWriter implements TaskPatchWriter {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskPatchWriter(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public int patch(String tenantId, Long id, TaskPatchDTO patch, LocalDateTime now) {
+        StoredTask updated = store.update(id, task ->
+                task.tenantId().equals(tenantId) && task.deletedAt() == null ? apply(task, patch, now) : null);
+        return updated == null ? 0 : 1;
+    }
+
+    private static StoredTask apply(StoredTask task, TaskPatchDTO patch, LocalDateTime now) {
+        String title = patch.hasTitle() ? patch.getTitle() : task.title();
+        String description = patch.hasDescription() ? patch.getDescription() : task.description();
+        LocalDateTime dueAt = patch.hasDueAt() ? patch.getDueAt() : task.dueAt();
+        LocalDateTime remindAt = patch.hasRemindAt() ? patch.getRemindAt() : task.remindAt();
+        String tags = patch.hasTags() ? TaskTags.join(TaskTags.normalize(patch.getTags())) : task.tags();
+        boolean completed = task.completed();
+        LocalDateTime completedAt = task.completedAt();
+        if (patch.hasCompleted()) {
+            completed = patch.getCompleted();
+            completedAt = !completed ? null : task.completed() ? task.completedAt() : now;
+        }
+        return new StoredTask(task.id(), task.tenantId(), title, description, completed, completedAt, task.deletedAt(),
+                dueAt, remindAt, task.rankKey(), task.parentId(), tags, task.createdAt(), task.listId(),
+                task.seriesId(), task.occurrenceDate());
+    }
+}
@@ -0,0 +1,67 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskField;
+import com.todolist.api.model.TaskTags;
+import com.todolist.api.repository.TaskProjectionRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Lê os campos pedidos direto do StoredTask, sem montar a entidade Task; não há arquivo no armazenamento embarcado
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskProjectionRepository implements TaskProjectionRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskProjectionRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<Map<String, Object>> findAll(String tenantId, Set<TaskField> fields) {
+        return store.select(task -> isVisible(task, tenantId)).stream()
+                .sorted(EmbeddedTaskRankRepository.RANK_ORDER)
+                .map(task -> project(task, fields))
+                .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findById(String tenantId, Long id, Set<TaskField> fields) {
+        return Optional.ofNullable(store.get(id))
+                .filter(task -> isVisible(task, tenantId))
+                .map(task -> project(task, fields));
+    }
+
+    private static Map<String, Object> project(StoredTask task, Set<TaskField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            row.put(field.jsonName(), switch (field) {
+                case ID -> task.id();
+                case TITLE -> task.title();
+                case DESCRIPTION -> task.description();
+                case COMPLETED -> task.completed();
+                case CREATED_AT -> task.createdAt();
+                case COMPLETED_AT -> task.completedAt();
+                case DUE_AT -> task.dueAt();
+                case REMIND_AT -> task.remindAt();
+                case PARENT_ID -> task.parentId();
+                case LIST_ID -> task.listId();
+                case SERIES_ID -> task.seriesId();
+                case OCCURRENCE_DATE -> task.occurrenceDate();
+                case TAGS -> TaskTags.split(task.tags());
+            });
+        }
+        return row;
+    }
+
+    private static boolean isVisible(StoredTask task, String tenantId) {
+        return task.tenantId().equals(tenantId) && task.deletedAt() == null;
+    }
+}
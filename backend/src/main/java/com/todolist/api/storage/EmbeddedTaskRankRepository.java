@@ -0,0 +1,89 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.repository.TaskRankRepository;
+import com.todolist.api.service.RankKeys;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+// Sem índice por chave: as buscas percorrem as tarefas do tenant. Tarefas sem chave (gravadas antes
+// da ordem manual) contam como "", antes de todas, como o NULL no MySQL
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskRankRepository implements TaskRankRepository {
+
+    static final Comparator<StoredTask> RANK_ORDER = Comparator
+            .comparing(EmbeddedTaskRankRepository::keyOf)
+            .thenComparingLong(StoredTask::id);
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskRankRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String findLastKey(String tenantId) {
+        return store.select(task -> task.tenantId().equals(tenantId) && task.rankKey() != null).stream()
+                .map(StoredTask::rankKey)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    @Override
+    public Optional<String> findKey(String tenantId, Long id) {
+        return Optional.ofNullable(store.get(id))
+                .filter(task -> isVisible(task, tenantId))
+                .map(EmbeddedTaskRankRepository::keyOf);
+    }
+
+    @Override
+    public String findNextKey(String tenantId, String key, Long excludeId) {
+        return store.select(task -> isVisible(task, tenantId) && task.id() != excludeId && keyOf(task).compareTo(key) > 0)
+                .stream()
+                .map(EmbeddedTaskRankRepository::keyOf)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    @Override
+    public String findPreviousKey(String tenantId, String key, Long excludeId) {
+        return store.select(task -> isVisible(task, tenantId) && task.id() != excludeId && keyOf(task).compareTo(key) < 0)
+                .stream()
+                .map(EmbeddedTaskRankRepository::keyOf)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    @Override
+    public int updateKey(String tenantId, Long id, String key) {
+        StoredTask updated = store.update(id, task -> isVisible(task, tenantId) ? task.withRankKey(key) : null);
+        return updated == null ? 0 : 1;
+    }
+
+    // Cada chave é gravada com store.update, então uma edição concorrente da tarefa não é sobrescrita
+    @Override
+    public int rebalance(String tenantId) {
+        List<StoredTask> ordered = store.select(task -> task.tenantId().equals(tenantId)).stream()
+                .sorted(RANK_ORDER)
+                .toList();
+        String[] keys = RankKeys.evenlySpaced(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            String key = keys[i];
+            store.update(ordered.get(i).id(), task -> task.withRankKey(key));
+        }
+        return ordered.size();
+    }
+
+    private static boolean isVisible(StoredTask task, String tenantId) {
+        return task.tenantId().equals(tenantId) && task.deletedAt() == null;
+    }
+
+    private static String keyOf(StoredTask task) {
+        return task.rankKey() == null ? "" : task.rankKey();
+    }
+}
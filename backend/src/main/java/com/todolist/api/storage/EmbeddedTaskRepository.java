@@ -0,0 +1,127 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// TaskRepository sobre o EmbeddedTaskStore, com as mesmas regras da versão JPA (tenant atual e deleted_at IS NULL)
+@Repository
+@Profile("embedded")
+@SuppressWarnings("null")
+public class EmbeddedTaskRepository extends AbstractEmbeddedRepository<Task> implements TaskRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public @NonNull Optional<Task> findById(@NonNull Long id) {
+        return Optional.ofNullable(store.get(id))
+                .filter(this::isVisible)
+                .map(StoredTask::toTask);
+    }
+
+    @Override
+    public @NonNull List<Task> findAll() {
+        return store.select(this::isVisible).stream()
+                .map(StoredTask::toTask)
+                .toList();
+    }
+
+    @Override
+    public List<Task> findAllOrdered() {
+        return store.select(this::isVisible).stream()
+                .sorted(EmbeddedTaskRankRepository.RANK_ORDER)
+                .map(StoredTask::toTask)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return store.select(this::isVisible).size();
+    }
+
+    @Override
+    public @NonNull <S extends Task> S save(@NonNull S task) {
+        StoredTask saved = store.save(toStored(task));
+        task.setId(saved.id());
+        return task;
+    }
+
+    @Override
+    public @NonNull <S extends Task> List<S> saveAll(@NonNull Iterable<S> tasks) {
+        List<S> list = toList(tasks);
+        List<StoredTask> batch = new ArrayList<>(list.size());
+        list.forEach(task -> batch.add(toStored(task)));
+        List<StoredTask> saved = store.saveAll(batch);
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).setId(saved.get(i).id());
+        }
+        return list;
+    }
+
+    // Igual ao @SQLDelete da entidade: exclusão lógica
+    @Override
+    public void deleteById(@NonNull Long id) {
+        softDeleteById(id, TenantContext.current(), LocalDateTime.now());
+    }
+
+    @Override
+    protected Long idOf(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    public int softDeleteById(Long id, String tenantId, LocalDateTime deletedAt) {
+        StoredTask updated = store.update(id, task ->
+                task.tenantId().equals(tenantId) && task.deletedAt() == null ? task.withDeletedAt(deletedAt) : null);
+        return updated == null ? 0 : 1;
+    }
+
+    @Override
+    public int restoreById(Long id, String tenantId, LocalDateTime notBefore) {
+        StoredTask updated = store.update(id, task ->
+                task.tenantId().equals(tenantId) && task.deletedAt() != null && !task.deletedAt().isBefore(notBefore)
+                        ? task.withDeletedAt(null) : null);
+        return updated == null ? 0 : 1;
+    }
+
+    @Override
+    public int purgeDeletedBefore(LocalDateTime cutoff, int limit, Collection<String> skippedTenants) {
+        return store.removeIf(task -> EmbeddedTaskStore.isPurgeable(task, cutoff), limit);
+    }
+
+    private boolean isVisible(StoredTask task) {
+        return task.deletedAt() == null && task.tenantId().equals(TenantContext.current());
+    }
+
+    // Assim como o @TenantId, o tenant vem da requisição; uma tarefa de outro tenant nunca é sobrescrita
+    private StoredTask toStored(Task task) {
+        if (task.getTenantId() == null) {
+            task.setTenantId(TenantContext.current());
+        }
+        if (task.getId() == null) {
+            if (task.getCreatedAt() == null) {
+                task.setCreatedAt(LocalDateTime.now());
+            }
+            return StoredTask.from(task, 0);
+        }
+        StoredTask existing = store.get(task.getId());
+        if (existing != null && !existing.tenantId().equals(task.getTenantId())) {
+            throw new IllegalStateException("A tarefa " + task.getId() + " pertence a outro tenant");
+        }
+        return StoredTask.from(task, task.getId());
+    }
+}
@@ -0,0 +1,213 @@
+package com.todolist.api.storage;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.model.TaskSeries;
+import com.todolist.api.repository.TaskSeriesRepository;
+import com.todolist.api.sharding.TenantContext;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Séries do armazenamento embarcado. Como as listas, ficam em memória e o arquivo series.dat é regravado
+ * inteiro a cada alteração (arquivo temporário + rename atômico).
+ */
+@Repository
+@Profile("embedded")
+@SuppressWarnings("null")
+public class EmbeddedTaskSeriesRepository extends AbstractEmbeddedRepository<TaskSeries>
+        implements TaskSeriesRepository, InitializingBean {
+
+    private static final int FILE_VERSION = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int NO_TIME = -1;
+
+    private record StoredSeries(long id, String tenantId, String title, String description, String rule,
+            LocalDate startDate, LocalDate endDate, LocalTime dueTime, LocalDateTime createdAt) {
+    }
+
+    private final Path file;
+    private final TreeMap<Long, StoredSeries> series = new TreeMap<>();
+    private long lastId;
+
+    public EmbeddedTaskSeriesRepository(EmbeddedStorageProperties properties) {
+        this.file = Path.of(properties.getDirectory()).resolve("series.dat");
+    }
+
+    @Override
+    public synchronized void afterPropertiesSet() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int version = in.readInt();
+            if (version != FILE_VERSION) {
+                throw new IllegalStateException("Versão de arquivo de séries não suportada: " + version);
+            }
+            lastId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                String tenantId = in.readUTF();
+                String title = in.readUTF();
+                String description = in.readBoolean() ? in.readUTF() : null;
+                String rule = in.readUTF();
+                LocalDate startDate = LocalDate.ofEpochDay(in.readLong());
+                long endDay = in.readLong();
+                int dueSecond = in.readInt();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC).plusNanos(in.readInt());
+                series.put(id, new StoredSeries(id, tenantId, title, description, rule, startDate,
+                        endDay == NO_DATE ? null : LocalDate.ofEpochDay(endDay),
+                        dueSecond == NO_TIME ? null : LocalTime.ofSecondOfDay(dueSecond), createdAt));
+            }
+        }
+    }
+
+    @Override
+    public synchronized @NonNull Optional<TaskSeries> findById(@NonNull Long id) {
+        return Optional.ofNullable(series.get(id))
+                .filter(EmbeddedTaskSeriesRepository::isCurrentTenant)
+                .map(EmbeddedTaskSeriesRepository::toSeries);
+    }
+
+    // Sem transações no armazenamento embarcado não há linha para travar: duas materializações simultâneas da mesma
+    // ocorrência podem gravar duas tarefas, e a leitura das ocorrências usa a primeira
+    @Override
+    public Optional<TaskSeries> findByIdForUpdate(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public synchronized @NonNull List<TaskSeries> findAll() {
+        return series.values().stream()
+                .filter(EmbeddedTaskSeriesRepository::isCurrentTenant)
+                .map(EmbeddedTaskSeriesRepository::toSeries)
+                .toList();
+    }
+
+    @Override
+    public synchronized List<TaskSeries> findPage(Pageable pageable) {
+        return series.values().stream()
+                .filter(EmbeddedTaskSeriesRepository::isCurrentTenant)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(EmbeddedTaskSeriesRepository::toSeries)
+                .toList();
+    }
+
+    @Override
+    public synchronized List<TaskSeries> findActiveBetween(LocalDate from, LocalDate to) {
+        return series.values().stream()
+                .filter(EmbeddedTaskSeriesRepository::isCurrentTenant)
+                .filter(stored -> !stored.startDate().isAfter(to) && (stored.endDate() == null || !stored.endDate().isBefore(from)))
+                .map(EmbeddedTaskSeriesRepository::toSeries)
+                .toList();
+    }
+
+    @Override
+    public synchronized @NonNull <S extends TaskSeries> S save(@NonNull S taskSeries) {
+        if (taskSeries.getId() == null) {
+            taskSeries.setId(++lastId);
+            taskSeries.setTenantId(TenantContext.current());
+            taskSeries.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        }
+        StoredSeries existing = series.get(taskSeries.getId());
+        if (existing != null && !existing.tenantId().equals(taskSeries.getTenantId())) {
+            throw new IllegalStateException("A série " + taskSeries.getId() + " pertence a outro tenant");
+        }
+        StoredSeries previous = series.put(taskSeries.getId(), new StoredSeries(taskSeries.getId(), taskSeries.getTenantId(),
+                taskSeries.getTitle(), taskSeries.getDescription(), taskSeries.getRule(), taskSeries.getStartDate(),
+                taskSeries.getEndDate(), taskSeries.getDueTime(), taskSeries.getCreatedAt()));
+        try {
+            write();
+        } catch (IOException e) {
+            // Mantém a memória igual ao arquivo
+            if (previous == null) {
+                series.remove(taskSeries.getId());
+            } else {
+                series.put(previous.id(), previous);
+            }
+            throw new UncheckedIOException("Falha ao gravar as séries", e);
+        }
+        return taskSeries;
+    }
+
+    @Override
+    public synchronized void deleteById(@NonNull Long id) {
+        StoredSeries removed = series.get(id);
+        if (removed == null || !isCurrentTenant(removed)) {
+            return;
+        }
+        series.remove(id);
+        try {
+            write();
+        } catch (IOException e) {
+            series.put(id, removed);
+            throw new UncheckedIOException("Falha ao gravar as séries", e);
+        }
+    }
+
+    @Override
+    protected Long idOf(TaskSeries taskSeries) {
+        return taskSeries.getId();
+    }
+
+    private void write() throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(FILE_VERSION);
+            out.writeLong(lastId);
+            out.writeInt(series.size());
+            for (StoredSeries stored : series.values()) {
+                out.writeLong(stored.id());
+                out.writeUTF(stored.tenantId());
+                out.writeUTF(stored.title());
+                out.writeBoolean(stored.description() != null);
+                if (stored.description() != null) {
+                    out.writeUTF(stored.description());
+                }
+                out.writeUTF(stored.rule());
+                out.writeLong(stored.startDate().toEpochDay());
+                out.writeLong(stored.endDate() == null ? NO_DATE : stored.endDate().toEpochDay());
+                out.writeInt(stored.dueTime() == null ? NO_TIME : stored.dueTime().toSecondOfDay());
+                out.writeLong(stored.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(stored.createdAt().getNano());
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static TaskSeries toSeries(StoredSeries stored) {
+        TaskSeries taskSeries = new TaskSeries(stored.title(), stored.rule(), stored.startDate());
+        taskSeries.setId(stored.id());
+        taskSeries.setTenantId(stored.tenantId());
+        taskSeries.setDescription(stored.description());
+        taskSeries.setEndDate(stored.endDate());
+        taskSeries.setDueTime(stored.dueTime());
+        taskSeries.setCreatedAt(stored.createdAt());
+        return taskSeries;
+    }
+
+    private static boolean isCurrentTenant(StoredSeries series) {
+        return series.tenantId().equals(TenantContext.current());
+    }
+}
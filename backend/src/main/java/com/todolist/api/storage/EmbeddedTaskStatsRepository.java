@@ -0,0 +1,55 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.model.DailyTaskStats;
+import com.todolist.api.repository.TaskStatsRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+
+// No armazenamento embarcado não há tabela de contagens: os dias são contados na hora a partir das tarefas em memória,
+// pelo created_at e completed_at atuais (sem o histórico de conclusões desfeitas)
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskStatsRepository implements TaskStatsRepository {
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskStatsRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public LocalDateTime rollUp(Duration lag) {
+        return LocalDateTime.now().minus(lag);
+    }
+
+    @Override
+    public List<DailyTaskStats> findDaily(String tenantId, LocalDate from, LocalDate to) {
+        TreeMap<LocalDate, long[]> days = new TreeMap<>();
+        for (StoredTask task : store.select(task -> task.tenantId().equals(tenantId))) {
+            count(days, task.createdAt(), 0, from, to);
+            if (task.completed()) {
+                count(days, task.completedAt(), 1, from, to);
+            }
+        }
+        return days.entrySet().stream()
+                .map(day -> new DailyTaskStats(day.getKey(), day.getValue()[0], day.getValue()[1]))
+                .toList();
+    }
+
+    private static void count(TreeMap<LocalDate, long[]> days, LocalDateTime time, int column, LocalDate from, LocalDate to) {
+        if (time == null) {
+            return;
+        }
+        LocalDate day = time.toLocalDate();
+        if (!day.isBefore(from) && !day.isAfter(to)) {
+            days.computeIfAbsent(day, d -> new long[2])[column]++;
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package com.todolist.api.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.config.PurgeProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Motor de armazenamento embarcado das tarefas (perfil "embedded", sem MySQL).
+ *
+ * - Estado em memória: LongObjectMap id -> StoredTask, leituras sob read lock (microssegundos);
+ * - Toda alteração é gravada antes no log append-only (log-N.log);
+ * - Periodicamente o log é rotacionado e o estado é gravado num snapshot compactado
+ *   (snapshot-N.snap) via arquivo mapeado em memória, sem bloquear as escritas;
+ * - Na inicialização: carrega o snapshot mais recente e reaplica só os logs posteriores a ele;
+ * - As tarefas excluídas ficam também num índice por data de exclusão, para a purga achar as vencidas
+ *   sem percorrer o mapa.
+ */
+@Component
+@Profile("embedded")
+public class EmbeddedTaskStore implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedTaskStore.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x54534E50;
+    private static final int SNAPSHOT_END = 0x54454E44;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER = 2 * Integer.BYTES + 3 * Long.BYTES;
+
+    private final EmbeddedStorageProperties properties;
+    private final PurgeProperties purgeProperties;
+    private final Path directory;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object snapshotMonitor = new Object();
+
+    private LongObjectMap<StoredTask> tasks = new LongObjectMap<>(16);
+    // Excluídas que a purga pode remover (isPurgeable), da exclusão mais antiga à mais recente; mesmo lock do mapa
+    private final TreeSet<Deleted> deleted = new TreeSet<>();
+    private long lastId;
+    private long generation;
+    private TaskLog log;
+    private volatile long lastSnapshotNanos = System.nanoTime();
+
+    public EmbeddedTaskStore(EmbeddedStorageProperties properties, PurgeProperties purgeProperties) {
+        this.properties = properties;
+        this.purgeProperties = purgeProperties;
+        this.directory = Path.of(properties.getDirectory());
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        recover();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public StoredTask get(long id) {
+        lock.readLock().lock();
+        try {
+            return tasks.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Tarefas que atendem ao filtro, em ordem de ID
+    public List<StoredTask> select(Predicate<StoredTask> filter) {
+        List<StoredTask> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            tasks.forEachValue(task -> {
+                if (filter.test(task)) {
+                    result.add(task);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparingLong(StoredTask::id));
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public StoredTask save(StoredTask task) {
+        return saveAll(List.of(task)).get(0);
+    }
+
+    // Tarefas com id 0 recebem um novo ID; o lote inteiro vai para o log em uma única escrita
+    public List<StoredTask> saveAll(List<StoredTask> batch) {
+        lock.writeLock().lock();
+        try {
+            long nextId = lastId;
+            List<StoredTask> stored = new ArrayList<>(batch.size());
+            for (StoredTask task : batch) {
+                if (task.id() == 0) {
+                    task = task.withId(++nextId);
+                }
+                stored.add(task);
+            }
+            append(TaskLog.encodePuts(stored));
+            for (StoredTask task : stored) {
+                putTask(task);
+                nextId = Math.max(nextId, task.id());
+            }
+            lastId = nextId;
+            return stored;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Lê, altera e grava uma tarefa de forma atômica; a função retorna null para não alterar nada
+    public StoredTask update(long id, UnaryOperator<StoredTask> change) {
+        lock.writeLock().lock();
+        try {
+            StoredTask current = tasks.get(id);
+            StoredTask updated = current == null ? null : change.apply(current);
+            if (updated == null) {
+                return null;
+            }
+            append(TaskLog.encodePuts(List.of(updated)));
+            putTask(updated);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Como update, para várias tarefas: as alteradas vão para o log em uma única escrita
+    public List<StoredTask> updateAll(Collection<Long> ids, UnaryOperator<StoredTask> change) {
+        lock.writeLock().lock();
+        try {
+            List<StoredTask> updated = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                StoredTask current = tasks.get(id);
+                StoredTask next = current == null ? null : change.apply(current);
+                if (next != null) {
+                    updated.add(next);
+                }
+            }
+            if (!updated.isEmpty()) {
+                append(TaskLog.encodePuts(updated));
+                updated.forEach(this::putTask);
+            }
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Excluída antes de cutoff; ocorrências de séries ficam, como no TaskRepository.purgeDeletedBefore
+    static boolean isPurgeable(StoredTask task, LocalDateTime cutoff) {
+        return task.deletedAt() != null && task.deletedAt().isBefore(cutoff) && task.seriesId() == null;
+    }
+
+    // Remove fisicamente até limit tarefas que atendem ao filtro. A busca percorre o mapa sob o read lock;
+    // o write lock só cobre a remoção, conferindo de novo o filtro (a tarefa pode ter mudado no meio)
+    public int removeIf(Predicate<StoredTask> filter, int limit) {
+        List<StoredTask> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            tasks.forEachValue(task -> {
+                if (candidates.size() < limit && filter.test(task)) {
+                    candidates.add(task);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        try {
+            long[] ids = new long[candidates.size()];
+            int count = 0;
+            for (StoredTask candidate : candidates) {
+                StoredTask current = tasks.get(candidate.id());
+                if (current != null && filter.test(current)) {
+                    ids[count++] = current.id();
+                }
+            }
+            return removeAll(ids, count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Remove fisicamente até limit tarefas excluídas antes de cutoff, em ordem de exclusão. Lê só o começo do
+    // índice de excluídas, então o write lock dura o tempo de remover o lote, não o de percorrer o mapa
+    public int purgeDeletedBefore(LocalDateTime cutoff, int limit) {
+        lock.writeLock().lock();
+        try {
+            long[] ids = new long[Math.min(limit, deleted.size())];
+            int count = 0;
+            for (Deleted entry : deleted) {
+                if (count == ids.length || !entry.deletedAt().isBefore(cutoff)) {
+                    break;
+                }
+                ids[count++] = entry.id();
+            }
+            return removeAll(ids, count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamado com o write lock
+    private int removeAll(long[] ids, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        append(TaskLog.encodeDeletes(ids, count));
+        for (int i = 0; i < count; i++) {
+            removeTask(ids[i]);
+        }
+        return count;
+    }
+
+    // Remove as tarefas excluídas fora da retenção, em lotes de batch-size (o write lock é liberado entre os
+    // lotes) até max-per-run, e gera um snapshot se o log cresceu ou envelheceu
+    @Scheduled(fixedDelayString = "${todolist.storage.embedded.check-interval:10s}",
+               initialDelayString = "${todolist.storage.embedded.check-interval:10s}")
+    public void compactIfNeeded() {
+        if (purgeProperties.isEnabled()) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(purgeProperties.getRetention());
+            int purged = 0;
+            int batch;
+            do {
+                batch = purgeDeletedBefore(cutoff, Math.min(purgeProperties.getBatchSize(), purgeProperties.getMaxPerRun() - purged));
+                purged += batch;
+            } while (batch > 0 && batch == purgeProperties.getBatchSize() && purged < purgeProperties.getMaxPerRun());
+            if (purged > 0) {
+                logger.info("Removidas definitivamente {} tarefas excluídas antes de {}", purged, cutoff);
+            }
+        }
+        long logSize = logSize();
+        boolean expired = System.nanoTime() - lastSnapshotNanos >= properties.getSnapshotInterval().toNanos();
+        if (logSize >= properties.getSnapshotLogSize().toBytes() || (logSize > 0 && expired)) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Rotaciona o log e grava o estado atual em um novo snapshot.
+     * Só a rotação acontece sob o write lock; a gravação usa uma cópia dos valores (imutáveis).
+     */
+    public void snapshot() {
+        synchronized (snapshotMonitor) {
+            long started = System.nanoTime();
+            Object[] values;
+            long snapshotLastId;
+            long snapshotGeneration;
+            lock.writeLock().lock();
+            try {
+                values = tasks.valuesSnapshot();
+                snapshotLastId = lastId;
+                log.close();
+                snapshotGeneration = ++generation;
+                log = TaskLog.open(logPath(snapshotGeneration), properties.isFsync());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                writeSnapshot(snapshotGeneration, snapshotLastId, values);
+                deleteFilesBefore(snapshotGeneration);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao gravar o snapshot " + snapshotGeneration, e);
+            }
+            lastSnapshotNanos = System.nanoTime();
+            logger.info("Snapshot {} gravado com {} tarefas em {} ms", snapshotGeneration, values.length,
+                    (lastSnapshotNanos - started) / 1_000_000);
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path tmp : files.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+                Files.delete(tmp);
+            }
+        }
+        long snapshotGeneration = latestGeneration("snapshot-", ".snap");
+        if (snapshotGeneration > 0) {
+            loadSnapshot(snapshotPath(snapshotGeneration));
+        }
+
+        List<Long> logGenerations = generations("log-", ".log");
+        long replayed = 0;
+        generation = Math.max(snapshotGeneration, 1);
+        for (int i = 0; i < logGenerations.size(); i++) {
+            long logGeneration = logGenerations.get(i);
+            if (logGeneration < snapshotGeneration) {
+                Files.delete(logPath(logGeneration));
+                continue;
+            }
+            boolean last = i == logGenerations.size() - 1;
+            replayed += TaskLog.replay(logPath(logGeneration), new TaskLog.Handler() {
+                @Override
+                public void put(StoredTask task) {
+                    putTask(task);
+                    lastId = Math.max(lastId, task.id());
+                }
+
+                @Override
+                public void delete(long id) {
+                    removeTask(id);
+                }
+            }, last);
+            generation = Math.max(generation, logGeneration);
+        }
+        log = TaskLog.open(logPath(generation), properties.isFsync());
+        logger.info("Armazenamento embarcado recuperado em {} ms: {} tarefas (snapshot {} + {} registros de log)",
+                (System.nanoTime() - started) / 1_000_000, tasks.size(), snapshotGeneration, replayed);
+    }
+
+    private void writeSnapshot(long snapshotGeneration, long snapshotLastId, Object[] values) throws IOException {
+        Path tmp = directory.resolve(snapshotPath(snapshotGeneration).getFileName() + ".tmp");
+        try (MappedFileWriter writer = new MappedFileWriter(tmp)) {
+            ByteBuffer header = writer.reserve(SNAPSHOT_HEADER);
+            header.putInt(SNAPSHOT_MAGIC);
+            header.putInt(SNAPSHOT_VERSION);
+            header.putLong(snapshotGeneration);
+            header.putLong(snapshotLastId);
+            header.putLong(values.length);
+            for (Object value : values) {
+                StoredTask task = (StoredTask) value;
+                ByteBuffer buffer = writer.reserve(Integer.BYTES + task.encodedSize());
+                int start = buffer.position();
+                buffer.position(start + Integer.BYTES);
+                task.encode(buffer);
+                buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+            }
+            writer.reserve(Integer.BYTES).putInt(SNAPSHOT_END);
+        }
+        Files.move(tmp, snapshotPath(snapshotGeneration), StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    private void loadSnapshot(Path path) throws IOException {
+        try (MappedFileReader reader = new MappedFileReader(path)) {
+            if (!reader.ensure(SNAPSHOT_HEADER) || reader.buffer().getInt() != SNAPSHOT_MAGIC) {
+                throw new IllegalStateException("Snapshot inválido: " + path);
+            }
+            ByteBuffer buffer = reader.buffer();
+            int version = buffer.getInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IllegalStateException("Versão de snapshot não suportada: " + version);
+            }
+            buffer.getLong();
+            long snapshotLastId = buffer.getLong();
+            long count = buffer.getLong();
+            LongObjectMap<StoredTask> loaded = new LongObjectMap<>((int) Math.min(count, Integer.MAX_VALUE / 2));
+            for (long i = 0; i < count; i++) {
+                if (!reader.ensure(Integer.BYTES)) {
+                    throw new IllegalStateException("Snapshot truncado: " + path);
+                }
+                int length = reader.buffer().getInt();
+                if (!reader.ensure(length)) {
+                    throw new IllegalStateException("Snapshot truncado: " + path);
+                }
+                buffer = reader.buffer();
+                StoredTask task = StoredTask.decode(buffer.slice(buffer.position(), length));
+                buffer.position(buffer.position() + length);
+                loaded.put(task.id(), task);
+            }
+            if (!reader.ensure(Integer.BYTES) || reader.buffer().getInt() != SNAPSHOT_END) {
+                throw new IllegalStateException("Snapshot truncado: " + path);
+            }
+            tasks = loaded;
+            deleted.clear();
+            loaded.forEachValue(this::index);
+            lastId = snapshotLastId;
+        }
+    }
+
+    // Alterações do mapa passam por aqui para manter o índice de excluídas
+    private void putTask(StoredTask task) {
+        unindex(tasks.put(task.id(), task));
+        index(task);
+    }
+
+    private void removeTask(long id) {
+        unindex(tasks.remove(id));
+    }
+
+    private void index(StoredTask task) {
+        if (task.deletedAt() != null && task.seriesId() == null) {
+            deleted.add(new Deleted(task.deletedAt(), task.id()));
+        }
+    }
+
+    private void unindex(StoredTask task) {
+        if (task != null && task.deletedAt() != null) {
+            deleted.remove(new Deleted(task.deletedAt(), task.id()));
+        }
+    }
+
+    private void append(ByteBuffer records) {
+        try {
+            log.append(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no log do armazenamento embarcado", e);
+        }
+    }
+
+    private long logSize() {
+        lock.readLock().lock();
+        try {
+            return log.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void deleteFilesBefore(long snapshotGeneration) throws IOException {
+        for (long old : generations("snapshot-", ".snap")) {
+            if (old < snapshotGeneration) {
+                Files.deleteIfExists(snapshotPath(old));
+            }
+        }
+        for (long old : generations("log-", ".log")) {
+            if (old < snapshotGeneration) {
+                Files.deleteIfExists(logPath(old));
+            }
+        }
+    }
+
+    // Garante que o rename do snapshot sobreviva a uma queda (não suportado em todos os sistemas)
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.debug("Não foi possível sincronizar o diretório {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private long latestGeneration(String prefix, String suffix) throws IOException {
+        List<Long> all = generations(prefix, suffix);
+        return all.isEmpty() ? 0 : all.get(all.size() - 1);
+    }
+
+    private List<Long> generations(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path snapshotPath(long snapshotGeneration) {
+        return directory.resolve(String.format("snapshot-%016d.snap", snapshotGeneration));
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve(String.format("log-%016d.log", logGeneration));
+    }
+
+    // Entrada do índice de excluídas: ordem de exclusão, com o ID para desempatar
+    private record Deleted(LocalDateTime deletedAt, long id) implements Comparable<Deleted> {
+
+        private static final Comparator<Deleted> ORDER =
+                Comparator.comparing(Deleted::deletedAt).thenComparingLong(Deleted::id);
+
+        @Override
+        public int compareTo(Deleted other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
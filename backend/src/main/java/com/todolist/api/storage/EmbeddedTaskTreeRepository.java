@@ -0,0 +1,142 @@
+package com.todolist.api.storage;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskTreeRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Sem tabela de fechamento: parent_id de cada tarefa é a única fonte, e cada operação monta o índice
+// pai -> filhos em uma passada pelas tarefas do tenant e percorre a subárvore em largura
+@Repository
+@Profile("embedded")
+public class EmbeddedTaskTreeRepository implements TaskTreeRepository {
+
+    private static final Comparator<StoredTask> SUBTREE_ORDER = EmbeddedTaskRankRepository.RANK_ORDER;
+
+    private final EmbeddedTaskStore store;
+
+    public EmbeddedTaskTreeRepository(EmbeddedTaskStore store) {
+        this.store = store;
+    }
+
+    // parent_id já foi gravado junto com a tarefa
+    @Override
+    public void attach(String tenantId, Long parentId, Long childId) {
+    }
+
+    // A checagem de ciclo roda dentro do update, com o lock de escrita: nenhuma outra mudança de pai passa no meio
+    @Override
+    public ReparentResult reparent(String tenantId, Long id, Long parentId) {
+        ReparentResult[] result = {ReparentResult.NOT_FOUND};
+        store.update(id, task -> {
+            if (!isVisible(task, tenantId)) {
+                return null;
+            }
+            if (parentId != null) {
+                StoredTask parent = store.get(parentId);
+                if (parent == null || !isVisible(parent, tenantId)) {
+                    result[0] = ReparentResult.PARENT_NOT_FOUND;
+                    return null;
+                }
+                for (StoredTask ancestor = parent; ancestor != null;
+                        ancestor = ancestor.parentId() == null ? null : store.get(ancestor.parentId())) {
+                    if (ancestor.id() == id) {
+                        result[0] = ReparentResult.CYCLE;
+                        return null;
+                    }
+                }
+            }
+            result[0] = ReparentResult.MOVED;
+            return task.withParentId(parentId);
+        });
+        return result[0];
+    }
+
+    @Override
+    public List<Task> findSubtree(String tenantId, Long rootId) {
+        return subtree(tenantId, rootId, task -> task.deletedAt() == null).stream()
+                .map(StoredTask::toTask)
+                .toList();
+    }
+
+    @Override
+    public TaskProgressDTO countProgress(String tenantId, Long rootId) {
+        List<StoredTask> tasks = subtree(tenantId, rootId, task -> task.deletedAt() == null);
+        if (tasks.isEmpty()) {
+            return null;
+        }
+        long completed = tasks.stream().skip(1).filter(StoredTask::completed).count();
+        return new TaskProgressDTO(rootId, tasks.get(0).completed(), tasks.size() - 1L, completed);
+    }
+
+    @Override
+    public List<Long> completeSubtree(String tenantId, Long rootId, LocalDateTime now) {
+        List<Long> ids = ids(subtree(tenantId, rootId, task -> task.deletedAt() == null));
+        store.updateAll(ids, task -> isVisible(task, tenantId) && !task.completed() ? task.withCompleted(true, now) : null);
+        return ids;
+    }
+
+    @Override
+    public List<Long> deleteSubtree(String tenantId, Long rootId, LocalDateTime deletedAt) {
+        List<Long> ids = ids(subtree(tenantId, rootId, task -> task.deletedAt() == null));
+        store.updateAll(ids, task -> isVisible(task, tenantId) ? task.withDeletedAt(deletedAt) : null);
+        return ids;
+    }
+
+    @Override
+    public List<Long> restoreSubtree(String tenantId, Long rootId, LocalDateTime notBefore) {
+        StoredTask root = store.get(rootId);
+        if (root == null || !root.tenantId().equals(tenantId) || root.deletedAt() == null || root.deletedAt().isBefore(notBefore)) {
+            return List.of();
+        }
+        LocalDateTime deletedAt = root.deletedAt();
+        List<Long> ids = ids(subtree(tenantId, rootId, task -> deletedAt.equals(task.deletedAt())));
+        store.updateAll(ids, task -> deletedAt.equals(task.deletedAt()) ? task.withDeletedAt(null) : null);
+        return ids;
+    }
+
+    // Raiz e descendentes que atendem ao filtro, por profundidade e ordem manual. Como no JOIN com task_closure,
+    // um nó fora do filtro não corta o ramo: os descendentes dele continuam na subárvore
+    private List<StoredTask> subtree(String tenantId, Long rootId, Predicate<StoredTask> filter) {
+        StoredTask root = store.get(rootId);
+        if (root == null || !root.tenantId().equals(tenantId) || !filter.test(root)) {
+            return List.of();
+        }
+        Map<Long, List<StoredTask>> children = new HashMap<>();
+        for (StoredTask task : store.select(task -> task.tenantId().equals(tenantId) && task.parentId() != null)) {
+            children.computeIfAbsent(task.parentId(), parent -> new ArrayList<>()).add(task);
+        }
+        List<StoredTask> result = new ArrayList<>();
+        result.add(root);
+        int levelStart = 0;
+        while (levelStart < result.size()) {
+            int levelEnd = result.size();
+            List<StoredTask> next = new ArrayList<>();
+            for (int i = levelStart; i < levelEnd; i++) {
+                next.addAll(children.getOrDefault(result.get(i).id(), List.of()));
+            }
+            next.sort(SUBTREE_ORDER);
+            result.addAll(next);
+            levelStart = levelEnd;
+        }
+        return result.stream().filter(filter).toList();
+    }
+
+    private static List<Long> ids(List<StoredTask> tasks) {
+        return tasks.stream().map(StoredTask::id).toList();
+    }
+
+    private static boolean isVisible(StoredTask task, String tenantId) {
+        return task.tenantId().equals(tenantId) && task.deletedAt() == null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.todolist.api.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Leitura sequencial de um arquivo por janelas mapeadas em memória (arquivos maiores que 2 GB incluídos)
+class MappedFileReader implements AutoCloseable {
+
+    private static final long WINDOW = 256L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    MappedFileReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0);
+    }
+
+    long size() {
+        return size;
+    }
+
+    long position() {
+        return windowStart + window.position();
+    }
+
+    // Garante n bytes contíguos na janela atual; false se o arquivo acabar antes
+    boolean ensure(int n) throws IOException {
+        if (window.remaining() >= n) {
+            return true;
+        }
+        long position = position();
+        if (size - position < n) {
+            return false;
+        }
+        map(position);
+        return true;
+    }
+
+    ByteBuffer buffer() {
+        return window;
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW, size - position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
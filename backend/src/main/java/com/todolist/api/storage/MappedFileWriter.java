@@ -0,0 +1,53 @@
+package com.todolist.api.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Escrita sequencial por janelas mapeadas em memória; no fechamento o arquivo é cortado no tamanho exato
+class MappedFileWriter implements AutoCloseable {
+
+    private static final long WINDOW = 64L << 20;
+
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    MappedFileWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    long position() {
+        return window == null ? 0 : windowStart + window.position();
+    }
+
+    // Buffer com pelo menos n bytes livres a partir da posição atual
+    ByteBuffer reserve(int n) throws IOException {
+        if (window == null || window.remaining() < n) {
+            long position = position();
+            if (window != null) {
+                window.force();
+            }
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(WINDOW, n));
+        }
+        return window;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long position = position();
+            if (window != null) {
+                window.force();
+            }
+            channel.truncate(position);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+}
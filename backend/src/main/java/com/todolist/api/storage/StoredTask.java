@@ -0,0 +1,198 @@
+package com.todolist.api.storage;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskTags;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Versão imutável de uma tarefa, como fica guardada no armazenamento embarcado.
+ *
+ * Por ser imutável, o snapshot pode ser gravado a partir de uma cópia dos valores
+ * do mapa sem bloquear as escritas. Formato binário:
+ * id | tenant | título | descrição | concluída | completed_at | deleted_at | due_at | remind_at | rank_key | parent_id | tags
+ * | created_at | list_id | series_id | occurrence_date
+ * (textos com tamanho int + UTF-8, -1 = nulo; datas em microssegundos UTC, Long.MIN_VALUE = nulo; parent_id, list_id e
+ * series_id 0 = sem pai / sem lista / avulsa; occurrence_date em dias desde 1970-01-01;
+ * tags no formato da coluna tasks.tags). Cada registro tem tamanho conhecido, então as colunas depois de deleted_at
+ * são opcionais na leitura:
+ * registros gravados antes dessas colunas existirem continuam válidos.
+ */
+public record StoredTask(long id, String tenantId, String title, String description, boolean completed,
+        LocalDateTime completedAt, LocalDateTime deletedAt, LocalDateTime dueAt, LocalDateTime remindAt, String rankKey,
+        Long parentId, String tags, LocalDateTime createdAt, Long listId, Long seriesId, LocalDate occurrenceDate) {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final long NO_PARENT = 0;
+    private static final long NO_LIST = 0;
+    private static final long NO_SERIES = 0;
+
+    public static StoredTask from(Task task, long id) {
+        return new StoredTask(id, task.getTenantId(), task.getTitle(), task.getDescription(), task.getCompleted(),
+                task.getCompletedAt(), task.getDeletedAt(), task.getDueAt(), task.getRemindAt(), task.getRankKey(),
+                task.getParentId(), TaskTags.join(task.getTags()), task.getCreatedAt(), task.getListId(),
+                task.getSeriesId(), task.getOccurrenceDate());
+    }
+
+    public Task toTask() {
+        Task task = new Task(title, description);
+        task.setId(id);
+        task.setTenantId(tenantId);
+        task.setCompleted(completed);
+        task.setCompletedAt(completedAt);
+        task.setDeletedAt(deletedAt);
+        task.setDueAt(dueAt);
+        task.setRemindAt(remindAt);
+        task.setRankKey(rankKey);
+        task.setParentId(parentId);
+        task.setTags(TaskTags.split(tags));
+        task.setCreatedAt(createdAt);
+        task.setListId(listId);
+        task.setSeriesId(seriesId);
+        task.setOccurrenceDate(occurrenceDate);
+        return task;
+    }
+
+    public StoredTask withId(long id) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withDeletedAt(LocalDateTime deletedAt) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withCompleted(boolean completed, LocalDateTime completedAt) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withParentId(Long parentId) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withRankKey(String rankKey) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withTags(String tags) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withListId(Long listId) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public StoredTask withSeries(Long seriesId, LocalDate occurrenceDate) {
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    public int encodedSize() {
+        return Long.BYTES + stringSize(tenantId) + stringSize(title) + stringSize(description) + 1 + 4 * Long.BYTES
+                + stringSize(rankKey) + Long.BYTES + stringSize(tags) + 4 * Long.BYTES;
+    }
+
+    public void encode(ByteBuffer buffer) {
+        buffer.putLong(id);
+        putString(buffer, tenantId);
+        putString(buffer, title);
+        putString(buffer, description);
+        buffer.put((byte) (completed ? 1 : 0));
+        buffer.putLong(toMicros(completedAt));
+        buffer.putLong(toMicros(deletedAt));
+        buffer.putLong(toMicros(dueAt));
+        buffer.putLong(toMicros(remindAt));
+        putString(buffer, rankKey);
+        buffer.putLong(parentId == null ? NO_PARENT : parentId);
+        putString(buffer, tags);
+        buffer.putLong(toMicros(createdAt));
+        buffer.putLong(listId == null ? NO_LIST : listId);
+        buffer.putLong(seriesId == null ? NO_SERIES : seriesId);
+        buffer.putLong(occurrenceDate == null ? NULL_TIME : occurrenceDate.toEpochDay());
+    }
+
+    public static StoredTask decode(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        String tenantId = getString(buffer);
+        String title = getString(buffer);
+        String description = getString(buffer);
+        boolean completed = buffer.get() == 1;
+        LocalDateTime completedAt = fromMicros(buffer.getLong());
+        LocalDateTime deletedAt = fromMicros(buffer.getLong());
+        boolean hasDueDates = buffer.remaining() >= 2 * Long.BYTES;
+        LocalDateTime dueAt = hasDueDates ? fromMicros(buffer.getLong()) : null;
+        LocalDateTime remindAt = hasDueDates ? fromMicros(buffer.getLong()) : null;
+        String rankKey = buffer.remaining() >= Integer.BYTES ? getString(buffer) : null;
+        long parent = buffer.remaining() >= Long.BYTES ? buffer.getLong() : NO_PARENT;
+        Long parentId = parent == NO_PARENT ? null : parent;
+        String tags = buffer.remaining() >= Integer.BYTES ? getString(buffer) : null;
+        LocalDateTime createdAt = buffer.remaining() >= Long.BYTES ? fromMicros(buffer.getLong()) : null;
+        long list = buffer.remaining() >= Long.BYTES ? buffer.getLong() : NO_LIST;
+        Long listId = list == NO_LIST ? null : list;
+        long series = buffer.remaining() >= Long.BYTES ? buffer.getLong() : NO_SERIES;
+        Long seriesId = series == NO_SERIES ? null : series;
+        long day = buffer.remaining() >= Long.BYTES ? buffer.getLong() : NULL_TIME;
+        LocalDate occurrenceDate = day == NULL_TIME ? null : LocalDate.ofEpochDay(day);
+        return new StoredTask(id, tenantId, title, description, completed, completedAt, deletedAt, dueAt, remindAt, rankKey, parentId, tags, createdAt, listId, seriesId, occurrenceDate);
+    }
+
+    private static int stringSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : utf8Length(value));
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Tamanho em UTF-8 sem alocar o array de bytes
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
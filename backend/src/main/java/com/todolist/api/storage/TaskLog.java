@@ -0,0 +1,162 @@
+package com.todolist.api.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Log append-only das alterações do armazenamento embarcado.
+ *
+ * Cada registro é [tamanho][CRC32C][operação + dados]. Na recuperação, um registro
+ * incompleto ou com CRC inválido no fim do log (escrita interrompida por queda) é descartado.
+ */
+class TaskLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskLog.class);
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HEADER = 2 * Integer.BYTES;
+    private static final int MAX_RECORD = 1 << 20;
+
+    interface Handler {
+        void put(StoredTask task);
+
+        void delete(long id);
+    }
+
+    private final FileChannel channel;
+    private final boolean fsync;
+
+    private TaskLog(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    static TaskLog open(Path path, boolean fsync) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return new TaskLog(channel, fsync);
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    void append(ByteBuffer records) throws IOException {
+        while (records.hasRemaining()) {
+            channel.write(records);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    static ByteBuffer encodePuts(List<StoredTask> tasks) {
+        int size = 0;
+        for (StoredTask task : tasks) {
+            size += HEADER + 1 + task.encodedSize();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (StoredTask task : tasks) {
+            int start = beginRecord(buffer, PUT);
+            task.encode(buffer);
+            endRecord(buffer, start);
+        }
+        return buffer.flip();
+    }
+
+    static ByteBuffer encodeDeletes(long[] ids, int count) {
+        ByteBuffer buffer = ByteBuffer.allocate(count * (HEADER + 1 + Long.BYTES));
+        for (int i = 0; i < count; i++) {
+            int start = beginRecord(buffer, DELETE);
+            buffer.putLong(ids[i]);
+            endRecord(buffer, start);
+        }
+        return buffer.flip();
+    }
+
+    private static int beginRecord(ByteBuffer buffer, byte operation) {
+        int start = buffer.position();
+        buffer.position(start + HEADER);
+        buffer.put(operation);
+        return start;
+    }
+
+    private static void endRecord(ByteBuffer buffer, int start) {
+        int end = buffer.position();
+        int length = end - start - HEADER;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER, length));
+        buffer.putInt(start, length);
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    /**
+     * Reaplica os registros do log. Se o arquivo terminar com um registro quebrado,
+     * ele é cortado quando truncateTornTail for true (último log); caso contrário a recuperação falha.
+     */
+    static long replay(Path path, Handler handler, boolean truncateTornTail) throws IOException {
+        long valid;
+        long size;
+        long records = 0;
+        try (MappedFileReader reader = new MappedFileReader(path)) {
+            size = reader.size();
+            CRC32C crc = new CRC32C();
+            while (true) {
+                valid = reader.position();
+                if (!reader.ensure(HEADER)) {
+                    break;
+                }
+                ByteBuffer buffer = reader.buffer();
+                int length = buffer.getInt();
+                int expectedCrc = buffer.getInt();
+                if (length <= 0 || length > MAX_RECORD || !reader.ensure(length)) {
+                    break;
+                }
+                buffer = reader.buffer();
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                byte operation = body.get();
+                if (operation == PUT) {
+                    handler.put(StoredTask.decode(body));
+                } else if (operation == DELETE) {
+                    handler.delete(body.getLong());
+                } else {
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                records++;
+            }
+        }
+        if (valid < size) {
+            if (!truncateTornTail) {
+                throw new IllegalStateException("Log corrompido em " + path + " na posição " + valid);
+            }
+            logger.warn("Descartando {} bytes incompletos no fim de {}", size - valid, path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+}
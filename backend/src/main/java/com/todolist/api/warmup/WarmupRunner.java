@@ -0,0 +1,187 @@
+package com.todolist.api.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.WarmupProperties;
+import com.todolist.api.sharding.ShardDataSources;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aquecimento da réplica antes de ela receber tráfego.
+ *
+ * Os ApplicationRunners rodam com o servidor web já aceitando conexões, mas antes de o Spring Boot publicar
+ * ReadinessState.ACCEPTING_TRAFFIC: enquanto este runner não termina, /actuator/health/readiness responde 503 e o
+ * balanceador (ou o healthcheck do docker-compose) não manda requisições para cá. Nesse intervalo:
+ *
+ * 1. o pool de cada shard é preenchido até maximum-pool-size (só minimum-idle conexões existem depois do startup);
+ * 2. GETs de todolist.warmup.paths são enviados à própria réplica, passando pelo Tomcat, filtros, controllers,
+ *    services, Hibernate (planos de consulta), Jackson (serializadores) e caches, até o JIT compilar esses caminhos.
+ *
+ * O aquecimento é limitado por todolist.warmup.timeout e nunca impede a réplica de ficar pronta: falhas e o fim do
+ * prazo só geram um aviso no log.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+
+    record Result(int sent, int failed, boolean timedOut) {
+    }
+
+    private final WarmupProperties properties;
+    // Ausente no armazenamento embarcado (sem pools)
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final ApplicationContext applicationContext;
+
+    public WarmupRunner(WarmupProperties properties, ObjectProvider<ShardDataSources> shardDataSources,
+                        ApplicationContext applicationContext) {
+        this.properties = properties;
+        this.shardDataSources = shardDataSources;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // Sem servidor web (testes com MockMvc) não há para onde mandar as requisições
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null || webContext.getWebServer().getPort() <= 0) {
+            return;
+        }
+        long started = System.nanoTime();
+        Instant deadline = Instant.now().plus(properties.getTimeout());
+        int connections = 0;
+        ShardDataSources dataSources = shardDataSources.getIfAvailable();
+        if (properties.isPrimePool() && dataSources != null) {
+            connections = primePools(dataSources.all(), deadline);
+        }
+        Result result = sendRequests(URI.create("http://localhost:" + webContext.getWebServer().getPort() + "/"), deadline);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (result.timedOut()) {
+            logger.warn("Aquecimento interrompido pelo prazo de {} depois de {} requisições; a réplica fica pronta mesmo assim",
+                    properties.getTimeout(), result.sent());
+        } else if (result.failed() > 0) {
+            logger.warn("Aquecimento concluído em {} ms com {} de {} requisições com falha", elapsed, result.failed(), result.sent());
+        } else {
+            logger.info("Aquecimento concluído em {} ms: {} conexões abertas e {} requisições", elapsed, connections, result.sent());
+        }
+    }
+
+    // Pede conexões até maximum-pool-size e devolve todas juntas. O Hikari só fecha as que passam de minimum-idle
+    // depois de idle-timeout, então o pool continua cheio durante o pico do rollout
+    int primePools(List<HikariDataSource> dataSources, Instant deadline) {
+        int opened = 0;
+        for (HikariDataSource dataSource : dataSources) {
+            List<Connection> held = new ArrayList<>();
+            try {
+                while (held.size() < dataSource.getMaximumPoolSize() && Instant.now().isBefore(deadline)) {
+                    held.add(dataSource.getConnection());
+                }
+            } catch (SQLException e) {
+                logger.warn("Aquecimento do pool {} parou em {} conexões: {}", dataSource.getPoolName(), held.size(), e.getMessage());
+            } finally {
+                opened += held.size();
+                held.forEach(WarmupRunner::closeQuietly);
+            }
+        }
+        return opened;
+    }
+
+    // iterations rodadas pelos caminhos, com concurrency requisições simultâneas, até o prazo
+    Result sendRequests(URI base, Instant deadline) {
+        List<URI> uris = properties.getPaths().stream().map(base::resolve).toList();
+        int total = properties.getIterations() * uris.size();
+        if (total <= 0) {
+            return new Result(0, 0, false);
+        }
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int concurrency = Math.max(1, properties.getConcurrency());
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("warmup-", 0).factory());
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(() -> {
+                    int n;
+                    while (!Thread.currentThread().isInterrupted() && Instant.now().isBefore(deadline)
+                            && (n = next.getAndIncrement()) < total) {
+                        if (!get(httpClient, uris.get(n % uris.size()), deadline)) {
+                            failed.incrementAndGet();
+                        }
+                        sent.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            boolean finished = executor.awaitTermination(Math.max(0, remaining.toMillis()), TimeUnit.MILLISECONDS);
+            return new Result(sent.get(), failed.get(), !finished || next.get() < total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(sent.get(), failed.get(), true);
+        } finally {
+            executor.shutdownNow();
+            httpClient.shutdownNow();
+        }
+    }
+
+    private boolean get(HttpClient httpClient, URI uri, Instant deadline) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return false;
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(remaining)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                return true;
+            }
+            logger.debug("Aquecimento: HTTP {} em {}", response.statusCode(), uri);
+        } catch (IOException e) {
+            logger.debug("Aquecimento: falha em {}: {}", uri, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("Falha ao devolver conexão do aquecimento: {}", e.getMessage());
+        }
+    }
+}
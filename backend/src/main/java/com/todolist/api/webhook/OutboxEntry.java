@@ -0,0 +1,13 @@
+package com.todolist.api.webhook;
+
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma entrega pendente em task_outbox: a alteração de uma tarefa para um endpoint. taskId nulo = importação em
+ * massa enfileirada antes de a importação publicar um evento por tarefa.
+ */
+public record OutboxEntry(long id, String endpoint, String tenantId, Long taskId, ChangeType type,
+        LocalDateTime createdAt, int attempts) {
+}
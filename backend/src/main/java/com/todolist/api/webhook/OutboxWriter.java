@@ -0,0 +1,70 @@
+package com.todolist.api.webhook;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.todolist.api.config.WebhookProperties;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.repository.TaskOutboxRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Grava cada escrita em task_outbox, uma linha por endpoint, na mesma transação (e no mesmo shard) da escrita.
+ * Se a transação for desfeita, a notificação some junto; se for confirmada, o WebhookDispatcher entrega depois.
+ * Como no ChangeLogWriter, as alterações de uma transação vão em um único INSERT em lote antes do commit.
+ * A requisição nunca fala com os assinantes.
+ */
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "todolist.webhooks", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxWriter {
+
+    private final TaskOutboxRepository outboxRepository;
+    private final Set<String> endpoints;
+
+    public OutboxWriter(TaskOutboxRepository outboxRepository, WebhookProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.endpoints = Set.copyOf(properties.getEndpoints().keySet());
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.append(endpoints, List.of(event));
+            return;
+        }
+        pendingChanges().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskChangedEvent> pendingChanges() {
+        List<TaskChangedEvent> pending = (List<TaskChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TaskChangedEvent> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    outboxRepository.append(endpoints, changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,62 @@
+package com.todolist.api.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.todolist.api.config.WebhookProperties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Envia um lote de eventos a um endpoint em um único POST JSON:
+ * {"events": [{"id": "0-17", "tenantId": "default", "taskId": 42, "type": "UPDATED", "occurredAt": "...", "attempt": 1}]}.
+ *
+ * A entrega é pelo menos uma vez: o id (shard-linha do outbox) serve para o assinante descartar repetidos.
+ * Qualquer resposta fora de 2xx, timeout ou erro de rede conta como falha do lote inteiro.
+ */
+@Component
+@Profile("!embedded")
+public class WebhookClient {
+
+    public record Delivery(String id, String tenantId, Long taskId, String type, LocalDateTime occurredAt, int attempt) {
+    }
+
+    public record Payload(List<Delivery> events) {
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public WebhookClient(WebhookProperties properties, ObjectMapper objectMapper) {
+        this.timeout = properties.getTimeout();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.objectMapper = objectMapper;
+    }
+
+    public void send(String url, int shard, List<OutboxEntry> entries) throws IOException, InterruptedException {
+        List<Delivery> deliveries = entries.stream()
+                .map(entry -> new Delivery(shard + "-" + entry.id(), entry.tenantId(), entry.taskId(),
+                        entry.type().name(), entry.createdAt(), entry.attempts() + 1))
+                .toList();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(new Payload(deliveries))))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IOException("HTTP " + response.statusCode() + " de " + url);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.todolist.api.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.todolist.api.config.WebhookProperties;
+import com.todolist.api.repository.TaskOutboxRepository;
+import com.todolist.api.sharding.ShardRouter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Entrega o task_outbox de cada shard aos endpoints configurados, fora do caminho das requisições.
+ *
+ * A cada pollInterval reserva até batchSize linhas vencidas (lease), separa por endpoint e, dentro do endpoint,
+ * em até parallelism filas pelo hash de (tenant, tarefa). Cada fila roda em uma virtual thread e envia as suas
+ * linhas em ordem, em POSTs de até maxEventsPerRequest eventos; então os eventos de uma tarefa chegam em ordem e
+ * um endpoint lento não atrasa as filas dos outros além do timeout.
+ *
+ * Lote entregue: as linhas são apagadas. Lote que falha: cada linha conta uma tentativa e espera initialBackoff,
+ * dobrando até maxBackoff; o resto da fila é devolvido sem contar tentativa. Enquanto uma linha espera, as
+ * seguintes da mesma tarefa não são reservadas (ver TaskOutboxRepository.claim). Linhas que ainda falham depois
+ * de giveUpAfter, ou de um endpoint que saiu da configuração, são descartadas.
+ *
+ * Métricas: todolist.webhooks.delivered, todolist.webhooks.failed (por endpoint) e todolist.webhooks.discarded.
+ */
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "todolist.webhooks", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WebhookDispatcher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    private final TaskOutboxRepository outboxRepository;
+    private final WebhookClient client;
+    private final WebhookProperties properties;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Counter discarded;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public WebhookDispatcher(TaskOutboxRepository outboxRepository, WebhookClient client, WebhookProperties properties,
+            ShardRouter shardRouter, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this(outboxRepository, client, properties, shardRouter, transactionTemplate, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    WebhookDispatcher(TaskOutboxRepository outboxRepository, WebhookClient client, WebhookProperties properties,
+            ShardRouter shardRouter, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.client = client;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.discarded = Counter.builder("todolist.webhooks.discarded")
+                .description("Eventos descartados depois de giveUpAfter ou de endpoints removidos da configuração")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.webhooks.poll-interval:500ms}")
+    public void dispatch() {
+        if (properties.getEndpoints().isEmpty()) {
+            return;
+        }
+        shardRouter.forEachShard(this::dispatchShard);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    void dispatchShard(int shard) {
+        List<OutboxEntry> claimed;
+        try {
+            claimed = transactionTemplate.execute(status ->
+                    outboxRepository.claim(properties.getBatchSize(), properties.getLease(),
+                            shardRouter.tenantsToSkip()));
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao ler task_outbox do shard {}: {}", shard, e.getMessage());
+            return;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<OutboxEntry>> byEndpoint = new LinkedHashMap<>();
+        for (OutboxEntry entry : claimed) {
+            byEndpoint.computeIfAbsent(entry.endpoint(), name -> new ArrayList<>()).add(entry);
+        }
+        LaneResult result = new LaneResult();
+        List<Future<LaneResult>> lanes = new ArrayList<>();
+        byEndpoint.forEach((name, entries) -> {
+            WebhookProperties.Endpoint endpoint = properties.getEndpoints().get(name);
+            if (endpoint == null) {
+                logger.warn("Endpoint {} não está mais configurado; {} eventos descartados", name, entries.size());
+                entries.forEach(entry -> result.discarded.add(entry.id()));
+                return;
+            }
+            for (List<OutboxEntry> lane : splitLanes(entries, endpoint.getParallelism())) {
+                lanes.add(executor.submit(() -> deliverLane(shard, name, endpoint.getUrl(), lane)));
+            }
+        });
+        for (Future<LaneResult> lane : lanes) {
+            try {
+                result.add(lane.get());
+            } catch (InterruptedException e) {
+                // Desligando: o que não foi confirmado volta ao outbox quando o lease vencer
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha inesperada na entrega de webhooks", e.getCause());
+            }
+        }
+        complete(result);
+    }
+
+    // Mesmo (tenant, tarefa) sempre na mesma fila, preservando a ordem de id dentro dela
+    private static List<List<OutboxEntry>> splitLanes(List<OutboxEntry> entries, int parallelism) {
+        List<List<OutboxEntry>> lanes = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, parallelism); i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (OutboxEntry entry : entries) {
+            lanes.get(Math.floorMod(Objects.hash(entry.tenantId(), entry.taskId()), lanes.size())).add(entry);
+        }
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+
+    // Roda em uma virtual thread; não acessa o banco, só monta o resultado para a thread do agendador gravar
+    private LaneResult deliverLane(int shard, String name, String url, List<OutboxEntry> lane) {
+        LaneResult result = new LaneResult();
+        int size = properties.getMaxEventsPerRequest();
+        for (int start = 0; start < lane.size(); start += size) {
+            List<OutboxEntry> chunk = lane.subList(start, Math.min(start + size, lane.size()));
+            if (!result.failed.isEmpty()) {
+                chunk.forEach(entry -> result.released.add(entry.id()));
+                continue;
+            }
+            try {
+                client.send(url, shard, chunk);
+                chunk.forEach(entry -> result.delivered.add(entry.id()));
+                meterRegistry.counter("todolist.webhooks.delivered", "endpoint", name).increment(chunk.size());
+            } catch (IOException e) {
+                logger.warn("Falha ao entregar {} eventos para o endpoint {}: {}", chunk.size(), name, e.getMessage());
+                result.failed.addAll(chunk);
+                meterRegistry.counter("todolist.webhooks.failed", "endpoint", name).increment(chunk.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lane.subList(start, lane.size()).forEach(entry -> result.released.add(entry.id()));
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void complete(LaneResult result) {
+        LocalDateTime giveUpBefore = LocalDateTime.now(clock).minus(properties.getGiveUpAfter());
+        Map<Long, Duration> backoff = new LinkedHashMap<>();
+        for (OutboxEntry entry : result.failed) {
+            if (entry.createdAt().isBefore(giveUpBefore)) {
+                logger.warn("Descartando o evento {} da tarefa {} para o endpoint {} depois de {} tentativas",
+                        entry.id(), entry.taskId(), entry.endpoint(), entry.attempts() + 1);
+                result.discarded.add(entry.id());
+            } else {
+                backoff.put(entry.id(), backoff(entry.attempts()));
+            }
+        }
+        try {
+            List<Long> deleted = new ArrayList<>(result.delivered);
+            deleted.addAll(result.discarded);
+            outboxRepository.delete(deleted);
+            outboxRepository.retryLater(backoff);
+            outboxRepository.release(result.released);
+            discarded.increment(result.discarded.size());
+        } catch (DataAccessException e) {
+            // As linhas voltam quando o lease vencer; os assinantes descartam os repetidos pelo id
+            logger.warn("Falha ao atualizar task_outbox depois da entrega: {}", e.getMessage());
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 30));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private static final class LaneResult {
+
+        private final List<Long> delivered = new ArrayList<>();
+        private final List<OutboxEntry> failed = new ArrayList<>();
+        private final List<Long> released = new ArrayList<>();
+        private final List<Long> discarded = new ArrayList<>();
+
+        private void add(LaneResult other) {
+            delivered.addAll(other.delivered);
+            failed.addAll(other.failed);
+            released.addAll(other.released);
+            discarded.addAll(other.discarded);
+        }
+    }
+}
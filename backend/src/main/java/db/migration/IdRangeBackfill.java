@@ -0,0 +1,52 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Percorre uma tabela em faixas de ID, para as migrations Java que rodam fora de transação.
+ *
+ * Cada comando cobre BATCH_SIZE IDs consecutivos da chave primária e é confirmado sozinho (autocommit): as travas
+ * duram um lote, não a tabela inteira. Os preenchimentos de coluna (UPDATE ... IS NULL) recomeçam só pelas linhas
+ * ainda sem valor se a migration for interrompida.
+ */
+final class IdRangeBackfill {
+
+    static final int BATCH_SIZE = 5000;
+
+    private IdRangeBackfill() {
+    }
+
+    // updateSql recebe o início (inclusivo) e o fim (exclusivo) da faixa, nessa ordem
+    static void run(Connection connection, String updateSql) throws SQLException {
+        run(connection, "tasks", updateSql);
+    }
+
+    // sql recebe o início (inclusivo) e o fim (exclusivo) da faixa, seguidos de args
+    static void run(Connection connection, String table, String sql, Object... args) throws SQLException {
+        long minId;
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MIN(id), MAX(id) FROM " + table)) {
+            rs.next();
+            minId = rs.getLong(1);
+            if (rs.wasNull()) {
+                return;
+            }
+            maxId = rs.getLong(2);
+        }
+        try (PreparedStatement update = connection.prepareStatement(sql)) {
+            for (int i = 0; i < args.length; i++) {
+                update.setObject(i + 3, args[i]);
+            }
+            for (long start = minId; start <= maxId; start += BATCH_SIZE) {
+                update.setLong(1, start);
+                update.setLong(2, start + BATCH_SIZE);
+                update.executeUpdate();
+            }
+        }
+    }
+}
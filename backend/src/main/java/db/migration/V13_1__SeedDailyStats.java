@@ -0,0 +1,56 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * As conclusões anteriores já têm completed_at (desde a V3): entram em task_daily_stats (V13) aos poucos, em lotes
+ * por faixa de ID de tasks e de tasks_archive, em vez de um INSERT ... SELECT ... GROUP BY nas duas tabelas inteiras.
+ *
+ * Só conta o que foi concluído antes do ponto de parada gravado pela V13; o que vier depois é do TaskStatsRollup.
+ * Os lotes somam (ON DUPLICATE KEY UPDATE), então a contagem é zerada antes: nada mais grava na tabela antes de as
+ * migrations terminarem, e uma execução interrompida pode ser repetida do começo.
+ */
+public class V13_1__SeedDailyStats extends BaseJavaMigration {
+
+    private static final String TASKS_SQL = """
+            INSERT INTO task_daily_stats (tenant_id, day, created, completed)
+            SELECT tenant_id, DATE(completed_at), 0, COUNT(*) FROM tasks
+            WHERE id >= ? AND id < ? AND completed = 1 AND completed_at < ?
+            GROUP BY tenant_id, DATE(completed_at)
+            ON DUPLICATE KEY UPDATE completed = completed + VALUES(completed)""";
+
+    private static final String ARCHIVE_SQL = """
+            INSERT INTO task_daily_stats (tenant_id, day, created, completed)
+            SELECT tenant_id, DATE(completed_at), 0, COUNT(*) FROM tasks_archive
+            WHERE id >= ? AND id < ? AND completed_at < ?
+            GROUP BY tenant_id, DATE(completed_at)
+            ON DUPLICATE KEY UPDATE completed = completed + VALUES(completed)""";
+
+    // Fora de transação: cada lote é confirmado sozinho
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Timestamp rolledUpTo;
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM task_daily_stats");
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT rolled_up_to FROM task_rollup_state WHERE name = 'daily_stats'")) {
+                rs.next();
+                rolledUpTo = rs.getTimestamp(1);
+            }
+        }
+        IdRangeBackfill.run(connection, "tasks", TASKS_SQL, rolledUpTo);
+        IdRangeBackfill.run(connection, "tasks_archive", ARCHIVE_SQL, rolledUpTo);
+    }
+}
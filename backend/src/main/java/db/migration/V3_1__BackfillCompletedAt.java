@@ -0,0 +1,26 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Tarefas já concluídas passam a contar a idade a partir desta migration (completed_at de V3), em lotes por faixa
+ * de ID em vez de um UPDATE na tabela inteira.
+ */
+public class V3_1__BackfillCompletedAt extends BaseJavaMigration {
+
+    private static final String UPDATE_SQL = """
+            UPDATE tasks SET completed_at = NOW(6)
+            WHERE id >= ? AND id < ? AND completed = 1 AND completed_at IS NULL""";
+
+    // Fora de transação: cada lote é confirmado sozinho
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        IdRangeBackfill.run(context.getConnection(), UPDATE_SQL);
+    }
+}
@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Tarefas existentes ficam na ordem de criação (rank_key de V8): id em base 36 com largura fixa (mesma ordem dos
+ * dígitos de base 62) e um dígito final diferente de zero, como toda chave gerada pela aplicação. Em lotes por faixa
+ * de ID em vez de um UPDATE na tabela inteira.
+ */
+public class V8_1__BackfillRankKey extends BaseJavaMigration {
+
+    private static final String UPDATE_SQL = """
+            UPDATE tasks SET rank_key = CONCAT(LPAD(CONV(id, 10, 36), 8, '0'), 'V')
+            WHERE id >= ? AND id < ? AND rank_key IS NULL""";
+
+    // Fora de transação: cada lote é confirmado sozinho
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        IdRangeBackfill.run(context.getConnection(), UPDATE_SQL);
+    }
+}
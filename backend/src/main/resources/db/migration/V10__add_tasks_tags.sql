@@ -0,0 +1,5 @@
+-- Tags da tarefa, normalizadas e separadas por vírgula (TaskTags). Sem índice: as buscas por tag
+-- são respondidas pelo TagIndex em memória, e o banco só devolve as linhas pela chave primária
+ALTER TABLE tasks
+    ADD COLUMN tags VARCHAR(1024) NULL,
+    ALGORITHM = INSTANT;
@@ -0,0 +1,11 @@
+-- Histórico append-only das alterações em tarefas, gravado em lotes pelo TaskEventLog fora da transação
+-- da requisição. Sem chaves estrangeiras: o histórico continua depois da purga ou do arquivamento da tarefa.
+CREATE TABLE task_events (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    tenant_id   VARCHAR(64) NOT NULL,
+    task_id     BIGINT      NULL,
+    event_type  VARCHAR(16) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_task_events_task (tenant_id, task_id, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
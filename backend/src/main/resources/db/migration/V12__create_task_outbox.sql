@@ -0,0 +1,15 @@
+-- Outbox dos webhooks: uma linha por alteração e por endpoint, gravada na mesma transação da alteração.
+-- O WebhookDispatcher entrega e apaga as linhas; next_attempt_at guarda a reserva em andamento ou o próximo retry.
+CREATE TABLE task_outbox (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    endpoint        VARCHAR(64) NOT NULL,
+    tenant_id       VARCHAR(64) NOT NULL,
+    task_id         BIGINT      NULL,
+    event_type      VARCHAR(16) NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_task_outbox_due (next_attempt_at, id),
+    KEY idx_task_outbox_task (endpoint, tenant_id, task_id, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,36 @@
+-- Momento da criação. Tarefas existentes ficam com o horário desta migration: o histórico de criação começa aqui.
+-- O padrão CURRENT_TIMESTAMP(6) não permite INSTANT (o valor é gravado em cada linha): a tabela é reconstruída
+-- online, e se o servidor não puder fazê-lo sem travar as escritas a migration falha em vez de travar tasks
+ALTER TABLE tasks
+    ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Atende à busca por faixa do TaskStatsRollup
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_created_at (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tasks_archive
+    ADD COLUMN created_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
+
+-- Contagem de tarefas criadas e concluídas por tenant e dia, somada aos poucos pelo TaskStatsRollup.
+-- Os gráficos (GET /api/tasks/analytics) leem só esta tabela: no máximo uma linha por dia do período
+CREATE TABLE task_daily_stats (
+    tenant_id VARCHAR(64) NOT NULL,
+    day       DATE        NOT NULL,
+    created   INT         NOT NULL DEFAULT 0,
+    completed INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (tenant_id, day)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Até onde (created_at/completed_at) as tarefas do shard já foram somadas
+CREATE TABLE task_rollup_state (
+    name         VARCHAR(32) NOT NULL,
+    rolled_up_to DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO task_rollup_state (name, rolled_up_to) VALUES ('daily_stats', NOW(6));
+
+-- As conclusões anteriores entram na contagem em V13_1 (migration Java, em lotes por faixa de ID)
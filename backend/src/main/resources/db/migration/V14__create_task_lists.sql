@@ -0,0 +1,27 @@
+-- Listas de tarefas (quadros). task_count e completed_count são recontados pelo TaskListCounter depois de cada
+-- escrita que toca tarefas da lista: a página de listas com as contagens é um único SELECT nesta tabela
+CREATE TABLE task_lists (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    tenant_id       VARCHAR(64)  NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    created_at      DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    task_count      INT          NOT NULL DEFAULT 0,
+    completed_count INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    KEY idx_task_lists_tenant (tenant_id, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Lista da tarefa (nula = fora de qualquer lista). Sem chave estrangeira: excluir a lista tira as tarefas dela
+-- com um UPDATE, e a migração de tenants copia as tabelas em qualquer ordem
+ALTER TABLE tasks
+    ADD COLUMN list_id BIGINT NULL,
+    ALGORITHM = INSTANT;
+
+-- Atende às tarefas das listas (por ordem manual) e à recontagem
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_list (list_id, rank_key),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tasks_archive
+    ADD COLUMN list_id BIGINT NULL,
+    ALGORITHM = INSTANT;
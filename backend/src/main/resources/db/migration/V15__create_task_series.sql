@@ -0,0 +1,26 @@
+-- Tarefas recorrentes: a regra (subconjunto de RRULE, ver RecurrenceRule) fica uma vez por série.
+-- As ocorrências não são gravadas: a leitura expande as regras só para o período pedido
+CREATE TABLE task_series (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    tenant_id   VARCHAR(64)  NOT NULL,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500) NULL,
+    rule        VARCHAR(200) NOT NULL,
+    start_date  DATE         NOT NULL,
+    end_date    DATE         NULL,
+    due_time    TIME         NULL,
+    created_at  DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    KEY idx_task_series_tenant (tenant_id, start_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Ocorrência materializada: a linha de tasks só existe depois que a ocorrência foi concluída, editada ou excluída.
+-- A chave única impede duas linhas para a mesma ocorrência e atende à busca das ocorrências de um período
+ALTER TABLE tasks
+    ADD COLUMN series_id BIGINT NULL,
+    ADD COLUMN occurrence_date DATE NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tasks
+    ADD UNIQUE INDEX uk_tasks_occurrence (series_id, occurrence_date),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,5 @@
+-- Colunas gravadas por uma atualização, com os valores novos (objeto JSON); NULL nos demais eventos e nos
+-- anteriores a esta migration. INSTANT: só metadados, sem reconstruir o histórico
+ALTER TABLE task_events
+    ADD COLUMN changes JSON NULL,
+    ALGORITHM = INSTANT;
@@ -0,0 +1,8 @@
+-- Schema inicial, equivalente ao que o Hibernate gerava com ddl-auto=update
+CREATE TABLE tasks (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    completed   BIT(1)       NOT NULL DEFAULT b'0',
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
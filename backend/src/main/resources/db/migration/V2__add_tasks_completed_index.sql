@@ -0,0 +1,6 @@
+-- Filtros por status de conclusão (pendentes/concluídas).
+-- ALGORITHM=INPLACE, LOCK=NONE: o índice é criado online, sem bloquear escritas;
+-- se o MySQL não conseguir, a migration falha em vez de travar a tabela.
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_completed (completed),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,24 @@
+-- Momento da conclusão, usado para decidir quando uma tarefa concluída vai para o arquivo
+ALTER TABLE tasks
+    ADD COLUMN completed_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
+
+-- As tarefas já concluídas recebem completed_at em V3_1 (migration Java, em lotes por faixa de ID)
+
+-- Substitui o índice simples por (completed, completed_at), que atende à busca do arquivador
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_completed_completed_at (completed, completed_at),
+    DROP INDEX idx_tasks_completed,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Tabela fria com as tarefas concluídas antigas, fora do caminho das consultas do dia a dia
+CREATE TABLE tasks_archive (
+    id           BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  VARCHAR(255),
+    completed    BIT(1)       NOT NULL,
+    completed_at DATETIME(6),
+    archived_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_tasks_archive_archived_at (archived_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
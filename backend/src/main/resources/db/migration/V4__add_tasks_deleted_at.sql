@@ -0,0 +1,8 @@
+-- Exclusão lógica: DELETE vira um UPDATE de uma linha; a remoção física fica para o TaskPurger
+ALTER TABLE tasks
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_deleted_at (deleted_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
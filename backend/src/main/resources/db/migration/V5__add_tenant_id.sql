@@ -0,0 +1,26 @@
+-- Dono da tarefa: cada tenant vive inteiro em um único shard
+ALTER TABLE tasks
+    ADD COLUMN tenant_id VARCHAR(64) NOT NULL DEFAULT 'default',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_tenant (tenant_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tasks_archive
+    ADD COLUMN tenant_id VARCHAR(64) NOT NULL DEFAULT 'default',
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tasks_archive
+    ADD INDEX idx_tasks_archive_tenant_archived_at (tenant_id, archived_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Diretório de tenants com shard fixo (tenants migrados ou em migração).
+-- Só o shard 0 é consultado; nos demais a tabela fica vazia.
+CREATE TABLE tenant_shards (
+    tenant_id  VARCHAR(64) NOT NULL,
+    shard      INT         NOT NULL,
+    migrating  BIT(1)      NOT NULL DEFAULT b'0',
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tenant_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,11 @@
+-- Change log das escritas em tarefas, lido por todas as réplicas para invalidar o cache local.
+-- Linhas antigas são removidas pelo ChangeLogPoller (todolist.cache.retention).
+CREATE TABLE task_changes (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    tenant_id   VARCHAR(64) NOT NULL,
+    task_id     BIGINT      NULL,
+    change_type VARCHAR(16) NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_task_changes_changed_at (changed_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,15 @@
+-- Prazo e lembrete das tarefas. O ReminderScheduler carrega só a próxima janela de lembretes
+-- com uma busca por faixa de remind_at, por isso o índice
+ALTER TABLE tasks
+    ADD COLUMN due_at DATETIME(6) NULL,
+    ADD COLUMN remind_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_remind_at (remind_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- O prazo continua visível depois do arquivamento; o lembrete não faz sentido em tarefa concluída
+ALTER TABLE tasks_archive
+    ADD COLUMN due_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
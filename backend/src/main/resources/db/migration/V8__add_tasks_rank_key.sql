@@ -0,0 +1,13 @@
+-- Ordem manual das tarefas: chave de posição fracionária em base 62 (0-9, A-Z, a-z).
+-- A comparação é por byte (ascii_bin), a mesma ordem usada por RankKeys; mover uma tarefa
+-- grava só a chave dela, entre as chaves das vizinhas
+ALTER TABLE tasks
+    ADD COLUMN rank_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL,
+    ALGORITHM = INSTANT;
+
+-- As tarefas existentes recebem rank_key em V8_1 (migration Java, em lotes por faixa de ID)
+
+-- Listagem ordenada do tenant e busca da vizinha de uma chave sem ordenar em memória
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_tenant_rank (tenant_id, rank_key),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,20 @@
+-- Subtarefas: parent_id guarda o pai direto; task_closure guarda todos os pares ancestral/descendente
+-- com a distância entre eles, então subárvores são lidas e alteradas com um JOIN, sem recursão
+ALTER TABLE tasks
+    ADD COLUMN parent_id BIGINT NULL,
+    ALGORITHM = INSTANT;
+
+-- Sem linha da tarefa para ela mesma: tarefas sem pai nem filhos não ocupam a tabela.
+-- A chave primária atende "descendentes de X"; idx_task_closure_descendant, "ancestrais de X".
+-- Remover uma tarefa (purga, arquivamento, migração de tenant) remove os caminhos dela
+CREATE TABLE task_closure (
+    ancestor_id   BIGINT      NOT NULL,
+    descendant_id BIGINT      NOT NULL,
+    depth         INT         NOT NULL,
+    tenant_id     VARCHAR(64) NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    KEY idx_task_closure_descendant (descendant_id, ancestor_id, depth),
+    KEY idx_task_closure_tenant (tenant_id),
+    CONSTRAINT fk_task_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES tasks (id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_closure_descendant FOREIGN KEY (descendant_id) REFERENCES tasks (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
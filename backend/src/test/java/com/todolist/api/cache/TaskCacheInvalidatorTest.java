@@ -0,0 +1,87 @@
+package com.todolist.api.cache;
+
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.service.TaskService;
+import com.todolist.api.sharding.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA INVALIDAÇÃO DO CACHE
+ * 
+ * As chaves são geradas pelo TenantKeyGenerator nas leituras do TaskService
+ * e remontadas pelo TaskCacheInvalidator a partir do evento; as duas precisam bater.
+ */
+class TaskCacheInvalidatorTest {
+
+    private final ConcurrentMapCacheManager cacheManager =
+            new ConcurrentMapCacheManager(TaskCacheInvalidator.TASKS, TaskCacheInvalidator.TASK_LISTS);
+    private final TenantKeyGenerator keyGenerator = new TenantKeyGenerator();
+    private final TaskCacheInvalidator invalidator = new TaskCacheInvalidator(cacheManager);
+
+    private Cache tasks;
+    private Cache taskLists;
+
+    @BeforeEach
+    void setUp() {
+        tasks = cacheManager.getCache(TaskCacheInvalidator.TASKS);
+        taskLists = cacheManager.getCache(TaskCacheInvalidator.TASK_LISTS);
+    }
+
+    // Guarda as entradas como o @Cacheable faria, com o tenant informado
+    private void cacheAs(String tenant, long id) throws Exception {
+        Method getById = TaskService.class.getMethod("getTaskById", Long.class);
+        Method getAll = TaskService.class.getMethod("getAllTasks");
+        TenantContext.callAs(tenant, () -> {
+            tasks.put(keyGenerator.generate(null, getById, id), "task " + id);
+            taskLists.put(keyGenerator.generate(null, getAll), List.of("task " + id));
+            return null;
+        });
+    }
+
+    /**
+     * TESTE: Invalidação por tarefa
+     * 
+     * Objetivo: Verificar que o evento remove a tarefa e a listagem do tenant, sem afetar outros tenants
+     */
+    @Test
+    void testEvictsTaskAndListOfTenant() throws Exception {
+        // ARRANGE
+        cacheAs("acme", 1L);
+        cacheAs("globex", 1L);
+
+        // ACT
+        invalidator.onTaskChanged(new TaskChangedEvent("acme", 1L, TaskChangedEvent.ChangeType.UPDATED));
+
+        // ASSERT
+        assertNull(tasks.get(TenantKeyGenerator.key("acme", 1L)));
+        assertNull(taskLists.get(TenantKeyGenerator.key("acme")));
+        assertNotNull(tasks.get(TenantKeyGenerator.key("globex", 1L)));
+        assertNotNull(taskLists.get(TenantKeyGenerator.key("globex")));
+    }
+
+    /**
+     * TESTE: Invalidação sem ID (importação em massa)
+     * 
+     * Objetivo: Verificar que só a listagem é removida
+     */
+    @Test
+    void testEventWithoutIdEvictsOnlyList() throws Exception {
+        // ARRANGE
+        cacheAs("acme", 1L);
+
+        // ACT
+        invalidator.onTaskChanged(new TaskChangedEvent("acme", null, TaskChangedEvent.ChangeType.IMPORTED));
+
+        // ASSERT
+        assertNotNull(tasks.get(TenantKeyGenerator.key("acme", 1L)));
+        assertNull(taskLists.get(TenantKeyGenerator.key("acme")));
+    }
+}
@@ -1,23 +1,49 @@
 package com.todolist.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.api.config.CircuitBreakerProperties;
+import com.todolist.api.dto.ImportResultDTO;
+import com.todolist.api.dto.TaskAnalyticsDTO;
+import com.todolist.api.dto.TaskBatchResultDTO;
 import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskEventDTO;
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.dto.TaskSearchResultDTO;
+import com.todolist.api.dto.TaskStatsBucketDTO;
+import com.todolist.api.dto.TaskSuggestionDTO;
+import com.todolist.api.resilience.StaleTaskReads;
+import com.todolist.api.service.TaskAnalyticsService;
+import com.todolist.api.service.TaskBatchService;
+import com.todolist.api.service.TaskEventService;
+import com.todolist.api.service.TaskImportService;
+import com.todolist.api.service.TaskListService;
+import com.todolist.api.service.TaskOrderingService;
+import com.todolist.api.service.TaskSearchService;
 import com.todolist.api.service.TaskService;
+import com.todolist.api.service.TaskTreeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +71,34 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskImportService taskImportService;
+
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    @Mock
+    private TaskOrderingService taskOrderingService;
+
+    @Mock
+    private TaskTreeService taskTreeService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Mock
+    private TaskEventService taskEventService;
+
+    @Mock
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @Mock
+    private TaskListService taskListService;
+
+    // Cópia de leitura de verdade: as respostas do TaskService simulado passam por ela
+    @Spy
+    private StaleTaskReads staleTaskReads = new StaleTaskReads(new CircuitBreakerProperties(), new SimpleMeterRegistry());
+
     // @InjectMocks: Cria uma instância do TaskController e injeta os mocks nele
     @InjectMocks
     private TaskController taskController;
@@ -121,6 +175,41 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    /**
+     * TESTE: GET /api/tasks?fields= e GET /api/tasks/{id}?fields=
+     *
+     * Objetivo: Verificar que, com fields, a resposta traz só os campos da projeção (inclusive os nulos)
+     * e que a busca por ID sem resultado dá 404
+     */
+    @Test
+    void testGetTasksWithFields() throws Exception {
+        // ARRANGE
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Test Task");
+        row.put("dueAt", null);
+        when(taskService.getAllTasks("id,title,dueAt")).thenReturn(List.of(row));
+        when(taskService.getTaskById(1L, "id,title,dueAt")).thenReturn(Optional.of(row));
+        when(taskService.getTaskById(999L, "id")).thenReturn(Optional.empty());
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks").param("fields", "id,title,dueAt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(jsonPath("$[0].dueAt").isEmpty())
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/1").param("fields", "id,title,dueAt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.completed").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/999").param("fields", "id"))
+                .andExpect(status().isNotFound());
+
+        verify(taskService, never()).getAllTasks();
+    }
+
     /**
      * TESTE: Buscar tarefa por ID - Caso de falha (não encontrada)
      * 
@@ -277,4 +366,404 @@ class TaskControllerTest {
         mockMvc.perform(patch("/api/tasks/999/toggle"))
                 .andExpect(status().isNotFound());
     }
+
+    /**
+     * TESTE: Listar tarefas arquivadas
+     * 
+     * Objetivo: Verificar se GET /api/tasks/archive repassa a paginação ao service
+     */
+    @Test
+    void testGetArchivedTasks() throws Exception {
+        // ARRANGE
+        when(taskService.getArchivedTasks(0, 20)).thenReturn(List.of(taskDTO));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/archive").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Test Task"));
+
+        verify(taskService, times(1)).getArchivedTasks(0, 20);
+    }
+
+    /**
+     * TESTE: Restaurar tarefa excluída
+     * 
+     * Objetivo: Verificar se POST /api/tasks/{id}/restore retorna a tarefa restaurada
+     * ou 404 quando ela já saiu da janela de retenção
+     */
+    @Test
+    void testRestoreTask() throws Exception {
+        // ARRANGE
+        when(taskService.restoreTask(1L)).thenReturn(Optional.of(taskDTO));
+        when(taskService.restoreTask(999L)).thenReturn(Optional.empty());
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/1/restore"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+        mockMvc.perform(post("/api/tasks/999/restore"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * TESTE: Importação em massa
+     * 
+     * Objetivo: Verificar que POST /api/tasks/import aceita NDJSON e retorna o relatório
+     */
+    @Test
+    void testImportTasks() throws Exception {
+        // ARRANGE
+        ImportResultDTO result = new ImportResultDTO();
+        result.setImported(2);
+        when(taskImportService.importTasks(any(), any())).thenReturn(result);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/import")
+                .contentType(TaskImportService.NDJSON_VALUE)
+                .content("{\"title\":\"A\"}\n{\"title\":\"B\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    /**
+     * TESTE: Importação com formato não suportado
+     * 
+     * Objetivo: Verificar que formatos diferentes de NDJSON e CSV recebem 415
+     */
+    @Test
+    void testImportTasksUnsupportedFormat() throws Exception {
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<tasks/>"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(taskImportService);
+    }
+
+    /**
+     * TESTE: Lote de operações
+     * 
+     * Objetivo: Verificar que o lote executado retorna 200 com o mapa de IDs provisórios
+     */
+    @Test
+    void testApplyOperations() throws Exception {
+        // ARRANGE
+        TaskBatchResultDTO result = new TaskBatchResultDTO();
+        result.setApplied(true);
+        result.getIdMap().put("t1", 10L);
+        when(taskBatchService.apply(anyList())).thenReturn(result);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/ops")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\":[{\"op\":\"create\",\"tempId\":\"t1\",\"task\":{\"title\":\"A\"}}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idMap.t1").value(10));
+    }
+
+    /**
+     * TESTE: Lote recusado
+     * 
+     * Objetivo: Verificar que um lote com operações inválidas retorna 400 e que lote vazio nem chega ao service
+     */
+    @Test
+    void testApplyOperationsRejected() throws Exception {
+        // ARRANGE
+        when(taskBatchService.apply(anyList())).thenReturn(new TaskBatchResultDTO());
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/ops")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\":[{\"op\":\"toggle\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.applied").value(false));
+
+        mockMvc.perform(post("/api/tasks/ops")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\":[]}"))
+                .andExpect(status().isBadRequest());
+        verify(taskBatchService, times(1)).apply(anyList());
+    }
+
+    /**
+     * TESTE: Atualização parcial (JSON Merge Patch)
+     * 
+     * Objetivo: Verificar que o PATCH responde 204 sem corpo e, com Prefer: return=representation, devolve a tarefa
+     */
+    @Test
+    void testPatchTask() throws Exception {
+        // ARRANGE
+        when(taskService.patchTask(eq(1L), any())).thenReturn(true);
+        when(taskService.getTaskById(1L)).thenReturn(Optional.of(taskDTO));
+
+        // ACT & ASSERT: Sem Prefer, nenhuma leitura extra
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":\"Test Task\"}"))
+                .andExpect(status().isNoContent());
+        verify(taskService, never()).getTaskById(any());
+
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .header("Prefer", "return=representation")
+                .content("{\"title\":\"Test Task\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Preference-Applied", "return=representation"))
+                .andExpect(jsonPath("$.title").value("Test Task"));
+    }
+
+    /**
+     * TESTE: Atualização parcial inválida
+     * 
+     * Objetivo: Verificar que título em branco ou campo desconhecido retornam 400 e tarefa inexistente retorna 404
+     */
+    @Test
+    void testPatchTaskRejected() throws Exception {
+        // ARRANGE
+        when(taskService.patchTask(eq(999L), any())).thenReturn(false);
+
+        // ACT & ASSERT
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"title\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/tasks/1")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"titel\":\"Test Task\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/tasks/999")
+                .contentType(TaskController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"description\":null}"))
+                .andExpect(status().isNotFound());
+        verify(taskService, times(1)).patchTask(any(), any());
+    }
+
+    /**
+     * TESTE: Mover tarefa
+     * 
+     * Objetivo: Verificar que o move responde 204, 404 para tarefa inexistente e 400 sem exatamente uma referência
+     */
+    @Test
+    void testMoveTask() throws Exception {
+        // ARRANGE
+        when(taskOrderingService.moveTask(eq(1L), any())).thenReturn(true);
+        when(taskOrderingService.moveTask(eq(999L), any())).thenReturn(false);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/1/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\":2}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/tasks/999/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeId\":2}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/tasks/1/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\":2,\"beforeId\":3}"))
+                .andExpect(status().isBadRequest());
+        verify(taskOrderingService, times(2)).moveTask(any(), any());
+    }
+
+    /**
+     * TESTE: GET /api/tasks/{id}/subtree e /progress
+     * 
+     * Objetivo: Verificar a subárvore (raiz primeiro) e a contagem de subtarefas
+     */
+    @Test
+    void testGetSubtreeAndProgress() throws Exception {
+        // ARRANGE
+        TaskDTO child = new TaskDTO(2L, "Subtarefa", "Desc", true);
+        child.setParentId(1L);
+        when(taskTreeService.getSubtree(1L)).thenReturn(Optional.of(List.of(taskDTO, child)));
+        when(taskTreeService.getSubtree(999L)).thenReturn(Optional.empty());
+        when(taskTreeService.getProgress(1L)).thenReturn(Optional.of(new TaskProgressDTO(1L, false, 1, 1)));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/1/subtree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].parentId").value(1));
+
+        mockMvc.perform(get("/api/tasks/999/subtree"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/tasks/1/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subtasks").value(1))
+                .andExpect(jsonPath("$.completedSubtasks").value(1));
+    }
+
+    /**
+     * TESTE: POST /api/tasks/{id}/complete e PUT /api/tasks/{id}/parent
+     * 
+     * Objetivo: Verificar 204 nas alterações em cascata e 404 para tarefa inexistente
+     */
+    @Test
+    void testCompleteSubtreeAndChangeParent() throws Exception {
+        // ARRANGE
+        when(taskTreeService.completeSubtree(1L)).thenReturn(true);
+        when(taskTreeService.changeParent(1L, 3L)).thenReturn(true);
+        when(taskTreeService.changeParent(999L, null)).thenReturn(false);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/tasks/1/complete"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/api/tasks/1/parent")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":3}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/api/tasks/999/parent")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"parentId\":null}"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * TESTE: PUT /api/tasks/{id}/list
+     *
+     * Objetivo: Verificar 204 ao mudar de lista (ou sair dela, com listId nulo) e 404 para tarefa inexistente
+     */
+    @Test
+    void testChangeList() throws Exception {
+        // ARRANGE
+        when(taskListService.moveTask(1L, 2L)).thenReturn(true);
+        when(taskListService.moveTask(1L, null)).thenReturn(true);
+        when(taskListService.moveTask(999L, 2L)).thenReturn(false);
+
+        // ACT & ASSERT
+        mockMvc.perform(put("/api/tasks/1/list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"listId\":2}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/api/tasks/1/list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"listId\":null}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/api/tasks/999/list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"listId\":2}"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * TESTE: GET /api/tasks/search
+     * 
+     * Objetivo: Verificar que a expressão, o afterId e o limit chegam ao service e que a página volta com o total
+     */
+    @Test
+    void testSearchTasks() throws Exception {
+        // ARRANGE
+        when(taskSearchService.search("trabalho AND NOT is:completed", 10L, 1))
+                .thenReturn(new TaskSearchResultDTO(3, List.of(taskDTO), 1L));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/search")
+                .param("q", "trabalho AND NOT is:completed")
+                .param("afterId", "10")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.nextAfterId").value(1));
+    }
+
+    /**
+     * TESTE: GET /api/tasks/suggest
+     * 
+     * Objetivo: Verificar que o prefixo e o limit chegam ao service e que as sugestões voltam com a contagem
+     */
+    @Test
+    void testSuggestTitles() throws Exception {
+        // ARRANGE
+        when(taskSearchService.suggest("comp", 5)).thenReturn(List.of(new TaskSuggestionDTO("Comprar pão", 2)));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/suggest").param("prefix", "comp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Comprar pão"))
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    /**
+     * TESTE: GET /api/tasks/{id}/events
+     * 
+     * Objetivo: Verificar que o limit padrão (100) chega ao service e que os eventos voltam na ordem do service
+     */
+    @Test
+    void testGetEvents() throws Exception {
+        // ARRANGE
+        LocalDateTime created = LocalDateTime.of(2026, 10, 1, 9, 0);
+        when(taskEventService.getEvents(1L, 100)).thenReturn(List.of(
+                new TaskEventDTO("UPDATED", created.plusMinutes(5), Map.of("title", "Novo título")),
+                new TaskEventDTO("CREATED", created, Map.of())));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/1/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$[0].changes.title").value("Novo título"))
+                .andExpect(jsonPath("$[1].type").value("CREATED"));
+    }
+
+    /**
+     * TESTE: GET /api/tasks/analytics
+     * 
+     * Objetivo: Verificar que granularity, from e to (datas ISO) chegam ao service e que a série volta no corpo
+     */
+    @Test
+    void testGetAnalytics() throws Exception {
+        // ARRANGE
+        LocalDate from = LocalDate.of(2026, 9, 28);
+        LocalDate to = LocalDate.of(2026, 10, 11);
+        when(taskAnalyticsService.getStats("week", from, to)).thenReturn(new TaskAnalyticsDTO("week", from, to, List.of(
+                new TaskStatsBucketDTO(from, 4, 2),
+                new TaskStatsBucketDTO(from.plusWeeks(1), 0, 1))));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks/analytics")
+                        .param("granularity", "week")
+                        .param("from", "2026-09-28")
+                        .param("to", "2026-10-11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("week"))
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[0].created").value(4))
+                .andExpect(jsonPath("$.buckets[1].completed").value(1));
+    }
+
+    /**
+     * TESTE: GET /api/tasks com o banco fora do ar
+     * 
+     * Objetivo: Verificar que a lista volta da última resposta boa com X-Stale e Age,
+     * e que uma resposta normal não leva esses cabeçalhos
+     */
+    @Test
+    void testGetAllTasksServesStaleCopyWhenDatabaseIsDown() throws Exception {
+        // ARRANGE: a primeira leitura responde; a segunda falha sem conexão
+        when(taskService.getAllTasks())
+                .thenReturn(List.of(taskDTO))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager"));
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TaskController.STALE_HEADER));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TaskController.STALE_HEADER, "true"))
+                .andExpect(header().exists("Age"))
+                .andExpect(jsonPath("$[0].title").value("Test Task"));
+    }
 }
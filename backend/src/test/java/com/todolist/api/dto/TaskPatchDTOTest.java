@@ -0,0 +1,56 @@
+package com.todolist.api.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO DTO DE ATUALIZAÇÃO PARCIAL
+ * 
+ * No JSON Merge Patch, campo ausente e campo com null são coisas diferentes:
+ * ausente não muda nada, null apaga o valor. Estes testes verificam que o DTO
+ * guarda essa diferença ao ser lido pelo Jackson.
+ */
+class TaskPatchDTOTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * TESTE: Campos presentes e ausentes
+     * 
+     * Objetivo: Verificar que só os campos enviados ficam marcados, inclusive os enviados como null
+     */
+    @Test
+    void testOnlySentFieldsArePresent() throws Exception {
+        // ACT
+        TaskPatchDTO patch = objectMapper.readValue("{\"description\":null}", TaskPatchDTO.class);
+
+        // ASSERT
+        assertTrue(patch.hasDescription());
+        assertNull(patch.getDescription());
+        assertFalse(patch.hasTitle());
+        assertFalse(patch.hasCompleted());
+        assertFalse(patch.isEmpty());
+        assertTrue(patch.isTitleValid());
+    }
+
+    /**
+     * TESTE: Regras de validação
+     * 
+     * Objetivo: Verificar que título em branco e completed nulo são inválidos, que "id" é ignorado
+     * e que campos desconhecidos são recusados
+     */
+    @Test
+    void testValidationRules() throws Exception {
+        // ACT
+        TaskPatchDTO patch = objectMapper.readValue("{\"id\":7,\"title\":\" \",\"completed\":null}", TaskPatchDTO.class);
+
+        // ASSERT
+        assertFalse(patch.isTitleValid());
+        assertFalse(patch.isCompletedValid());
+        assertTrue(objectMapper.readValue("{}", TaskPatchDTO.class).isEmpty());
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("{\"done\":true}", TaskPatchDTO.class));
+    }
+}
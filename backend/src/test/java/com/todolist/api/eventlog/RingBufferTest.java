@@ -0,0 +1,140 @@
+package com.todolist.api.eventlog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO BUFFER CIRCULAR
+ *
+ * Vários produtores reservam e publicam posições sem locks; um único consumidor
+ * lê as entradas publicadas em ordem. As entradas são objetos reaproveitados (long[1]).
+ */
+class RingBufferTest {
+
+    /**
+     * TESTE: Buffer cheio
+     *
+     * Objetivo: Verificar que tryClaim devolve -1 com todas as posições ocupadas
+     * e volta a reservar depois que o consumidor lê
+     */
+    @Test
+    void testClaimFailsWhenFullUntilDrained() {
+        // ARRANGE
+        RingBuffer<long[]> buffer = new RingBuffer<>(4, () -> new long[1]);
+        for (int i = 0; i < 4; i++) {
+            long sequence = buffer.tryClaim();
+            buffer.get(sequence)[0] = i;
+            buffer.publish(sequence);
+        }
+
+        // ACT & ASSERT
+        assertEquals(-1, buffer.tryClaim());
+        assertEquals(4, buffer.size());
+        List<Long> read = new ArrayList<>();
+        assertEquals(2, buffer.drain(entry -> read.add(entry[0]), 2));
+        assertEquals(List.of(0L, 1L), read);
+        assertEquals(4, buffer.tryClaim());
+        assertEquals(3, buffer.size());
+    }
+
+    /**
+     * TESTE: Reserva não publicada
+     *
+     * Objetivo: Verificar que o consumidor para na primeira posição reservada e ainda não publicada,
+     * mesmo que as seguintes já estejam publicadas
+     */
+    @Test
+    void testDrainStopsAtUnpublishedEntry() {
+        // ARRANGE
+        RingBuffer<long[]> buffer = new RingBuffer<>(8, () -> new long[1]);
+        long first = buffer.tryClaim();
+        long second = buffer.tryClaim();
+        buffer.get(second)[0] = 2;
+        buffer.publish(second);
+
+        // ACT
+        List<Long> read = new ArrayList<>();
+        int before = buffer.drain(entry -> read.add(entry[0]), 10);
+        buffer.get(first)[0] = 1;
+        buffer.publish(first);
+        int after = buffer.drain(entry -> read.add(entry[0]), 10);
+
+        // ASSERT
+        assertEquals(0, before);
+        assertEquals(2, after);
+        assertEquals(List.of(1L, 2L), read);
+        assertEquals(second, buffer.consumed());
+    }
+
+    /**
+     * TESTE: Capacidade inválida
+     *
+     * Objetivo: Verificar que só potências de 2 são aceitas
+     */
+    @Test
+    void testRejectsCapacityNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(100, Object::new));
+    }
+
+    /**
+     * TESTE: Vários produtores
+     *
+     * Objetivo: Verificar que, com 4 produtores concorrentes e um buffer bem menor que o total,
+     * o consumidor lê cada valor exatamente uma vez, e os de cada produtor na ordem em que foram publicados
+     */
+    @Test
+    void testConcurrentProducersSingleConsumer() throws Exception {
+        // ARRANGE: valor = produtor * PER_PRODUCER + i
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBuffer<long[]> buffer = new RingBuffer<>(1024, () -> new long[1]);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // ACT
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    long sequence;
+                    while ((sequence = buffer.tryClaim()) < 0) {
+                        Thread.onSpinWait();
+                    }
+                    buffer.get(sequence)[0] = base + i;
+                    buffer.publish(sequence);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        long[] next = new long[producers];
+        boolean[] seen = new boolean[producers * perProducer];
+        int total = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (total < seen.length && System.nanoTime() < deadline) {
+            total += buffer.drain(entry -> {
+                int value = (int) entry[0];
+                int producer = value / perProducer;
+                assertFalse(seen[value], "valor repetido " + value);
+                assertEquals(next[producer], value % perProducer, "fora de ordem no produtor " + producer);
+                seen[value] = true;
+                next[producer]++;
+            }, 256);
+        }
+        executor.shutdown();
+
+        // ASSERT
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(seen.length, total);
+        assertEquals(0, buffer.size());
+    }
+}
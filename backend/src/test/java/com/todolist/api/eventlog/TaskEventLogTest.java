@@ -0,0 +1,271 @@
+package com.todolist.api.eventlog;
+
+import com.todolist.api.config.EventLogProperties;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.repository.TaskEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO GRAVADOR DO HISTÓRICO
+ *
+ * O TaskEventLog roda com a thread gravadora de verdade; o repositório é um fake em memória
+ * que pode segurar ou falhar a gravação, para simular um banco lento ou fora do ar.
+ */
+class TaskEventLogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private FakeRepository repository;
+    private EventLogProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FakeRepository();
+        properties = new EventLogProperties();
+        properties.setCapacity(4);
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.release.countDown();
+        if (eventLog != null) {
+            eventLog.stop();
+        }
+    }
+
+    private void start() {
+        eventLog = new TaskEventLog(repository, properties, meterRegistry, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        eventLog.start();
+    }
+
+    private double dropped() {
+        return meterRegistry.counter("todolist.events.dropped").count();
+    }
+
+    /**
+     * TESTE: Lotes e desligamento
+     *
+     * Objetivo: Verificar que os eventos são gravados em ordem, em lotes de no máximo batchSize,
+     * e que stop() grava o que sobrou no buffer sem esperar o flushInterval
+     */
+    @Test
+    void testWritesInBatchesAndFlushesOnStop() {
+        // ARRANGE
+        start();
+
+        // ACT
+        for (long id = 1; id <= 5; id++) {
+            eventLog.onTaskChanged(new TaskChangedEvent("default", id, ChangeType.UPDATED));
+        }
+        eventLog.stop();
+
+        // ASSERT
+        List<TaskEvent> events = repository.events();
+        assertEquals(5, events.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1L, events.get(i).taskId());
+            assertEquals(NOW, events.get(i).occurredAt());
+        }
+        assertTrue(repository.batchSizes().stream().allMatch(size -> size <= 2), "lotes: " + repository.batchSizes());
+        assertEquals(5, meterRegistry.counter("todolist.events.written").count());
+        assertEquals(0, dropped());
+    }
+
+    /**
+     * TESTE: Backpressure DROP
+     *
+     * Objetivo: Verificar que, com o gravador preso num lote e o buffer cheio, o evento seguinte
+     * é descartado na hora e contado, e que os aceitos são gravados quando o banco volta
+     */
+    @Test
+    void testDropPolicyDiscardsWhenFull() {
+        // ARRANGE: o primeiro lote segura o gravador; o buffer (4 posições) enche com os próximos
+        properties.setBackpressure(EventLogProperties.Backpressure.DROP);
+        repository.hold();
+        start();
+        fillUntilWriterHolds();
+
+        // ACT
+        boolean accepted = eventLog.record(new TaskChangedEvent("default", 99L, ChangeType.UPDATED));
+        repository.release.countDown();
+        eventLog.stop();
+
+        // ASSERT
+        assertFalse(accepted);
+        assertEquals(1, dropped());
+        assertEquals(6, repository.events().size());
+    }
+
+    /**
+     * TESTE: Backpressure BLOCK
+     *
+     * Objetivo: Verificar que, com o buffer cheio, a requisição espera até blockTimeout e só então descarta
+     */
+    @Test
+    void testBlockPolicyWaitsThenDiscards() {
+        // ARRANGE
+        properties.setBackpressure(EventLogProperties.Backpressure.BLOCK);
+        properties.setBlockTimeout(Duration.ofMillis(30));
+        repository.hold();
+        start();
+        fillUntilWriterHolds();
+
+        // ACT
+        long startNanos = System.nanoTime();
+        boolean accepted = eventLog.record(new TaskChangedEvent("default", 99L, ChangeType.UPDATED));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // ASSERT
+        assertFalse(accepted);
+        assertTrue(waitedMillis >= 30, "esperou " + waitedMillis + " ms");
+        assertEquals(1, dropped());
+    }
+
+    /**
+     * TESTE: Durabilidade SYNC
+     *
+     * Objetivo: Verificar que, com durability=SYNC, o evento já está gravado quando record() retorna,
+     * mesmo com flushInterval longo e lote incompleto
+     */
+    @Test
+    void testSyncDurabilityWaitsForWrite() {
+        // ARRANGE
+        properties.setDurability(EventLogProperties.Durability.SYNC);
+        start();
+
+        // ACT
+        eventLog.record(new TaskChangedEvent("default", 7L, ChangeType.CREATED));
+
+        // ASSERT
+        assertEquals(List.of(new TaskEvent("default", 7L, ChangeType.CREATED, NOW)), repository.events());
+        assertEquals(0, eventLog.flushed());
+    }
+
+    /**
+     * TESTE: Colunas alteradas
+     *
+     * Objetivo: Verificar que as colunas gravadas por uma atualização, com os valores novos, chegam ao histórico
+     */
+    @Test
+    void testKeepsChangedColumns() {
+        // ARRANGE
+        properties.setDurability(EventLogProperties.Durability.SYNC);
+        start();
+
+        // ACT
+        eventLog.onTaskChanged(TaskChangedEvent.updated("default", 7L, "title", "Novo título"));
+
+        // ASSERT
+        assertEquals(List.of(new TaskEvent("default", 7L, ChangeType.UPDATED, NOW, Map.of("title", "Novo título"))),
+                repository.events());
+    }
+
+    /**
+     * TESTE: Falha na gravação
+     *
+     * Objetivo: Verificar que um lote que falha é tentado de novo e gravado uma única vez
+     */
+    @Test
+    void testRetriesFailedBatch() {
+        // ARRANGE
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setDurability(EventLogProperties.Durability.SYNC);
+        repository.failures.set(2);
+        start();
+
+        // ACT
+        eventLog.record(new TaskChangedEvent("default", 1L, ChangeType.DELETED));
+
+        // ASSERT
+        assertEquals(1, repository.events().size());
+        assertEquals(3, repository.calls.get());
+    }
+
+    // Publica eventos até o gravador estar preso no primeiro lote e o buffer ficar cheio atrás dele
+    private void fillUntilWriterHolds() {
+        eventLog.record(new TaskChangedEvent("default", 1L, ChangeType.CREATED));
+        eventLog.record(new TaskChangedEvent("default", 2L, ChangeType.CREATED));
+        await(() -> repository.calls.get() == 1);
+        for (long id = 3; id <= 6; id++) {
+            assertTrue(eventLog.record(new TaskChangedEvent("default", id, ChangeType.CREATED)));
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condição não atingida em 5 s");
+            Thread.onSpinWait();
+        }
+    }
+
+    // Repositório em memória; hold() faz a gravação esperar release, failures faz as próximas falharem
+    private static final class FakeRepository implements TaskEventRepository {
+
+        private final List<TaskEvent> events = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean holding;
+
+        void hold() {
+            holding = true;
+        }
+
+        @Override
+        public void append(List<TaskEvent> batch) {
+            calls.incrementAndGet();
+            if (holding) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new IllegalStateException("banco fora do ar");
+            }
+            synchronized (this) {
+                events.addAll(batch);
+                batchSizes.add(batch.size());
+            }
+        }
+
+        @Override
+        public List<TaskEvent> findByTask(String tenantId, long taskId, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        synchronized List<TaskEvent> events() {
+            return new ArrayList<>(events);
+        }
+
+        synchronized List<Integer> batchSizes() {
+            return new ArrayList<>(batchSizes);
+        }
+    }
+}
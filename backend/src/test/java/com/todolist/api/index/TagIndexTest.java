@@ -0,0 +1,133 @@
+package com.todolist.api.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO ÍNDICE DE TAGS
+ * 
+ * O TagIndex guarda, por tenant, um bitmap de IDs para cada tag e um para as tarefas concluídas.
+ * Os testes montam o índice direto pelo Loader; a manutenção por eventos fica em TaskIndexMaintainerTest.
+ */
+class TagIndexTest {
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new TagIndex(new SimpleMeterRegistry());
+    }
+
+    /**
+     * TESTE: Busca booleana
+     * 
+     * Objetivo: Verificar AND, OR, NOT, parênteses, termos lado a lado e is:completed sobre o índice montado
+     */
+    @Test
+    void testBooleanQueries() {
+        // ARRANGE
+        build(task("default", 1, false, "trabalho", "urgente"),
+              task("default", 2, true, "trabalho", "urgente"),
+              task("default", 3, false, "trabalho"),
+              task("default", 4, false, "casa", "urgente"),
+              task("outro", 5, false, "trabalho", "urgente"));
+
+        // ACT & ASSERT
+        assertEquals(Set.of(1L), search("default", "trabalho AND urgente AND NOT is:completed"));
+        assertEquals(Set.of(1L, 2L), search("default", "Trabalho urgente"));
+        assertEquals(Set.of(1L, 2L, 3L, 4L), search("default", "trabalho OR casa"));
+        assertEquals(Set.of(3L, 4L), search("default", "NOT (trabalho AND urgente)"));
+        assertEquals(Set.of(2L, 4L), search("default", "is:completed or (casa and not trabalho)"));
+        assertEquals(Set.of(1L, 3L, 4L), search("default", "not is:completed"));
+        assertEquals(Set.of(), search("default", "inexistente"));
+        assertEquals(Set.of(5L), search("outro", "trabalho"));
+        assertEquals(Set.of(), search("sem-tarefas", "trabalho"));
+    }
+
+    /**
+     * TESTE: Buscas inválidas
+     * 
+     * Objetivo: Verificar que erros de sintaxe e tags fora do formato viram IllegalArgumentException
+     */
+    @Test
+    void testRejectsInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("(trabalho"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("trabalho)"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("trabalho AND"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("OR trabalho"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("tag;drop"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("a ".repeat(TagQuery.MAX_TERMS + 1)));
+    }
+
+    /**
+     * TESTE: Alterações depois da montagem
+     * 
+     * Objetivo: Verificar que put troca as tags e a conclusão da tarefa e que remove a tira de todos os bitmaps
+     */
+    @Test
+    void testPutAndRemove() {
+        // ARRANGE
+        build(task("default", 1, false, "trabalho"), task("default", 2, false, "trabalho"));
+
+        // ACT
+        tagIndex.put(task("default", 1, true, "casa"));
+        tagIndex.remove("default", 2);
+
+        // ASSERT
+        assertEquals(Set.of(), search("default", "trabalho"));
+        assertEquals(Set.of(1L), search("default", "casa AND is:completed"));
+        assertEquals(Set.of(1L), search("default", "casa OR NOT casa"));
+    }
+
+    /**
+     * TESTE: Busca antes da montagem
+     * 
+     * Objetivo: Verificar que o índice não responde antes do primeiro publish
+     */
+    @Test
+    void testNotReadyBeforePublish() {
+        assertFalse(tagIndex.isReady());
+        assertThrows(IllegalStateException.class, () -> tagIndex.query("default", TagQuery.parse("trabalho")));
+    }
+
+    /**
+     * TESTE: IDs acima de Integer.MAX_VALUE
+     * 
+     * Objetivo: Verificar que os IDs entram como inteiros sem sinal e que IDs fora da faixa são ignorados
+     */
+    @Test
+    void testUnsignedIds() {
+        // ARRANGE
+        build(task("default", 3_000_000_000L, false, "grande"), task("default", 0x1_0000_0000L, false, "grande"));
+
+        // ACT & ASSERT
+        assertEquals(Set.of(3_000_000_000L), search("default", "grande"));
+    }
+
+    private void build(IndexedTask... tasks) {
+        TaskIndex.Loader loader = tagIndex.loader();
+        for (IndexedTask task : tasks) {
+            loader.add(task);
+        }
+        loader.finish();
+        loader.publish();
+    }
+
+    private Set<Long> search(String tenantId, String query) {
+        Set<Long> ids = new HashSet<>();
+        tagIndex.query(tenantId, TagQuery.parse(query)).forEach((int id) -> ids.add(Integer.toUnsignedLong(id)));
+        return ids;
+    }
+
+    private static IndexedTask task(String tenantId, long id, boolean completed, String... tags) {
+        return new IndexedTask(tenantId, id, "Tarefa " + id, completed, List.of(tags));
+    }
+}
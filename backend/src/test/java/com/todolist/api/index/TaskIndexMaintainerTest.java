@@ -0,0 +1,200 @@
+package com.todolist.api.index;
+
+import com.todolist.api.event.TaskChangeLogEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.repository.TaskIndexRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DA MANUTENÇÃO DOS ÍNDICES EM MEMÓRIA
+ * 
+ * O TaskIndexMaintainer monta o TagIndex e o TitleIndex a partir do banco e os atualiza a cada escrita.
+ * O repositório é simulado: a montagem percorre uma lista fixa e as releituras devolvem o que o teste mandar.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskIndexMaintainerTest {
+
+    @Mock
+    private TaskIndexRepository taskIndexRepository;
+
+    private TagIndex tagIndex;
+    private TitleIndex titleIndex;
+    private TaskIndexMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new TagIndex(new SimpleMeterRegistry());
+        titleIndex = new TitleIndex(new SimpleMeterRegistry());
+        maintainer = new TaskIndexMaintainer(taskIndexRepository, List.of(tagIndex, titleIndex));
+    }
+
+    /**
+     * TESTE: Escritas desta réplica
+     * 
+     * Objetivo: Verificar que a tarefa é relida depois do commit e atualiza os dois índices, e que a exclusão
+     * a remove sem consultar o banco
+     */
+    @Test
+    void testAppliesLocalWrites() {
+        // ARRANGE
+        build(task("default", 1, "Comprar pão", false, "casa"));
+        when(taskIndexRepository.findByIds(List.of(1L))).thenReturn(List.of(task("default", 1, "Pagar conta", true, "casa")));
+
+        // ACT
+        maintainer.onTaskChanged(new TaskChangedEvent("default", 1L, ChangeType.UPDATED));
+
+        // ASSERT
+        assertEquals(Set.of(1L), search("casa AND is:completed"));
+        assertEquals(List.of(), titles("comp"));
+        assertEquals(List.of("Pagar conta"), titles("pa"));
+
+        // ACT: Exclusão
+        maintainer.onTaskChanged(new TaskChangedEvent("default", 1L, ChangeType.DELETED));
+
+        // ASSERT
+        assertEquals(Set.of(), search("casa OR NOT casa"));
+        assertEquals(List.of(), titles("pa"));
+        verify(taskIndexRepository, times(1)).findByIds(anyCollection());
+    }
+
+    /**
+     * TESTE: Escritas de outras réplicas
+     * 
+     * Objetivo: Verificar que o change log relê os IDs em lote e que IDs ausentes na releitura saem dos índices
+     */
+    @Test
+    void testAppliesChangeLogBatch() {
+        // ARRANGE
+        build(task("default", 1, "A", false, "trabalho"), task("default", 2, "B", false, "trabalho"));
+        when(taskIndexRepository.findByIds(anyCollection())).thenReturn(List.of(task("default", 3, "C", false, "trabalho")));
+
+        // ACT
+        maintainer.onChangeLog(new TaskChangeLogEvent(0, List.of(
+                new TaskChangedEvent("default", 2L, ChangeType.DELETED),
+                new TaskChangedEvent("default", 3L, ChangeType.CREATED))));
+
+        // ASSERT
+        assertEquals(Set.of(1L, 3L), search("trabalho"));
+        assertEquals(List.of(), titles("b"));
+    }
+
+    /**
+     * TESTE: Escritas durante a montagem
+     * 
+     * Objetivo: Verificar que uma escrita feita enquanto a montagem percorre a tabela vale mais que a linha lida
+     */
+    @Test
+    void testWritesDuringRebuildWin() {
+        // ARRANGE: A montagem lê a tarefa 1 com a tag antiga e, no meio da leitura, a tarefa é alterada
+        when(taskIndexRepository.findByIds(List.of(1L))).thenReturn(List.of(task("default", 1, "Nova", false, "nova")));
+        doAnswer(invocation -> {
+            Consumer<IndexedTask> action = invocation.getArgument(0);
+            action.accept(task("default", 1, "Antiga", false, "antiga"));
+            maintainer.onTaskChanged(new TaskChangedEvent("default", 1L, ChangeType.UPDATED));
+            return null;
+        }).when(taskIndexRepository).forEachTask(any());
+
+        // ACT
+        maintainer.start();
+
+        // ASSERT
+        assertEquals(Set.of(), search("antiga"));
+        assertEquals(Set.of(1L), search("nova"));
+        assertEquals(List.of("Nova"), titles("n"));
+    }
+
+    /**
+     * TESTE: Importação e falha na montagem
+     * 
+     * Objetivo: Verificar que uma falha agenda nova tentativa e que uma importação (sem IDs) pede nova montagem
+     */
+    @Test
+    void testRebuildRequests() {
+        // ARRANGE
+        doThrow(new DataAccessResourceFailureException("fora do ar"))
+                .doAnswer(invocation -> null)
+                .doAnswer(invocation -> {
+                    Consumer<IndexedTask> action = invocation.getArgument(0);
+                    action.accept(task("default", 7, "Importada", false, "importada"));
+                    return null;
+                })
+                .when(taskIndexRepository).forEachTask(any());
+
+        // ACT & ASSERT: Falha na montagem inicial
+        maintainer.start();
+        assertFalse(tagIndex.isReady());
+        assertFalse(titleIndex.isReady());
+
+        // ACT & ASSERT: Nova tentativa no agendamento
+        maintainer.rebuildIfRequested();
+        assertTrue(tagIndex.isReady());
+        maintainer.rebuildIfRequested();
+        verify(taskIndexRepository, times(2)).forEachTask(any());
+
+        // ACT & ASSERT: Importação
+        maintainer.onTaskChanged(new TaskChangedEvent("default", null, ChangeType.IMPORTED));
+        maintainer.rebuildIfRequested();
+        assertEquals(Set.of(7L), search("importada"));
+        assertEquals(List.of("Importada"), titles("imp"));
+    }
+
+    /**
+     * TESTE: IDs esquecidos
+     * 
+     * Objetivo: Verificar que forget tira dos índices tarefas que não existem mais no banco
+     */
+    @Test
+    void testForget() {
+        // ARRANGE
+        build(task("default", 1, "Arquivada", true, "velha"));
+
+        // ACT
+        maintainer.forget("default", List.of(1L));
+
+        // ASSERT
+        assertEquals(Set.of(), search("velha"));
+        assertEquals(List.of(), titles("arq"));
+    }
+
+    private void build(IndexedTask... tasks) {
+        doAnswer(invocation -> {
+            Consumer<IndexedTask> action = invocation.getArgument(0);
+            for (IndexedTask task : tasks) {
+                action.accept(task);
+            }
+            return null;
+        }).when(taskIndexRepository).forEachTask(any());
+        maintainer.start();
+    }
+
+    private Set<Long> search(String query) {
+        Set<Long> ids = new HashSet<>();
+        tagIndex.query("default", TagQuery.parse(query)).forEach((int id) -> ids.add(Integer.toUnsignedLong(id)));
+        return ids;
+    }
+
+    private List<String> titles(String prefix) {
+        return titleIndex.suggest("default", prefix, TitleTrie.TOP).stream().map(TitleTrie.Suggestion::title).toList();
+    }
+
+    private static IndexedTask task(String tenantId, long id, String title, boolean completed, String... tags) {
+        return new IndexedTask(tenantId, id, title, completed, List.of(tags));
+    }
+}
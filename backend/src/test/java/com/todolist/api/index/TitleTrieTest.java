@@ -0,0 +1,173 @@
+package com.todolist.api.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA ÁRVORE DE PREFIXOS DE TÍTULOS
+ * 
+ * A TitleTrie divide e junta arestas conforme títulos entram e saem, e guarda os mais usados
+ * de cada subárvore. Além de casos pontuais, um teste compara a árvore com uma busca por força
+ * bruta depois de milhares de alterações aleatórias.
+ */
+class TitleTrieTest {
+
+    /**
+     * TESTE: Normalização e ranking
+     * 
+     * Objetivo: Verificar que maiúsculas, acentos e espaços são ignorados, que títulos iguais somam
+     * e que a sugestão vem do mais usado para o menos usado
+     */
+    @Test
+    void testNormalizesAndRanks() {
+        // ARRANGE
+        TitleTrie trie = new TitleTrie();
+        trie.put(1, "Comprar pão");
+        trie.put(2, "comprar  PAO");
+        trie.put(3, "Comprar leite");
+        trie.put(4, "Compras do mês");
+        trie.put(5, "Consertar a pia");
+
+        // ACT
+        List<TitleTrie.Suggestion> suggestions = trie.suggest("  COMP", 10);
+
+        // ASSERT: O título exibido é o da última tarefa que o usou
+        assertEquals(List.of(
+                new TitleTrie.Suggestion("comprar  PAO", 2),
+                new TitleTrie.Suggestion("Comprar leite", 1),
+                new TitleTrie.Suggestion("Compras do mês", 1)), suggestions);
+        assertEquals(List.of("Comprar leite", "comprar  PAO"), trie.suggest("comprar ", 10).stream()
+                .map(TitleTrie.Suggestion::title).sorted().toList());
+        assertEquals(1, trie.suggest("Cómpras", 10).size());
+        assertEquals(List.of(), trie.suggest("x", 10));
+        assertEquals(4, trie.size());
+    }
+
+    /**
+     * TESTE: Troca e remoção de títulos
+     * 
+     * Objetivo: Verificar que uma tarefa sai do título anterior ao mudar de título e que a árvore volta
+     * a ficar vazia quando todas as tarefas saem
+     */
+    @Test
+    void testReplaceAndRemove() {
+        // ARRANGE
+        TitleTrie trie = new TitleTrie();
+        trie.put(1, "ab");
+        trie.put(2, "abc");
+        trie.put(3, "abd");
+
+        // ACT
+        trie.put(2, "abd");
+        trie.remove(1);
+
+        // ASSERT
+        assertEquals(List.of(new TitleTrie.Suggestion("abd", 2)), trie.suggest("a", 10));
+
+        // ACT
+        trie.remove(2);
+        trie.remove(3);
+        trie.remove(3);
+
+        // ASSERT
+        assertEquals(0, trie.size());
+        assertEquals(0, trie.taskCount());
+        assertEquals(List.of(), trie.suggest("a", 10));
+    }
+
+    /**
+     * TESTE: Comparação com força bruta
+     * 
+     * Objetivo: Verificar, depois de alterações aleatórias com muitos prefixos em comum (divisões e junções
+     * de arestas e listas dos mais usados), que cada sugestão é igual à de uma busca linear
+     */
+    @Test
+    void testMatchesBruteForce() {
+        // ARRANGE
+        Random random = new Random(42);
+        TitleTrie trie = new TitleTrie();
+        Map<Long, String> titles = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            long taskId = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                // ACT: Remoção
+                trie.remove(taskId);
+                titles.remove(taskId);
+            } else {
+                // ACT: Títulos curtos de um alfabeto pequeno, para forçar prefixos comuns
+                String title = randomTitle(random);
+                trie.put(taskId, title);
+                titles.put(taskId, title);
+            }
+
+            if (step % 100 == 0) {
+                // ASSERT
+                for (String prefix : List.of("", "a", "b", "ab", "ba", "abc", "cab", "c a")) {
+                    assertEquals(bruteForce(titles, prefix), trie.suggest(prefix, TitleTrie.TOP).stream()
+                            .map(suggestion -> TitleTrie.normalize(suggestion.title()) + "=" + suggestion.count())
+                            .toList(), "passo " + step + ", prefixo '" + prefix + "'");
+                }
+            }
+        }
+        assertEquals(titles.size(), trie.taskCount());
+    }
+
+    /**
+     * TESTE: Carga em massa
+     * 
+     * Objetivo: Verificar que load seguido de rank dá as mesmas sugestões que inserir um a um
+     */
+    @Test
+    void testBulkLoadMatchesBruteForce() {
+        // ARRANGE
+        Random random = new Random(7);
+        TitleTrie trie = new TitleTrie();
+        Map<Long, String> titles = new HashMap<>();
+        for (long taskId = 0; taskId < 5_000; taskId++) {
+            String title = randomTitle(random);
+            titles.put(taskId, title);
+            // ACT
+            trie.load(taskId, title);
+        }
+        trie.rank();
+        trie.put(1, "abc");
+        titles.put(1L, "abc");
+
+        // ASSERT
+        for (String prefix : List.of("", "a", "ab", "abc", "c")) {
+            assertEquals(bruteForce(titles, prefix), trie.suggest(prefix, TitleTrie.TOP).stream()
+                    .map(suggestion -> TitleTrie.normalize(suggestion.title()) + "=" + suggestion.count())
+                    .toList(), "prefixo '" + prefix + "'");
+        }
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            title.append("abc ".charAt(random.nextInt(4)));
+        }
+        return title.toString().isBlank() ? "a" : title.toString();
+    }
+
+    private static List<String> bruteForce(Map<Long, String> titles, String prefix) {
+        String key = TitleTrie.normalizePrefix(prefix);
+        Map<String, Long> counts = titles.values().stream()
+                .map(TitleTrie::normalize)
+                .filter(title -> !title.isEmpty() && title.startsWith(key))
+                .collect(Collectors.groupingBy(title -> title, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(TitleTrie.TOP)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.todolist.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA REGRA DE RECORRÊNCIA
+ *
+ * RecurrenceRule interpreta o subconjunto de RRULE aceito pelas séries e calcula as ocorrências de um período
+ * sem percorrer a série desde o início.
+ */
+class RecurrenceRuleTest {
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+
+    private static List<LocalDate> dates(String... values) {
+        return List.of(values).stream().map(LocalDate::parse).toList();
+    }
+
+    /**
+     * TESTE: Diária com intervalo
+     *
+     * Objetivo: Verificar que o primeiro dia do período é alinhado ao intervalo contado a partir do início
+     */
+    @Test
+    void testDailyWithInterval() {
+        // ARRANGE
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2");
+
+        // ACT
+        List<LocalDate> occurrences = rule.between(date("2026-01-01"), date("2026-01-10"), date("2026-01-16"));
+
+        // ASSERT
+        assertEquals(dates("2026-01-11", "2026-01-13", "2026-01-15"), occurrences);
+    }
+
+    /**
+     * TESTE: Semanal em dias escolhidos
+     *
+     * Objetivo: Verificar BYDAY com INTERVAL=2, sem dias anteriores ao início da série
+     */
+    @Test
+    void testWeeklyByDay() {
+        // ARRANGE: 2026-01-07 é uma quarta-feira
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE");
+
+        // ACT
+        List<LocalDate> occurrences = rule.between(date("2026-01-07"), date("2026-01-01"), date("2026-02-04"));
+
+        // ASSERT
+        assertEquals(dates("2026-01-07", "2026-01-19", "2026-01-21", "2026-02-02", "2026-02-04"), occurrences);
+    }
+
+    /**
+     * TESTE: Mensal no fim do mês
+     *
+     * Objetivo: Verificar que BYMONTHDAY=31 pula os meses sem dia 31 e que -1 é sempre o último dia
+     */
+    @Test
+    void testMonthlyByMonthDay() {
+        // ARRANGE
+        LocalDate start = date("2026-01-31");
+
+        // ACT
+        List<LocalDate> day31 = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31").between(start, start, date("2026-06-30"));
+        List<LocalDate> lastDay = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1").between(start, start, date("2026-04-30"));
+
+        // ASSERT
+        assertEquals(dates("2026-01-31", "2026-03-31", "2026-05-31"), day31);
+        assertEquals(dates("2026-01-31", "2026-02-28", "2026-03-31", "2026-04-30"), lastDay);
+    }
+
+    /**
+     * TESTE: Série antiga
+     *
+     * Objetivo: Verificar que uma série com décadas de idade devolve só as ocorrências do período pedido
+     */
+    @Test
+    void testOldSeriesExpandsOnlyTheWindow() {
+        // ARRANGE
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        // ACT
+        List<LocalDate> occurrences = rule.between(date("2000-01-01"), date("2026-03-01"), date("2026-03-07"));
+
+        // ASSERT
+        assertEquals(7, occurrences.size());
+        assertEquals(date("2026-03-01"), occurrences.get(0));
+        assertTrue(rule.occursOn(date("2000-01-01"), date("2026-03-04")));
+        assertFalse(RecurrenceRule.parse("FREQ=WEEKLY").occursOn(date("2026-01-07"), date("2026-01-08")));
+    }
+
+    /**
+     * TESTE: Leitura da regra
+     *
+     * Objetivo: Verificar a forma canônica e a recusa de regras fora do subconjunto aceito
+     */
+    @Test
+    void testParse() {
+        // ARRANGE & ACT & ASSERT
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE", RecurrenceRule.parse("freq=weekly;byday=we,mo").format());
+        assertEquals("FREQ=DAILY", RecurrenceRule.parse("FREQ=DAILY;INTERVAL=1").format());
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=0"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3"));
+    }
+}
@@ -106,4 +106,27 @@ class TaskTest {
         // ASSERT: Verifica mudança de estado
         assertTrue(task.getCompleted());  // Agora está completada
     }
+
+    /**
+     * TESTE: Momento da conclusão
+     * 
+     * Objetivo: Verificar que completedAt é preenchido ao concluir
+     * e limpo ao reabrir a tarefa
+     * 
+     * O arquivador usa completedAt para saber a idade de uma tarefa concluída.
+     */
+    @Test
+    void testCompletedAtFollowsCompletion() {
+        // ARRANGE: Tarefa nova não tem data de conclusão
+        Task task = new Task("Task", "Description");
+        assertNull(task.getCompletedAt());
+
+        // ACT & ASSERT: Concluir registra o momento
+        task.setCompleted(true);
+        assertNotNull(task.getCompletedAt());
+
+        // ACT & ASSERT: Reabrir limpa o momento
+        task.setCompleted(false);
+        assertNull(task.getCompletedAt());
+    }
 }
@@ -0,0 +1,59 @@
+package com.todolist.api.profiling;
+
+import com.todolist.api.config.ProfilingProperties;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DAS GRAVAÇÕES SOB DEMANDA
+ * 
+ * Usa o Flight Recorder real da JVM de teste.
+ */
+class FlightRecorderServiceTest {
+
+    private final FlightRecorderService service = new FlightRecorderService(new ProfilingProperties());
+
+    /**
+     * TESTE: Ciclo de vida de uma gravação
+     * 
+     * Objetivo: Verificar início, download durante a gravação, parada e descarte
+     */
+    @Test
+    void testStartDumpStopClose() throws Exception {
+        // ARRANGE / ACT: Inicia com a configuração "profile"
+        Recording recording = service.start("profile", Duration.ofMinutes(1), "teste");
+        long id = recording.getId();
+
+        // ASSERT: Download funciona com a gravação em andamento e o arquivo é um .jfr
+        Path dump = service.dump(id).orElseThrow();
+        try {
+            assertTrue(Files.size(dump) > 0);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        // ACT / ASSERT: Parada mantém a gravação; descarte remove
+        assertEquals(RecordingState.STOPPED, service.stop(id).orElseThrow().getState());
+        assertTrue(service.close(id));
+        assertTrue(service.find(id).isEmpty());
+        assertFalse(service.close(id));
+    }
+
+    /**
+     * TESTE: Configuração desconhecida
+     * 
+     * Objetivo: Verificar que só as configurações do JDK são aceitas
+     */
+    @Test
+    void testRejectsUnknownSettings() {
+        // ACT / ASSERT
+        assertThrows(IllegalArgumentException.class, () -> service.start("bogus", null, null));
+    }
+}
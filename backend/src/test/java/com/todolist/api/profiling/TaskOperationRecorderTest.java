@@ -0,0 +1,90 @@
+package com.todolist.api.profiling;
+
+import com.todolist.api.config.PurgeProperties;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.ArchivedTaskRepository;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.service.TaskService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DOS EVENTOS JFR DO TASKSERVICE
+ * 
+ * O TaskService (com repositórios simulados) é envolvido pelo aspecto TaskOperationRecorder
+ * e os eventos são lidos de uma gravação JFR real.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskOperationRecorderTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * TESTE: Evento por operação
+     * 
+     * Objetivo: Verificar que cada chamada ao TaskService gera um evento com operação, ID e linhas
+     */
+    @Test
+    void testEmitsEventPerOperation() throws Exception {
+        // ARRANGE
+        Task task = new Task("Test Task", "Test Description");
+        task.setId(7L);
+        when(taskRepository.findById(7L)).thenReturn(Optional.of(task));
+        when(taskRepository.findAllOrdered()).thenReturn(List.of(task, task));
+        TaskService target = new TaskService(taskRepository, null, null, null, archivedTaskRepository, null, null,
+                new TaskMapper(), new PurgeProperties(), eventPublisher);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new TaskOperationRecorder());
+        TaskService taskService = factory.getProxy();
+
+        // ACT
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskOperationEvent.class);
+            recording.start();
+            taskService.getTaskById(7L);
+            taskService.getAllTasks();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // ASSERT
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        RecordedEvent byId = events.stream().filter(e -> e.getString("operation").equals("getTaskById")).findFirst().orElseThrow();
+        assertEquals(7L, byId.getLong("taskId"));
+        assertEquals(1, byId.getInt("rows"));
+        assertEquals("default", byId.getString("tenant"));
+        assertFalse(byId.getBoolean("failed"));
+        RecordedEvent all = events.stream().filter(e -> e.getString("operation").equals("getAllTasks")).findFirst().orElseThrow();
+        assertEquals(2, all.getInt("rows"));
+        assertEquals(0L, all.getLong("taskId"));
+    }
+}
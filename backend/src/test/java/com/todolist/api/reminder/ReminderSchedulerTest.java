@@ -0,0 +1,193 @@
+package com.todolist.api.reminder;
+
+import com.todolist.api.config.ReminderProperties;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangeLogEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.repository.ReminderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO AGENDADOR DE LEMBRETES
+ * 
+ * O ReminderScheduler combina a roda de tempo com a busca da próxima janela no banco.
+ * O relógio é controlado pelo teste, então o tempo só anda quando o teste manda.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    private final List<Reminder> delivered = new ArrayList<>();
+    private MutableClock clock;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        ReminderProperties properties = new ReminderProperties();
+        properties.setMaxEntries(2);
+        scheduler = new ReminderScheduler(reminderRepository, List.of(delivered::add), properties,
+                new SimpleMeterRegistry(), clock);
+    }
+
+    /**
+     * TESTE: Carga da janela e entrega
+     * 
+     * Objetivo: Verificar que a inicialização busca só a janela seguinte e que o lembrete é entregue no horário
+     */
+    @Test
+    void testLoadsWindowAndDelivers() {
+        // ARRANGE
+        Reminder reminder = new Reminder("default", 1L, START.plusMinutes(10), null);
+        when(reminderRepository.findBetween(any(), any(), anyInt())).thenReturn(List.of(reminder));
+
+        // ACT
+        scheduler.start();
+        advance(Duration.ofMinutes(9));
+        assertTrue(delivered.isEmpty());
+        advance(Duration.ofMinutes(1));
+
+        // ASSERT: Janela de [agora - tolerância, agora + 1h)
+        verify(reminderRepository).findBetween(START.minusMinutes(5), START.plusHours(1), 2);
+        assertEquals(List.of(reminder), delivered);
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    /**
+     * TESTE: Atualização pelas escritas
+     * 
+     * Objetivo: Verificar que uma escrita remarca o lembrete sem consultar o banco e que remindAt nulo cancela
+     */
+    @Test
+    void testRescheduleAndCancelFromWrites() {
+        // ARRANGE
+        when(reminderRepository.findBetween(any(), any(), anyInt())).thenReturn(List.of());
+        scheduler.start();
+
+        // ACT: Agenda, remarca para mais tarde e agenda outra que depois é cancelada
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 1L, START.plusMinutes(5), null));
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 1L, START.plusMinutes(20), null));
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 2L, START.plusMinutes(10), null));
+        scheduler.onReminderChanged(ReminderChangedEvent.cancelled("default", 2L));
+        advance(Duration.ofMinutes(15));
+        assertTrue(delivered.isEmpty());
+        advance(Duration.ofMinutes(5));
+
+        // ASSERT
+        assertEquals(1, delivered.size());
+        assertEquals(START.plusMinutes(20), delivered.get(0).remindAt());
+        verify(reminderRepository, times(1)).findBetween(any(), any(), anyInt());
+    }
+
+    /**
+     * TESTE: Memória limitada
+     * 
+     * Objetivo: Verificar que, com maxEntries atingido, o horizonte recua e o lembrete que não coube
+     * é buscado de novo no próximo refill
+     */
+    @Test
+    void testShrinksWindowWhenFull() {
+        // ARRANGE: Busca vazia na inicialização, roda com espaço para 2 lembretes
+        when(reminderRepository.findBetween(any(), any(), anyInt())).thenReturn(List.of());
+        scheduler.start();
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 1L, START.plusMinutes(1), null));
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 2L, START.plusMinutes(2), null));
+
+        // ACT: O terceiro não cabe
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 3L, START.plusMinutes(30), null));
+        assertEquals(2, scheduler.scheduledCount());
+        advance(Duration.ofMinutes(3));
+        scheduler.refill();
+
+        // ASSERT: O refill parte do prazo do lembrete que ficou de fora
+        verify(reminderRepository).findBetween(eq(START.plusMinutes(30)), any(), eq(2));
+        assertEquals(2, delivered.size());
+    }
+
+    /**
+     * TESTE: Escritas de outras réplicas
+     * 
+     * Objetivo: Verificar que as mudanças lidas do change log releem os lembretes alterados e
+     * cancelam os das tarefas que não têm mais lembrete
+     */
+    @Test
+    void testAppliesChangeLog() {
+        // ARRANGE
+        when(reminderRepository.findBetween(any(), any(), anyInt())).thenReturn(List.of());
+        scheduler.start();
+        scheduler.onReminderChanged(new ReminderChangedEvent("default", 1L, START.plusMinutes(5), null));
+        Reminder remote = new Reminder("default", 2L, START.plusMinutes(6), null);
+        when(reminderRepository.findByTaskIds(Set.of(1L, 2L))).thenReturn(List.of(remote));
+
+        // ACT: Tarefa 1 concluída e tarefa 2 com lembrete novo em outra réplica
+        scheduler.onChangeLog(new TaskChangeLogEvent(0, List.of(
+                new TaskChangedEvent("default", 1L, TaskChangedEvent.ChangeType.UPDATED),
+                new TaskChangedEvent("default", 2L, TaskChangedEvent.ChangeType.CREATED))));
+        advance(Duration.ofMinutes(10));
+
+        // ASSERT
+        assertEquals(List.of(remote), delivered);
+    }
+
+    private void advance(Duration duration) {
+        long end = clock.millis() + duration.toMillis();
+        while (clock.millis() < end) {
+            clock.add(Duration.ofSeconds(1));
+            scheduler.tick();
+        }
+    }
+
+    // Relógio que só anda quando o teste chama add
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void add(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.todolist.api.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA RODA DE TEMPO HIERÁRQUICA
+ * 
+ * A roda guarda timeouts em posições de vários níveis e os desce de nível (cascata)
+ * conforme o tempo avança. Os testes usam uma roda pequena (4 posições, 3 níveis = 63 ticks)
+ * para que os prazos atravessem todos os níveis.
+ */
+class TimingWheelTest {
+
+    /**
+     * TESTE: Vencimento no tick certo
+     * 
+     * Objetivo: Verificar que cada timeout vence exatamente no seu tick, inclusive os que
+     * começam nos níveis mais altos e descem por cascata
+     */
+    @Test
+    void testExpiresAtDeadlineAcrossLevels() {
+        // ARRANGE: Um timeout para cada prazo possível a partir do tick 5
+        TimingWheel<Long> wheel = new TimingWheel<>(4, 3, 5);
+        for (long deadline = 6; deadline <= 5 + wheel.span(); deadline++) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        // ACT & ASSERT: Avança tick a tick e confere o que venceu em cada um
+        for (long tick = 6; tick <= 5 + wheel.span(); tick++) {
+            List<Long> expired = new ArrayList<>();
+            wheel.advanceTo(tick, expired::add);
+            assertEquals(List.of(tick), expired, "tick " + tick);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * TESTE: Cancelamento
+     * 
+     * Objetivo: Verificar que um timeout cancelado não vence e que cancelar duas vezes não altera o tamanho
+     */
+    @Test
+    void testCancel() {
+        // ARRANGE
+        TimingWheel<String> wheel = new TimingWheel<>(4, 3, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelado", 20);
+        wheel.schedule("mantido", 20);
+
+        // ACT
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(30, expired::add);
+
+        // ASSERT
+        assertEquals(List.of("mantido"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * TESTE: Prazos fora da roda
+     * 
+     * Objetivo: Verificar que prazos no passado ou além do alcance da roda são recusados
+     */
+    @Test
+    void testRejectsOutOfRangeDeadlines() {
+        TimingWheel<String> wheel = new TimingWheel<>(4, 3, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule("passado", 10));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule("longe", 10 + wheel.span() + 1));
+        assertEquals(0, wheel.size());
+    }
+}
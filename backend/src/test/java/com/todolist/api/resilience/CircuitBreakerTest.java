@@ -0,0 +1,178 @@
+package com.todolist.api.resilience;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO DISJUNTOR
+ *
+ * O relógio é um contador controlado pelo teste, então a passagem do openDuration não depende de sleep.
+ * Janela de 10 chamadas, mínimo de 4, abre com 50% de falhas ou 80% de lentas (acima de 1 s).
+ */
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private long now;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.setWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setOpenDuration(Duration.ofSeconds(10));
+        properties.setHalfOpenCalls(2);
+        breaker = new CircuitBreaker("shard 0", properties, () -> now);
+    }
+
+    private void call(long elapsed, boolean failed) {
+        long permit = breaker.acquire();
+        assertNotEquals(CircuitBreaker.REJECTED, permit);
+        breaker.record(permit, elapsed, failed);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            call(FAST, true);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    /**
+     * TESTE: Abertura por falhas
+     *
+     * Objetivo: Verificar que o disjuntor só avalia a taxa depois de minimumCalls e abre com metade das chamadas
+     * falhando; aberto, recusa na hora e informa quanto falta para as chamadas de teste
+     */
+    @Test
+    void testOpensOnFailureRate() {
+        // ARRANGE
+        call(FAST, true);
+        call(FAST, true);
+        call(FAST, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        // ACT
+        call(FAST, false);
+
+        // ASSERT
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(CircuitBreaker.REJECTED, breaker.acquire());
+        now += TimeUnit.SECONDS.toNanos(4);
+        assertEquals(Duration.ofSeconds(6), breaker.retryAfter());
+    }
+
+    /**
+     * TESTE: Abertura por lentidão
+     *
+     * Objetivo: Verificar que chamadas sem erro, mas acima de slowCallDuration, também abrem o disjuntor
+     */
+    @Test
+    void testOpensOnSlowCalls() {
+        // ACT
+        for (int i = 0; i < 4; i++) {
+            call(SLOW, false);
+        }
+
+        // ASSERT
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    /**
+     * TESTE: Janela deslizante
+     *
+     * Objetivo: Verificar que só as últimas windowSize chamadas contam, então um histórico longo de sucessos
+     * não esconde uma queda recente
+     */
+    @Test
+    void testOnlyRecentCallsCount() {
+        // ARRANGE
+        for (int i = 0; i < 50; i++) {
+            call(FAST, false);
+        }
+
+        // ACT & ASSERT: 4 falhas em 10 ainda não abrem; a quinta abre (de 55 chamadas)
+        for (int i = 0; i < 4; i++) {
+            call(FAST, true);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        call(FAST, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    /**
+     * TESTE: Recuperação
+     *
+     * Objetivo: Verificar que depois de openDuration passam só halfOpenCalls chamadas de teste
+     * e que o disjuntor fecha quando todas dão certo
+     */
+    @Test
+    void testClosesAfterSuccessfulProbes() {
+        // ARRANGE
+        openBreaker();
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        // ACT
+        long first = breaker.acquire();
+        long second = breaker.acquire();
+
+        // ASSERT
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertEquals(CircuitBreaker.REJECTED, breaker.acquire());
+        breaker.record(first, FAST, false);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.record(second, FAST, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    /**
+     * TESTE: Falha no teste
+     *
+     * Objetivo: Verificar que uma chamada de teste com falha reabre o disjuntor por mais openDuration
+     */
+    @Test
+    void testReopensWhenProbeFails() {
+        // ARRANGE
+        openBreaker();
+        now += TimeUnit.SECONDS.toNanos(10);
+
+        // ACT
+        breaker.record(breaker.acquire(), FAST, true);
+
+        // ASSERT
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Duration.ofSeconds(10), breaker.retryAfter());
+    }
+
+    /**
+     * TESTE: Resposta atrasada
+     *
+     * Objetivo: Verificar que o resultado de uma chamada que começou antes de o disjuntor abrir é ignorado
+     * e não conta como chamada de teste
+     */
+    @Test
+    void testIgnoresResultsFromPreviousState() {
+        // ARRANGE: chamada lenta em andamento enquanto o disjuntor abre
+        long late = breaker.acquire();
+        openBreaker();
+        now += TimeUnit.SECONDS.toNanos(10);
+        long probe = breaker.acquire();
+
+        // ACT
+        breaker.record(late, FAST, false);
+        breaker.record(late, FAST, false);
+
+        // ASSERT
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.record(probe, FAST, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+}
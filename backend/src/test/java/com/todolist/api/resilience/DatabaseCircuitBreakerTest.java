@@ -0,0 +1,90 @@
+package com.todolist.api.resilience;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+import com.todolist.api.config.OrderingProperties;
+import com.todolist.api.dto.TaskMoveDTO;
+import com.todolist.api.repository.TaskRankRepository;
+import com.todolist.api.service.TaskOrderingService;
+import com.todolist.api.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO DISJUNTOR EM VOLTA DOS SERVIÇOS
+ *
+ * O aspecto é aplicado por um proxy AspectJ sobre um TaskOrderingService real, com o repositório simulado; um só
+ * shard, com o tenant padrão.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class DatabaseCircuitBreakerTest {
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private TaskRankRepository taskRankRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ShardRouter> shardRouterProvider;
+
+    private TaskOrderingService service;
+
+    @BeforeEach
+    void setUp() {
+        when(shardRouter.getShardCount()).thenReturn(1);
+        when(shardRouter.shardFor(anyString())).thenReturn(0);
+        DatabaseCircuitBreaker breaker = new DatabaseCircuitBreaker(new CircuitBreakerProperties(), shardRouter,
+                new SimpleMeterRegistry());
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new TaskOrderingService(taskRankRepository, new OrderingProperties(), eventPublisher, shardRouterProvider));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(breaker);
+        service = factory.getProxy();
+    }
+
+    /**
+     * TESTE: Job agendado com o disjuntor aberto
+     *
+     * Objetivo: Verificar que as requisições abrem o disjuntor e passam a ser recusadas, mas o método @Scheduled
+     * do mesmo serviço não passa por ele: nem é recusado, nem conta contra o shard do tenant padrão
+     */
+    @Test
+    void testScheduledMethodsBypassTheBreaker() {
+        // ARRANGE: a primeira chamada põe o tenant na fila de redistribuição; as seguintes falham por falta de banco
+        when(taskRankRepository.findKey("default", 2L))
+                .thenReturn(Optional.of(""))
+                .thenThrow(new DataAccessResourceFailureException("Communications link failure"));
+        assertThrows(ResponseStatusException.class, () -> service.moveTask(1L, new TaskMoveDTO(2L, null)));
+        RuntimeException rejected = null;
+        for (int i = 0; i < 20 && !(rejected instanceof DatabaseUnavailableException); i++) {
+            rejected = assertThrows(RuntimeException.class, () -> service.moveTask(1L, new TaskMoveDTO(2L, null)));
+        }
+        assertInstanceOf(DatabaseUnavailableException.class, rejected);
+
+        // ACT
+        service.rebalancePending();
+
+        // ASSERT
+        verify(taskRankRepository, times(1)).rebalance("default");
+    }
+}
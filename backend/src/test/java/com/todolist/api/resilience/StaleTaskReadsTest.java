@@ -0,0 +1,112 @@
+package com.todolist.api.resilience;
+
+import com.todolist.api.config.CircuitBreakerProperties;
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.sharding.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA CÓPIA DE LEITURA
+ *
+ * As consultas são lambdas: uma que responde e outra que falha como o banco fora do ar
+ * (disjuntor aberto ou timeout do pool).
+ */
+class StaleTaskReadsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StaleTaskReads reads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reads = new StaleTaskReads(new CircuitBreakerProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private static <T> Supplier<T> down() {
+        return () -> {
+            throw new CannotCreateTransactionException("Could not open JPA EntityManager",
+                    new SQLTransientConnectionException("HikariPool-1 - Connection is not available"));
+        };
+    }
+
+    /**
+     * TESTE: Banco fora do ar
+     *
+     * Objetivo: Verificar que, com a consulta falhando por indisponibilidade, a lista e a tarefa voltam
+     * da última resposta boa, marcadas como antigas
+     */
+    @Test
+    void testServesLastGoodCopyWhenDatabaseIsDown() {
+        // ARRANGE
+        TaskDTO task = new TaskDTO(1L, "Comprar pão", null, false);
+        assertFalse(reads.list(() -> List.of(task)).stale());
+        assertFalse(reads.byId(1L, () -> Optional.of(task)).stale());
+
+        // ACT
+        StaleTaskReads.Result<List<TaskDTO>> list = reads.list(down());
+        StaleTaskReads.Result<Optional<TaskDTO>> byId = reads.byId(1L, down());
+
+        // ASSERT
+        assertTrue(list.stale());
+        assertEquals(List.of(task), list.value());
+        assertFalse(list.age().isNegative());
+        assertTrue(list.age().compareTo(Duration.ofMinutes(1)) < 0);
+        assertEquals(Optional.of(task), byId.value());
+        assertEquals(2, meterRegistry.counter("todolist.reads.stale").count());
+    }
+
+    /**
+     * TESTE: Sem cópia
+     *
+     * Objetivo: Verificar que sem cópia guardada (outro tenant, tarefa nunca lida ou que deixou de existir)
+     * a falha original é repassada
+     */
+    @Test
+    void testRethrowsWithoutCopy() {
+        // ARRANGE
+        TaskDTO task = new TaskDTO(1L, "Comprar pão", null, false);
+        reads.list(() -> List.of(task));
+        reads.byId(1L, () -> Optional.of(task));
+        reads.byId(1L, Optional::empty);
+
+        // ACT & ASSERT
+        assertThrows(CannotCreateTransactionException.class, () -> reads.byId(1L, down()));
+        assertThrows(CannotCreateTransactionException.class, () -> reads.byId(2L, down()));
+        TenantContext.set("acme");
+        assertThrows(CannotCreateTransactionException.class, () -> reads.list(down()));
+    }
+
+    /**
+     * TESTE: Outros erros
+     *
+     * Objetivo: Verificar que erros que não são de indisponibilidade não são escondidos pela cópia
+     */
+    @Test
+    void testDoesNotHideOtherErrors() {
+        // ARRANGE
+        reads.list(() -> List.of(new TaskDTO(1L, "Comprar pão", null, false)));
+
+        // ACT & ASSERT
+        assertThrows(DataIntegrityViolationException.class, () -> reads.list(() -> {
+            throw new DataIntegrityViolationException("duplicada");
+        }));
+    }
+}
@@ -0,0 +1,144 @@
+package com.todolist.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DAS CHAVES DE POSIÇÃO
+ * 
+ * RankKeys gera chaves em base 62 cuja ordem lexicográfica é a ordem das tarefas.
+ */
+class RankKeysTest {
+
+    /**
+     * TESTE: Chave entre duas chaves
+     * 
+     * Objetivo: Verificar que a chave gerada fica estritamente entre as vizinhas, inclusive nas pontas da lista
+     */
+    @Test
+    void testBetween() {
+        // ARRANGE & ACT & ASSERT
+        assertEquals(RankKeys.FIRST, RankKeys.between(null, null));
+        assertBetween("0000V", "0000W");
+        assertBetween("0000V", "0000V1");
+        assertBetween("1", "2");
+        assertBetween("Az", "B");
+        assertBetween(null, "00001");
+        assertBetween("zzz", null);
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("B", "A"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("B", "B"));
+    }
+
+    /**
+     * TESTE: Inclusões no fim
+     * 
+     * Objetivo: Verificar que tarefas novas no fim da lista não alongam a chave
+     */
+    @Test
+    void testAppendKeepsKeysShort() {
+        // ARRANGE
+        String key = null;
+
+        // ACT
+        for (int i = 0; i < 10_000; i++) {
+            String next = RankKeys.between(key, null);
+            assertTrue(key == null || next.compareTo(key) > 0);
+            key = next;
+        }
+
+        // ASSERT
+        assertEquals(RankKeys.FIRST.length(), key.length());
+        assertEquals("0002f", RankKeys.after("0002e"));
+        assertEquals("0011", RankKeys.after("000z"));
+        assertEquals("zzV", RankKeys.after("zz"));
+    }
+
+    /**
+     * TESTE: Movimentos aleatórios
+     * 
+     * Objetivo: Verificar que inserir sempre entre vizinhas mantém a lista ordenada e sem chaves repetidas
+     */
+    @Test
+    void testRandomInsertsStayOrdered() {
+        // ARRANGE
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(List.of(RankKeys.FIRST));
+
+        // ACT
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? null : keys.get(position - 1);
+            String upper = position == keys.size() ? null : keys.get(position);
+            keys.add(position, RankKeys.between(lower, upper));
+        }
+
+        // ASSERT
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, keys.get(i - 1) + " >= " + keys.get(i));
+            assertFalse(keys.get(i).endsWith("0"));
+        }
+    }
+
+    /**
+     * TESTE: Redistribuição
+     * 
+     * Objetivo: Verificar que as chaves redistribuídas são curtas, do mesmo tamanho e crescentes
+     */
+    @Test
+    void testEvenlySpaced() {
+        // ACT
+        String[] keys = RankKeys.evenlySpaced(1_000);
+
+        // ASSERT
+        assertEquals(1_000, keys.length);
+        for (int i = 1; i < keys.length; i++) {
+            assertTrue(keys[i - 1].compareTo(keys[i]) < 0);
+            assertEquals(keys[0].length(), keys[i].length());
+        }
+        assertEquals(4, keys[0].length());
+        // Há espaço para inserir entre vizinhas sem alongar a chave
+        assertTrue(RankKeys.between(keys[0], keys[1]).length() <= keys[0].length());
+    }
+
+    /**
+     * TESTE: Redistribuição de uma faixa
+     * 
+     * Objetivo: Verificar que as chaves de uma faixa ficam entre as vizinhas dela, crescentes e do mesmo tamanho,
+     * e que um intervalo largo produz chaves curtas mesmo com uma vizinha longa
+     */
+    @Test
+    void testEvenlySpacedBetween() {
+        // ARRANGE: a vizinha de cima é uma chave alongada por inserções repetidas no mesmo ponto
+        String lower = "00001" + "V".repeat(20);
+        String upper = "zzzy" + "V".repeat(40);
+
+        // ACT
+        String[] keys = RankKeys.evenlySpaced(lower, upper, 500);
+        String[] fromStart = RankKeys.evenlySpaced(null, "0000V", 500);
+
+        // ASSERT
+        assertEquals(500, keys.length);
+        assertTrue(keys[0].compareTo(lower) > 0, keys[0] + " <= " + lower);
+        assertTrue(keys[499].compareTo(upper) < 0, keys[499] + " >= " + upper);
+        for (int i = 1; i < keys.length; i++) {
+            assertTrue(keys[i - 1].compareTo(keys[i]) < 0);
+            assertEquals(keys[0].length(), keys[i].length());
+            assertFalse(keys[i].endsWith("0"));
+        }
+        assertEquals(4, keys[0].length());
+        assertTrue(fromStart[499].compareTo("0000V") < 0);
+        assertArrayEquals(RankKeys.evenlySpaced(1_000), RankKeys.evenlySpaced(null, null, 1_000));
+    }
+
+    private static void assertBetween(String lower, String upper) {
+        String key = RankKeys.between(lower, upper);
+        assertTrue(lower == null || key.compareTo(lower) > 0, key + " <= " + lower);
+        assertTrue(upper == null || key.compareTo(upper) < 0, key + " >= " + upper);
+        assertFalse(key.endsWith("0"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.todolist.api.service;
+
+import com.todolist.api.dto.TaskAnalyticsDTO;
+import com.todolist.api.dto.TaskStatsBucketDTO;
+import com.todolist.api.model.DailyTaskStats;
+import com.todolist.api.repository.TaskStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO SERVICE DE ESTATÍSTICAS
+ * 
+ * As contagens diárias vêm de um TaskStatsRepository simulado; o teste cobre a montagem da série
+ * (dias sem movimento, soma por semana) e a validação dos parâmetros.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskAnalyticsServiceTest {
+
+    // Quinta-feira
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 15);
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    private TaskAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new TaskAnalyticsService(taskStatsRepository, clock);
+    }
+
+    private static List<Long> created(TaskAnalyticsDTO stats) {
+        return stats.getBuckets().stream().map(TaskStatsBucketDTO::getCreated).toList();
+    }
+
+    /**
+     * TESTE: Série diária
+     * 
+     * Objetivo: Verificar que há um item por dia do período, com zero nos dias sem linha em task_daily_stats
+     */
+    @Test
+    void testDailySeriesFillsEmptyDays() {
+        // ARRANGE
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 4);
+        when(taskStatsRepository.findDaily("default", from, to)).thenReturn(List.of(
+                new DailyTaskStats(from, 3, 1),
+                new DailyTaskStats(to, 2, 5)));
+
+        // ACT
+        TaskAnalyticsDTO stats = service.getStats("day", from, to);
+
+        // ASSERT
+        assertEquals("day", stats.getGranularity());
+        assertEquals(List.of(from, from.plusDays(1), from.plusDays(2), to),
+                stats.getBuckets().stream().map(TaskStatsBucketDTO::getStart).toList());
+        assertEquals(List.of(3L, 0L, 0L, 2L), created(stats));
+        assertEquals(5L, stats.getBuckets().get(3).getCompleted());
+    }
+
+    /**
+     * TESTE: Série semanal
+     * 
+     * Objetivo: Verificar que from recua até a segunda-feira e que os dias são somados na semana a que pertencem
+     */
+    @Test
+    void testWeeklySeriesSumsDaysFromMonday() {
+        // ARRANGE: de quarta 30/09 a quinta 15/10; a primeira semana começa na segunda 28/09
+        LocalDate monday = LocalDate.of(2026, 9, 28);
+        when(taskStatsRepository.findDaily("default", monday, TODAY)).thenReturn(List.of(
+                new DailyTaskStats(LocalDate.of(2026, 9, 30), 1, 0),
+                new DailyTaskStats(LocalDate.of(2026, 10, 4), 2, 1),
+                new DailyTaskStats(LocalDate.of(2026, 10, 5), 4, 4)));
+
+        // ACT
+        TaskAnalyticsDTO stats = service.getStats("WEEK", LocalDate.of(2026, 9, 30), null);
+
+        // ASSERT
+        assertEquals(monday, stats.getFrom());
+        assertEquals(TODAY, stats.getTo());
+        assertEquals(List.of(monday, monday.plusWeeks(1), monday.plusWeeks(2)),
+                stats.getBuckets().stream().map(TaskStatsBucketDTO::getStart).toList());
+        assertEquals(List.of(3L, 4L, 0L), created(stats));
+        assertEquals(1L, stats.getBuckets().get(0).getCompleted());
+    }
+
+    /**
+     * TESTE: Período padrão
+     * 
+     * Objetivo: Verificar que sem from e to a série cobre o último ano até hoje
+     */
+    @Test
+    void testDefaultsToLastYear() {
+        // ACT
+        TaskAnalyticsDTO stats = service.getStats("day", null, null);
+
+        // ASSERT
+        assertEquals(LocalDate.of(2025, 10, 16), stats.getFrom());
+        assertEquals(TODAY, stats.getTo());
+        assertEquals(365, stats.getBuckets().size());
+    }
+
+    /**
+     * TESTE: Parâmetros inválidos
+     * 
+     * Objetivo: Verificar que granularity desconhecida, from depois de to e períodos longos demais
+     * são recusados com 400 sem consultar o banco
+     */
+    @Test
+    void testRejectsInvalidParameters() {
+        // ACT & ASSERT
+        ResponseStatusException month = assertThrows(ResponseStatusException.class,
+                () -> service.getStats("month", null, null));
+        assertEquals(HttpStatus.BAD_REQUEST, month.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> service.getStats("day", TODAY, TODAY.minusDays(1)));
+        assertThrows(ResponseStatusException.class, () -> service.getStats("day", TODAY.minusYears(3), TODAY));
+        verifyNoInteractions(taskStatsRepository);
+    }
+}
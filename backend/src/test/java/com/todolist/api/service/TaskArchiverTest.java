@@ -0,0 +1,209 @@
+package com.todolist.api.service;
+
+import com.todolist.api.config.ArchiveProperties;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.repository.ArchivedTaskRepository;
+import com.todolist.api.repository.ArchivedTaskRepository.ArchivableTask;
+import com.todolist.api.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.IntConsumer;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO ARQUIVADOR
+ * 
+ * O TaskArchiver move tarefas concluídas antigas de 'tasks' para 'tasks_archive'
+ * em lotes pequenos, cada um em sua própria transação.
+ * 
+ * O TransactionTemplate é simulado executando o callback diretamente.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class TaskArchiverTest {
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArchiveProperties properties;
+
+    private TaskArchiver taskArchiver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        properties.setPause(Duration.ZERO);
+        taskArchiver = new TaskArchiver(archivedTaskRepository, transactionTemplate, properties, shardRouter, eventPublisher);
+
+        // Executa o callback da transação sem banco real
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+
+        // Um único shard
+        lenient().doAnswer(invocation -> {
+            invocation.<IntConsumer>getArgument(0).accept(0);
+            return null;
+        }).when(shardRouter).forEachShard(any());
+    }
+
+    /**
+     * TESTE: Arquivar em lotes
+     * 
+     * Objetivo: Verificar que o arquivador continua enquanto os lotes vêm cheios
+     * e para no primeiro lote incompleto
+     */
+    @Test
+    void testArchivesInBatchesUntilPartialBatch() {
+        // ARRANGE: Primeiro lote cheio (2), segundo lote com 1 tarefa
+        when(archivedTaskRepository.lockArchivableTasks(any(), eq(2), any()))
+                .thenReturn(List.of(archivable(1L, "default"), archivable(2L, "default")),
+                        List.of(archivable(3L, "default")));
+        when(archivedTaskRepository.deleteFromTasks(anyList())).thenReturn(2, 1);
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT: Dois lotes copiados e removidos
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(1L, 2L)), any());
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(3L)), any());
+        verify(archivedTaskRepository, times(2)).deleteFromTasks(anyList());
+    }
+
+    /**
+     * TESTE: Contagens das listas
+     *
+     * Objetivo: Verificar que as listas das tarefas arquivadas são lidas antes da remoção e avisadas para recontagem
+     */
+    @Test
+    void testPublishesListsOfArchivedTasks() {
+        // ARRANGE
+        when(archivedTaskRepository.lockArchivableTasks(any(), anyInt(), any()))
+                .thenReturn(List.of(archivable(1L, "default")));
+        when(archivedTaskRepository.findListIds(List.of(1L))).thenReturn(List.of(9L));
+        when(archivedTaskRepository.deleteFromTasks(anyList())).thenReturn(1);
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT
+        InOrder order = inOrder(archivedTaskRepository);
+        order.verify(archivedTaskRepository).findListIds(List.of(1L));
+        order.verify(archivedTaskRepository).deleteFromTasks(List.of(1L));
+        verify(eventPublisher).publishEvent(new TaskListsChangedEvent(List.of(9L)));
+    }
+
+    /**
+     * TESTE: Eventos das tarefas arquivadas
+     *
+     * Objetivo: Verificar que cada tarefa arquivada publica um TaskChangedEvent ARCHIVED com o tenant dela, para
+     * que cache, task_changes, outbox e histórico a vejam sair de 'tasks'
+     */
+    @Test
+    void testPublishesArchivedEventPerTask() {
+        // ARRANGE: um lote cheio com tarefas de dois tenants do mesmo shard, depois nada
+        when(archivedTaskRepository.lockArchivableTasks(any(), anyInt(), any()))
+                .thenReturn(List.of(archivable(1L, "acme"), archivable(2L, "globex")), List.of());
+        when(archivedTaskRepository.deleteFromTasks(anyList())).thenReturn(2);
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("acme", 1L, ChangeType.ARCHIVED));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("globex", 2L, ChangeType.ARCHIVED));
+        verify(eventPublisher, never()).publishEvent(any(TaskListsChangedEvent.class));
+    }
+
+    /**
+     * TESTE: Nada para arquivar
+     * 
+     * Objetivo: Verificar que nenhuma escrita acontece quando não há tarefas elegíveis
+     */
+    @Test
+    void testNothingToArchive() {
+        // ARRANGE
+        when(archivedTaskRepository.lockArchivableTasks(any(), anyInt(), any())).thenReturn(List.of());
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT
+        verify(archivedTaskRepository, never()).copyFromTasks(anyList(), any());
+        verify(archivedTaskRepository, never()).deleteFromTasks(anyList());
+    }
+
+    /**
+     * TESTE: Tenant em migração
+     *
+     * Objetivo: Verificar que as tarefas de um tenant sendo copiado para outro shard não são arquivadas na origem
+     * durante a cópia: o lote é escolhido sem ele
+     */
+    @Test
+    void testSkipsMigratingTenants() {
+        // ARRANGE
+        when(shardRouter.tenantsToSkip()).thenReturn(List.of("acme"));
+        when(archivedTaskRepository.lockArchivableTasks(any(), anyInt(), eq(List.of("acme")))).thenReturn(List.of());
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT
+        verify(archivedTaskRepository).lockArchivableTasks(any(), anyInt(), eq(List.of("acme")));
+        verify(archivedTaskRepository, never()).deleteFromTasks(anyList());
+    }
+
+    /**
+     * TESTE: Arquivamento desligado
+     * 
+     * Objetivo: Verificar que todolist.archive.enabled=false desativa o job
+     */
+    @Test
+    void testDisabled() {
+        // ARRANGE
+        properties.setEnabled(false);
+
+        // ACT
+        taskArchiver.archiveOldCompletedTasks();
+
+        // ASSERT
+        verifyNoInteractions(archivedTaskRepository, transactionTemplate);
+    }
+
+    private static ArchivableTask archivable(long id, String tenantId) {
+        return new ArchivableTask() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTenantId() {
+                return tenantId;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.todolist.api.service;
+
+import com.todolist.api.dto.OperationResultDTO;
+import com.todolist.api.dto.TaskBatchResultDTO;
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskOperationDTO;
+import com.todolist.api.dto.TaskOperationDTO.Type;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskBatchWriter;
+import com.todolist.api.repository.TaskRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO LOTE DE OPERAÇÕES
+ * 
+ * O TaskBatchService aplica as operações em memória e grava tudo de uma vez:
+ * um INSERT em lote (TaskBatchWriter) e um saveAll para as tarefas existentes.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskBatchWriter taskBatchWriter;
+
+    @Mock
+    private TaskOrderingService taskOrderingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    void setUp() {
+        taskBatchService = new TaskBatchService(taskRepository, taskBatchWriter, taskOrderingService, new TaskMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher);
+    }
+
+    // Simula o AUTO_INCREMENT: IDs a partir de 100, na ordem do lote
+    private void assignIdsOnInsert() {
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(1);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(taskBatchWriter).insertAll(eq("default"), anyList());
+    }
+
+    /**
+     * TESTE: Operações sobre tarefa criada no mesmo lote
+     * 
+     * Objetivo: Verificar que CREATE + UPDATE + TOGGLE pelo tempId viram um único INSERT
+     * com o estado final, e que a resposta mapeia o tempId para o ID real
+     */
+    @Test
+    void testOperationsOnTempIdAreFoldedIntoInsert() {
+        // ARRANGE
+        assignIdsOnInsert();
+        List<TaskOperationDTO> operations = List.of(
+                new TaskOperationDTO(Type.CREATE, null, "t1", new TaskDTO(null, "Nova", "d", false)),
+                new TaskOperationDTO(Type.UPDATE, null, "t1", new TaskDTO(null, "Editada", "d", false)),
+                new TaskOperationDTO(Type.TOGGLE, null, "t1", null));
+
+        // ACT
+        TaskBatchResultDTO result = taskBatchService.apply(operations);
+
+        // ASSERT: Um INSERT com o estado final
+        assertTrue(result.isApplied());
+        ArgumentCaptor<List<Task>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(taskBatchWriter).insertAll(eq("default"), inserted.capture());
+        assertEquals(1, inserted.getValue().size());
+        assertEquals("Editada", inserted.getValue().get(0).getTitle());
+        assertTrue(inserted.getValue().get(0).getCompleted());
+
+        // ASSERT: Mapa de IDs e resultados por operação já com o ID real
+        assertEquals(100L, result.getIdMap().get("t1"));
+        assertEquals(List.of(201, 200, 200), result.getResults().stream().map(OperationResultDTO::getStatus).toList());
+        assertEquals(100L, result.getResults().get(0).getTask().getId());
+        assertFalse(result.getResults().get(0).getTask().getCompleted());
+        assertTrue(result.getResults().get(2).getTask().getCompleted());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("default", 100L, TaskChangedEvent.ChangeType.CREATED));
+    }
+
+    /**
+     * TESTE: Tarefas existentes
+     * 
+     * Objetivo: Verificar que as tarefas existentes são lidas com uma única consulta,
+     * gravadas com um saveAll e que tarefas inexistentes recebem 404 sem abortar o lote
+     */
+    @Test
+    void testExistingTasksAreLoadedOnceAndMissingOnesReport404() {
+        // ARRANGE
+        Task existing = new Task("Existente", "d");
+        existing.setId(1L);
+        existing.setCompleted(false);
+        when(taskRepository.findAllById(any())).thenReturn(List.of(existing));
+        List<TaskOperationDTO> operations = List.of(
+                new TaskOperationDTO(Type.TOGGLE, 1L, null, null),
+                new TaskOperationDTO(Type.DELETE, 2L, null, null),
+                new TaskOperationDTO(Type.DELETE, 1L, null, null),
+                new TaskOperationDTO(Type.TOGGLE, 1L, null, null));
+
+        // ACT
+        TaskBatchResultDTO result = taskBatchService.apply(operations);
+
+        // ASSERT
+        assertTrue(result.isApplied());
+        assertEquals(List.of(200, 404, 204, 404), result.getResults().stream().map(OperationResultDTO::getStatus).toList());
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository).saveAll(List.of(existing));
+        assertTrue(existing.getCompleted());
+        assertNotNull(existing.getDeletedAt());
+    }
+
+    /**
+     * TESTE: Lote inválido
+     * 
+     * Objetivo: Verificar que uma operação inválida impede a gravação do lote inteiro
+     */
+    @Test
+    void testInvalidOperationRejectsWholeBatch() {
+        // ARRANGE
+        List<TaskOperationDTO> operations = List.of(
+                new TaskOperationDTO(Type.CREATE, null, "t1", new TaskDTO(null, "Ok", null, false)),
+                new TaskOperationDTO(Type.CREATE, null, "t2", new TaskDTO(null, "", null, false)),
+                new TaskOperationDTO(Type.TOGGLE, null, "t9", null));
+
+        // ACT
+        TaskBatchResultDTO result = taskBatchService.apply(operations);
+
+        // ASSERT
+        assertFalse(result.isApplied());
+        assertEquals(List.of(424, 400, 400), result.getResults().stream().map(OperationResultDTO::getStatus).toList());
+        verifyNoInteractions(taskBatchWriter, taskRepository, eventPublisher);
+    }
+}
@@ -0,0 +1,264 @@
+package com.todolist.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.api.config.ImportProperties;
+import com.todolist.api.dto.ImportResultDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskBatchWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DA IMPORTAÇÃO EM MASSA
+ * 
+ * O TaskImportService lê o corpo da requisição linha a linha (NDJSON ou CSV),
+ * valida cada linha com as regras do TaskDTO e grava as válidas em lotes.
+ * 
+ * O TaskBatchWriter é simulado; o Validator é o real (Hibernate Validator).
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class TaskImportServiceTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(TaskImportService.NDJSON_VALUE);
+    private static final MediaType CSV = MediaType.parseMediaType(TaskImportService.CSV_VALUE);
+
+    @Mock
+    private TaskBatchWriter taskBatchWriter;
+
+    @Mock
+    private TaskOrderingService taskOrderingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskImportService taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(2);
+        taskImportService = new TaskImportService(taskBatchWriter, taskOrderingService, new TaskMapper(), validator, new ObjectMapper(), properties, eventPublisher);
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * TESTE: Importar NDJSON em lotes
+     * 
+     * Objetivo: Verificar que as linhas válidas são gravadas em lotes de chunk-size
+     * e que as inválidas aparecem no relatório com o número da linha
+     */
+    @Test
+    void testImportNdjsonInChunks() throws Exception {
+        // ARRANGE: 3 linhas válidas, 1 sem título, 1 com JSON quebrado e 1 em branco
+        String content = """
+                {"title":"Task 1","description":"A"}
+                {"title":"","description":"sem título"}
+                {"title":"Task 2","completed":true}
+
+                {"title":
+                {"title":"Task 3"}
+                """;
+
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body(content), NDJSON);
+
+        // ASSERT: 2 lotes (2 + 1 linhas) e 2 erros
+        ArgumentCaptor<List<Task>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(taskBatchWriter, times(2)).insertAll(eq("default"), chunks.capture());
+        assertEquals(List.of(2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        assertTrue(chunks.getAllValues().get(0).get(1).getCompleted());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals("Title is required", result.getErrors().get(0).getMessage());
+        assertEquals(5, result.getErrors().get(1).getLine());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("JSON inválido"));
+    }
+
+    /**
+     * TESTE: Linhas NDJSON que não são objetos
+     *
+     * Objetivo: Verificar que null, números, strings e arrays entram no relatório como erro da linha, sem
+     * interromper a importação
+     */
+    @Test
+    void testImportNdjsonRejectsNonObjectLines() throws Exception {
+        // ARRANGE
+        String content = """
+                {"title":"Task 1"}
+                null
+                42
+                "Task"
+                [{"title":"Task 2"}]
+                {"title":"Task 3"}
+                """;
+
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body(content), NDJSON);
+
+        // ASSERT
+        assertEquals(2, result.getImported());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.getErrors().stream().map(error -> error.getLine()).toList());
+        assertEquals("Cada linha deve ser um objeto JSON", result.getErrors().get(0).getMessage());
+        verify(taskBatchWriter).insertAll(eq("default"), argThat(tasks -> tasks.size() == 2));
+    }
+
+    /**
+     * TESTE: Linha recusada pelo banco no meio do lote
+     *
+     * Objetivo: Verificar que o lote recusado é dividido até isolar a linha culpada: as demais são gravadas e só
+     * ela entra no relatório, com a mensagem do banco
+     */
+    @Test
+    void testBadRowInChunkFailsAlone() throws Exception {
+        // ARRANGE: lotes de 4; a linha 3 passa pelo Validator mas o banco recusa
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(4);
+        taskImportService = new TaskImportService(taskBatchWriter, taskOrderingService, new TaskMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), properties, eventPublisher);
+        doThrow(new DataIntegrityViolationException("write failed",
+                new SQLException("Data truncation: Data too long for column 'description' at row 3")))
+                .when(taskBatchWriter).insertAll(eq("default"), argThat(tasks -> tasks.stream()
+                        .anyMatch(task -> "Task 3".equals(task.getTitle()))));
+        String content = """
+                {"title":"Task 1"}
+                {"title":"Task 2"}
+                {"title":"Task 3"}
+                {"title":"Task 4"}
+                """;
+
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body(content), NDJSON);
+
+        // ASSERT: [1,2,3,4] recusado, [1,2] gravado, [3,4] recusado, [3] recusado, [4] gravado
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Data too long"));
+        verify(taskBatchWriter, times(5)).insertAll(eq("default"), anyList());
+    }
+
+    /**
+     * TESTE: Importar CSV
+     * 
+     * Objetivo: Verificar o cabeçalho em qualquer ordem, campos entre aspas
+     * (com vírgula e quebra de linha) e erro para completed inválido
+     */
+    @Test
+    void testImportCsv() throws Exception {
+        // ARRANGE
+        String content = "completed,title,description\r\n"
+                + "true,Task 1,\"Com vírgula, e\nquebra de linha\"\r\n"
+                + "talvez,Task 2,\r\n"
+                + "0,\"Task \"\"3\"\"\",\r\n";
+
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body(content), CSV);
+
+        // ASSERT: A linha com "talvez" começa na linha 4 (o registro anterior ocupa duas linhas)
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        verify(taskBatchWriter).insertAll(eq("default"), argThat(tasks -> tasks.size() == 2));
+    }
+
+    /**
+     * TESTE: CSV sem a coluna title
+     * 
+     * Objetivo: Verificar que o arquivo é recusado no cabeçalho, sem gravar nada
+     */
+    @Test
+    void testImportCsvWithoutTitleColumn() throws Exception {
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body("name,description\nTask,x\n"), CSV);
+
+        // ASSERT
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getErrors().get(0).getLine());
+        verifyNoInteractions(taskBatchWriter);
+    }
+
+    /**
+     * TESTE: Relatório de erros limitado
+     * 
+     * Objetivo: Verificar que o relatório não cresce sem limite em arquivos muito ruins
+     */
+    @Test
+    void testErrorReportIsBounded() throws Exception {
+        // ARRANGE: Limite de 2 erros detalhados e 5 linhas inválidas
+        ImportProperties properties = new ImportProperties();
+        properties.setMaxReportedErrors(2);
+        taskImportService = new TaskImportService(taskBatchWriter, taskOrderingService, new TaskMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), properties, eventPublisher);
+
+        // ACT
+        ImportResultDTO result = taskImportService.importTasks(body("{\"title\":\"\"}\n".repeat(5)), NDJSON);
+
+        // ASSERT
+        assertEquals(5, result.getFailed());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    /**
+     * TESTE: Um evento por tarefa importada
+     *
+     * Objetivo: Verificar que cada tarefa gravada publica um TaskChangedEvent IMPORTED com o ID devolvido pelo
+     * INSERT, em vez de um único evento sem ID por lote
+     */
+    @Test
+    void testPublishesOneEventPerImportedTask() throws Exception {
+        // ARRANGE: o INSERT em lote devolve os IDs nas tarefas, como o JdbcTaskBatchWriter
+        long[] nextId = {10};
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(1);
+            tasks.forEach(task -> task.setId(nextId[0]++));
+            return null;
+        }).when(taskBatchWriter).insertAll(eq("default"), anyList());
+        String content = """
+                {"title":"Task 1"}
+                {"title":"Task 2"}
+                {"title":"Task 3"}
+                """;
+
+        // ACT
+        taskImportService.importTasks(body(content), NDJSON);
+
+        // ASSERT
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertEquals(List.of(
+                        new TaskChangedEvent("default", 10L, ChangeType.IMPORTED),
+                        new TaskChangedEvent("default", 11L, ChangeType.IMPORTED),
+                        new TaskChangedEvent("default", 12L, ChangeType.IMPORTED)),
+                events.getAllValues());
+    }
+}
@@ -0,0 +1,186 @@
+package com.todolist.api.service;
+
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO CONTADOR DE LISTAS
+ *
+ * O TaskListCounter só enfileira as alterações confirmadas; a recontagem roda no agendador, uma vez por lista,
+ * por mais escritas que a lista tenha recebido.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskListCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    private TaskListCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new TaskListCounter(jdbcTemplate, transactionManager, shardRouter);
+        when(shardRouter.shardFor("default")).thenReturn(0);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // task_lists devolve as listas informadas, todas do tenant
+    private void stubLockedLists(String tenant, long... listIds) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long listId : listIds) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn(listId);
+                when(rs.getString("tenant_id")).thenReturn(tenant);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, tenant_id FROM task_lists"), any(RowCallbackHandler.class),
+                any(Object[].class));
+    }
+
+    private void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    /**
+     * TESTE: Escritas agrupadas
+     *
+     * Objetivo: Verificar que a requisição não consulta o banco e que várias escritas confirmadas viram uma
+     * busca das listas e uma recontagem
+     */
+    @Test
+    void testQueuesCommittedChangesAndRecountsOnce() {
+        // ARRANGE
+        TransactionSynchronizationManager.initSynchronization();
+        counter.onTaskChanged(new TaskChangedEvent("default", 1L, ChangeType.UPDATED));
+        counter.onTaskChanged(new TaskChangedEvent("default", 2L, ChangeType.UPDATED));
+        completeTransaction(true);
+        counter.onListsChanged(new TaskListsChangedEvent(List.of(7L)));
+        verifyNoInteractions(jdbcTemplate);
+        when(jdbcTemplate.queryForList(startsWith("SELECT DISTINCT list_id"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(7L));
+        stubLockedLists("default", 7L);
+
+        // ACT
+        counter.recountQueued();
+        counter.recountQueued();
+
+        // ASSERT
+        verify(jdbcTemplate, times(1)).queryForList(startsWith("SELECT DISTINCT list_id"), eq(Long.class), eq(1L), eq(2L));
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT id, tenant_id FROM task_lists"), any(RowCallbackHandler.class), eq(7L));
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT list_id, COUNT(*)"), any(RowCallbackHandler.class), eq(7L));
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE task_lists"), anyList());
+    }
+
+    /**
+     * TESTE: Transação desfeita
+     *
+     * Objetivo: Verificar que as alterações de uma transação desfeita não entram na fila
+     */
+    @Test
+    void testRollbackDiscardsChanges() {
+        // ARRANGE
+        TransactionSynchronizationManager.initSynchronization();
+        counter.onTaskChanged(new TaskChangedEvent("default", 1L, ChangeType.UPDATED));
+        completeTransaction(false);
+
+        // ACT
+        counter.recountQueued();
+
+        // ASSERT
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * TESTE: Banco fora do ar na recontagem
+     *
+     * Objetivo: Verificar que as listas voltam para a fila e são recontadas na rodada seguinte
+     */
+    @Test
+    void testFailedRecountIsRetried() {
+        // ARRANGE
+        counter.onListsChanged(new TaskListsChangedEvent(List.of(7L)));
+        stubLockedLists("default", 7L);
+        doThrow(new DataAccessResourceFailureException("Communications link failure"))
+                .doReturn(null)
+                .when(transactionManager).getTransaction(any());
+
+        // ACT
+        counter.recountQueued();
+        counter.recountQueued();
+
+        // ASSERT
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE task_lists"), anyList());
+    }
+
+    /**
+     * TESTE: Tenant em migração
+     *
+     * Objetivo: Verificar que a lista de um tenant em migração não é gravada na origem enquanto ele é copiado, e que
+     * depois da troca ela é recontada no shard novo
+     */
+    @Test
+    void testListsOfMigratingTenantWaitForTheNewShard() {
+        // ARRANGE: a lista 7 é do tenant acme, que está sendo copiado do shard 0 para o 1
+        when(shardRouter.isMigrating("acme")).thenReturn(true);
+        counter.onListsChanged(new TaskListsChangedEvent(List.of(7L)));
+        stubLockedLists("acme", 7L);
+
+        // ACT: durante a cópia
+        counter.recountQueued();
+
+        // ASSERT: nada gravado na origem
+        verify(jdbcTemplate, never()).query(startsWith("SELECT list_id, COUNT(*)"), any(RowCallbackHandler.class), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE task_lists"), anyList());
+
+        // ACT: o diretório passou a apontar o shard 1
+        when(shardRouter.isMigrating("acme")).thenReturn(false);
+        when(shardRouter.shardFor("acme")).thenReturn(1);
+        counter.recountQueued();
+
+        // ASSERT: recontada uma vez, agora no shard novo
+        verify(shardRouter).shardFor("acme");
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT list_id, COUNT(*)"), any(RowCallbackHandler.class), eq(7L));
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE task_lists"), anyList());
+    }
+}
@@ -0,0 +1,199 @@
+package com.todolist.api.service;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskListDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskListsChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskList;
+import com.todolist.api.repository.TaskListItemRepository;
+import com.todolist.api.repository.TaskListRepository;
+import com.todolist.api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO SERVICE DE LISTAS
+ *
+ * O TaskListService lê uma página de listas (com as contagens) em uma consulta e as tarefas de todas as
+ * listas da página em outra; as mudanças de lista publicam os eventos que fazem o TaskListCounter recontar.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskListServiceTest {
+
+    @Mock
+    private TaskListRepository taskListRepository;
+
+    @Mock
+    private TaskListItemRepository taskListItemRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskListService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskListService(taskListRepository, taskListItemRepository, taskRepository, new TaskMapper(), eventPublisher);
+    }
+
+    private static TaskList list(long id, int taskCount, int completedCount) {
+        TaskList taskList = new TaskList("Lista " + id);
+        taskList.setId(id);
+        taskList.setTaskCount(taskCount);
+        taskList.setCompletedCount(completedCount);
+        return taskList;
+    }
+
+    private static Task task(long id, Long listId) {
+        Task task = new Task("Tarefa " + id, null);
+        task.setId(id);
+        task.setListId(listId);
+        return task;
+    }
+
+    /**
+     * TESTE: Página de 50 quadros
+     *
+     * Objetivo: Verificar que a página inteira, com as tarefas, sai de uma consulta de listas e uma de tarefas,
+     * e que listas sem tarefas recebem uma lista vazia
+     */
+    @Test
+    void testPageWithTasksUsesTwoQueries() {
+        // ARRANGE
+        List<TaskList> page = LongStream.rangeClosed(1, 50).mapToObj(id -> list(id, 3, 1)).toList();
+        when(taskListRepository.findPage(PageRequest.of(0, 50))).thenReturn(page);
+        when(taskListItemRepository.findTasks(eq("default"), anyCollection(), eq(5)))
+                .thenReturn(Map.of(1L, List.of(task(10, 1L), task(11, 1L))));
+
+        // ACT
+        List<TaskListDTO> lists = service.getLists(0, 50, 5);
+
+        // ASSERT
+        assertEquals(50, lists.size());
+        assertEquals(3, lists.get(0).getTaskCount());
+        assertEquals(1, lists.get(0).getCompletedCount());
+        assertEquals(List.of(10L, 11L), lists.get(0).getTasks().stream().map(TaskDTO::getId).toList());
+        assertEquals(List.of(), lists.get(49).getTasks());
+        verify(taskListRepository, times(1)).findPage(any());
+        verify(taskListItemRepository, times(1)).findTasks(any(), argThat(ids -> ids.size() == 50), anyInt());
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * TESTE: Só as contagens
+     *
+     * Objetivo: Verificar que, com tasksPerList = 0, as tarefas não são lidas nem aparecem na resposta
+     */
+    @Test
+    void testPageWithCountsOnly() {
+        // ARRANGE
+        when(taskListRepository.findPage(any())).thenReturn(List.of(list(1, 4, 4)));
+
+        // ACT
+        List<TaskListDTO> lists = service.getLists(0, 50, 0);
+
+        // ASSERT
+        assertEquals(4, lists.get(0).getCompletedCount());
+        assertNull(lists.get(0).getTasks());
+        verifyNoInteractions(taskListItemRepository);
+    }
+
+    /**
+     * TESTE: Limites da página
+     *
+     * Objetivo: Verificar que size e tasksPerList fora dos limites são recusados com 400
+     */
+    @Test
+    void testRejectsOutOfRangeParameters() {
+        // ACT + ASSERT
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> service.getLists(0, TaskListService.MAX_PAGE_SIZE + 1, 0)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> service.getLists(0, 50, -1)).getStatusCode());
+        verifyNoInteractions(taskListRepository);
+    }
+
+    /**
+     * TESTE: Mudar tarefa de lista
+     *
+     * Objetivo: Verificar que a tarefa guarda a lista nova, com um evento da tarefa (lista nova)
+     * e outro da lista antiga, que a tarefa já não aponta
+     */
+    @Test
+    void testMoveTaskRecountsBothLists() {
+        // ARRANGE
+        Task task = task(7, 1L);
+        when(taskRepository.findById(7L)).thenReturn(Optional.of(task));
+        when(taskListRepository.existsById(2L)).thenReturn(true);
+
+        // ACT
+        boolean moved = service.moveTask(7L, 2L);
+
+        // ASSERT
+        assertTrue(moved);
+        assertEquals(2L, task.getListId());
+        verify(taskRepository).save(task);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated("default", 7L, "list_id", 2L));
+        verify(eventPublisher).publishEvent(new TaskListsChangedEvent(List.of(1L)));
+    }
+
+    /**
+     * TESTE: Lista inexistente
+     *
+     * Objetivo: Verificar que mover para uma lista que não existe é recusado com 400, sem gravar nada
+     */
+    @Test
+    void testMoveTaskToUnknownList() {
+        // ARRANGE
+        when(taskRepository.findById(7L)).thenReturn(Optional.of(task(7, null)));
+        when(taskListRepository.existsById(99L)).thenReturn(false);
+
+        // ACT + ASSERT
+        ResponseStatusException error = assertThrows(ResponseStatusException.class, () -> service.moveTask(7L, 99L));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * TESTE: Excluir lista
+     *
+     * Objetivo: Verificar que as tarefas ficam sem lista, com um evento por tarefa, antes de a lista ser removida
+     */
+    @Test
+    void testDeleteListDetachesTasks() {
+        // ARRANGE
+        when(taskListRepository.existsById(3L)).thenReturn(true);
+        when(taskListItemRepository.detachAll("default", 3L)).thenReturn(List.of(1L, 2L));
+
+        // ACT
+        boolean deleted = service.deleteList(3L);
+
+        // ASSERT
+        assertTrue(deleted);
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+        verify(taskListRepository).deleteById(3L);
+    }
+}
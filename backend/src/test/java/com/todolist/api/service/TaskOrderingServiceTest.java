@@ -0,0 +1,192 @@
+package com.todolist.api.service;
+
+import com.todolist.api.config.OrderingProperties;
+import com.todolist.api.dto.TaskMoveDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskRankRepository;
+import com.todolist.api.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DA ORDEM MANUAL
+ * 
+ * O TaskOrderingService calcula a chave de posição a partir das vizinhas e grava só a tarefa movida.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskOrderingServiceTest {
+
+    @Mock
+    private TaskRankRepository taskRankRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ShardRouter> shardRouterProvider;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    private OrderingProperties properties;
+
+    private TaskOrderingService taskOrderingService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderingProperties();
+        taskOrderingService = new TaskOrderingService(taskRankRepository, properties, eventPublisher, shardRouterProvider);
+    }
+
+    /**
+     * TESTE: Mover para depois de uma tarefa
+     * 
+     * Objetivo: Verificar que a chave nova fica entre a referência e a tarefa seguinte e que só uma linha é gravada
+     */
+    @Test
+    void testMoveAfter() {
+        // ARRANGE
+        when(taskRankRepository.findKey("default", 2L)).thenReturn(Optional.of("0000V"));
+        when(taskRankRepository.findNextKey("default", "0000V", 1L)).thenReturn("0000W");
+        when(taskRankRepository.updateKey(eq("default"), eq(1L), anyString())).thenReturn(1);
+
+        // ACT
+        boolean moved = taskOrderingService.moveTask(1L, new TaskMoveDTO(2L, null));
+
+        // ASSERT
+        assertTrue(moved);
+        verify(taskRankRepository).updateKey(eq("default"),
+                eq(1L), argThat(key -> key.compareTo("0000V") > 0 && key.compareTo("0000W") < 0));
+        verify(taskRankRepository, never()).findPreviousKey(any(), any(), any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TaskChangedEvent change
+                && change.taskId() == 1L && change.changes().keySet().equals(Set.of("rank_key"))));
+        assertTrue(taskOrderingService.pendingRebalance().isEmpty());
+    }
+
+    /**
+     * TESTE: Mover para o topo
+     * 
+     * Objetivo: Verificar que beforeId da primeira tarefa gera uma chave menor que a dela
+     */
+    @Test
+    void testMoveBeforeFirst() {
+        // ARRANGE
+        when(taskRankRepository.findKey("default", 2L)).thenReturn(Optional.of("0000V"));
+        when(taskRankRepository.findPreviousKey("default", "0000V", 1L)).thenReturn(null);
+        when(taskRankRepository.updateKey(eq("default"), eq(1L), anyString())).thenReturn(1);
+
+        // ACT
+        taskOrderingService.moveTask(1L, new TaskMoveDTO(null, 2L));
+
+        // ASSERT
+        verify(taskRankRepository).updateKey(eq("default"), eq(1L), argThat(key -> key.compareTo("0000V") < 0));
+    }
+
+    /**
+     * TESTE: Referência inválida e tarefa inexistente
+     * 
+     * Objetivo: Verificar que referência inexistente ou igual à tarefa retorna 400 e tarefa inexistente retorna false
+     */
+    @Test
+    void testMoveRejected() {
+        // ARRANGE
+        when(taskRankRepository.findKey("default", 2L)).thenReturn(Optional.empty());
+        when(taskRankRepository.findKey("default", 3L)).thenReturn(Optional.of("0000V"));
+
+        // ACT & ASSERT
+        assertThrows(ResponseStatusException.class, () -> taskOrderingService.moveTask(1L, new TaskMoveDTO(1L, null)));
+        assertThrows(ResponseStatusException.class, () -> taskOrderingService.moveTask(1L, new TaskMoveDTO(2L, null)));
+        assertFalse(taskOrderingService.moveTask(999L, new TaskMoveDTO(3L, null)));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * TESTE: Redistribuição
+     * 
+     * Objetivo: Verificar que uma chave longa põe o tenant na fila e que a redistribuição tenta de novo após falha
+     */
+    @Test
+    void testLongKeyTriggersRebalance() {
+        // ARRANGE
+        properties.setMaxKeyLength(5);
+        when(taskRankRepository.findKey("default", 2L)).thenReturn(Optional.of("0000V"));
+        when(taskRankRepository.findNextKey("default", "0000V", 1L)).thenReturn("0000W");
+        when(taskRankRepository.updateKey(eq("default"), eq(1L), anyString())).thenReturn(1);
+        when(taskRankRepository.rebalance("default"))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(10);
+
+        // ACT & ASSERT
+        taskOrderingService.moveTask(1L, new TaskMoveDTO(2L, null));
+        assertEquals(Set.of("default"), taskOrderingService.pendingRebalance());
+
+        taskOrderingService.rebalancePending();
+        assertEquals(Set.of("default"), taskOrderingService.pendingRebalance());
+
+        taskOrderingService.rebalancePending();
+        assertTrue(taskOrderingService.pendingRebalance().isEmpty());
+        verify(taskRankRepository, times(2)).rebalance("default");
+    }
+
+    /**
+     * TESTE: Redistribuição de tenant em migração
+     *
+     * Objetivo: Verificar que as chaves de um tenant sendo copiado para outro shard não são regravadas durante a
+     * cópia, e que ele continua na fila até o fim da migração
+     */
+    @Test
+    void testRebalanceWaitsForTenantMigration() {
+        // ARRANGE
+        when(shardRouterProvider.getIfAvailable()).thenReturn(shardRouter);
+        when(shardRouter.isMigrating("default")).thenReturn(true, false);
+        when(taskRankRepository.findKey("default", 2L)).thenReturn(Optional.of(""));
+        assertThrows(ResponseStatusException.class, () -> taskOrderingService.moveTask(1L, new TaskMoveDTO(2L, null)));
+
+        // ACT & ASSERT: durante a migração
+        taskOrderingService.rebalancePending();
+        verify(taskRankRepository, never()).rebalance(anyString());
+        assertEquals(Set.of("default"), taskOrderingService.pendingRebalance());
+
+        // ACT & ASSERT: depois da troca de shard
+        taskOrderingService.rebalancePending();
+        verify(taskRankRepository, times(1)).rebalance("default");
+        assertTrue(taskOrderingService.pendingRebalance().isEmpty());
+    }
+
+    /**
+     * TESTE: Tarefas novas
+     * 
+     * Objetivo: Verificar que um lote recebe chaves crescentes depois da última do tenant, com uma única leitura
+     */
+    @Test
+    void testAppendToEnd() {
+        // ARRANGE
+        when(taskRankRepository.findLastKey("default")).thenReturn("0000V");
+        List<Task> tasks = List.of(new Task("A", null), new Task("B", null));
+
+        // ACT
+        taskOrderingService.appendToEnd("default", tasks);
+
+        // ASSERT
+        assertTrue(tasks.get(0).getRankKey().compareTo("0000V") > 0);
+        assertTrue(tasks.get(1).getRankKey().compareTo(tasks.get(0).getRankKey()) > 0);
+        verify(taskRankRepository, times(1)).findLastKey("default");
+    }
+}
@@ -0,0 +1,112 @@
+package com.todolist.api.service;
+
+import com.todolist.api.config.PurgeProperties;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.IntConsumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO PURGADOR
+ * 
+ * O TaskPurger remove fisicamente, em lotes, as tarefas excluídas logicamente
+ * há mais tempo que a janela de retenção.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class TaskPurgerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    private PurgeProperties properties;
+
+    private TaskPurger taskPurger;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PurgeProperties();
+        properties.setBatchSize(100);
+        properties.setPause(Duration.ZERO);
+        taskPurger = new TaskPurger(taskRepository, transactionTemplate, properties, shardRouter);
+
+        // Executa o callback da transação sem banco real
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+
+        // Um único shard
+        lenient().doAnswer(invocation -> {
+            invocation.<IntConsumer>getArgument(0).accept(0);
+            return null;
+        }).when(shardRouter).forEachShard(any());
+    }
+
+    /**
+     * TESTE: Remover em lotes
+     * 
+     * Objetivo: Verificar que o purgador repete enquanto os lotes vêm cheios
+     */
+    @Test
+    void testPurgesInBatchesUntilPartialBatch() {
+        // ARRANGE: Dois lotes cheios e um parcial
+        when(taskRepository.purgeDeletedBefore(any(), eq(100), any())).thenReturn(100, 100, 7);
+
+        // ACT
+        taskPurger.purgeDeletedTasks();
+
+        // ASSERT
+        verify(taskRepository, times(3)).purgeDeletedBefore(any(), eq(100), any());
+    }
+
+    /**
+     * TESTE: Limite por execução
+     * 
+     * Objetivo: Verificar que max-per-run interrompe a execução mesmo com lotes cheios
+     */
+    @Test
+    void testStopsAtMaxPerRun() {
+        // ARRANGE
+        properties.setMaxPerRun(200);
+        when(taskRepository.purgeDeletedBefore(any(), eq(100), any())).thenReturn(100);
+
+        // ACT
+        taskPurger.purgeDeletedTasks();
+
+        // ASSERT
+        verify(taskRepository, times(2)).purgeDeletedBefore(any(), eq(100), any());
+    }
+
+    /**
+     * TESTE: Purga desligada
+     * 
+     * Objetivo: Verificar que todolist.purge.enabled=false desativa o job
+     */
+    @Test
+    void testDisabled() {
+        // ARRANGE
+        properties.setEnabled(false);
+
+        // ACT
+        taskPurger.purgeDeletedTasks();
+
+        // ASSERT
+        verifyNoInteractions(taskRepository, transactionTemplate);
+    }
+}
@@ -0,0 +1,154 @@
+package com.todolist.api.service;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskSearchResultDTO;
+import com.todolist.api.dto.TaskSuggestionDTO;
+import com.todolist.api.index.TagIndex;
+import com.todolist.api.index.TagQuery;
+import com.todolist.api.index.TaskIndexMaintainer;
+import com.todolist.api.index.TitleIndex;
+import com.todolist.api.index.TitleTrie;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO SERVICE DE BUSCA POR TAGS
+ * 
+ * O TaskSearchService resolve a busca no TagIndex (simulado aqui) e lê do banco só os IDs da página pedida;
+ * as sugestões de título vêm só do TitleIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskSearchServiceTest {
+
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private TitleIndex titleIndex;
+
+    @Mock
+    private TaskIndexMaintainer taskIndexMaintainer;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskSearchService(tagIndex, titleIndex, taskIndexMaintainer, taskRepository, new TaskMapper());
+    }
+
+    /**
+     * TESTE: Paginação por afterId
+     * 
+     * Objetivo: Verificar que só os IDs da página são lidos, em ordem, e que nextAfterId aponta o último deles
+     */
+    @Test
+    void testPagesInIdOrder() {
+        // ARRANGE
+        when(tagIndex.isReady()).thenReturn(true);
+        when(tagIndex.query(eq("default"), any(TagQuery.class))).thenReturn(RoaringBitmap.bitmapOf(2, 5, 9, 12));
+        when(taskRepository.findAllById(List.of(5L, 9L))).thenReturn(List.of(task(9L), task(5L)));
+
+        // ACT
+        TaskSearchResultDTO result = service.search("trabalho", 2L, 2);
+
+        // ASSERT
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of(5L, 9L), result.getTasks().stream().map(TaskDTO::getId).toList());
+        assertEquals(9L, result.getNextAfterId());
+    }
+
+    /**
+     * TESTE: Última página e IDs que não existem mais
+     * 
+     * Objetivo: Verificar que a última página não tem nextAfterId e que IDs ausentes no banco saem do índice
+     */
+    @Test
+    void testLastPageForgetsMissingIds() {
+        // ARRANGE
+        when(tagIndex.isReady()).thenReturn(true);
+        when(tagIndex.query(eq("default"), any(TagQuery.class))).thenReturn(RoaringBitmap.bitmapOf(2, 5));
+        when(taskRepository.findAllById(List.of(2L, 5L))).thenReturn(List.of(task(2L)));
+
+        // ACT
+        TaskSearchResultDTO result = service.search("trabalho", null, 50);
+
+        // ASSERT
+        assertEquals(List.of(2L), result.getTasks().stream().map(TaskDTO::getId).toList());
+        assertNull(result.getNextAfterId());
+        verify(taskIndexMaintainer).forget("default", List.of(5L));
+    }
+
+    /**
+     * TESTE: Erros da busca
+     * 
+     * Objetivo: Verificar 400 para expressão ou limit inválidos e 503 enquanto o índice está em montagem
+     */
+    @Test
+    void testErrors() {
+        ResponseStatusException badQuery = assertThrows(ResponseStatusException.class,
+                () -> service.search("trabalho AND", null, 50));
+        assertEquals(HttpStatus.BAD_REQUEST, badQuery.getStatusCode());
+
+        ResponseStatusException badLimit = assertThrows(ResponseStatusException.class,
+                () -> service.search("trabalho", null, TaskSearchService.MAX_LIMIT + 1));
+        assertEquals(HttpStatus.BAD_REQUEST, badLimit.getStatusCode());
+
+        when(tagIndex.isReady()).thenReturn(false);
+        ResponseStatusException notReady = assertThrows(ResponseStatusException.class,
+                () -> service.search("trabalho", null, 50));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, notReady.getStatusCode());
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * TESTE: Sugestões de título
+     * 
+     * Objetivo: Verificar que as sugestões vêm do índice, que prefixo vazio não sugere nada e que limit
+     * fora da faixa retorna 400, sem nenhum acesso ao banco
+     */
+    @Test
+    void testSuggest() {
+        // ARRANGE
+        when(titleIndex.isReady()).thenReturn(true);
+        when(titleIndex.suggest("default", "comp", 2)).thenReturn(List.of(new TitleTrie.Suggestion("Comprar pão", 3)));
+
+        // ACT
+        List<TaskSuggestionDTO> suggestions = service.suggest("comp", 2);
+
+        // ASSERT
+        assertEquals(1, suggestions.size());
+        assertEquals("Comprar pão", suggestions.get(0).getTitle());
+        assertEquals(3, suggestions.get(0).getCount());
+        assertEquals(List.of(), service.suggest("  ", 2));
+        ResponseStatusException badLimit = assertThrows(ResponseStatusException.class,
+                () -> service.suggest("comp", TitleTrie.TOP + 1));
+        assertEquals(HttpStatus.BAD_REQUEST, badLimit.getStatusCode());
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task("Tarefa " + id, null);
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,259 @@
+package com.todolist.api.service;
+
+import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskOccurrenceDTO;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.dto.TaskSeriesDTO;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.Task;
+import com.todolist.api.model.TaskSeries;
+import com.todolist.api.repository.TaskOccurrenceRepository;
+import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.repository.TaskSeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO SERVICE DE SÉRIES
+ *
+ * O TaskSeriesService expande as regras só para o período pedido e junta o resultado com as ocorrências já
+ * materializadas; a primeira escrita em uma ocorrência grava a linha de tasks.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskSeriesServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private TaskSeriesRepository taskSeriesRepository;
+
+    @Mock
+    private TaskOccurrenceRepository taskOccurrenceRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskOrderingService taskOrderingService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskSeriesService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskSeriesService(taskSeriesRepository, taskOccurrenceRepository, taskRepository,
+                taskOrderingService, taskService, new TaskMapper(), eventPublisher);
+    }
+
+    private static TaskSeries daily(long id) {
+        TaskSeries taskSeries = new TaskSeries("Regar as plantas", "FREQ=DAILY", START);
+        taskSeries.setId(id);
+        taskSeries.setDueTime(LocalTime.of(9, 0));
+        return taskSeries;
+    }
+
+    private static Task occurrence(long id, long seriesId, LocalDate date) {
+        Task task = new Task("Regar as plantas", null);
+        task.setId(id);
+        task.setSeriesId(seriesId);
+        task.setOccurrenceDate(date);
+        return task;
+    }
+
+    /**
+     * TESTE: Ocorrências de um período
+     *
+     * Objetivo: Verificar que as ocorrências calculadas e as materializadas saem de uma consulta de séries e uma de
+     * tarefas, que a concluída traz o taskId e que a pulada (linha excluída) não aparece
+     */
+    @Test
+    void testOccurrencesMergeMaterializedRows() {
+        // ARRANGE
+        when(taskSeriesRepository.findActiveBetween(START, START.plusDays(3))).thenReturn(List.of(daily(1)));
+        Task completed = occurrence(10, 1, START.plusDays(1));
+        completed.setCompleted(true);
+        Task skipped = occurrence(11, 1, START.plusDays(2));
+        skipped.setDeletedAt(LocalDateTime.now());
+        when(taskOccurrenceRepository.findBetween("default", List.of(1L), START, START.plusDays(3)))
+                .thenReturn(List.of(completed, skipped));
+
+        // ACT
+        List<TaskOccurrenceDTO> occurrences = service.getOccurrences(START, START.plusDays(3));
+
+        // ASSERT
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(3)),
+                occurrences.stream().map(TaskOccurrenceDTO::getDate).toList());
+        assertNull(occurrences.get(0).getTaskId());
+        assertEquals(START.atTime(9, 0), occurrences.get(0).getDueAt());
+        assertEquals(10L, occurrences.get(1).getTaskId());
+        assertTrue(occurrences.get(1).isCompleted());
+        verify(taskOccurrenceRepository, times(1)).findBetween(any(), any(), any(), any());
+    }
+
+    /**
+     * TESTE: Período longo demais
+     *
+     * Objetivo: Verificar que um período acima de MAX_DAYS é recusado sem consultar o banco
+     */
+    @Test
+    void testOccurrencesRejectLongWindow() {
+        // ACT
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> service.getOccurrences(START, START.plusDays(TaskSeriesService.MAX_DAYS)));
+
+        // ASSERT
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(taskSeriesRepository, taskOccurrenceRepository);
+    }
+
+    /**
+     * TESTE: Concluir uma ocorrência ainda não materializada
+     *
+     * Objetivo: Verificar que a série é travada e que a tarefa é gravada já concluída, com a série, a data e o prazo
+     */
+    @Test
+    void testPatchMaterializesOccurrence() {
+        // ARRANGE
+        LocalDate date = START.plusDays(5);
+        when(taskSeriesRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(daily(1)));
+        when(taskOccurrenceRepository.find("default", 1L, date)).thenReturn(Optional.empty());
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(42L);
+            return task;
+        });
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setCompleted(true);
+
+        // ACT
+        Optional<TaskDTO> result = service.patchOccurrence(1L, date, patch);
+
+        // ASSERT
+        assertTrue(result.isPresent());
+        assertEquals(42L, result.get().getId());
+        assertTrue(result.get().getCompleted());
+        assertEquals(1L, result.get().getSeriesId());
+        assertEquals(date, result.get().getOccurrenceDate());
+        assertEquals(date.atTime(9, 0), result.get().getDueAt());
+        verify(taskOrderingService).appendToEnd(eq("default"), anyList());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("default", 42L, ChangeType.CREATED));
+    }
+
+    /**
+     * TESTE: Ocorrência já materializada
+     *
+     * Objetivo: Verificar que a escrita vira um PATCH comum na tarefa existente
+     */
+    @Test
+    void testPatchExistingOccurrence() {
+        // ARRANGE
+        LocalDate date = START.plusDays(1);
+        Task existing = occurrence(10, 1, date);
+        when(taskSeriesRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(daily(1)));
+        when(taskOccurrenceRepository.find("default", 1L, date)).thenReturn(Optional.of(existing));
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle("Regar e adubar");
+        when(taskService.patchTask(10L, patch)).thenReturn(true);
+        existing.setTitle("Regar e adubar");
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(existing));
+
+        // ACT
+        Optional<TaskDTO> result = service.patchOccurrence(1L, date, patch);
+
+        // ASSERT
+        assertEquals("Regar e adubar", result.orElseThrow().getTitle());
+        verify(taskRepository, never()).save(any());
+    }
+
+    /**
+     * TESTE: Data fora da regra
+     *
+     * Objetivo: Verificar que uma data que não é ocorrência (antes do início ou fora dos dias da regra) não grava nada
+     */
+    @Test
+    void testPatchRejectsDateOutsideRule() {
+        // ARRANGE
+        TaskSeries weekly = new TaskSeries("Reunião", "FREQ=WEEKLY", START);
+        weekly.setId(2L);
+        when(taskSeriesRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(weekly));
+
+        // ACT
+        Optional<TaskDTO> notOnRule = service.patchOccurrence(2L, START.plusDays(1), new TaskPatchDTO());
+        Optional<TaskDTO> beforeStart = service.patchOccurrence(2L, START.minusWeeks(1), new TaskPatchDTO());
+
+        // ASSERT
+        assertTrue(notOnRule.isEmpty());
+        assertTrue(beforeStart.isEmpty());
+        verifyNoInteractions(taskOccurrenceRepository, taskRepository);
+    }
+
+    /**
+     * TESTE: Pular uma ocorrência
+     *
+     * Objetivo: Verificar que pular uma ocorrência não materializada grava a linha já excluída, sem eventos
+     */
+    @Test
+    void testSkipWritesDeletedRow() {
+        // ARRANGE
+        LocalDate date = START.plusDays(2);
+        when(taskSeriesRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(daily(1)));
+        when(taskOccurrenceRepository.find("default", 1L, date)).thenReturn(Optional.empty());
+
+        // ACT
+        boolean skipped = service.skipOccurrence(1L, date);
+
+        // ASSERT
+        assertTrue(skipped);
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository).save(saved.capture());
+        assertNotNull(saved.getValue().getDeletedAt());
+        assertEquals(date, saved.getValue().getOccurrenceDate());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * TESTE: Criar série
+     *
+     * Objetivo: Verificar que a regra é gravada na forma canônica e que regras inválidas respondem 400
+     */
+    @Test
+    void testCreateSeries() {
+        // ARRANGE
+        when(taskSeriesRepository.save(any(TaskSeries.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // ACT
+        TaskSeriesDTO created = service.createSeries(new TaskSeriesDTO("Relatório", "freq=weekly;byday=fr,mo", START));
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> service.createSeries(new TaskSeriesDTO("Relatório", "FREQ=HOURLY", START)));
+
+        // ASSERT
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,FR", created.getRule());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(taskSeriesRepository, times(1)).save(any());
+    }
+}
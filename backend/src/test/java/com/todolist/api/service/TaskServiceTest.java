@@ -1,22 +1,42 @@
 package com.todolist.api.service;
 
+import com.todolist.api.config.PurgeProperties;
 import com.todolist.api.dto.TaskDTO;
+import com.todolist.api.dto.TaskField;
+import com.todolist.api.dto.TaskPatchDTO;
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
 import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.model.ArchivedTask;
 import com.todolist.api.model.Task;
+import com.todolist.api.repository.ArchivedTaskRepository;
+import com.todolist.api.repository.TaskListRepository;
+import com.todolist.api.repository.TaskPatchWriter;
+import com.todolist.api.repository.TaskProjectionRepository;
 import com.todolist.api.repository.TaskRepository;
+import com.todolist.api.repository.TaskTreeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -39,9 +59,34 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;  // Simula o acesso ao banco de dados
 
+    @Mock
+    private TaskPatchWriter taskPatchWriter;  // Simula o UPDATE parcial
+
+    @Mock
+    private TaskOrderingService taskOrderingService;  // Simula a chave de posição das tarefas novas
+
+    @Mock
+    private TaskTreeRepository taskTreeRepository;  // Simula a hierarquia (exclusão e restauração em cascata)
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;  // Simula a tabela de tarefas arquivadas
+
+    @Mock
+    private TaskListRepository taskListRepository;  // Simula as listas (existência da lista na criação)
+
+    @Mock
+    private TaskProjectionRepository taskProjectionRepository;  // Simula as leituras só com os campos pedidos
+
     @Mock
     private TaskMapper taskMapper;  // Simula a conversão entre Entity e DTO
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;  // Simula a publicação dos eventos que invalidam o cache
+
+    // @Spy: Usa a configuração real (janela de retenção padrão de 7 dias)
+    @Spy
+    private PurgeProperties purgeProperties = new PurgeProperties();
+
     // @InjectMocks: Cria o service e injeta os mocks nele
     @InjectMocks
     private TaskService taskService;
@@ -79,7 +124,7 @@ class TaskServiceTest {
     void testGetAllTasks() {
         // ARRANGE: Configura os mocks
         List<Task> tasks = Arrays.asList(task);  // Lista com uma tarefa
-        when(taskRepository.findAll()).thenReturn(tasks);  // Mock do repository
+        when(taskRepository.findAllOrdered()).thenReturn(tasks);  // Mock do repository
         when(taskMapper.convertToDTO(any(Task.class))).thenReturn(taskDTO);  // Mock do mapper
 
         // ACT: Executa o método que estamos testando
@@ -87,7 +132,7 @@ class TaskServiceTest {
 
         // ASSERT: Verifica os resultados
         assertEquals(1, result.size());  // Verifica se retornou 1 tarefa
-        verify(taskRepository, times(1)).findAll();  // Confirma que o repository foi chamado
+        verify(taskRepository, times(1)).findAllOrdered();  // Confirma que o repository foi chamado
     }
 
     /**
@@ -131,6 +176,81 @@ class TaskServiceTest {
         assertFalse(result.isPresent());  // Verifica que não encontrou nada
     }
 
+    /**
+     * TESTE: Buscar tarefa por ID - Tarefa arquivada
+     * 
+     * Objetivo: Verificar que uma tarefa movida para o arquivo
+     * continua sendo encontrada pelo mesmo ID
+     */
+    @Test
+    void testGetTaskByIdFallsBackToArchive() {
+        // ARRANGE: Tarefa não está mais em 'tasks', mas está em 'tasks_archive'
+        ArchivedTask archivedTask = new ArchivedTask();
+        archivedTask.setId(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(1L)).thenReturn(Optional.of(archivedTask));
+        when(taskMapper.convertToDTO(archivedTask)).thenReturn(taskDTO);
+
+        // ACT
+        Optional<TaskDTO> result = taskService.getTaskById(1L);
+
+        // ASSERT
+        assertTrue(result.isPresent());
+        verify(archivedTaskRepository, times(1)).findById(1L);  // Consultou o arquivo
+    }
+
+    /**
+     * TESTE: Limites da página do arquivo
+     *
+     * Objetivo: Verificar que page negativo e size fora dos limites são recusados com 400, sem consultar o arquivo
+     */
+    @Test
+    void testGetArchivedTasksRejectsOutOfRangeParameters() {
+        // ACT + ASSERT
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> taskService.getArchivedTasks(-1, 50)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> taskService.getArchivedTasks(0, 0)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> taskService.getArchivedTasks(0, TaskService.MAX_ARCHIVE_PAGE_SIZE + 1)).getStatusCode());
+        verifyNoInteractions(archivedTaskRepository);
+    }
+
+    /**
+     * TESTE: Listar só alguns campos
+     *
+     * Objetivo: Verificar que os nomes pedidos viram os campos da projeção (em qualquer ordem e com espaços),
+     * sem passar pela entidade nem pelo mapper
+     */
+    @Test
+    void testGetAllTasksWithFields() {
+        // ARRANGE
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.COMPLETED);
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "title", "Test Task", "completed", false));
+        when(taskProjectionRepository.findAll("default", fields)).thenReturn(rows);
+
+        // ACT
+        List<Map<String, Object>> result = taskService.getAllTasks("title, completed,id");
+
+        // ASSERT
+        assertEquals(rows, result);
+        verifyNoInteractions(taskRepository, taskMapper);
+    }
+
+    /**
+     * TESTE: Campo desconhecido
+     *
+     * Objetivo: Verificar que um campo que não existe no TaskDTO, ou fields vazio, é recusado com 400 sem consulta
+     */
+    @Test
+    void testGetTaskByIdWithUnknownField() {
+        // ACT + ASSERT
+        ResponseStatusException error = assertThrows(ResponseStatusException.class, () -> taskService.getTaskById(1L, "id,password"));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> taskService.getAllTasks(" , "));
+        verifyNoInteractions(taskProjectionRepository);
+    }
+
     /**
      * TESTE: Criar nova tarefa
      * 
@@ -156,6 +276,76 @@ class TaskServiceTest {
         assertNotNull(result);  // Verifica que não é nulo
         assertEquals("Test Task", result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));  // Confirma que salvou
+        verifyNoInteractions(taskTreeRepository);  // Tarefa de nível superior: nenhum caminho gravado
+    }
+
+    /**
+     * TESTE: Criar subtarefa
+     * 
+     * Objetivo: Verificar que a tarefa criada com parentId guarda o pai e grava os caminhos da hierarquia
+     */
+    @Test
+    void testCreateSubtask() {
+        // ARRANGE: DTO com o pai 5
+        taskDTO.setParentId(5L);
+        when(taskRepository.existsById(5L)).thenReturn(true);
+        when(taskMapper.convertToEntity(taskDTO)).thenReturn(task);
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.convertToDTO(task)).thenReturn(taskDTO);
+
+        // ACT
+        taskService.createTask(taskDTO);
+
+        // ASSERT
+        assertEquals(5L, task.getParentId());
+        verify(taskTreeRepository).attach("default", 5L, 1L);
+    }
+
+    /**
+     * TESTE: Criar subtarefa com pai inexistente
+     * 
+     * Objetivo: Verificar que nada é gravado e a requisição é recusada com 400
+     */
+    @Test
+    void testCreateSubtaskParentNotFound() {
+        // ARRANGE
+        taskDTO.setParentId(999L);
+        when(taskMapper.convertToEntity(taskDTO)).thenReturn(task);
+        when(taskRepository.existsById(999L)).thenReturn(false);
+
+        // ACT + ASSERT
+        ResponseStatusException error = assertThrows(ResponseStatusException.class, () -> taskService.createTask(taskDTO));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    /**
+     * TESTE: Criar tarefa em uma lista
+     *
+     * Objetivo: Verificar que a tarefa criada com listId guarda a lista, e que uma lista inexistente é recusada com 400
+     */
+    @Test
+    void testCreateTaskInList() {
+        // ARRANGE
+        taskDTO.setListId(3L);
+        when(taskListRepository.existsById(3L)).thenReturn(true);
+        when(taskMapper.convertToEntity(taskDTO)).thenReturn(task);
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.convertToDTO(task)).thenReturn(taskDTO);
+
+        // ACT
+        taskService.createTask(taskDTO);
+
+        // ASSERT
+        assertEquals(3L, task.getListId());
+
+        // ARRANGE: lista que não existe
+        taskDTO.setListId(999L);
+
+        // ACT + ASSERT
+        ResponseStatusException error = assertThrows(ResponseStatusException.class, () -> taskService.createTask(taskDTO));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     /**
@@ -209,39 +399,76 @@ class TaskServiceTest {
     /**
      * TESTE: Deletar tarefa - Caso de sucesso
      * 
-     * Objetivo: Verificar se o service deleta uma tarefa existente
+     * Objetivo: Verificar se o service exclui (logicamente) uma tarefa existente
      * 
-     * existsById(): Verifica se existe uma tarefa com o ID antes de deletar
+     * deleteSubtree(): Um único UPDATE que preenche deleted_at da tarefa e das subtarefas;
+     * retorna os IDs afetados (vazio = tarefa não existia)
      */
     @Test
     void testDeleteTask() {
-        // ARRANGE: Tarefa existe no banco
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        // ARRANGE: UPDATE afeta uma linha
+        when(taskTreeRepository.deleteSubtree(eq("default"), eq(1L), any())).thenReturn(List.of(1L));
 
         // ACT
         boolean result = taskService.deleteTask(1L);
 
         // ASSERT
         assertTrue(result);  // Retornou true (sucesso)
-        verify(taskRepository, times(1)).deleteById(1L);  // Confirma que deletou
+        verify(taskRepository, never()).deleteById(any());  // Nenhum DELETE físico
     }
 
     /**
      * TESTE: Deletar tarefa - Caso de falha
      * 
-     * Objetivo: Verificar que não deleta quando a tarefa não existe
+     * Objetivo: Verificar o retorno quando a tarefa não existe (ou já foi excluída)
      */
     @Test
     void testDeleteTaskNotFound() {
-        // ARRANGE: Tarefa não existe
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        // ARRANGE: UPDATE não afeta nenhuma linha
+        when(taskTreeRepository.deleteSubtree(eq("default"), eq(999L), any())).thenReturn(List.of());
 
         // ACT
         boolean result = taskService.deleteTask(999L);
 
         // ASSERT
         assertFalse(result);  // Retornou false (falha)
-        verify(taskRepository, never()).deleteById(any());  // Não tentou deletar
+    }
+
+    /**
+     * TESTE: Restaurar tarefa excluída
+     * 
+     * Objetivo: Verificar que uma tarefa excluída dentro da janela de retenção volta a aparecer
+     */
+    @Test
+    void testRestoreTask() {
+        // ARRANGE
+        when(taskTreeRepository.restoreSubtree(eq("default"), eq(1L), any())).thenReturn(List.of(1L));
+        when(taskRepository.findAllById(List.of(1L))).thenReturn(List.of(task));
+        when(taskMapper.convertToDTO(task)).thenReturn(taskDTO);
+
+        // ACT
+        Optional<TaskDTO> result = taskService.restoreTask(1L);
+
+        // ASSERT
+        assertTrue(result.isPresent());
+    }
+
+    /**
+     * TESTE: Restaurar tarefa fora da janela de retenção
+     * 
+     * Objetivo: Verificar que nada é retornado quando a restauração não afeta nenhuma linha
+     */
+    @Test
+    void testRestoreTaskNotFound() {
+        // ARRANGE
+        when(taskTreeRepository.restoreSubtree(eq("default"), eq(999L), any())).thenReturn(List.of());
+
+        // ACT
+        Optional<TaskDTO> result = taskService.restoreTask(999L);
+
+        // ASSERT
+        assertFalse(result.isPresent());
+        verify(taskRepository, never()).findAllById(any());
     }
 
     /**
@@ -284,4 +511,104 @@ class TaskServiceTest {
         assertFalse(result.isPresent());
         verify(taskRepository, never()).save(any(Task.class));
     }
+
+    /**
+     * TESTE: Evento de mudança na exclusão
+     * 
+     * Objetivo: Verificar que a exclusão publica o evento que invalida o cache de todas as réplicas
+     */
+    @Test
+    void testDeleteTaskPublishesChange() {
+        // ARRANGE
+        when(taskTreeRepository.deleteSubtree(eq("default"), eq(1L), any())).thenReturn(List.of(1L, 2L));
+
+        // ACT
+        boolean deleted = taskService.deleteTask(1L);
+
+        // ASSERT: Um evento por tarefa excluída, com tenant, ID e tipo da mudança (o cache guarda cada tarefa pelo ID)
+        assertTrue(deleted);
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("default", 1L, TaskChangedEvent.ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent("default", 2L, TaskChangedEvent.ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(ReminderChangedEvent.cancelled("default", 2L));
+    }
+
+    /**
+     * TESTE: Sem evento quando nada mudou
+     * 
+     * Objetivo: Verificar que escritas em tarefas inexistentes não invalidam o cache
+     */
+    @Test
+    void testNoChangePublishedWhenTaskNotFound() {
+        // ARRANGE
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskTreeRepository.deleteSubtree(eq("default"), eq(999L), any())).thenReturn(List.of());
+
+        // ACT
+        taskService.toggleTaskCompletion(999L);
+        taskService.deleteTask(999L);
+
+        // ASSERT
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * TESTE: Atualização parcial
+     * 
+     * Objetivo: Verificar que o PATCH vai direto para o UPDATE, sem buscar a tarefa, e que o evento leva só a
+     * coluna enviada, com o valor novo
+     */
+    @Test
+    void testPatchTask() {
+        // ARRANGE: Patch só com o título
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle("Novo título");
+        when(taskPatchWriter.patch(eq("default"), eq(1L), eq(patch), any())).thenReturn(1);
+
+        // ACT
+        boolean patched = taskService.patchTask(1L, patch);
+
+        // ASSERT
+        assertTrue(patched);
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated("default", 1L, "title", "Novo título"));
+    }
+
+    /**
+     * TESTE: Atualização parcial - Caso de falha
+     * 
+     * Objetivo: Verificar que nenhuma linha afetada vira "não encontrada" e que patch vazio só confere a existência
+     */
+    @Test
+    void testPatchTaskNotFound() {
+        // ARRANGE
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setCompleted(true);
+        when(taskPatchWriter.patch(eq("default"), eq(999L), eq(patch), any())).thenReturn(0);
+        when(taskRepository.existsById(999L)).thenReturn(false);
+
+        // ACT & ASSERT
+        assertFalse(taskService.patchTask(999L, patch));
+        assertFalse(taskService.patchTask(999L, new TaskPatchDTO()));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * TESTE: Lembrete cancelado ao concluir
+     * 
+     * Objetivo: Verificar que concluir uma tarefa publica o evento que tira o lembrete da roda
+     */
+    @Test
+    void testToggleCancelsReminder() {
+        // ARRANGE: Tarefa pendente com lembrete
+        task.setRemindAt(LocalDateTime.of(2026, 3, 1, 9, 0));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskMapper.convertToDTO(any(Task.class))).thenReturn(taskDTO);
+
+        // ACT
+        taskService.toggleTaskCompletion(1L);
+
+        // ASSERT: remindAt nulo no evento = lembrete cancelado
+        verify(eventPublisher).publishEvent(new ReminderChangedEvent("default", 1L, null, null));
+    }
 }
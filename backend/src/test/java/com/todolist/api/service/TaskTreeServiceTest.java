@@ -0,0 +1,104 @@
+package com.todolist.api.service;
+
+import com.todolist.api.event.ReminderChangedEvent;
+import com.todolist.api.event.TaskChangedEvent;
+import com.todolist.api.mapper.TaskMapper;
+import com.todolist.api.repository.TaskTreeRepository;
+import com.todolist.api.repository.TaskTreeRepository.ReparentResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO SERVICE DE SUBTAREFAS
+ * 
+ * O TaskTreeService delega as operações em subárvore ao TaskTreeRepository (um número fixo
+ * de comandos por operação) e publica um evento por tarefa alterada, para invalidar o cache
+ * de cada tarefa e cancelar lembretes.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TaskTreeServiceTest {
+
+    @Mock
+    private TaskTreeRepository taskTreeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskTreeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskTreeService(taskTreeRepository, new TaskMapper(), eventPublisher);
+    }
+
+    /**
+     * TESTE: Conclusão em cascata
+     * 
+     * Objetivo: Verificar um evento de mudança e um cancelamento de lembrete por tarefa concluída
+     */
+    @Test
+    void testCompleteSubtreePublishesPerTask() {
+        // ARRANGE
+        when(taskTreeRepository.completeSubtree(eq("default"), eq(1L), any())).thenReturn(List.of(1L, 2L, 3L));
+
+        // ACT
+        boolean completed = service.completeSubtree(1L);
+
+        // ASSERT
+        assertTrue(completed);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated("default", 3L, "completed", true));
+        verify(eventPublisher).publishEvent(ReminderChangedEvent.cancelled("default", 3L));
+        verify(eventPublisher, times(6)).publishEvent(any(Object.class));
+    }
+
+    /**
+     * TESTE: Conclusão de tarefa inexistente
+     * 
+     * Objetivo: Verificar que nada é publicado quando a raiz não existe
+     */
+    @Test
+    void testCompleteSubtreeNotFound() {
+        // ARRANGE
+        when(taskTreeRepository.completeSubtree(eq("default"), eq(999L), any())).thenReturn(List.of());
+
+        // ACT & ASSERT
+        assertFalse(service.completeSubtree(999L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    /**
+     * TESTE: Mudança de pai
+     * 
+     * Objetivo: Verificar o mapeamento dos resultados do repository para as respostas da API
+     */
+    @Test
+    void testChangeParent() {
+        // ARRANGE
+        when(taskTreeRepository.reparent("default", 1L, 2L)).thenReturn(ReparentResult.MOVED);
+        when(taskTreeRepository.reparent("default", 999L, 2L)).thenReturn(ReparentResult.NOT_FOUND);
+        when(taskTreeRepository.reparent("default", 1L, 3L)).thenReturn(ReparentResult.CYCLE);
+        when(taskTreeRepository.reparent("default", 1L, 998L)).thenReturn(ReparentResult.PARENT_NOT_FOUND);
+
+        // ACT & ASSERT
+        assertTrue(service.changeParent(1L, 2L));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated("default", 1L, "parent_id", 2L));
+        assertFalse(service.changeParent(999L, 2L));
+        ResponseStatusException cycle = assertThrows(ResponseStatusException.class, () -> service.changeParent(1L, 3L));
+        assertEquals(HttpStatus.BAD_REQUEST, cycle.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> service.changeParent(1L, 998L));
+    }
+}
@@ -0,0 +1,105 @@
+package com.todolist.api.sharding;
+
+import com.todolist.api.config.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO ROTEADOR DE SHARDS
+ * 
+ * O ShardRouter decide o shard de cada tenant: override da configuração,
+ * diretório (tenant_shards) ou jump consistent hash.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardRouterTest {
+
+    @Mock
+    private ShardDataSources shardDataSources;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    private ShardRouter newRouter(int shards, ShardingProperties properties) {
+        when(shardDataSources.size()).thenReturn(shards);
+        when(shardDataSources.get(0)).thenReturn(dataSource);
+        return new ShardRouter(shardDataSources, properties);
+    }
+
+    /**
+     * TESTE: Hash estável e dentro do intervalo
+     * 
+     * Objetivo: Verificar que o mesmo tenant sempre cai no mesmo shard
+     * e que o shard está entre 0 e N-1
+     */
+    @Test
+    void testHashShardIsStableAndInRange() {
+        // ARRANGE
+        ShardRouter router = newRouter(4, new ShardingProperties());
+
+        // ACT & ASSERT
+        for (String tenant : List.of("default", "acme", "globex", "initech", "umbrella")) {
+            int shard = router.shardFor(tenant);
+            assertTrue(shard >= 0 && shard < 4);
+            assertEquals(shard, router.shardFor(tenant));
+        }
+    }
+
+    /**
+     * TESTE: Poucos tenants mudam ao adicionar um shard
+     * 
+     * Objetivo: Verificar a propriedade do jump hash: ao passar de N para N+1 shards,
+     * um tenant só muda de shard se for para o shard novo
+     */
+    @Test
+    void testJumpHashOnlyMovesToNewShard() {
+        for (int i = 0; i < 1000; i++) {
+            long key = ShardRouter.fnv1a64("tenant-" + i);
+            int before = ShardRouter.jumpConsistentHash(key, 3);
+            int after = ShardRouter.jumpConsistentHash(key, 4);
+            assertTrue(after == before || after == 3);
+        }
+    }
+
+    /**
+     * TESTE: Override da configuração
+     * 
+     * Objetivo: Verificar que todolist.sharding.overrides tem precedência sobre o hash
+     */
+    @Test
+    void testConfiguredOverrideWins() {
+        // ARRANGE: Fixa o tenant no shard diferente do calculado pelo hash
+        ShardingProperties properties = new ShardingProperties();
+        int hashed = ShardRouter.jumpConsistentHash(ShardRouter.fnv1a64("acme"), 2);
+        properties.getOverrides().put("acme", 1 - hashed);
+
+        // ACT
+        ShardRouter router = newRouter(2, properties);
+
+        // ASSERT
+        assertEquals(1 - hashed, router.shardFor("acme"));
+        assertEquals(hashed, router.hashShard("acme"));
+    }
+
+    /**
+     * TESTE: Override inválido
+     * 
+     * Objetivo: Verificar que um override para shard inexistente falha na inicialização
+     */
+    @Test
+    void testInvalidOverrideFails() {
+        // ARRANGE
+        ShardingProperties properties = new ShardingProperties();
+        properties.getOverrides().put("acme", 5);
+
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> newRouter(2, properties));
+    }
+}
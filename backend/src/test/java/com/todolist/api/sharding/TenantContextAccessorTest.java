@@ -0,0 +1,50 @@
+package com.todolist.api.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA PROPAGAÇÃO DO TENANT
+ * 
+ * O TenantContextAccessor é carregado via META-INF/services pelo ContextRegistry,
+ * então o mesmo decorator que leva o span de tracing leva também o tenant.
+ */
+class TenantContextAccessorTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * TESTE: Tenant em outra thread
+     * 
+     * Objetivo: Verificar que a tarefa decorada roda com o tenant de quem a criou e que a thread é limpa depois
+     */
+    @Test
+    void testTenantIsPropagatedToDecoratedTask() throws Exception {
+        // ARRANGE
+        ContextPropagatingTaskDecorator decorator = new ContextPropagatingTaskDecorator();
+        TenantContext.set("acme");
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        Runnable task = decorator.decorate(() -> seen.complete(TenantContext.current()));
+
+        // ACT
+        executor.submit(task).get();
+        String afterwards = executor.submit(TenantContext::current).get();
+
+        // ASSERT
+        assertEquals("acme", seen.get());
+        assertEquals(TenantContext.DEFAULT_TENANT, afterwards);
+    }
+}
@@ -0,0 +1,111 @@
+package com.todolist.api.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.eventlog.TaskEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO HISTÓRICO NO ARMAZENAMENTO EMBARCADO
+ *
+ * O EmbeddedTaskEventRepository grava os eventos em events.log e guarda em memória só a posição
+ * de cada um. Os testes reabrem o diretório (@TempDir) para conferir a recuperação.
+ */
+class EmbeddedTaskEventRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedStorageProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmbeddedStorageProperties();
+        properties.setDirectory(directory.toString());
+    }
+
+    private EmbeddedTaskEventRepository open() throws IOException {
+        EmbeddedTaskEventRepository repository = new EmbeddedTaskEventRepository(properties, new ObjectMapper());
+        repository.afterPropertiesSet();
+        return repository;
+    }
+
+    /**
+     * TESTE: Leitura por tarefa
+     *
+     * Objetivo: Verificar que só os eventos do tenant e da tarefa voltam, do mais recente para o mais antigo,
+     * respeitando o limit, com as colunas alteradas, e que eventos de importação sem tarefa não aparecem
+     */
+    @Test
+    void testFindByTaskNewestFirst() throws IOException {
+        // ARRANGE
+        EmbeddedTaskEventRepository repository = open();
+        repository.append(List.of(
+                new TaskEvent("default", 1L, ChangeType.CREATED, T0),
+                new TaskEvent("outro", 1L, ChangeType.CREATED, T0),
+                new TaskEvent("default", null, ChangeType.IMPORTED, T0),
+                new TaskEvent("default", 1L, ChangeType.UPDATED, T0.plusSeconds(1), Map.of("completed", true))));
+        repository.append(List.of(new TaskEvent("default", 1L, ChangeType.DELETED, T0.plusSeconds(2))));
+
+        // ACT
+        List<TaskEvent> all = repository.findByTask("default", 1L, 10);
+        List<TaskEvent> latest = repository.findByTask("default", 1L, 2);
+        repository.destroy();
+
+        // ASSERT
+        assertEquals(List.of(ChangeType.DELETED, ChangeType.UPDATED, ChangeType.CREATED),
+                all.stream().map(TaskEvent::type).toList());
+        assertEquals(T0, all.get(2).occurredAt());
+        assertEquals(Map.of("completed", true), all.get(1).changes());
+        assertEquals(Map.of(), all.get(0).changes());
+        assertEquals(2, latest.size());
+        assertEquals(ChangeType.DELETED, latest.get(0).type());
+        assertTrue(repository.findByTask("default", 2L, 10).isEmpty());
+    }
+
+    /**
+     * TESTE: Recuperação com registro incompleto
+     *
+     * Objetivo: Verificar que, ao reabrir, os eventos voltam do arquivo e bytes incompletos no fim
+     * (queda no meio de uma escrita) são descartados sem perder os registros anteriores
+     */
+    @Test
+    void testRecoversAndTruncatesTornTail() throws IOException {
+        // ARRANGE
+        EmbeddedTaskEventRepository repository = open();
+        repository.append(List.of(
+                new TaskEvent("default", 5L, ChangeType.CREATED, T0),
+                new TaskEvent("default", 5L, ChangeType.UPDATED, T0.plusSeconds(1))));
+        repository.destroy();
+        Path log = directory.resolve("events.log");
+        long size = Files.size(log);
+        Files.write(log, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // ACT
+        EmbeddedTaskEventRepository reopened = open();
+        reopened.append(List.of(new TaskEvent("default", 5L, ChangeType.RESTORED, T0.plusSeconds(2))));
+        List<TaskEvent> events = reopened.findByTask("default", 5L, 10);
+        reopened.destroy();
+
+        // ASSERT
+        assertEquals(List.of(ChangeType.RESTORED, ChangeType.UPDATED, ChangeType.CREATED),
+                events.stream().map(TaskEvent::type).toList());
+        assertTrue(Files.size(log) > size);
+        assertEquals(3, open().findByTask("default", 5L, 10).size());
+    }
+}
@@ -0,0 +1,133 @@
+package com.todolist.api.storage;
+
+import com.todolist.api.model.Task;
+import com.todolist.api.sharding.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO REPOSITORY EMBARCADO
+ * 
+ * O EmbeddedTaskRepository implementa o TaskRepository sobre o EmbeddedTaskStore,
+ * com as mesmas regras da versão JPA: só o tenant atual e só tarefas não excluídas.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class EmbeddedTaskRepositoryTest {
+
+    @Mock
+    private EmbeddedTaskStore store;
+
+    private EmbeddedTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmbeddedTaskRepository(store);
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    /**
+     * TESTE: Visibilidade por tenant e exclusão lógica
+     * 
+     * Objetivo: Verificar que findById ignora tarefas de outro tenant e tarefas excluídas
+     */
+    @Test
+    void testFindByIdHonorsTenantAndDeletedAt() {
+        // ARRANGE
+        when(store.get(1L)).thenReturn(new StoredTask(1, "default", "Minha", null, false, null, null, null, null, null, null, null, null, null, null, null));
+        when(store.get(2L)).thenReturn(new StoredTask(2, "outro", "Outro tenant", null, false, null, null, null, null, null, null, null, null, null, null, null));
+        when(store.get(3L)).thenReturn(new StoredTask(3, "default", "Excluída", null, false, null, LocalDateTime.now(), null, null, null, null, null, null, null, null, null));
+
+        // ACT & ASSERT
+        assertEquals("Minha", repository.findById(1L).orElseThrow().getTitle());
+        assertTrue(repository.findById(2L).isEmpty());
+        assertTrue(repository.findById(3L).isEmpty());
+    }
+
+    /**
+     * TESTE: Salvar tarefa nova
+     * 
+     * Objetivo: Verificar que a tarefa recebe o tenant atual e o ID gerado pelo store
+     */
+    @Test
+    void testSaveAssignsTenantAndId() {
+        // ARRANGE
+        TenantContext.set("acme");
+        when(store.save(any())).thenAnswer(invocation -> {
+            StoredTask task = invocation.getArgument(0);
+            return new StoredTask(7, task.tenantId(), task.title(), task.description(), task.completed(), null, null, null, null, null, null, null, null, null, null, null);
+        });
+
+        // ACT
+        Task saved = repository.save(new Task("Nova", "Descrição"));
+
+        // ASSERT
+        assertEquals(7L, saved.getId());
+        assertEquals("acme", saved.getTenantId());
+        verify(store).save(argThat(task -> task.id() == 0 && task.tenantId().equals("acme")));
+    }
+
+    /**
+     * TESTE: Exclusão lógica e restauração
+     * 
+     * Objetivo: Verificar as mesmas condições das queries nativas do TaskRepository
+     * (tenant, deleted_at e janela de retenção)
+     */
+    @Test
+    void testSoftDeleteAndRestore() {
+        // ARRANGE: O store aplica a função de alteração sobre a tarefa guardada
+        StoredTask active = new StoredTask(1, "default", "Ativa", null, false, null, null, null, null, null, null, null, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        when(store.update(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<UnaryOperator<StoredTask>>getArgument(1).apply(active));
+        when(store.update(eq(2L), any())).thenAnswer(invocation ->
+                invocation.<UnaryOperator<StoredTask>>getArgument(1).apply(active.withDeletedAt(now.minusDays(10))));
+
+        // ACT & ASSERT
+        assertEquals(1, repository.softDeleteById(1L, "default", now));
+        assertEquals(0, repository.softDeleteById(1L, "outro", now));  // Outro tenant
+        assertEquals(0, repository.restoreById(1L, "default", now.minusDays(7)));  // Não estava excluída
+        assertEquals(0, repository.restoreById(2L, "default", now.minusDays(7)));  // Fora da retenção
+        assertEquals(1, repository.restoreById(2L, "default", now.minusDays(30)));
+    }
+
+    /**
+     * TESTE: Listar tarefas
+     * 
+     * Objetivo: Verificar que findAll filtra pelo tenant atual e por deleted_at
+     */
+    @Test
+    void testFindAllFiltersVisibleTasks() {
+        // ARRANGE: Aplica o filtro recebido sobre três tarefas
+        List<StoredTask> stored = List.of(
+                new StoredTask(1, "default", "Visível", null, false, null, null, null, null, null, null, null, null, null, null, null),
+                new StoredTask(2, "outro", "Outro tenant", null, false, null, null, null, null, null, null, null, null, null, null, null),
+                new StoredTask(3, "default", "Excluída", null, false, null, LocalDateTime.now(), null, null, null, null, null, null, null, null, null));
+        when(store.select(any())).thenAnswer(invocation ->
+                stored.stream().filter(invocation.<Predicate<StoredTask>>getArgument(0)).toList());
+
+        // ACT
+        List<Task> tasks = repository.findAll();
+
+        // ASSERT
+        assertEquals(1, tasks.size());
+        assertEquals("Visível", tasks.get(0).getTitle());
+    }
+}
@@ -0,0 +1,224 @@
+package com.todolist.api.storage;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.config.PurgeProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO MOTOR DE ARMAZENAMENTO EMBARCADO
+ * 
+ * O EmbeddedTaskStore mantém as tarefas em memória, grava cada alteração em um log
+ * append-only e compacta o estado em snapshots. Os testes reabrem o store no mesmo
+ * diretório (@TempDir) para simular reinícios e quedas.
+ */
+class EmbeddedTaskStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<EmbeddedTaskStore> opened = new ArrayList<>();
+
+    private EmbeddedTaskStore open() throws IOException {
+        EmbeddedStorageProperties properties = new EmbeddedStorageProperties();
+        properties.setDirectory(directory.toString());
+        EmbeddedTaskStore store = new EmbeddedTaskStore(properties, new PurgeProperties());
+        store.afterPropertiesSet();
+        opened.add(store);
+        return store;
+    }
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (EmbeddedTaskStore store : opened) {
+            store.destroy();
+        }
+    }
+
+    private static StoredTask newTask(String title) {
+        return new StoredTask(0, "default", title, "desc", false, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * TESTE: Recuperação apenas pelo log
+     * 
+     * Objetivo: Verificar que, sem snapshot, o estado é reconstruído reaplicando o log
+     * (inserções, alterações e remoções)
+     */
+    @Test
+    void testRecoversFromLog() throws IOException {
+        // ARRANGE
+        EmbeddedTaskStore store = open();
+        StoredTask first = store.save(newTask("Primeira"));
+        StoredTask second = store.save(newTask("Segunda"));
+        LocalDateTime deletedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        store.update(first.id(), task -> task.withDeletedAt(deletedAt));
+        store.removeIf(task -> task.id() == second.id(), 10);
+
+        // ACT: Reabre no mesmo diretório
+        EmbeddedTaskStore reopened = open();
+
+        // ASSERT
+        assertEquals(1, reopened.size());
+        assertEquals(deletedAt, reopened.get(first.id()).deletedAt());
+        assertNull(reopened.get(second.id()));
+        assertEquals(3, reopened.save(newTask("Terceira")).id());  // IDs continuam a sequência
+    }
+
+    /**
+     * TESTE: Lista da tarefa
+     *
+     * Objetivo: Verificar que list_id sobrevive ao snapshot e ao log
+     */
+    @Test
+    void testRecoversListId() throws IOException {
+        // ARRANGE: uma tarefa na lista antes do snapshot, outra movida depois dele
+        EmbeddedTaskStore store = open();
+        StoredTask inSnapshot = store.save(newTask("No snapshot").withListId(3L));
+        StoredTask inLog = store.save(newTask("No log"));
+        store.snapshot();
+        store.update(inLog.id(), task -> task.withListId(4L));
+
+        // ACT
+        EmbeddedTaskStore reopened = open();
+
+        // ASSERT
+        assertEquals(3L, reopened.get(inSnapshot.id()).listId());
+        assertEquals(4L, reopened.get(inLog.id()).listId());
+        assertNull(newTask("Sem lista").withId(9).toTask().getListId());
+    }
+
+    /**
+     * TESTE: Ocorrência de série
+     *
+     * Objetivo: Verificar que series_id e occurrence_date (as últimas colunas do registro) sobrevivem ao log
+     * e que uma ocorrência pulada não é removida pela limpeza das excluídas
+     */
+    @Test
+    void testRecoversOccurrence() throws IOException {
+        // ARRANGE
+        EmbeddedTaskStore store = open();
+        LocalDateTime longAgo = LocalDateTime.now().minusYears(1);
+        StoredTask skipped = store.save(newTask("Pulada").withSeries(5L, LocalDate.of(2026, 3, 2)).withDeletedAt(longAgo));
+        StoredTask deleted = store.save(newTask("Avulsa").withDeletedAt(longAgo));
+
+        // ACT
+        EmbeddedTaskStore reopened = open();
+        int purged = reopened.removeIf(task -> EmbeddedTaskStore.isPurgeable(task, LocalDateTime.now()), 10);
+
+        // ASSERT
+        assertEquals(1, purged);
+        assertNull(reopened.get(deleted.id()));
+        assertEquals(5L, reopened.get(skipped.id()).seriesId());
+        assertEquals(LocalDate.of(2026, 3, 2), reopened.get(skipped.id()).toTask().getOccurrenceDate());
+    }
+
+    /**
+     * TESTE: Purga pelo índice de excluídas
+     *
+     * Objetivo: Verificar que a purga remove as excluídas mais antigas primeiro, até o limite, que uma tarefa
+     * restaurada sai do índice e que o índice é remontado na recuperação
+     */
+    @Test
+    void testPurgeDeletedBeforeUsesDeletionOrder() throws IOException {
+        // ARRANGE
+        EmbeddedTaskStore store = open();
+        LocalDateTime now = LocalDateTime.now();
+        StoredTask oldest = store.save(newTask("Mais antiga").withDeletedAt(now.minusDays(3)));
+        StoredTask older = store.save(newTask("Antiga").withDeletedAt(now.minusDays(2)));
+        StoredTask restored = store.save(newTask("Restaurada").withDeletedAt(now.minusDays(4)));
+        store.update(restored.id(), task -> task.withDeletedAt(null));
+        StoredTask recent = store.save(newTask("Recente").withDeletedAt(now));
+
+        // ACT
+        int first = store.purgeDeletedBefore(now.minusDays(1), 1);
+        EmbeddedTaskStore reopened = open();
+        int second = reopened.purgeDeletedBefore(now.minusDays(1), 10);
+
+        // ASSERT
+        assertEquals(1, first);
+        assertNull(store.get(oldest.id()));
+        assertNotNull(store.get(older.id()));
+        assertEquals(1, second);
+        assertNull(reopened.get(older.id()));
+        assertNotNull(reopened.get(restored.id()));
+        assertNotNull(reopened.get(recent.id()));
+    }
+
+    /**
+     * TESTE: Recuperação por snapshot + log
+     * 
+     * Objetivo: Verificar que o snapshot substitui os logs anteriores e que as
+     * alterações feitas depois dele são reaplicadas a partir do log novo
+     */
+    @Test
+    void testRecoversFromSnapshotAndLogTail() throws IOException {
+        // ARRANGE: 1000 tarefas, snapshot e mais uma tarefa depois dele
+        EmbeddedTaskStore store = open();
+        List<StoredTask> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(newTask("Tarefa " + i));
+        }
+        store.saveAll(batch);
+        store.snapshot();
+        StoredTask afterSnapshot = store.save(newTask("Depois do snapshot"));
+
+        // ACT
+        EmbeddedTaskStore reopened = open();
+
+        // ASSERT: Só sobram o snapshot e o log atual
+        assertEquals(1001, reopened.size());
+        assertEquals("Tarefa 499", reopened.get(500).title());
+        assertEquals("Depois do snapshot", reopened.get(afterSnapshot.id()).title());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    /**
+     * TESTE: Registro incompleto no fim do log
+     * 
+     * Objetivo: Simular uma queda no meio de uma escrita e verificar que o registro
+     * quebrado é descartado sem perder os anteriores
+     */
+    @Test
+    void testDiscardsTornLogTail() throws IOException {
+        // ARRANGE: Grava duas tarefas e corta o último registro pela metade
+        EmbeddedTaskStore store = open();
+        store.save(newTask("Inteira"));
+        store.save(newTask("Cortada"));
+        store.destroy();
+        opened.clear();
+        Path log;
+        try (Stream<Path> files = Files.list(directory)) {
+            log = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        // ACT
+        EmbeddedTaskStore reopened = open();
+
+        // ASSERT: A primeira tarefa sobrevive e novas escritas continuam funcionando
+        assertEquals(1, reopened.size());
+        assertEquals("Inteira", reopened.get(1).title());
+        reopened.save(newTask("Nova"));
+        assertEquals(2, open().size());
+    }
+}
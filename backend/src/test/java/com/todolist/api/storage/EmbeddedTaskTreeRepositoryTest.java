@@ -0,0 +1,144 @@
+package com.todolist.api.storage;
+
+import com.todolist.api.config.EmbeddedStorageProperties;
+import com.todolist.api.config.PurgeProperties;
+import com.todolist.api.dto.TaskProgressDTO;
+import com.todolist.api.model.Task;
+import com.todolist.api.repository.TaskTreeRepository.ReparentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DA HIERARQUIA NO ARMAZENAMENTO EMBARCADO
+ * 
+ * Sem tabela de fechamento: o EmbeddedTaskTreeRepository monta o índice pai -> filhos
+ * a partir do parent_id e percorre a subárvore. Os testes usam um store real (@TempDir)
+ * com a árvore raiz -> filho -> neto, mais uma tarefa solta.
+ */
+class EmbeddedTaskTreeRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedTaskStore store;
+    private EmbeddedTaskTreeRepository repository;
+    private long root;
+    private long child;
+    private long grandchild;
+    private long other;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        EmbeddedStorageProperties properties = new EmbeddedStorageProperties();
+        properties.setDirectory(directory.toString());
+        store = new EmbeddedTaskStore(properties, new PurgeProperties());
+        store.afterPropertiesSet();
+        repository = new EmbeddedTaskTreeRepository(store);
+        root = store.save(newTask("Raiz", null)).id();
+        child = store.save(newTask("Filho", root)).id();
+        grandchild = store.save(newTask("Neto", child)).id();
+        other = store.save(newTask("Solta", null)).id();
+    }
+
+    @AfterEach
+    void closeStore() throws IOException {
+        store.destroy();
+    }
+
+    private static StoredTask newTask(String title, Long parentId) {
+        return new StoredTask(0, "default", title, "desc", false, null, null, null, null, null, parentId, null, null, null, null, null);
+    }
+
+    /**
+     * TESTE: Subárvore e progresso
+     * 
+     * Objetivo: Verificar a ordem por profundidade e a contagem de descendentes em qualquer nível
+     */
+    @Test
+    void testSubtreeAndProgress() {
+        // ARRANGE: Neto concluído
+        store.update(grandchild, task -> task.withCompleted(true, LocalDateTime.now()));
+
+        // ACT
+        List<Task> subtree = repository.findSubtree("default", root);
+        TaskProgressDTO progress = repository.countProgress("default", root);
+
+        // ASSERT
+        assertEquals(List.of(root, child, grandchild), subtree.stream().map(Task::getId).toList());
+        assertEquals(2, progress.getSubtasks());
+        assertEquals(1, progress.getCompletedSubtasks());
+        assertTrue(repository.findSubtree("outro", root).isEmpty());  // Outro tenant não enxerga a árvore
+        assertNull(repository.countProgress("default", 999L));
+    }
+
+    /**
+     * TESTE: Conclusão em cascata
+     * 
+     * Objetivo: Verificar que a subárvore inteira é concluída e que o completedAt de quem já estava concluído é mantido
+     */
+    @Test
+    void testCompleteSubtreeKeepsCompletedAt() {
+        // ARRANGE
+        LocalDateTime earlier = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MICROS);
+        store.update(grandchild, task -> task.withCompleted(true, earlier));
+
+        // ACT
+        List<Long> ids = repository.completeSubtree("default", root, LocalDateTime.now());
+
+        // ASSERT
+        assertEquals(List.of(root, child, grandchild), ids);
+        assertTrue(store.get(child).completed());
+        assertEquals(earlier, store.get(grandchild).completedAt());
+        assertFalse(store.get(other).completed());
+    }
+
+    /**
+     * TESTE: Exclusão e restauração em cascata
+     * 
+     * Objetivo: Verificar que a restauração traz de volta só as tarefas excluídas junto com a raiz
+     */
+    @Test
+    void testDeleteAndRestoreSubtree() {
+        // ARRANGE: Neto excluído antes, sozinho
+        LocalDateTime earlier = LocalDateTime.now().minusHours(1);
+        store.update(grandchild, task -> task.withDeletedAt(earlier));
+
+        // ACT
+        List<Long> deleted = repository.deleteSubtree("default", root, LocalDateTime.now());
+        List<Long> restored = repository.restoreSubtree("default", root, LocalDateTime.now().minusDays(7));
+
+        // ASSERT
+        assertEquals(List.of(root, child), deleted);
+        assertEquals(List.of(root, child), restored);
+        assertEquals(earlier, store.get(grandchild).deletedAt());
+    }
+
+    /**
+     * TESTE: Mudança de pai
+     * 
+     * Objetivo: Verificar que uma tarefa não pode ficar abaixo de um descendente dela
+     */
+    @Test
+    void testReparentRejectsCycles() {
+        // ACT & ASSERT
+        assertEquals(ReparentResult.CYCLE, repository.reparent("default", root, grandchild));
+        assertEquals(ReparentResult.CYCLE, repository.reparent("default", root, root));
+        assertEquals(ReparentResult.PARENT_NOT_FOUND, repository.reparent("default", root, 999L));
+        assertEquals(ReparentResult.NOT_FOUND, repository.reparent("outro", root, null));
+
+        assertEquals(ReparentResult.MOVED, repository.reparent("default", child, other));
+        assertEquals(List.of(other, child, grandchild),
+                repository.findSubtree("default", other).stream().map(Task::getId).toList());
+        assertEquals(List.of(root), repository.findSubtree("default", root).stream().map(Task::getId).toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.todolist.api.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO MAPA DE CHAVES LONG
+ * 
+ * O LongObjectMap usa endereçamento aberto; a remoção desloca as entradas
+ * seguintes em vez de deixar marcadores, então é comparado com um HashMap comum.
+ */
+class LongObjectMapTest {
+
+    /**
+     * TESTE: Operações básicas
+     * 
+     * Objetivo: Verificar put, get, substituição e remove
+     */
+    @Test
+    void testPutGetRemove() {
+        // ARRANGE
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+
+        // ACT
+        map.put(1L, "a");
+        map.put(2L, "b");
+        String previous = map.put(1L, "c");
+
+        // ASSERT
+        assertEquals("a", previous);
+        assertEquals("c", map.get(1L));
+        assertEquals(2, map.size());
+        assertEquals("b", map.remove(2L));
+        assertNull(map.get(2L));
+        assertNull(map.remove(99L));
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * TESTE: Comparação com HashMap
+     * 
+     * Objetivo: Verificar, com operações aleatórias (inclusive crescimento e remoções
+     * em sequências de colisão), que o mapa sempre tem o mesmo conteúdo de um HashMap
+     */
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        // ARRANGE
+        LongObjectMap<Long> map = new LongObjectMap<>(16);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // ACT
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+
+        // ASSERT
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        assertEquals(expected.size(), map.valuesSnapshot().length);
+    }
+}
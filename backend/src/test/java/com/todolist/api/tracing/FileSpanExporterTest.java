@@ -0,0 +1,66 @@
+package com.todolist.api.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLASSE DE TESTE DO EXPORTADOR DE SPANS EM ARQUIVO
+ * 
+ * Os spans são criados pelo SDK real do OpenTelemetry e gravados pelo FileSpanExporter.
+ */
+class FileSpanExporterTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * TESTE: Um span por linha
+     * 
+     * Objetivo: Verificar que cada span vira uma linha JSON com a ligação pai/filho, atributos e eventos
+     */
+    @Test
+    void testWritesOneJsonLinePerSpan() throws Exception {
+        // ARRANGE
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path file = directory.resolve("traces/spans.jsonl");
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file, objectMapper)))
+                .build();
+        Tracer tracer = tracerProvider.get("test");
+
+        // ACT: Um span "connection" com um filho "query"
+        Span parent = tracer.spanBuilder("connection").startSpan();
+        try (Scope scope = parent.makeCurrent()) {
+            parent.addEvent("acquired");
+            tracer.spanBuilder("query").setAttribute("jdbc.query[0]", "select 1").startSpan().end();
+        } finally {
+            parent.end();
+        }
+        tracerProvider.shutdown();
+
+        // ASSERT
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode query = objectMapper.readTree(lines.get(0));
+        JsonNode connection = objectMapper.readTree(lines.get(1));
+        assertEquals("query", query.get("name").asText());
+        assertEquals(connection.get("spanId").asText(), query.get("parentSpanId").asText());
+        assertEquals(connection.get("traceId").asText(), query.get("traceId").asText());
+        assertEquals("select 1", query.get("attributes").get("jdbc.query[0]").asText());
+        assertTrue(connection.get("parentSpanId").isNull());
+        assertEquals("acquired", connection.get("events").get(0).get("name").asText());
+    }
+}
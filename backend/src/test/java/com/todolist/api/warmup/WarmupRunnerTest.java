@@ -0,0 +1,163 @@
+package com.todolist.api.warmup;
+
+import com.sun.net.httpserver.HttpServer;
+import com.todolist.api.config.WarmupProperties;
+import com.todolist.api.sharding.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO AQUECIMENTO
+ *
+ * O WarmupRunner preenche os pools e manda GETs à própria réplica antes de ela ficar pronta; aqui a réplica é um
+ * servidor HTTP local que conta as requisições recebidas.
+ */
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private ObjectProvider<ShardDataSources> shardDataSources;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+    private final Set<String> methods = ConcurrentHashMap.newKeySet();
+
+    private WarmupProperties properties;
+    private WarmupRunner runner;
+    private HttpServer server;
+    private URI base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new WarmupProperties();
+        properties.setIterations(3);
+        properties.setConcurrency(2);
+        properties.setPaths(List.of("/api/tasks", "/api/tasks?fields=id,title", "/api/lists"));
+        runner = new WarmupRunner(properties, shardDataSources, applicationContext);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            URI uri = exchange.getRequestURI();
+            received.computeIfAbsent(uri.toString(), key -> new AtomicInteger()).incrementAndGet();
+            methods.add(exchange.getRequestMethod());
+            int status = uri.getPath().equals("/api/lists") ? 503 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        base = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * TESTE: Rodadas pelos caminhos
+     *
+     * Objetivo: Verificar que cada caminho recebe iterations GETs (com a query string) e que as respostas fora de
+     * 2xx contam como falha sem interromper o aquecimento
+     */
+    @Test
+    void testSendsEveryPathEachIteration() {
+        // ACT
+        WarmupRunner.Result result = runner.sendRequests(base, Instant.now().plusSeconds(30));
+
+        // ASSERT
+        assertEquals(9, result.sent());
+        assertEquals(3, result.failed());
+        assertFalse(result.timedOut());
+        assertEquals(3, received.get("/api/tasks").get());
+        assertEquals(3, received.get("/api/tasks?fields=id,title").get());
+        assertEquals(3, received.get("/api/lists").get());
+        assertEquals(Set.of("GET"), methods);
+    }
+
+    /**
+     * TESTE: Prazo vencido
+     *
+     * Objetivo: Verificar que, passado o prazo, nenhuma requisição é enviada e o resultado indica o fim do prazo
+     */
+    @Test
+    void testStopsAtDeadline() {
+        // ACT
+        WarmupRunner.Result result = runner.sendRequests(base, Instant.now().minus(Duration.ofSeconds(1)));
+
+        // ASSERT
+        assertEquals(0, result.sent());
+        assertTrue(result.timedOut());
+        assertTrue(received.isEmpty());
+    }
+
+    /**
+     * TESTE: Preencher o pool
+     *
+     * Objetivo: Verificar que são pedidas maximum-pool-size conexões ao mesmo tempo e que todas são devolvidas
+     */
+    @Test
+    void testPrimePoolsOpensMaximumPoolSize() throws SQLException {
+        // ARRANGE
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getMaximumPoolSize()).thenReturn(3);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // ACT
+        int opened = runner.primePools(List.of(dataSource), Instant.now().plusSeconds(30));
+
+        // ASSERT
+        assertEquals(3, opened);
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+    }
+
+    /**
+     * TESTE: Banco recusando conexões
+     *
+     * Objetivo: Verificar que uma falha interrompe só o pool daquele shard e que as conexões já abertas são devolvidas
+     */
+    @Test
+    void testPrimePoolsStopsOnFailure() throws SQLException {
+        // ARRANGE
+        HikariDataSource failing = mock(HikariDataSource.class);
+        HikariDataSource healthy = mock(HikariDataSource.class);
+        Connection connection = mock(Connection.class);
+        when(failing.getMaximumPoolSize()).thenReturn(3);
+        when(failing.getConnection()).thenReturn(connection).thenThrow(new SQLException("Connection refused"));
+        when(healthy.getMaximumPoolSize()).thenReturn(2);
+        when(healthy.getConnection()).thenReturn(connection);
+
+        // ACT
+        int opened = runner.primePools(List.of(failing, healthy), Instant.now().plusSeconds(30));
+
+        // ASSERT
+        assertEquals(3, opened);
+        verify(connection, times(3)).close();
+    }
+}
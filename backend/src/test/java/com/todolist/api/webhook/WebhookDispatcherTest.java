@@ -0,0 +1,250 @@
+package com.todolist.api.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.todolist.api.config.WebhookProperties;
+import com.todolist.api.event.TaskChangedEvent.ChangeType;
+import com.todolist.api.repository.TaskOutboxRepository;
+import com.todolist.api.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CLASSE DE TESTE DO DESPACHANTE DE WEBHOOKS
+ *
+ * O outbox é um mock; as entregas passam pelo WebhookClient de verdade até o WebhookStubReceiver,
+ * um servidor HTTP local que pode recusar requisições para simular um assinante fora do ar.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class WebhookDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Mock
+    private TaskOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    private WebhookStubReceiver receiver;
+    private WebhookProperties properties;
+    private WebhookProperties.Endpoint endpoint;
+    private SimpleMeterRegistry meterRegistry;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        receiver = new WebhookStubReceiver(objectMapper);
+
+        properties = new WebhookProperties();
+        properties.setMaxEventsPerRequest(2);
+        properties.setTimeout(Duration.ofSeconds(2));
+        endpoint = new WebhookProperties.Endpoint();
+        endpoint.setUrl(receiver.url());
+        endpoint.setParallelism(1);
+        properties.getEndpoints().put("crm", endpoint);
+
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new WebhookDispatcher(outboxRepository, new WebhookClient(properties, objectMapper), properties,
+                shardRouter, transactionTemplate, meterRegistry, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        // Executa o callback da transação sem banco real
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<List<OutboxEntry>>) invocation.getArgument(0)).doInTransaction(null));
+
+        // Um único shard
+        lenient().doAnswer(invocation -> {
+            invocation.<IntConsumer>getArgument(0).accept(0);
+            return null;
+        }).when(shardRouter).forEachShard(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+        receiver.close();
+    }
+
+    private static OutboxEntry entry(long id, long taskId, int attempts) {
+        return new OutboxEntry(id, "crm", "default", taskId, ChangeType.UPDATED, NOW.minusMinutes(1), attempts);
+    }
+
+    private void claimReturns(List<OutboxEntry> entries) {
+        when(outboxRepository.claim(anyInt(), any(), any())).thenReturn(entries);
+    }
+
+    private List<Long> deletedIds() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).delete(captor.capture());
+        return captor.getValue().stream().sorted().toList();
+    }
+
+    /**
+     * TESTE: Entrega em lotes
+     *
+     * Objetivo: Verificar que as linhas reservadas vão em POSTs de até maxEventsPerRequest eventos,
+     * com id shard-linha e número da tentativa, e que as entregues são apagadas do outbox
+     */
+    @Test
+    void testDeliversInBatchesAndDeletesDelivered() {
+        // ARRANGE
+        claimReturns(LongStream.rangeClosed(1, 5).mapToObj(id -> entry(id, id, 0)).toList());
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        assertEquals(List.of(2, 2, 1), receiver.batches().stream().map(List::size).toList());
+        WebhookClient.Delivery first = receiver.events().get(0);
+        assertEquals("0-1", first.id());
+        assertEquals(1L, first.taskId());
+        assertEquals("UPDATED", first.type());
+        assertEquals(1, first.attempt());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), deletedIds());
+        verify(outboxRepository).retryLater(Map.of());
+        verify(outboxRepository).release(List.of());
+        assertEquals(5, meterRegistry.counter("todolist.webhooks.delivered", "endpoint", "crm").count());
+    }
+
+    /**
+     * TESTE: Falha do assinante
+     *
+     * Objetivo: Verificar que o lote recusado conta uma tentativa com backoff exponencial (limitado a maxBackoff)
+     * e que o resto da fila volta ao outbox sem ser enviado, para não passar à frente do lote que falhou
+     */
+    @Test
+    void testFailedBatchIsRetriedWithBackoffAndRestOfLaneReleased() {
+        // ARRANGE: o segundo POST recebe 503
+        receiver.respondWith(200, 503);
+        claimReturns(List.of(entry(1, 1, 0), entry(2, 2, 0), entry(3, 3, 2), entry(4, 4, 20), entry(5, 5, 0)));
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        assertEquals(2, receiver.requests());
+        assertEquals(List.of(1L, 2L), deletedIds());
+        verify(outboxRepository).retryLater(Map.of(3L, Duration.ofSeconds(4), 4L, Duration.ofMinutes(5)));
+        verify(outboxRepository).release(List.of(5L));
+        assertEquals(2, meterRegistry.counter("todolist.webhooks.failed", "endpoint", "crm").count());
+    }
+
+    /**
+     * TESTE: Desistência
+     *
+     * Objetivo: Verificar que um evento que ainda falha depois de giveUpAfter é apagado e contado como descartado
+     */
+    @Test
+    void testDiscardsAfterGiveUp() {
+        // ARRANGE
+        receiver.respondWith(500);
+        OutboxEntry old = new OutboxEntry(1, "crm", "default", 1L, ChangeType.DELETED, NOW.minusHours(25), 30);
+        claimReturns(List.of(old));
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        assertEquals(List.of(1L), deletedIds());
+        verify(outboxRepository).retryLater(Map.of());
+        assertEquals(1, meterRegistry.counter("todolist.webhooks.discarded").count());
+    }
+
+    /**
+     * TESTE: Endpoint removido
+     *
+     * Objetivo: Verificar que linhas de um endpoint que saiu da configuração são descartadas sem requisição
+     */
+    @Test
+    void testDiscardsUnknownEndpoint() {
+        // ARRANGE
+        claimReturns(List.of(new OutboxEntry(1, "antigo", "default", 1L, ChangeType.CREATED, NOW, 0)));
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        assertEquals(0, receiver.requests());
+        assertEquals(List.of(1L), deletedIds());
+    }
+
+    /**
+     * TESTE: Ordem por tarefa com paralelismo
+     *
+     * Objetivo: Verificar que, com várias requisições simultâneas para o endpoint, os eventos de cada
+     * tarefa chegam na ordem do outbox
+     */
+    @Test
+    void testKeepsOrderPerTaskAcrossParallelLanes() {
+        // ARRANGE: 8 tarefas com 5 eventos cada, intercalados; um evento por requisição
+        endpoint.setParallelism(4);
+        properties.setMaxEventsPerRequest(1);
+        List<OutboxEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            entries.add(entry(id, id % 8, 0));
+        }
+        claimReturns(entries);
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        List<WebhookClient.Delivery> events = receiver.events();
+        assertEquals(40, events.size());
+        Map<Long, List<Long>> byTask = events.stream().collect(Collectors.groupingBy(WebhookClient.Delivery::taskId,
+                Collectors.mapping(delivery -> Long.parseLong(delivery.id().substring(2)), Collectors.toList())));
+        byTask.values().forEach(ids -> assertEquals(ids.stream().sorted().toList(), ids));
+        assertEquals(40, deletedIds().size());
+    }
+
+    /**
+     * TESTE: Sem endpoints
+     *
+     * Objetivo: Verificar que sem endpoints configurados o despachante nem consulta o outbox
+     */
+    @Test
+    void testNoEndpoints() {
+        // ARRANGE
+        properties.getEndpoints().clear();
+
+        // ACT
+        dispatcher.dispatch();
+
+        // ASSERT
+        verifyNoInteractions(outboxRepository, shardRouter);
+    }
+}
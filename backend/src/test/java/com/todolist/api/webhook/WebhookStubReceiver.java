@@ -0,0 +1,87 @@
+package com.todolist.api.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RECEPTOR DE WEBHOOKS LOCAL PARA OS TESTES
+ *
+ * Um HttpServer do JDK em uma porta livre do loopback. Responde com os status enfileirados em respondWith
+ * (200 quando a fila está vazia) e guarda, na ordem de chegada, os lotes que respondeu com 2xx.
+ */
+class WebhookStubReceiver implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper;
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final List<List<WebhookClient.Delivery>> accepted = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    WebhookStubReceiver(ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hooks", this::handle);
+        // Várias conexões ao mesmo tempo, como um assinante de verdade
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/hooks";
+    }
+
+    void respondWith(Integer... codes) {
+        statuses.addAll(Arrays.asList(codes));
+    }
+
+    // Lotes aceitos, na ordem de chegada
+    List<List<WebhookClient.Delivery>> batches() {
+        synchronized (accepted) {
+            return List.copyOf(accepted);
+        }
+    }
+
+    List<WebhookClient.Delivery> events() {
+        return batches().stream().flatMap(List::stream).toList();
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            WebhookClient.Payload payload = objectMapper.readValue(body.readAllBytes(), WebhookClient.Payload.class);
+            requests.incrementAndGet();
+            Integer queued = statuses.poll();
+            int status = queued == null ? 200 : queued;
+            if (status >= 200 && status < 300) {
+                synchronized (accepted) {
+                    accepted.add(payload.events());
+                }
+            }
+            exchange.sendResponseHeaders(status, -1);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}